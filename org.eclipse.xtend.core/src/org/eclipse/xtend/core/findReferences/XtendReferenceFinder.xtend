@@ -63,6 +63,13 @@ class XtendReferenceFinder extends ReferenceFinder {
 		}
 	}
 	
+	/**
+	 * Xtend finds references by means of the imported names.
+	 */
+	override protected isUsingReferenceDescriptions() {
+		false
+	}
+	
 	override protected findLocalReferencesFromElement(Predicate<URI> targetURIs, EObject sourceCandidate, Resource localResource, Acceptor acceptor) {
 		switch sourceCandidate {
 			// ignore type references in package fragments
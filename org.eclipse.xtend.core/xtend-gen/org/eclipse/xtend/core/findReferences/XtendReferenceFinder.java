@@ -86,6 +86,14 @@ public class XtendReferenceFinder extends ReferenceFinder {
     }
   }
 
+  /**
+   * Xtend finds references by means of the imported names.
+   */
+  @Override
+  protected boolean isUsingReferenceDescriptions() {
+    return false;
+  }
+
   @Override
   protected void findLocalReferencesFromElement(final Predicate<URI> targetURIs, final EObject sourceCandidate, final Resource localResource, final IReferenceFinder.Acceptor acceptor) {
     boolean _matched = false;
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.AbstractFileSystemAccess2;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
+import org.eclipse.xtext.resource.persistence.ResourceStorageFacade;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.testlanguages.fileAware.FileAwareTestLanguageRuntimeModule;
+import org.eclipse.xtext.testlanguages.fileAware.FileAwareTestLanguageStandaloneSetup;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+
+/**
+ * Common setup of the benchmarks that run on the {@code FileAwareTestLanguage}. The models are synthesized by
+ * {@link SyntheticModels} and scale with the {@link #size} parameter.
+ *
+ * @since 2.39
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractFileAwareBenchmark {
+
+	/**
+	 * The number of top level elements in the benchmarked model.
+	 */
+	@Param({ "100", "1000", "10000" })
+	public int size;
+
+	protected Injector injector;
+
+	protected String model;
+
+	protected void setUpInjectorAndModel() {
+		injector = createInjector();
+		model = SyntheticModels.fileAware(size);
+	}
+
+	protected Injector createInjector() {
+		return new FileAwareTestLanguageStandaloneSetup() {
+			@Override
+			public Injector createInjector() {
+				return Guice.createInjector(createRuntimeModule());
+			}
+		}.createInjectorAndDoEMFRegistration();
+	}
+
+	/**
+	 * The runtime module of the language. Uses {@link StorageAwareResource storage aware resources}, so all
+	 * benchmarks work on the same resource implementation.
+	 */
+	protected Module createRuntimeModule() {
+		return new FileAwareTestLanguageRuntimeModule() {
+			@SuppressWarnings("unused")
+			public Class<? extends IResourceStorageFacade> bindIResourceStorageFacade() {
+				return ResourceStorageFacade.class;
+			}
+
+			@Override
+			public Class<? extends XtextResource> bindXtextResource() {
+				return StorageAwareResource.class;
+			}
+
+			@SuppressWarnings("unused")
+			public Class<? extends AbstractFileSystemAccess2> bindAbstractFileSystemAccess2() {
+				return JavaIoFileSystemAccess.class;
+			}
+		};
+	}
+
+	protected XtextResourceSet createResourceSet() {
+		return injector.getInstance(XtextResourceSet.class);
+	}
+
+	protected URI getModelURI() {
+		return URI.createURI("benchmark:/bench/Model.fileawaretestlanguage");
+	}
+
+	/**
+	 * Loads the model into a new resource set. Cross references are not yet resolved.
+	 */
+	protected StorageAwareResource loadModel() throws IOException {
+		StorageAwareResource resource = (StorageAwareResource) createResourceSet().createResource(getModelURI());
+		resource.load(new ByteArrayInputStream(model.getBytes(StandardCharsets.UTF_8)), null);
+		return resource;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.formatting2.FormatterRequest;
+import org.eclipse.xtext.formatting2.IFormatter2;
+import org.eclipse.xtext.formatting2.regionaccess.ITextRegionAccess;
+import org.eclipse.xtext.formatting2.regionaccess.ITextReplacement;
+import org.eclipse.xtext.formatting2.regionaccess.TextRegionAccessBuilder;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.google.inject.Provider;
+
+/**
+ * Measures {@link IFormatter2#format(FormatterRequest)} and the construction of the {@link ITextRegionAccess} that
+ * the formatter works on.
+ *
+ * @since 2.39
+ */
+public class FormatterBenchmark extends AbstractFileAwareBenchmark {
+
+	private XtextResource resource;
+
+	private Provider<TextRegionAccessBuilder> textRegionAccessBuilder;
+
+	private Provider<FormatterRequest> formatterRequest;
+
+	private IFormatter2 formatter;
+
+	private ITextRegionAccess textRegionAccess;
+
+	@Setup
+	public void setUp() throws IOException {
+		setUpInjectorAndModel();
+		resource = loadModel();
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		textRegionAccessBuilder = injector.getProvider(TextRegionAccessBuilder.class);
+		formatterRequest = injector.getProvider(FormatterRequest.class);
+		formatter = injector.getInstance(IFormatter2.class);
+		textRegionAccess = createTextRegionAccess();
+	}
+
+	@Benchmark
+	public ITextRegionAccess createTextRegionAccess() {
+		return textRegionAccessBuilder.get().forNodeModel(resource).create();
+	}
+
+	@Benchmark
+	public List<ITextReplacement> format() {
+		return formatter.format(formatterRequest.get().setTextRegionAccess(textRegionAccess));
+	}
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.binary.asm.JvmDeclaredTypeBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Builds the {@link JvmDeclaredType types} of all top level classes of a jar from their class files, with eagerly and
+ * with lazily created members. By default, the jar that contains Guava is used, another jar on the benchmark's
+ * classpath can be chosen with the {@code jar} parameter, e.g. {@code -p jar=asm}.
+ *
+ * Run with {@code -prof gc} to compare the allocations. The retained heap of the built types is reported by the
+ * {@link #retainedHeap(HeapCounters)} benchmark. A type with lazily created members does not retain its class file,
+ * the bytes are read again when the members are accessed. The retained heap therefore only contains the pending
+ * initializer of each type, and {@link #allMembers()} includes the cost of reading the class files a second time.
+ *
+ * @since 2.39
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JvmDeclaredTypeBuilderBenchmark {
+
+	/**
+	 * A part of the file name of the jar on the classpath whose classes are built. The jar of Guava if empty.
+	 */
+	@Param({ "" })
+	public String jar;
+
+	@Param({ "false", "true" })
+	public boolean lazyMembers;
+
+	private ClassLoader classLoader;
+
+	private List<String> classNames;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapCounters {
+
+		/**
+		 * The heap that is retained by the types built in the last invocation.
+		 */
+		public long retainedBytes;
+
+		/**
+		 * The number of types built in the last invocation.
+		 */
+		public int types;
+
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		classLoader = getClass().getClassLoader();
+		File file = findJar();
+		classNames = new ArrayList<>();
+		try (JarFile jarFile = new JarFile(file)) {
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+				// nested types are built with their outer type
+				if (name.endsWith(".class") && name.indexOf('$') < 0 && !name.endsWith("module-info.class")
+						&& !name.endsWith("package-info.class") && !name.startsWith("META-INF/")) {
+					classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+				}
+			}
+		}
+	}
+
+	private File findJar() throws IOException {
+		if (jar.isEmpty()) {
+			try {
+				return new File(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+			File file = new File(entry);
+			if (file.isFile() && file.getName().endsWith(".jar") && file.getName().contains(jar)) {
+				return file;
+			}
+		}
+		throw new IOException("No jar on the classpath matches " + jar);
+	}
+
+	/**
+	 * Builds all types and accesses their super types, which is what most referenced library types are used for.
+	 */
+	@Benchmark
+	public List<JvmDeclaredType> superTypesOnly() {
+		List<JvmDeclaredType> result = buildAll();
+		for (JvmDeclaredType type : result) {
+			type.getSuperTypes().size();
+		}
+		return result;
+	}
+
+	/**
+	 * Builds all types and accesses their members, which is the worst case for lazily created members.
+	 */
+	@Benchmark
+	public List<JvmDeclaredType> allMembers() {
+		List<JvmDeclaredType> result = buildAll();
+		for (JvmDeclaredType type : result) {
+			type.getMembers().size();
+		}
+		return result;
+	}
+
+	/**
+	 * Reports the heap that is retained by the types after their super types have been accessed.
+	 */
+	@Benchmark
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public List<JvmDeclaredType> retainedHeap(HeapCounters counters) {
+		long before = usedHeap();
+		List<JvmDeclaredType> result = superTypesOnly();
+		counters.retainedBytes = usedHeap() - before;
+		counters.types = result.size();
+		return result;
+	}
+
+	private List<JvmDeclaredType> buildAll() {
+		// a fresh instance per invocation, it caches the bytes of the inner classes
+		ClassFileBytesAccess bytesAccess = new ClassFileBytesAccess();
+		List<JvmDeclaredType> result = new ArrayList<>(classNames.size());
+		for (String className : classNames) {
+			BinaryClass binaryClass = new BinaryClass(className, classLoader);
+			try {
+				JvmDeclaredType type = new JvmDeclaredTypeBuilder(binaryClass, bytesAccess, classLoader, lazyMembers)
+						.buildType();
+				if (type != null) {
+					result.add(type);
+				}
+			} catch (IllegalStateException e) {
+				// synthetic classes
+			}
+		}
+		return result;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.impl.ListBasedDiagnosticConsumer;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures the {@link org.eclipse.xtext.linking.lazy.LazyLinker LazyLinker}: installing the proxies and resolving
+ * all of them afterwards.
+ *
+ * @since 2.39
+ */
+public class LinkerBenchmark extends AbstractFileAwareBenchmark {
+
+	private XtextResource resource;
+
+	@Setup
+	public void setUp() throws IOException {
+		setUpInjectorAndModel();
+		resource = loadModel();
+	}
+
+	@Benchmark
+	public EObject linkAndResolve() {
+		EObject root = resource.getContents().get(0);
+		resource.getCache().clear(resource);
+		resource.getLinker().linkModel(root, new ListBasedDiagnosticConsumer());
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		return root;
+	}
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.StringReader;
+
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.compact.CompactNodeModelBuilder;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.parser.IParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+
+/**
+ * Compares the linked node model with the {@link org.eclipse.xtext.nodemodel.compact.CompactNodeModel compact node
+ * model}. Run with {@code -prof gc} to compare the allocations of {@link #parse()}. The heap that is retained by a
+ * parse result is reported by the {@link #retainedHeap(HeapCounters)} benchmark.
+ *
+ * @since 2.39
+ */
+public class NodeModelBenchmark extends AbstractFileAwareBenchmark {
+
+	@Param({ "linked", "compact" })
+	public String nodeModel;
+
+	private IParser parser;
+
+	private ICompositeNode rootNode;
+
+	private int[] offsets;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapCounters {
+
+		/**
+		 * The heap that is retained by the parse result of the last invocation.
+		 */
+		public long retainedBytes;
+
+	}
+
+	@Setup
+	public void setUp() {
+		setUpInjectorAndModel();
+		parser = injector.getInstance(IParser.class);
+		rootNode = parse().getRootNode();
+		offsets = new int[100];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = (int) ((long) model.length() * i / offsets.length);
+		}
+	}
+
+	@Override
+	protected Module createRuntimeModule() {
+		Module result = super.createRuntimeModule();
+		if ("compact".equals(nodeModel)) {
+			return Modules.override(result).with(
+					(binder) -> binder.bind(NodeModelBuilder.class).to(CompactNodeModelBuilder.class));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public IParseResult parse() {
+		return parser.parse(new StringReader(model));
+	}
+
+	/**
+	 * Reports the heap that is retained by the parse result, i.e. by the node model and the AST.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public IParseResult retainedHeap(HeapCounters counters) {
+		long before = usedHeap();
+		IParseResult result = parse();
+		counters.retainedBytes = usedHeap() - before;
+		return result;
+	}
+
+	@Benchmark
+	public long traverse() {
+		long result = 0;
+		for (INode node : rootNode.getAsTreeIterable()) {
+			result += node.getTotalOffset() + node.getGrammarElement().hashCode();
+		}
+		return result;
+	}
+
+	@Benchmark
+	public long traverseLeafNodes() {
+		long result = 0;
+		for (ILeafNode leaf : rootNode.getLeafNodes()) {
+			if (!leaf.isHidden()) {
+				result += leaf.getOffset() + leaf.getLength();
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public long findLeafNodeAtOffset() {
+		long result = 0;
+		for (int offset : offsets) {
+			ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, offset);
+			result += leaf.getTotalOffset() + leaf.getSemanticElement().hashCode();
+		}
+		return result;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.StringReader;
+
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.parser.IParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures {@link org.eclipse.xtext.parser.antlr.AbstractAntlrParser#doParse(String, org.antlr.runtime.CharStream,
+ * org.eclipse.xtext.nodemodel.impl.NodeModelBuilder, int) AbstractAntlrParser.doParse}, that is lexing, parsing and
+ * the construction of the node model and the semantic model.
+ *
+ * @since 2.39
+ */
+public class ParserBenchmark extends AbstractFileAwareBenchmark {
+
+	private IParser parser;
+
+	@Setup
+	public void setUp() {
+		setUpInjectorAndModel();
+		parser = injector.getInstance(IParser.class);
+	}
+
+	@Benchmark
+	public IParseResult parse() {
+		return parser.parse(new StringReader(model));
+	}
+
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.ide.ExecutorServiceProvider;
+import org.eclipse.xtext.ide.VirtualThreadExecutorServiceProvider;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A load test for the {@link RequestManager}: a burst of concurrent read requests that block for a while, like
+ * requests that wait for resources to be loaded, followed by a write request. The throughput is the number of bursts
+ * per second, the sampled time of a burst is the latency of its slowest request, so the percentiles that are reported
+ * in the sample time mode show the tail latency.
+ * <p>
+ * The virtual thread executor requires Java 21 or later.
+ * </p>
+ *
+ * @since 2.39
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestManagerBenchmark {
+
+	/**
+	 * The number of concurrent read requests.
+	 */
+	@Param({ "100", "500" })
+	public int requests;
+
+	@Param({ "platform", "virtual" })
+	public String threads;
+
+	/**
+	 * The time in milliseconds that each read request blocks.
+	 */
+	@Param({ "1" })
+	public int blockingMillis;
+
+	private ExecutorServiceProvider executorServiceProvider;
+
+	private RequestManager requestManager;
+
+	@Setup
+	public void setUp() {
+		if ("virtual".equals(threads)) {
+			if (!VirtualThreadExecutorServiceProvider.isVirtualThreadsSupported()) {
+				throw new IllegalStateException("Virtual threads are not supported by this JDK");
+			}
+			executorServiceProvider = new VirtualThreadExecutorServiceProvider();
+		} else {
+			executorServiceProvider = new ExecutorServiceProvider();
+		}
+		requestManager = new RequestManager(executorServiceProvider.get(), new OperationCanceledManager());
+	}
+
+	@TearDown
+	public void tearDown() {
+		requestManager.shutdown();
+		executorServiceProvider.dispose();
+	}
+
+	@Benchmark
+	public Object burst() throws Exception {
+		CompletableFuture<?>[] reads = new CompletableFuture<?>[requests];
+		for (int i = 0; i < requests; i++) {
+			int request = i;
+			reads[i] = requestManager.runRead(cancelIndicator -> {
+				try {
+					Thread.sleep(blockingMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return cancelIndicator.isCanceled() ? null : Integer.toString(request).hashCode();
+			});
+		}
+		CompletableFuture.allOf(reads).join();
+		return requestManager.runWrite(() -> null, (cancelIndicator, it) -> reads.length).join();
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.persistence.ResourceStorageFacade;
+import org.eclipse.xtext.resource.persistence.ResourceStorageFormat;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures writing a resource with the {@link ResourceStorageFacade} and loading it again.
+ *
+ * @since 2.39
+ */
+public class ResourceStorageBenchmark extends AbstractFileAwareBenchmark {
+
+	@Param({ "ZIP", "COMPACT", "COMPACT_COMPRESSED" })
+	public ResourceStorageFormat format;
+
+	@Param({ "true", "false" })
+	public boolean storeNodeModel;
+
+	private StorageAwareResource resource;
+
+	private ResourceStorageFacade storageFacade;
+
+	private byte[] storedResource;
+
+	@Setup
+	public void setUp() throws IOException {
+		setUpInjectorAndModel();
+		resource = loadModel();
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		storageFacade = injector.getInstance(ResourceStorageFacade.class);
+		storageFacade.setStorageFormat(format);
+		storageFacade.setStoreNodeModel(storeNodeModel);
+		storedResource = write();
+	}
+
+	@Benchmark
+	public byte[] write() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		storageFacade.createResourceStorageWritable(out).writeResource(resource);
+		return out.toByteArray();
+	}
+
+	/**
+	 * The node model is only read if the source of the resource exists, so the resource set serves the model from
+	 * memory.
+	 */
+	@Override
+	protected XtextResourceSet createResourceSet() {
+		XtextResourceSet result = super.createResourceSet();
+		result.setURIConverter(new ExtensibleURIConverterImpl() {
+			@Override
+			public boolean exists(URI uri, Map<?, ?> options) {
+				return getModelURI().equals(uri) || super.exists(uri, options);
+			}
+
+			@Override
+			public InputStream createInputStream(URI uri, Map<?, ?> options) throws IOException {
+				if (getModelURI().equals(uri)) {
+					return new ByteArrayInputStream(model.getBytes(StandardCharsets.UTF_8));
+				}
+				return super.createInputStream(uri, options);
+			}
+		});
+		return result;
+	}
+
+	@Benchmark
+	public StorageAwareResource read() throws IOException {
+		StorageAwareResource result = (StorageAwareResource) createResourceSet().createResource(getModelURI());
+		result.loadFromStorage(storageFacade.createResourceStorageLoadable(new ByteArrayInputStream(storedResource)));
+		return result;
+	}
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.impl.EObjectDescriptionLookUp;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.impl.ImportNormalizer;
+import org.eclipse.xtext.scoping.impl.ImportScope;
+import org.eclipse.xtext.scoping.impl.SelectableBasedScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookups of the {@link SelectableBasedScope} and the {@link ImportScope} on the exported objects of a
+ * single resource. The cost of a lookup should not depend on the number of exported objects.
+ *
+ * @since 2.39
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeLookupBenchmark {
+
+	/**
+	 * The number of objects that are exported by the resource.
+	 */
+	@Param({ "100", "10000", "100000" })
+	public int size;
+
+	private QualifiedName[] names;
+
+	private QualifiedName[] simpleNames;
+
+	private IScope caseSensitiveScope;
+
+	private IScope ignoreCaseScope;
+
+	private IScope rareTypeScope;
+
+	private IScope importScope;
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		List<IEObjectDescription> descriptions = new ArrayList<>(size);
+		names = new QualifiedName[size];
+		simpleNames = new QualifiedName[size];
+		for (int i = 0; i < size; i++) {
+			names[i] = QualifiedName.create("pkg", "Element" + i);
+			simpleNames[i] = QualifiedName.create("element" + i);
+			descriptions.add(EObjectDescription.create(names[i], EcoreFactory.eINSTANCE.createEClass()));
+		}
+		// a single object of a rare type at the very end
+		descriptions.add(EObjectDescription.create(QualifiedName.create("pkg", "Enum"), EcoreFactory.eINSTANCE.createEEnum()));
+		EObjectDescriptionLookUp lookUp = new EObjectDescriptionLookUp(descriptions);
+		caseSensitiveScope = SelectableBasedScope.createScope(IScope.NULLSCOPE, lookUp, EcorePackage.Literals.ECLASSIFIER, false);
+		ignoreCaseScope = SelectableBasedScope.createScope(IScope.NULLSCOPE, lookUp, EcorePackage.Literals.ECLASSIFIER, true);
+		rareTypeScope = SelectableBasedScope.createScope(IScope.NULLSCOPE, lookUp, EcorePackage.Literals.EENUM, false);
+		importScope = new ImportScope(
+				Collections.singletonList(new ImportNormalizer(QualifiedName.create("pkg"), true, true)),
+				IScope.NULLSCOPE, lookUp, EcorePackage.Literals.ECLASSIFIER, true);
+	}
+
+	private int nextIndex() {
+		next = (next + 7919) % size;
+		return next;
+	}
+
+	@Benchmark
+	public IEObjectDescription byName() {
+		return caseSensitiveScope.getSingleElement(names[nextIndex()]);
+	}
+
+	@Benchmark
+	public IEObjectDescription byNameIgnoreCase() {
+		return ignoreCaseScope.getSingleElement(names[nextIndex()].toUpperCase());
+	}
+
+	@Benchmark
+	public IEObjectDescription byImportedName() {
+		return importScope.getSingleElement(simpleNames[nextIndex()]);
+	}
+
+	@Benchmark
+	public IEObjectDescription firstOfRareType() {
+		return rareTypeScope.getAllElements().iterator().next();
+	}
+
+}
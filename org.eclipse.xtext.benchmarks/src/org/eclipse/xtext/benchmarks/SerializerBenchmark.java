@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures {@link ISerializer#serialize(EObject)} of a parsed and linked model.
+ *
+ * @since 2.39
+ */
+public class SerializerBenchmark extends AbstractFileAwareBenchmark {
+
+	private EObject root;
+
+	private ISerializer serializer;
+
+	@Setup
+	public void setUp() throws IOException {
+		setUpInjectorAndModel();
+		XtextResource resource = loadModel();
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		root = resource.getContents().get(0);
+		serializer = injector.getInstance(ISerializer.class);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return serializer.serialize(root);
+	}
+
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+/**
+ * Creates models of a given size for the benchmarks.
+ *
+ * @since 2.39
+ */
+public class SyntheticModels {
+
+	/**
+	 * A {@code FileAwareTestLanguage} model with the given number of top level elements. Each element contains a nested
+	 * element and references both the next top level element and the nested element of the previous one, so all cross
+	 * references can be resolved.
+	 */
+	public static String fileAware(int elements) {
+		StringBuilder result = new StringBuilder(elements * 96);
+		result.append("package bench\n\n");
+		for (int i = 0; i < elements; i++) {
+			result.append("element e").append(i).append(" {\n");
+			result.append("\telement nested {\n");
+			result.append("\t\tref bench.e").append(i).append('\n');
+			result.append("\t}\n");
+			result.append("\tref bench.e").append((i + 1) % elements).append('\n');
+			result.append("\tref bench.e").append((i + elements - 1) % elements).append(".nested\n");
+			result.append("}\n");
+		}
+		return result.toString();
+	}
+
+	private SyntheticModels() {
+	}
+
+}
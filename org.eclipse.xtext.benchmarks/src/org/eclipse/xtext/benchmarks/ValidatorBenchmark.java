@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures {@link org.eclipse.xtext.validation.ResourceValidatorImpl#validate(org.eclipse.emf.ecore.resource.Resource,
+ * CheckMode, CancelIndicator) ResourceValidatorImpl.validate} on a linked resource.
+ *
+ * @since 2.39
+ */
+public class ValidatorBenchmark extends AbstractFileAwareBenchmark {
+
+	private XtextResource resource;
+
+	private IResourceValidator validator;
+
+	@Setup
+	public void setUp() throws IOException {
+		setUpInjectorAndModel();
+		resource = loadModel();
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		validator = resource.getResourceServiceProvider().getResourceValidator();
+	}
+
+	@Benchmark
+	public List<Issue> validate() {
+		return validator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+	}
+
+}
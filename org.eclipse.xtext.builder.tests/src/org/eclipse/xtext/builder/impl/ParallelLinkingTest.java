@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.impl;
+
+import static org.eclipse.xtext.builder.impl.BuilderUtil.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.xtext.builder.clustering.ClusteringBuilderState;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescription.Delta;
+import org.eclipse.xtext.resource.IResourceDescription.Event;
+import org.eclipse.xtext.ui.XtextProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Builds the same project with sequential and with concurrent linking.
+ */
+public class ParallelLinkingTest extends AbstractBuilderTest {
+
+	private static final int FILES = 40;
+
+	private int linkingThreads;
+
+	@Before
+	public void setUp() {
+		linkingThreads = getClusteringBuilderState().getLinkingThreads();
+		getBuilderState().addListener(this);
+	}
+
+	@After
+	public void tearDown() {
+		getClusteringBuilderState().setLinkingThreads(linkingThreads);
+		getBuilderState().removeListener(this);
+		getEvents().clear();
+	}
+
+	@Test public void testSameDeltasAndMarkers() throws Exception {
+		IProject project = createProject("foo");
+		addNature(project, XtextProjectHelper.NATURE_ID);
+		List<IFile> files = new ArrayList<>();
+		for (int i = 0; i < FILES; i++) {
+			int next = (i + 1) % FILES;
+			String content = "namespace ns" + i + " { object Obj" + i + " references ns" + next + ".Obj" + next;
+			if (i % 7 == 0) {
+				content += " otherRefs ns" + i + ".Unknown";
+			}
+			files.add(createFile("foo/file" + i + F_EXT, content + " }"));
+		}
+		build();
+
+		getClusteringBuilderState().setLinkingThreads(1);
+		String sequential = cleanAndFullBuild(files);
+		getClusteringBuilderState().setLinkingThreads(4);
+		String parallel = cleanAndFullBuild(files);
+
+		assertEquals(sequential, parallel);
+		assertTrue(sequential, sequential.contains("ns0.Unknown"));
+		assertTrue(sequential, sequential.contains("ns1.Obj1"));
+	}
+
+	private String cleanAndFullBuild(List<IFile> files) throws CoreException {
+		getEvents().clear();
+		cleanBuild();
+		fullBuild();
+		List<String> result = new ArrayList<>();
+		for (Event event : getEvents()) {
+			for (Delta delta : event.getDeltas()) {
+				result.add("delta " + delta.getUri() + "\n old: " + print(delta.getOld()) + "\n new: " + print(delta.getNew()));
+			}
+		}
+		for (IFile file : files) {
+			for (IMarker marker : file.findMarkers(EValidator.MARKER, true, IResource.DEPTH_ZERO)) {
+				result.add("marker " + file.getName() + ":" + marker.getAttribute(IMarker.LINE_NUMBER) + " "
+						+ marker.getAttribute(IMarker.MESSAGE));
+			}
+		}
+		Collections.sort(result);
+		return String.join("\n", result);
+	}
+
+	private String print(IResourceDescription description) {
+		if (description == null) {
+			return "null";
+		}
+		List<String> result = new ArrayList<>();
+		for (IEObjectDescription object : description.getExportedObjects()) {
+			result.add(object.getQualifiedName() + " " + object.getEObjectURI());
+		}
+		for (IReferenceDescription reference : description.getReferenceDescriptions()) {
+			result.add(reference.getSourceEObjectUri() + " -> " + reference.getTargetEObjectUri());
+		}
+		Collections.sort(result);
+		return result.toString();
+	}
+
+	private ClusteringBuilderState getClusteringBuilderState() {
+		return (ClusteringBuilderState) getBuilderState();
+	}
+
+}
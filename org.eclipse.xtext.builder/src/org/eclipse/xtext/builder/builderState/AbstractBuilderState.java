@@ -31,6 +31,7 @@ import org.eclipse.xtext.builder.impl.BuildData;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.impl.AbstractResourceDescriptionChangeEventSource;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionChangeEvent;
@@ -47,7 +48,7 @@ import com.google.inject.Inject;
  * @author Knut Wannheden
  */
 public abstract class AbstractBuilderState extends AbstractResourceDescriptionChangeEventSource implements
-		IBuilderState {
+		IBuilderState, IResourceDescriptions.IReferenceIndexAware {
 
 	private volatile ResourceDescriptionsData resourceDescriptionData = new ResourceDescriptionsData(
 			Collections.<IResourceDescription> emptyList());
@@ -153,6 +154,15 @@ public abstract class AbstractBuilderState extends AbstractResourceDescriptionCh
 		return resourceDescriptionData.getResourceDescription(uri);
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	@Override
+	public Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		ensureLoaded();
+		return resourceDescriptionData.getReferencingResourceURIs(targetResourceURI);
+	}
+
 	public void setPersister(PersistedStateProvider persister) {
 		this.persister = persister;
 	}
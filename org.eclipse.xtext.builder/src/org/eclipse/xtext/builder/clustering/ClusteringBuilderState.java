@@ -16,6 +16,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.resources.IProject;
@@ -47,16 +51,21 @@ import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescription.Manager.AllChangeAware;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.clustering.AdaptiveResourceClusteringPolicy;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.ui.resource.IResourceSetProvider;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Strings;
+import org.eclipse.xtext.util.Triple;
+import org.eclipse.xtext.util.Tuples;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 
@@ -72,6 +81,31 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 
 	public static final String RESOURCELOADER_GLOBAL_INDEX = "org.eclipse.xtext.builder.resourceloader.globalIndex";
 
+	/**
+	 * The number of threads that resolve the cross references of the resources of a cluster concurrently. Defaults to
+	 * <code>1</code>, i.e. sequential linking. Can be set as a system property, e.g.
+	 * <code>-Dorg.eclipse.xtext.builder.clustering.ClusteringBuilderState.linkingThreads=4</code> in the
+	 * <code>eclipse.ini</code>, or bound as a constant in the module that creates the builder state:
+	 * 
+	 * <pre>
+	 * bindConstant().annotatedWith(Names.named(ClusteringBuilderState.LINKING_THREADS)).to(4);
+	 * </pre>
+	 * 
+	 * Each linking thread resolves the cross references in a resource set of its own, so resources that are referenced
+	 * by the resources of several threads are loaded once per thread. Once a batch of resources is linked, the linking
+	 * resource sets are unloaded and the resulting proxies are resolved in the resource set of the build, before the
+	 * resources are validated. The referenced resources are therefore loaded into the build's resource set as well,
+	 * one after the other, while only the linking itself runs concurrently.
+	 * 
+	 * @since 2.39
+	 */
+	public static final String LINKING_THREADS = "org.eclipse.xtext.builder.clustering.ClusteringBuilderState.linkingThreads";
+
+	/**
+	 * The number of resources per linking thread that are loaded before they are linked concurrently.
+	 */
+	private static final int BATCH_SIZE_PER_LINKING_THREAD = 4;
+
 	/** Class-wide logger. */
 	private static final Logger LOGGER = Logger.getLogger(ClusteringBuilderState.class);
 
@@ -101,6 +135,13 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 	@Inject
 	private IBuildLogger buildLogger;
 
+	@Inject
+	private IResourceSetProvider resourceSetProvider;
+
+	@Inject(optional = true)
+	@Named(LINKING_THREADS)
+	private int linkingThreads = Integer.getInteger(LINKING_THREADS, 1);
+
 	/**
 	 * Actually do the build.
 	 *
@@ -179,6 +220,13 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 
 		IProject currentProject = getBuiltProject(buildData);
 		LoadOperation loadOperation = null;
+		ExecutorService linkingExecutor = currentProject != null ? createLinkingExecutor() : null;
+		List<ResourceSet> linkingResourceSets = Collections.synchronizedList(Lists.newArrayList());
+		ThreadLocal<ResourceSet> linkingResourceSet = ThreadLocal.withInitial(() -> {
+			ResourceSet result = createLinkingResourceSet(resourceSet, currentProject, newData, buildData);
+			linkingResourceSets.add(result);
+			return result;
+		});
 		try {
 			Queue<URI> queue = buildData.getURIQueue();
 
@@ -205,6 +253,102 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 					if (!clusteringPolicy.continueProcessing(resourceSet, null, clusterIndex)) {
 						break;
 					}
+					if (linkingExecutor != null) {
+						// Load a batch of resources, link them concurrently in the resource sets of the linking threads
+						// and register their deltas in order once all of them are linked
+						List<Triple<URI, URI, Resource>> batch = Lists.newArrayList();
+						boolean endOfCluster = false;
+						while (!queue.isEmpty() && batch.size() < linkingThreads * BATCH_SIZE_PER_LINKING_THREAD
+								&& clusteringPolicy.continueProcessing(resourceSet, null, clusterIndex + batch.size())) {
+							URI changedURI = null;
+							Resource resource = null;
+							try {
+								LoadResult loadResult = loadOperation.next();
+								changedURI = loadResult.getUri();
+								URI actualResourceURI = loadResult.getResource().getURI();
+								resource = addResource(loadResult.getResource(), resourceSet);
+								subProgress.subTask("Updating resource " + resource.getURI().lastSegment());
+								if (LOGGER.isDebugEnabled()) {
+									LOGGER.debug("Update resource description " + actualResourceURI);
+								}
+								queue.remove(changedURI);
+								if (toBeDeleted.contains(changedURI)) {
+									endOfCluster = true;
+									break;
+								}
+								buildLogger.log("indexing " + changedURI);
+								batch.add(Tuples.create(changedURI, actualResourceURI, resource));
+							} catch (final WrappedException ex) {
+								if (ex instanceof LoadOperationException) {
+									changedURI = ((LoadOperationException) ex).getUri();
+								}
+								if (changedURI == null) {
+									LOGGER.error("Error loading resource", ex); //$NON-NLS-1$
+								} else {
+									queue.remove(changedURI);
+									if (toBeDeleted.contains(changedURI)) {
+										endOfCluster = true;
+										break;
+									}
+									Delta newDelta = createDeltaAfterFailure(changedURI, resource, ex, resourceSet, newState);
+									if (newDelta != null) {
+										clusterIndex++;
+										registerDelta(newDelta, allDeltas, changedDeltas, newState, buildData, resourceSet, subProgress, loadOperation);
+									}
+								}
+								subProgress.split(2);
+							}
+						}
+						List<Future<Delta>> futures = Lists.newArrayListWithCapacity(batch.size());
+						for (Triple<URI, URI, Resource> it : batch) {
+							futures.add(linkingExecutor.submit(() -> resolveAndCreateDelta(it.getThird(), it.getSecond(),
+									resourceSet, linkingResourceSet.get(), cancelMonitor)));
+						}
+						List<Object> results = Lists.newArrayListWithCapacity(batch.size());
+						try {
+							for (Future<Delta> future : futures) {
+								try {
+									results.add(getLinkingResult(future));
+								} catch (final WrappedException ex) {
+									results.add(ex);
+								}
+							}
+						} catch (OperationCanceledException e) {
+							for (Future<Delta> future : futures) {
+								future.cancel(true);
+							}
+							loadOperation.cancel();
+							throw e;
+						}
+						unloadLinkingResourceSets(linkingResourceSets);
+						for (int i = 0; i < batch.size(); i++) {
+							Delta newDelta;
+							if (results.get(i) instanceof WrappedException) {
+								WrappedException ex = (WrappedException) results.get(i);
+								newDelta = createDeltaAfterFailure(
+										ex instanceof LoadOperationException ? ((LoadOperationException) ex).getUri() : batch.get(i).getFirst(),
+										batch.get(i).getThird(), ex, resourceSet, newState);
+							} else {
+								newDelta = (Delta) results.get(i);
+								try {
+									// the targets in the linking resource sets were proxified, resolve them in the build's resource set
+									EcoreUtil2.resolveAll(batch.get(i).getThird(), cancelMonitor);
+								} catch (OperationCanceledException e) {
+									loadOperation.cancel();
+									throw e;
+								}
+							}
+							if (newDelta != null) {
+								clusterIndex++;
+								registerDelta(newDelta, allDeltas, changedDeltas, newState, buildData, resourceSet, subProgress, loadOperation);
+							}
+							subProgress.split(2);
+						}
+						if (endOfCluster) {
+							break;
+						}
+						continue;
+					}
 					URI changedURI = null;
 					URI actualResourceURI = null;
 					Resource resource = null;
@@ -225,71 +369,28 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 							break;
 						}
 						buildLogger.log("indexing " + changedURI);
-						final IResourceDescription.Manager manager = getResourceDescriptionManager(actualResourceURI);
-						if (manager != null) {
+						try {
 							// Resolve links here!
-							try {
-								EcoreUtil2.resolveLazyCrossReferences(resource, cancelMonitor);
-								final IResourceDescription description = manager.getResourceDescription(resource);
-								final IResourceDescription copiedDescription = BuilderStateUtil.create(description);
-								newDelta = manager.createDelta(this.getResourceDescription(actualResourceURI), copiedDescription);
-							} catch (OperationCanceledException e) {
-								loadOperation.cancel();
-								throw e;
-							} catch (WrappedException e) {
-								throw e;
-							} catch (RuntimeException e) {
-								LOGGER.error("Error resolving cross references on resource '"+actualResourceURI+"'", e);
-								throw new LoadOperationException(actualResourceURI, e);
-							}
+							newDelta = resolveAndCreateDelta(resource, actualResourceURI, cancelMonitor);
+						} catch (OperationCanceledException e) {
+							loadOperation.cancel();
+							throw e;
 						}
 					} catch (final WrappedException ex) {
 						if(ex instanceof LoadOperationException) {
 							changedURI = ((LoadOperationException) ex).getUri();
 						}
-						Throwable cause = ex.getCause();
-						boolean wasResourceNotFound = false;
-						if (cause instanceof CoreException) {
-							if (IResourceStatus.RESOURCE_NOT_FOUND == ((CoreException) cause).getStatus().getCode()) {
-								wasResourceNotFound = true;
-							}
-						}
 						if(changedURI == null) {
 							LOGGER.error("Error loading resource", ex); //$NON-NLS-1$
 						} else {
 							queue.remove(changedURI);
 							if(toBeDeleted.contains(changedURI)) break;
-							if (!wasResourceNotFound)
-								LOGGER.error("Error loading resource from: " + changedURI.toString(), ex); //$NON-NLS-1$
-							if (resource != null) {
-								resourceSet.getResources().remove(resource);
-							}
-							final IResourceDescription oldDescription = this.getResourceDescription(changedURI);
-							final IResourceDescription newDesc = newState.getResourceDescription(changedURI);
-							ResourceDescriptionImpl indexReadyDescription = newDesc != null ? BuilderStateUtil.create(newDesc) : null;
-							if ((oldDescription != null || indexReadyDescription != null) && oldDescription != indexReadyDescription) {
-								newDelta = new DefaultResourceDescriptionDelta(oldDescription, indexReadyDescription);
-							}
+							newDelta = createDeltaAfterFailure(changedURI, resource, ex, resourceSet, newState);
 						}
 					}
 					if (newDelta != null) {
-						allDeltas.add(newDelta);
 						clusterIndex++;
-						if (newDelta.haveEObjectDescriptionsChanged())
-							changedDeltas.add(newDelta);
-						// Make the new resource description known and update the map.
-						newState.register(newDelta);
-						// Validate now.
-						if (!buildData.isIndexingOnly()) {
-							try {
-							updateMarkers(newDelta, resourceSet, subProgress);
-							} catch (OperationCanceledException e) {
-								loadOperation.cancel();
-								throw e;
-							} catch (Exception e) {
-								LOGGER.error("Error validating "+newDelta.getUri(), e);
-							}
-						}
+						registerDelta(newDelta, allDeltas, changedDeltas, newState, buildData, resourceSet, subProgress, loadOperation);
 					}
 					// 2 ticks for updating since updating makes 2/3 of the work
 					subProgress.split(2);
@@ -306,16 +407,203 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 
 				// Release memory
 				if (!queue.isEmpty() && !clusteringPolicy.continueProcessing(resourceSet, null, clusterIndex))
-					clearResourceSet(resourceSet);
+					clearResourceSet(resourceSet, queue, newState);
 			}
 		} finally {
 			if(loadOperation != null) loadOperation.cancel();
+			if (linkingExecutor != null) {
+				linkingExecutor.shutdownNow();
+				unloadLinkingResourceSets(linkingResourceSets);
+			}
 			if (!progress.isCanceled())
 				progress.done();
 		}
 		return allDeltas;
 	}
 
+	/**
+	 * Creates the executor that resolves the cross references of the resources of a cluster concurrently, or
+	 * <code>null</code> if the resources are linked one after the other because there is only one
+	 * {@link #LINKING_THREADS linking thread}.
+	 * 
+	 * @since 2.39
+	 */
+	protected ExecutorService createLinkingExecutor() {
+		if (linkingThreads <= 1) {
+			return null;
+		}
+		return Executors.newFixedThreadPool(linkingThreads,
+				new ThreadFactoryBuilder().setNameFormat("ParallelLinking-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * Creates the resource set of a linking thread. It is configured like the resource set of the build and sees the
+	 * same index.
+	 * 
+	 * @since 2.39
+	 */
+	protected ResourceSet createLinkingResourceSet(ResourceSet resourceSet, IProject project, ResourceDescriptionsData newData,
+			BuildData buildData) {
+		ResourceSet result = resourceSetProvider.get(project);
+		result.getLoadOptions().putAll(resourceSet.getLoadOptions());
+		result.setURIConverter(resourceSet.getURIConverter());
+		new CurrentDescriptions(result, newData, buildData);
+		return result;
+	}
+
+	/**
+	 * Unloads the resources of the linking resource sets, so the objects of the build's resource set that reference
+	 * them point to proxies, and removes them.
+	 */
+	private void unloadLinkingResourceSets(List<ResourceSet> linkingResourceSets) {
+		synchronized (linkingResourceSets) {
+			for (ResourceSet it : linkingResourceSets) {
+				for (Resource resource : it.getResources()) {
+					resource.unload();
+				}
+				clearResourceSet(it);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the cross references of the given resource of the build's resource set in the resource set of the
+	 * current linking thread and creates the delta of its new resource description. The resource is moved to the
+	 * linking resource set for that and is moved back afterwards. The resources that it references stay in the
+	 * linking resource set until the batch is linked, the caller then unloads them and resolves the resulting proxies
+	 * in the build's resource set.
+	 * 
+	 * @since 2.39
+	 */
+	protected Delta resolveAndCreateDelta(Resource resource, URI actualResourceURI, ResourceSet resourceSet,
+			ResourceSet linkingResourceSet, CancelIndicator cancelIndicator) {
+		SourceLevelURIsAdapter sourceLevelURIs = SourceLevelURIsAdapter.findInstalledAdapter(resourceSet);
+		if (sourceLevelURIs != null) {
+			SourceLevelURIsAdapter.setSourceLevelUrisWithoutCopy(linkingResourceSet, sourceLevelURIs.getSourceLevelURIs());
+		}
+		// a copy that was loaded as a referenced resource before would shadow the resource
+		Resource copy = linkingResourceSet.getResource(resource.getURI(), false);
+		if (copy != null) {
+			linkingResourceSet.getResources().remove(copy);
+		}
+		synchronized (resourceSet) {
+			linkingResourceSet.getResources().add(resource);
+		}
+		try {
+			return resolveAndCreateDelta(resource, actualResourceURI, cancelIndicator);
+		} finally {
+			synchronized (resourceSet) {
+				resourceSet.getResources().add(resource);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the cross references of the given resource and creates the delta of its new resource description.
+	 * 
+	 * @return the delta or <code>null</code> if the resource has no resource description manager.
+	 * @since 2.39
+	 */
+	protected Delta resolveAndCreateDelta(Resource resource, URI actualResourceURI, CancelIndicator cancelIndicator) {
+		final IResourceDescription.Manager manager = getResourceDescriptionManager(actualResourceURI);
+		if (manager == null) {
+			return null;
+		}
+		try {
+			EcoreUtil2.resolveLazyCrossReferences(resource, cancelIndicator);
+			final IResourceDescription description = manager.getResourceDescription(resource);
+			final IResourceDescription copiedDescription = BuilderStateUtil.create(description);
+			return manager.createDelta(this.getResourceDescription(actualResourceURI), copiedDescription);
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (WrappedException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			LOGGER.error("Error resolving cross references on resource '"+actualResourceURI+"'", e);
+			throw new LoadOperationException(actualResourceURI, e);
+		}
+	}
+
+	/**
+	 * The number of threads that resolve the cross references of the resources of a cluster concurrently.
+	 * 
+	 * @since 2.39
+	 */
+	public int getLinkingThreads() {
+		return linkingThreads;
+	}
+
+	/**
+	 * Sets the number of threads that resolve the cross references of the resources of a cluster concurrently,
+	 * <code>1</code> to link sequentially.
+	 * 
+	 * @since 2.39
+	 */
+	public void setLinkingThreads(int linkingThreads) {
+		this.linkingThreads = linkingThreads;
+	}
+
+	private Delta getLinkingResult(Future<Delta> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new WrappedException((Exception) cause);
+		}
+	}
+
+	private Delta createDeltaAfterFailure(URI changedURI, Resource resource, WrappedException ex, ResourceSet resourceSet,
+			CurrentDescriptions newState) {
+		Throwable cause = ex.getCause();
+		boolean wasResourceNotFound = false;
+		if (cause instanceof CoreException) {
+			if (IResourceStatus.RESOURCE_NOT_FOUND == ((CoreException) cause).getStatus().getCode()) {
+				wasResourceNotFound = true;
+			}
+		}
+		if (!wasResourceNotFound)
+			LOGGER.error("Error loading resource from: " + changedURI.toString(), ex); //$NON-NLS-1$
+		if (resource != null) {
+			resourceSet.getResources().remove(resource);
+		}
+		final IResourceDescription oldDescription = this.getResourceDescription(changedURI);
+		final IResourceDescription newDesc = newState.getResourceDescription(changedURI);
+		ResourceDescriptionImpl indexReadyDescription = newDesc != null ? BuilderStateUtil.create(newDesc) : null;
+		if ((oldDescription != null || indexReadyDescription != null) && oldDescription != indexReadyDescription) {
+			return new DefaultResourceDescriptionDelta(oldDescription, indexReadyDescription);
+		}
+		return null;
+	}
+
+	private void registerDelta(Delta newDelta, Set<Delta> allDeltas, List<Delta> changedDeltas, CurrentDescriptions newState,
+			BuildData buildData, ResourceSet resourceSet, SubMonitor subProgress, LoadOperation loadOperation) {
+		allDeltas.add(newDelta);
+		if (newDelta.haveEObjectDescriptionsChanged())
+			changedDeltas.add(newDelta);
+		// Make the new resource description known and update the map.
+		newState.register(newDelta);
+		// Validate now.
+		if (!buildData.isIndexingOnly()) {
+			try {
+			updateMarkers(newDelta, resourceSet, subProgress);
+			} catch (OperationCanceledException e) {
+				loadOperation.cancel();
+				throw e;
+			} catch (Exception e) {
+				LOGGER.error("Error validating "+newDelta.getUri(), e);
+			}
+		}
+	}
+
 	protected void installSourceLevelURIs(BuildData buildData) {
 		ResourceSet resourceSet = buildData.getResourceSet();
 		Iterable<URI> sourceLevelUris = Iterables.concat(buildData.getToBeUpdated(), buildData.getURIQueue());
@@ -448,6 +736,21 @@ public class ClusteringBuilderState extends AbstractBuilderState {
 		}
 	}
 
+	/**
+	 * Releases the resources of a cluster before the pending resources are processed. An
+	 * {@link AdaptiveResourceClusteringPolicy} keeps the resources that the pending ones reference according to the
+	 * given index, otherwise the resource set is {@link #clearResourceSet(ResourceSet) cleared}.
+	 *
+	 * @since 2.39
+	 */
+	protected void clearResourceSet(ResourceSet resourceSet, Collection<URI> pending, IResourceDescriptions index) {
+		if (clusteringPolicy instanceof AdaptiveResourceClusteringPolicy) {
+			((AdaptiveResourceClusteringPolicy) clusteringPolicy).evict(resourceSet, pending, index);
+		} else {
+			clearResourceSet(resourceSet);
+		}
+	}
+
 	/**
 	 * Adds a resource to the ResourceSet if the ResourceSet doesn't contain it yet.
 	 *
@@ -9,6 +9,8 @@
 package org.eclipse.xtext.builder.impl;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
@@ -27,6 +29,7 @@ import org.eclipse.xtext.resource.impl.ChangedResourceDescriptionDelta;
 import org.eclipse.xtext.resource.impl.CoarseGrainedChangeEvent;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionChangeEvent;
 import org.eclipse.xtext.ui.editor.IDirtyStateManager;
+import org.eclipse.xtext.ui.editor.IDirtyStateManagerExtension;
 import org.eclipse.xtext.ui.notification.IStateChangeEventBroker;
 
 import com.google.common.base.Function;
@@ -37,7 +40,7 @@ import com.google.inject.Inject;
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
  */
-public class DirtyStateAwareResourceDescriptions extends AbstractResourceDescriptionChangeEventSource implements IResourceDescriptions, IShadowedResourceDescriptions {
+public class DirtyStateAwareResourceDescriptions extends AbstractResourceDescriptionChangeEventSource implements IResourceDescriptions.IReferenceIndexAware, IShadowedResourceDescriptions {
 
 	private final IDirtyStateManager dirtyStateManager;
 	private final IBuilderState globalDescriptions;
@@ -143,6 +146,28 @@ public class DirtyStateAwareResourceDescriptions extends AbstractResourceDescrip
 		return globalDescriptions.isEmpty();
 	}
 
+	/**
+	 * The dirty resources are considered to reference any resource, since they are not covered by the reverse index of
+	 * the global descriptions.
+	 * 
+	 * @since 2.39
+	 */
+	@Override
+	public Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		if (!(globalDescriptions instanceof IResourceDescriptions.IReferenceIndexAware)
+				|| !(dirtyStateManager instanceof IDirtyStateManagerExtension)) {
+			return null;
+		}
+		Set<URI> global = ((IResourceDescriptions.IReferenceIndexAware) globalDescriptions)
+				.getReferencingResourceURIs(targetResourceURI);
+		if (global == null) {
+			return null;
+		}
+		Set<URI> result = new HashSet<>(global);
+		result.addAll(((IDirtyStateManagerExtension) dirtyStateManager).getDirtyResourceURIs());
+		return result;
+	}
+
 	@Override
 	public Iterable<IEObjectDescription> getExportedObjects() {
 		return Iterables.concat(Iterables.transform(getAllResourceDescriptions(), new Function<ISelectable, Iterable<IEObjectDescription>>() {
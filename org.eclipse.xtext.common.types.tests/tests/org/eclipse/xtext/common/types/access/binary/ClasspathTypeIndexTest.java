@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.xtext.common.types.descriptions.IndexedTypeDescriptor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+public class ClasspathTypeIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private URLClassLoader classLoader;
+
+	private ClasspathTypeIndex index;
+
+	@Before
+	public void setUp() throws Exception {
+		URL guava = new File(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toURI().toURL();
+		classLoader = new URLClassLoader(new URL[] { guava }, null);
+		index = ClasspathTypeIndex.create(classLoader);
+		Assert.assertNotNull(index);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		classLoader.close();
+	}
+
+	@Test
+	public void testContains() {
+		Assert.assertTrue(index.contains("java.lang.String"));
+		Assert.assertTrue(index.contains("java.util.Map$Entry"));
+		Assert.assertTrue(index.contains("com.google.common.collect.ImmutableList$Builder"));
+		Assert.assertFalse(index.contains("java.util.Map.Entry"));
+		Assert.assertFalse(index.contains("com.google.common.collect.Unknown"));
+		Assert.assertFalse(index.contains("module-info"));
+	}
+
+	@Test
+	public void testBinaryName() {
+		Assert.assertEquals("java.util.Map$Entry", index.getBinaryName("java.util.Map.Entry"));
+		Assert.assertEquals("java.util.Map$Entry", index.getBinaryName("java.util.Map$Entry"));
+		Assert.assertEquals("com.google.common.collect.ImmutableList", index.getBinaryName("com.google.common.collect.ImmutableList"));
+		Assert.assertNull(index.getBinaryName("java.util.Unknown"));
+	}
+
+	@Test
+	public void testSimpleNamePrefix() {
+		List<String> names = index.getBinaryNamesBySimpleNamePrefix("immutableLi");
+		Assert.assertTrue(names.contains("com.google.common.collect.ImmutableList"));
+		Assert.assertTrue(names.contains("com.google.common.collect.ImmutableListMultimap"));
+		for (String name : names) {
+			Assert.assertTrue(name, name.substring(name.lastIndexOf('.') + 1).startsWith("ImmutableLi"));
+		}
+		Assert.assertTrue(index.getBinaryNamesBySimpleNamePrefix("ArrayList").contains("java.util.ArrayList"));
+		Assert.assertTrue(index.getBinaryNamesBySimpleNamePrefix("Entry").contains("java.util.Map$Entry"));
+		Assert.assertTrue(index.getBinaryNamesBySimpleNamePrefix("NoSuchTypeName").isEmpty());
+	}
+
+	@Test
+	public void testQualifiedNamePrefix() {
+		List<String> names = index.getBinaryNamesByQualifiedNamePrefix("java.ut");
+		Assert.assertTrue(names.contains("java.util.ArrayList"));
+		Assert.assertTrue(names.contains("java.util.Map$Entry"));
+		Assert.assertTrue(names.contains("java.util.concurrent.ConcurrentHashMap"));
+		Assert.assertFalse(names.contains("java.lang.String"));
+		Assert.assertTrue(index.getBinaryNamesByQualifiedNamePrefix("java.util.map.ent").contains("java.util.Map$Entry"));
+	}
+
+	@Test
+	public void testRefreshClassFolder() throws Exception {
+		Path folder = temporaryFolder.newFolder("bin").toPath();
+		Files.createDirectories(folder.resolve("pkg"));
+		Files.createFile(folder.resolve("pkg/First.class"));
+		try (URLClassLoader folderLoader = new URLClassLoader(new URL[] { folder.toUri().toURL() }, null)) {
+			ClasspathTypeIndex folderIndex = ClasspathTypeIndex.create(folderLoader);
+			Assert.assertTrue(folderIndex.contains("pkg.First"));
+			Assert.assertFalse(folderIndex.contains("pkg.Second"));
+
+			Files.createFile(folder.resolve("pkg/Second.class"));
+			IndexedBinaryClassFinder finder = new IndexedBinaryClassFinder(folderLoader, folderIndex);
+			// found by the class loader
+			Assert.assertEquals("pkg.Second", finder.forName("pkg.Second").getName());
+			finder.clearCache();
+			Assert.assertTrue(finder.getIndex().contains("pkg.Second"));
+			Assert.assertTrue(finder.getIndex().contains("java.lang.String"));
+		}
+	}
+
+	@Test
+	public void testRefreshChangedJar() throws Exception {
+		File jar = temporaryFolder.newFile("lib.jar");
+		writeJar(jar, "pkg/First.class");
+		try (URLClassLoader jarLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+			ClasspathTypeIndex jarIndex = ClasspathTypeIndex.create(jarLoader);
+			Assert.assertTrue(jarIndex.contains("pkg.First"));
+			writeJar(jar, "pkg/First.class", "pkg/Second.class");
+			jar.setLastModified(jar.lastModified() + 2000);
+			ClasspathTypeIndex refreshed = jarIndex.refresh();
+			Assert.assertTrue(refreshed.contains("pkg.First"));
+			Assert.assertTrue(refreshed.contains("pkg.Second"));
+		}
+	}
+
+	private void writeJar(File jar, String... entries) throws Exception {
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (String entry : entries) {
+				out.putNextEntry(new JarEntry(entry));
+				out.closeEntry();
+			}
+		}
+	}
+
+	@Test
+	public void testSubclassesOfURLClassLoaderAreNotIndexed() throws Exception {
+		try (URLClassLoader subclass = new URLClassLoader(new URL[0], null) {}) {
+			Assert.assertNull(ClasspathTypeIndex.create(subclass));
+		}
+	}
+
+	@Test
+	public void testPackagesThatAreNotExportedAreNotProposed() {
+		Assert.assertTrue(index.contains("jdk.internal.misc.Unsafe"));
+		Assert.assertFalse(index.getBinaryNamesBySimpleNamePrefix("Unsafe").contains("jdk.internal.misc.Unsafe"));
+	}
+
+	@Test
+	public void testAnonymousClassesAreNotProposed() {
+		for (String name : index.getBinaryNamesBySimpleNamePrefix("")) {
+			Assert.assertFalse(name, name.matches(".*\\$\\d.*"));
+		}
+	}
+
+	@Test
+	public void testClassFinder() throws Exception {
+		IndexedBinaryClassFinder finder = new IndexedBinaryClassFinder(classLoader, index);
+		Assert.assertEquals("java.util.Map$Entry", finder.forName("java.util.Map$Entry").getName());
+		Assert.assertEquals("[Ljava.lang.String;", finder.forName("java.lang.String[]").getName());
+		Assert.assertEquals("int", finder.forName("int").getName());
+		try {
+			finder.forName("java.util.Map.Entry");
+			Assert.fail();
+		} catch (ClassNotFoundException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testTypeDescriptor() {
+		IndexedTypeDescriptor list = new IndexedTypeDescriptor("java.util.List", classLoader);
+		Assert.assertEquals("List", list.getSimpleName());
+		Assert.assertTrue(Modifier.isPublic(list.getModifiers()));
+		Assert.assertTrue(Modifier.isInterface(list.getModifiers()));
+
+		IndexedTypeDescriptor entry = new IndexedTypeDescriptor("java.util.Map$Entry", classLoader);
+		Assert.assertEquals("Entry", entry.getSimpleName());
+		Assert.assertEquals("java.util.Map.Entry", entry.getQualifiedName().toString());
+		Assert.assertTrue(Modifier.isStatic(entry.getModifiers()));
+
+		IndexedTypeDescriptor node = new IndexedTypeDescriptor("java.util.HashMap$Node", classLoader);
+		Assert.assertFalse(Modifier.isPublic(node.getModifiers()));
+	}
+}
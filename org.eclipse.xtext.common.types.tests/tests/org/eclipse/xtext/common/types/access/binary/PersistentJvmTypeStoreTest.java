@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.impl.DeclaredTypeFactory;
+import org.eclipse.xtext.common.types.access.impl.PersistentDeclaredTypeFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+public class PersistentJvmTypeStoreTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path directory;
+
+	private ClassLoader classLoader;
+
+	@Before
+	public void setUp() {
+		directory = temporaryFolder.getRoot().toPath();
+		classLoader = getClass().getClassLoader();
+	}
+
+	@Test
+	public void testJarType() throws Exception {
+		assertStoredType(ImmutableList.class.getName());
+	}
+
+	@Test
+	public void testRuntimeType() throws Exception {
+		assertStoredType(ArrayList.class.getName());
+	}
+
+	@Test
+	public void testClassFolderIsNotStored() throws Exception {
+		BinaryClass binaryClass = BinaryClass.forName(getClass().getName(), classLoader);
+		Assert.assertNull(new PersistentJvmTypeStore(directory).getContainer(binaryClass.getLocationURI()));
+		Assert.assertNull(new PersistentJvmTypeStore(directory).getContainer(URI.createFileURI("/foo/Bar.class")));
+	}
+
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		PersistentJvmTypeStore store = new PersistentJvmTypeStore(directory);
+		PersistentJvmTypeStore.Container container = store.getContainer(
+				BinaryClass.forName(ImmutableList.class.getName(), classLoader).getLocationURI());
+		TypeNameIndex index = store.getTypeNameIndex(container);
+		Assert.assertTrue(index.contains("com.google.common.collect.ImmutableList"));
+		Assert.assertTrue(index.contains("com.google.common.collect.ImmutableList$Builder"));
+		Assert.assertFalse(index.contains("com.google.common.collect.Unknown"));
+		Assert.assertTrue(index.getTypeNames("com.google.common.collect").contains("Lists"));
+		Assert.assertFalse(index.containsPackage("java.util"));
+		Assert.assertSame(index, store.getTypeNameIndex(container));
+
+		TypeNameIndex reloaded = new PersistentJvmTypeStore(directory).getTypeNameIndex(container);
+		Assert.assertEquals(index.size(), reloaded.size());
+		Assert.assertEquals(index.getTypeNames("com.google.common.base"), reloaded.getTypeNames("com.google.common.base"));
+
+		PersistentJvmTypeStore.Container runtime = store.getContainer(
+				BinaryClass.forName(ArrayList.class.getName(), classLoader).getLocationURI());
+		Assert.assertTrue(store.getTypeNameIndex(runtime).contains("java.util.Map$Entry"));
+	}
+
+	@Test
+	public void testChangedJarGetsNewContainer() throws Exception {
+		Path jar = temporaryFolder.newFile("library.jar").toPath();
+		Files.copy(Path.of(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI()), jar,
+				StandardCopyOption.REPLACE_EXISTING);
+		URI classFileLocation = URI.createURI("jar:" + jar.toUri() + "!/com/google/common/collect/ImmutableList.class");
+		PersistentJvmTypeStore store = new PersistentJvmTypeStore(directory);
+		PersistentJvmTypeStore.Container container = store.getContainer(classFileLocation);
+		Assert.assertNotNull(container);
+		Assert.assertSame(container, store.getContainer(classFileLocation));
+
+		// e.g. a rebuilt snapshot dependency
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+		PersistentJvmTypeStore.Container changed = store.getContainer(classFileLocation);
+		Assert.assertNotNull(changed);
+		Assert.assertNotEquals(container.getKey(), changed.getKey());
+		Assert.assertSame(changed, store.getContainer(classFileLocation));
+	}
+
+	private void assertStoredType(String name) throws Exception {
+		BinaryClass binaryClass = BinaryClass.forName(name, classLoader);
+		DeclaredTypeFactory delegate = new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader);
+		JvmDeclaredType expected = delegate.createType(binaryClass);
+
+		PersistentDeclaredTypeFactory factory = new PersistentDeclaredTypeFactory(delegate, new PersistentJvmTypeStore(directory));
+		JvmDeclaredType created = factory.createType(binaryClass);
+		Assert.assertTrue(EcoreUtil.equals(expected, created));
+		try (Stream<Path> files = Files.walk(directory)) {
+			Assert.assertEquals(1, files.filter((it) -> it.toString().endsWith(name + ".jvmtype")).count());
+		}
+
+		// another process
+		PersistentJvmTypeStore store = new PersistentJvmTypeStore(directory);
+		JvmDeclaredType loaded = store.load(store.getContainer(binaryClass.getLocationURI()), name);
+		Assert.assertNotNull(loaded);
+		Assert.assertNull(loaded.eResource());
+		Assert.assertEquals(name, loaded.getIdentifier());
+		Assert.assertTrue(new EcoreUtil.EqualityHelper() {
+			@Override
+			protected boolean haveEqualFeature(EObject eObject1, EObject eObject2, EStructuralFeature feature) {
+				// cached values like the identifier are recomputed on demand
+				return feature.isTransient() || super.haveEqualFeature(eObject1, eObject2, feature);
+			}
+		}.equals(expected, loaded));
+		Assert.assertFalse(loaded.getMembers().isEmpty());
+	}
+}
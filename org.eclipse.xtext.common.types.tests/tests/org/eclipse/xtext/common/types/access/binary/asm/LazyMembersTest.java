@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary.asm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmEnumerationType;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+
+public class LazyMembersTest {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	private final ClassFileBytesAccess bytesAccess = new ClassFileBytesAccess();
+
+	@Test
+	public void testMembersAreCreatedOnAccess() {
+		JvmDeclaredTypeImplCustom type = (JvmDeclaredTypeImplCustom) buildType(ArrayList.class, true);
+		Assert.assertFalse(type.isMembersInitialized());
+		Assert.assertEquals("java.util.ArrayList", type.getIdentifier());
+		Assert.assertEquals(1, ((JvmGenericType) type).getTypeParameters().size());
+		Assert.assertFalse(type.getSuperTypes().isEmpty());
+		Assert.assertFalse(type.isMembersInitialized());
+
+		Assert.assertTrue(type.getDeclaredOperations().iterator().hasNext());
+		Assert.assertTrue(type.isMembersInitialized());
+		Assert.assertTrue(Iterables.any(type.findAllFeaturesByName("add"), (it) -> it.getDeclaringType() == type));
+	}
+
+	@Test
+	public void testReflectiveAccess() {
+		JvmDeclaredTypeImplCustom type = (JvmDeclaredTypeImplCustom) buildType(ArrayList.class, true);
+		Assert.assertTrue(type.eIsSet(TypesPackage.Literals.JVM_DECLARED_TYPE__MEMBERS));
+		Assert.assertTrue(type.isMembersInitialized());
+
+		JvmDeclaredTypeImplCustom other = (JvmDeclaredTypeImplCustom) buildType(ArrayList.class, true);
+		Assert.assertFalse(other.eContents().isEmpty());
+		Assert.assertTrue(other.isMembersInitialized());
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		int expected = buildType(ArrayList.class, false).getMembers().size();
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int i = 0; i < 20; i++) {
+				JvmDeclaredType type = buildType(ArrayList.class, true);
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Integer>> sizes = new ArrayList<>();
+				for (int j = 0; j < threads; j++) {
+					sizes.add(executor.submit((Callable<Integer>) () -> {
+						start.await();
+						int size = 0;
+						for (@SuppressWarnings("unused") EObject member : type.eContents()) {
+							size++;
+						}
+						return size;
+					}));
+				}
+				start.countDown();
+				for (Future<Integer> size : sizes) {
+					Assert.assertEquals(expected, size.get(10, TimeUnit.SECONDS).intValue());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFailingInitializerRunsAgain() {
+		JvmDeclaredTypeImplCustom type = (JvmDeclaredTypeImplCustom) buildType(ArrayList.class, false);
+		int expected = type.getMembers().size();
+		JvmDeclaredTypeImplCustom lazy = (JvmDeclaredTypeImplCustom) buildType(ArrayList.class, false);
+		lazy.getMembers().clear();
+		AtomicInteger attempts = new AtomicInteger();
+		lazy.setMembersInitializer((it) -> {
+			it.getMembers().addAll(EcoreUtil.copyAll(type.getMembers()));
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("first attempt");
+			}
+		});
+		try {
+			lazy.getMembers();
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("first attempt", e.getMessage());
+		}
+		Assert.assertFalse(lazy.isMembersInitialized());
+		Assert.assertEquals(expected, lazy.getMembers().size());
+		Assert.assertTrue(lazy.isMembersInitialized());
+		Assert.assertEquals(2, attempts.get());
+	}
+
+	@Test
+	public void testEqualsEagerType() {
+		assertEqualsEagerType(ArrayList.class);
+		assertEqualsEagerType(Map.class);
+		assertEqualsEagerType(TimeUnit.class);
+	}
+
+	@Test
+	public void testNestedTypes() {
+		JvmDeclaredType type = buildType(Map.class, true);
+		JvmDeclaredType entry = (JvmDeclaredType) Iterables.find(type.getMembers(),
+				(it) -> it instanceof JvmDeclaredType);
+		Assert.assertEquals("java.util.Map$Entry", entry.getIdentifier());
+		Assert.assertFalse(((JvmDeclaredTypeImplCustom) entry).isMembersInitialized());
+		Assert.assertTrue(Iterables.any(entry.getMembers(), (it) -> "getKey".equals(it.getSimpleName())));
+	}
+
+	@Test
+	public void testEnumerationLiterals() {
+		JvmEnumerationType type = (JvmEnumerationType) buildType(TimeUnit.class, true);
+		Assert.assertEquals(7, type.getLiterals().size());
+		for (JvmMember member : type.getMembers()) {
+			Assert.assertSame(type, member.getDeclaringType());
+		}
+	}
+
+	private JvmDeclaredType buildType(Class<?> clazz, boolean lazyMembers) {
+		BinaryClass binaryClass = new BinaryClass(clazz.getName(), classLoader);
+		return new JvmDeclaredTypeBuilder(binaryClass, bytesAccess, classLoader, lazyMembers).buildType();
+	}
+
+	private void assertEqualsEagerType(Class<?> clazz) {
+		JvmDeclaredType expected = buildType(clazz, false);
+		JvmDeclaredType lazy = buildType(clazz, true);
+		Assert.assertTrue(new EcoreUtil.EqualityHelper() {
+			@Override
+			protected boolean haveEqualFeature(EObject eObject1, EObject eObject2, EStructuralFeature feature) {
+				// cached values like the identifier are computed on demand
+				return feature.isTransient() || super.haveEqualFeature(eObject1, eObject2, feature);
+			}
+		}.equals(expected, lazy));
+	}
+}
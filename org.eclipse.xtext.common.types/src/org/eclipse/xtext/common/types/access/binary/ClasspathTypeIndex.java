@@ -0,0 +1,602 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReader;
+import java.lang.module.ModuleReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * An index of the names of all classes that a class loader can see. It is built from the central directories of the
+ * jars, the class folders and the modules of the Java runtime without loading any class, so the existence of a class
+ * can be decided by a hash lookup rather than by probing the class loader for resources.
+ * <p>
+ * The index also answers prefix queries on the simple names of the types for content assist. These only return the
+ * types in exported packages if a classpath entry has a <code>module-info.class</code>, and never return local or
+ * anonymous classes.
+ * </p>
+ * The index is only available if all classpath entries of the class loader and its parents can be enumerated, i.e.
+ * for plain {@link URLClassLoader URL class loaders} with <code>file:</code> URLs and the system class loader.
+ * Subclasses of {@link URLClassLoader} are not indexed, since they may add URLs later or find classes elsewhere. Jars
+ * are indexed once per process and version, or read from the {@link PersistentJvmTypeStore#getDefault() persistent
+ * type store} if one is configured. Class folders are expected to change, they are scanned again by
+ * {@link #refresh()}, which also reads the jars again whose size or modification time changed.
+ *
+ * @since 2.39
+ */
+public class ClasspathTypeIndex {
+
+	/**
+	 * The system property that enables the index. If set to <code>true</code>, the
+	 * {@link org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider ClasspathTypeProvider} and the type
+	 * proposals use the index of their class loader.
+	 */
+	public static final String ENABLED = "org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex.enabled";
+
+	private static final Logger LOG = Logger.getLogger(ClasspathTypeIndex.class);
+
+	private static final Map<ClassLoader, ClasspathTypeIndex> INDEXES = new WeakHashMap<>();
+
+	/**
+	 * The indexed jars by their path, size and modification time.
+	 */
+	private static final Map<String, Entry> ARCHIVES = new ConcurrentHashMap<>();
+
+	/**
+	 * The indexed modules of the Java runtime by their name.
+	 */
+	private static final Map<String, Entry> MODULES = new ConcurrentHashMap<>();
+
+	/**
+	 * The type names of a single classpath entry.
+	 */
+	protected static class Entry {
+
+		private final TypeNameIndex typeNames;
+
+		private final Set<String> exportedPackages;
+
+		private final List<File> referencedArchives;
+
+		private Path folder;
+
+		private File archive;
+
+		/**
+		 * @param exportedPackages
+		 *            the unqualified exports of the module, or <code>null</code> if the entry is not a module.
+		 * @param referencedArchives
+		 *            the archives on the <code>Class-Path</code> of the manifest of a jar.
+		 */
+		protected Entry(TypeNameIndex typeNames, Set<String> exportedPackages, List<File> referencedArchives) {
+			this.typeNames = typeNames;
+			this.exportedPackages = exportedPackages;
+			this.referencedArchives = referencedArchives;
+		}
+
+		public TypeNameIndex getTypeNames() {
+			return typeNames;
+		}
+
+		public boolean isExported(String packageName) {
+			return exportedPackages == null || exportedPackages.contains(packageName);
+		}
+
+		public List<File> getReferencedArchives() {
+			return referencedArchives;
+		}
+
+		/**
+		 * @return the class folder of this entry, or <code>null</code> for jars and modules.
+		 */
+		public Path getFolder() {
+			return folder;
+		}
+
+		/**
+		 * @return the jar of this entry, or <code>null</code> for class folders and modules.
+		 */
+		public File getArchive() {
+			return archive;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the system property {@link #ENABLED} is set.
+	 */
+	public static boolean isEnabled() {
+		return Boolean.getBoolean(ENABLED);
+	}
+
+	/**
+	 * Returns the shared index of the given class loader if the index is {@link #isEnabled() enabled}.
+	 *
+	 * @return the index or <code>null</code> if it is disabled or if the classpath of the class loader cannot be
+	 *         enumerated.
+	 */
+	public static ClasspathTypeIndex get(ClassLoader classLoader) {
+		if (!isEnabled() || classLoader == null) {
+			return null;
+		}
+		synchronized (INDEXES) {
+			if (INDEXES.containsKey(classLoader)) {
+				return INDEXES.get(classLoader);
+			}
+		}
+		// built outside of the lock, the indexes of the jars are shared anyway
+		ClasspathTypeIndex result = create(classLoader);
+		synchronized (INDEXES) {
+			if (INDEXES.containsKey(classLoader)) {
+				return INDEXES.get(classLoader);
+			}
+			INDEXES.put(classLoader, result);
+			return result;
+		}
+	}
+
+	/**
+	 * Replaces the shared index of the given class loader by a {@link #refresh() refreshed} one.
+	 *
+	 * @return the refreshed index or <code>null</code> if there is no shared index for the class loader.
+	 */
+	public static ClasspathTypeIndex refresh(ClassLoader classLoader) {
+		ClasspathTypeIndex existing;
+		synchronized (INDEXES) {
+			existing = INDEXES.get(classLoader);
+		}
+		if (existing == null) {
+			return null;
+		}
+		ClasspathTypeIndex result = existing.refresh();
+		synchronized (INDEXES) {
+			INDEXES.put(classLoader, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new index of the classpath of the given class loader.
+	 *
+	 * @return the index or <code>null</code> if the classpath of the class loader cannot be enumerated.
+	 */
+	public static ClasspathTypeIndex create(ClassLoader classLoader) {
+		List<Entry> entries = new ArrayList<>();
+		try {
+			if (!collectEntries(classLoader, entries)) {
+				LOG.debug("Cannot enumerate the classpath of " + classLoader);
+				return null;
+			}
+		} catch (IOException e) {
+			LOG.warn("Cannot index the classpath of " + classLoader, e);
+			return null;
+		}
+		return new ClasspathTypeIndex(entries);
+	}
+
+	private static boolean collectEntries(ClassLoader classLoader, List<Entry> entries) throws IOException {
+		if (classLoader == ClassLoader.getSystemClassLoader()) {
+			if (System.getProperty("jdk.module.path") != null) {
+				return false;
+			}
+			collectSystemModules(false, entries);
+			Set<File> visited = new HashSet<>();
+			for (String path : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+				if (!path.isEmpty()) {
+					collectEntries(new File(path), visited, entries);
+				}
+			}
+			return true;
+		}
+		// subclasses may add URLs later or find classes elsewhere
+		if (classLoader.getClass() == URLClassLoader.class) {
+			ClassLoader parent = classLoader.getParent();
+			if (parent == null) {
+				collectSystemModules(true, entries);
+			} else if (parent == ClassLoader.getPlatformClassLoader()) {
+				collectSystemModules(false, entries);
+			} else if (!collectEntries(parent, entries)) {
+				return false;
+			}
+			Set<File> visited = new HashSet<>();
+			for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+				if (!"file".equals(url.getProtocol())) {
+					return false;
+				}
+				try {
+					collectEntries(new File(url.toURI()), visited, entries);
+				} catch (URISyntaxException e) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param bootstrapOnly
+	 *            if <code>true</code>, only the modules that are defined to the bootstrap class loader are collected.
+	 */
+	private static void collectSystemModules(boolean bootstrapOnly, List<Entry> entries) throws IOException {
+		for (ModuleReference module : ModuleFinder.ofSystem().findAll()) {
+			if (!bootstrapOnly || isDefinedToBootstrapLoader(module.descriptor().name())) {
+				entries.add(getModuleEntry(module));
+			}
+		}
+	}
+
+	private static boolean isDefinedToBootstrapLoader(String moduleName) {
+		return ModuleLayer.boot().findModule(moduleName).map((it) -> it.getClassLoader() == null).orElse(false);
+	}
+
+	private static Entry getModuleEntry(ModuleReference module) throws IOException {
+		String name = module.descriptor().name();
+		Entry result = MODULES.get(name);
+		if (result == null) {
+			TypeNameIndex typeNames = getStoredIndex("jrt:/" + name + "/module-info.class");
+			if (typeNames == null) {
+				List<String> binaryNames = new ArrayList<>();
+				try (ModuleReader reader = module.open(); Stream<String> resources = reader.list()) {
+					resources.forEach((resource) -> {
+						String binaryName = TypeNameIndex.toBinaryName(resource);
+						if (binaryName != null) {
+							binaryNames.add(binaryName);
+						}
+					});
+				}
+				typeNames = new TypeNameIndex(binaryNames);
+			}
+			result = new Entry(typeNames, getExportedPackages(module.descriptor()), Collections.emptyList());
+			MODULES.putIfAbsent(name, result);
+		}
+		return result;
+	}
+
+	private static void collectEntries(File file, Set<File> visited, List<Entry> entries) throws IOException {
+		if (!visited.add(file)) {
+			return;
+		}
+		if (file.isDirectory()) {
+			entries.add(createFolderEntry(file.toPath()));
+		} else if (file.isFile()) {
+			Entry entry = getArchiveEntry(file);
+			entries.add(entry);
+			// the class loader follows the Class-Path of the manifest as well
+			for (File referenced : entry.getReferencedArchives()) {
+				collectEntries(referenced, visited, entries);
+			}
+		}
+	}
+
+	private static Entry getArchiveEntry(File archive) throws IOException {
+		String key = archive.getAbsolutePath() + '\n' + archive.length() + '\n' + archive.lastModified();
+		Entry result = ARCHIVES.get(key);
+		if (result == null) {
+			TypeNameIndex typeNames = getStoredIndex("jar:" + archive.toURI() + "!/module-info.class");
+			Set<String> exportedPackages = null;
+			List<File> referencedArchives;
+			// the entries are read from the central directory without inflating any class file
+			try (JarFile jarFile = new JarFile(archive)) {
+				if (typeNames == null) {
+					List<String> binaryNames = new ArrayList<>();
+					Enumeration<? extends ZipEntry> zipEntries = jarFile.entries();
+					while (zipEntries.hasMoreElements()) {
+						ZipEntry zipEntry = zipEntries.nextElement();
+						String binaryName = zipEntry.isDirectory() ? null : TypeNameIndex.toBinaryName(zipEntry.getName());
+						if (binaryName != null) {
+							binaryNames.add(binaryName);
+						}
+					}
+					typeNames = new TypeNameIndex(binaryNames);
+				}
+				ZipEntry moduleInfo = jarFile.getEntry("module-info.class");
+				if (moduleInfo != null) {
+					try (InputStream in = jarFile.getInputStream(moduleInfo)) {
+						exportedPackages = getExportedPackages(ModuleDescriptor.read(in));
+					} catch (RuntimeException e) {
+						LOG.debug("Cannot read the module-info of " + archive, e);
+					}
+				}
+				referencedArchives = getManifestClassPath(archive, jarFile.getManifest());
+			}
+			result = new Entry(typeNames, exportedPackages, referencedArchives);
+			result.archive = archive;
+			ARCHIVES.putIfAbsent(key, result);
+		}
+		return result;
+	}
+
+	private static List<File> getManifestClassPath(File archive, Manifest manifest) {
+		String classPath = manifest != null ? manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) : null;
+		if (classPath == null || classPath.isBlank()) {
+			return Collections.emptyList();
+		}
+		List<File> result = new ArrayList<>();
+		for (String path : classPath.trim().split("\\s+")) {
+			try {
+				java.net.URI uri = archive.toURI().resolve(path);
+				if ("file".equals(uri.getScheme())) {
+					result.add(new File(uri));
+				}
+			} catch (IllegalArgumentException e) {
+				LOG.debug("Ignoring the invalid Class-Path entry " + path + " of " + archive);
+			}
+		}
+		return result;
+	}
+
+	private static Entry createFolderEntry(Path folder) throws IOException {
+		// class folders are expected to change, so they are neither shared nor stored
+		List<String> binaryNames = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(folder)) {
+			paths.filter(Files::isRegularFile).forEach((path) -> {
+				String binaryName = TypeNameIndex.toBinaryName(folder.relativize(path).toString().replace(File.separatorChar, '/'));
+				if (binaryName != null) {
+					binaryNames.add(binaryName);
+				}
+			});
+		}
+		Set<String> exportedPackages = null;
+		Path moduleInfo = folder.resolve("module-info.class");
+		if (Files.isRegularFile(moduleInfo)) {
+			try (InputStream in = Files.newInputStream(moduleInfo)) {
+				exportedPackages = getExportedPackages(ModuleDescriptor.read(in));
+			} catch (RuntimeException e) {
+				LOG.debug("Cannot read the module-info of " + folder, e);
+			}
+		}
+		Entry result = new Entry(new TypeNameIndex(binaryNames), exportedPackages, Collections.emptyList());
+		result.folder = folder;
+		return result;
+	}
+
+	private static TypeNameIndex getStoredIndex(String classFileLocation) {
+		PersistentJvmTypeStore store = PersistentJvmTypeStore.getDefault();
+		if (store == null) {
+			return null;
+		}
+		PersistentJvmTypeStore.Container container = store.getContainer(URI.createURI(classFileLocation));
+		return container != null ? store.getTypeNameIndex(container) : null;
+	}
+
+	private static Set<String> getExportedPackages(ModuleDescriptor descriptor) {
+		if (descriptor.isAutomatic()) {
+			return null;
+		}
+		Set<String> result = new HashSet<>();
+		for (ModuleDescriptor.Exports exports : descriptor.exports()) {
+			if (!exports.isQualified()) {
+				result.add(exports.source());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The binary names of all classes by their binary name and by their source name, e.g.
+	 * <code>java.util.Map$Entry</code> by <code>java.util.Map$Entry</code> and <code>java.util.Map.Entry</code>.
+	 */
+	private final Map<String, String> binaryNames;
+
+	/**
+	 * The lower case simple names of the proposable types in ascending order.
+	 */
+	private final String[] simpleNames;
+
+	/**
+	 * The binary names of the proposable types in the order of {@link #simpleNames}.
+	 */
+	private final String[] proposableNames;
+
+	private final int size;
+
+	/**
+	 * The lower case source names of the proposable types in ascending order, e.g. <code>java.util.map.entry</code>.
+	 */
+	private final String[] qualifiedNames;
+
+	/**
+	 * The binary names of the proposable types in the order of {@link #qualifiedNames}.
+	 */
+	private final String[] qualifiedProposableNames;
+
+	private final List<Entry> entries;
+
+	protected ClasspathTypeIndex(List<Entry> entries) {
+		this.entries = entries;
+		int expectedSize = 0;
+		for (Entry entry : entries) {
+			expectedSize += entry.getTypeNames().size();
+		}
+		Map<String, String> binaryNames = new HashMap<>(expectedSize * 2);
+		Set<String> proposable = new LinkedHashSet<>();
+		int size = 0;
+		for (Entry entry : entries) {
+			TypeNameIndex typeNames = entry.getTypeNames();
+			for (String packageName : typeNames.getPackageNames()) {
+				String prefix = packageName.isEmpty() ? "" : packageName + '.';
+				boolean exported = entry.isExported(packageName);
+				for (String typeName : typeNames.getTypeNames(packageName)) {
+					String binaryName = prefix + typeName;
+					// the first entry wins like in the class loader
+					if (binaryNames.putIfAbsent(binaryName, binaryName) == null) {
+						size++;
+						if (exported && !isLocalOrAnonymous(typeName)) {
+							proposable.add(binaryName);
+						}
+					}
+				}
+			}
+		}
+		// source names are added last, so they never shadow a binary name
+		for (String binaryName : new ArrayList<>(binaryNames.keySet())) {
+			if (binaryName.indexOf('$') >= 0) {
+				binaryNames.putIfAbsent(binaryName.replace('$', '.'), binaryName);
+			}
+		}
+		this.binaryNames = binaryNames;
+		this.size = size;
+		this.simpleNames = new String[proposable.size()];
+		this.proposableNames = new String[proposable.size()];
+		sortByKey(proposable, (it) -> getSimpleName(it), simpleNames, proposableNames);
+		this.qualifiedNames = new String[proposable.size()];
+		this.qualifiedProposableNames = new String[proposable.size()];
+		sortByKey(proposable, (it) -> it.replace('$', '.'), qualifiedNames, qualifiedProposableNames);
+	}
+
+	private static void sortByKey(Collection<String> binaryNames, Function<String, String> key, String[] keys, String[] values) {
+		String[][] sorted = new String[binaryNames.size()][];
+		int i = 0;
+		for (String binaryName : binaryNames) {
+			sorted[i++] = new String[] { key.apply(binaryName).toLowerCase(Locale.ROOT), binaryName };
+		}
+		Arrays.sort(sorted, Comparator.comparing((String[] it) -> it[0]));
+		for (i = 0; i < sorted.length; i++) {
+			keys[i] = sorted[i][0];
+			values[i] = sorted[i][1];
+		}
+	}
+
+	private static List<String> getByPrefix(String prefix, String[] keys, String[] values) {
+		String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+		int index = Arrays.binarySearch(keys, lowerCasePrefix);
+		if (index < 0) {
+			index = -(index + 1);
+		} else {
+			// find the first of several equal keys
+			while (index > 0 && keys[index - 1].equals(lowerCasePrefix)) {
+				index--;
+			}
+		}
+		int end = index;
+		while (end < keys.length && keys[end].startsWith(lowerCasePrefix)) {
+			end++;
+		}
+		return Collections.unmodifiableList(Arrays.asList(values).subList(index, end));
+	}
+
+	private static boolean isLocalOrAnonymous(String typeName) {
+		int dollar = typeName.indexOf('$');
+		while (dollar >= 0) {
+			if (dollar + 1 == typeName.length() || Character.isDigit(typeName.charAt(dollar + 1))) {
+				return true;
+			}
+			dollar = typeName.indexOf('$', dollar + 1);
+		}
+		return false;
+	}
+
+	private static String getSimpleName(String binaryName) {
+		return binaryName.substring(Math.max(binaryName.lastIndexOf('.'), binaryName.lastIndexOf('$')) + 1);
+	}
+
+	/**
+	 * @return <code>true</code> if a class with the given binary name exists on the classpath.
+	 */
+	public boolean contains(String binaryName) {
+		String result = binaryNames.get(binaryName);
+		return result != null && result.equals(binaryName);
+	}
+
+	/**
+	 * Returns the binary name of the class with the given binary or source name, e.g. <code>java.util.Map$Entry</code>
+	 * for <code>java.util.Map.Entry</code>.
+	 *
+	 * @return the binary name or <code>null</code> if there is no such class on the classpath.
+	 */
+	public String getBinaryName(String name) {
+		return binaryNames.get(name);
+	}
+
+	/**
+	 * Returns the binary names of the types whose simple name starts with the given prefix, ignoring the case. Local
+	 * and anonymous classes and the classes in packages that are not exported by their module are not returned.
+	 *
+	 * @return the binary names ordered by their simple names.
+	 */
+	public List<String> getBinaryNamesBySimpleNamePrefix(String prefix) {
+		return getByPrefix(prefix, simpleNames, proposableNames);
+	}
+
+	/**
+	 * Returns the binary names of the types whose qualified source name starts with the given prefix, ignoring the
+	 * case, e.g. all types in <code>java.util</code> and its subpackages for <code>java.ut</code>. The same types as
+	 * for {@link #getBinaryNamesBySimpleNamePrefix(String)} are excluded.
+	 *
+	 * @return the binary names ordered by their qualified names.
+	 */
+	public List<String> getBinaryNamesByQualifiedNamePrefix(String prefix) {
+		return getByPrefix(prefix, qualifiedNames, qualifiedProposableNames);
+	}
+
+	/**
+	 * Creates a new index with the same modules, but with the class folders scanned again and with the jars that
+	 * changed according to their size and modification time read again.
+	 */
+	public ClasspathTypeIndex refresh() {
+		List<Entry> refreshed = new ArrayList<>(entries.size());
+		Set<File> visited = new HashSet<>();
+		for (Entry entry : entries) {
+			try {
+				if (entry.getFolder() != null) {
+					refreshed.add(createFolderEntry(entry.getFolder()));
+				} else if (entry.getArchive() != null) {
+					collectEntries(entry.getArchive(), visited, refreshed);
+				} else {
+					refreshed.add(entry);
+				}
+			} catch (IOException e) {
+				LOG.warn("Cannot index the classes of " + (entry.getFolder() != null ? entry.getFolder() : entry.getArchive()), e);
+				refreshed.add(entry);
+			}
+		}
+		return new ClasspathTypeIndex(refreshed);
+	}
+
+	/**
+	 * @return the number of classes on the classpath.
+	 */
+	public int size() {
+		return size;
+	}
+
+}
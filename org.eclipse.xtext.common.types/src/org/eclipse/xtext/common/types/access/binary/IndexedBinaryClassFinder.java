@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+/**
+ * A {@link BinaryClassFinder} that finds the classes of the {@link ClasspathTypeIndex} by a lookup in the index rather
+ * than by asking the class loader for the class file. Classes that are not in the index, e.g. because they were
+ * compiled after the index was built, are looked up with the class loader.
+ *
+ * @since 2.39
+ */
+public class IndexedBinaryClassFinder extends BinaryClassFinder {
+
+	private final ClassLoader classLoader;
+
+	private volatile ClasspathTypeIndex index;
+
+	public IndexedBinaryClassFinder(ClassLoader classLoader, ClasspathTypeIndex index) {
+		super(classLoader);
+		this.classLoader = classLoader;
+		this.index = index;
+	}
+
+	public ClasspathTypeIndex getIndex() {
+		return index;
+	}
+
+	@Override
+	protected BinaryClass forName(String binaryName, ClassLoader classLoader) throws ClassNotFoundException {
+		if (index.contains(binaryName)) {
+			return new BinaryClass(binaryName, classLoader);
+		}
+		return super.forName(binaryName, classLoader);
+	}
+
+	/**
+	 * Also scans the class folders and the changed jars of the index again.
+	 */
+	@Override
+	public void clearCache() {
+		ClasspathTypeIndex refreshed = ClasspathTypeIndex.refresh(classLoader);
+		index = refreshed != null ? refreshed : index.refresh();
+		super.clearCache();
+	}
+
+}
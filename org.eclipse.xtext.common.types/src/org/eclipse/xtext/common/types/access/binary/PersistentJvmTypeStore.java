@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.common.types.access.impl.URIHelperConstants;
+
+/**
+ * A store on disk for the {@link JvmDeclaredType types} that are mirrored from the class files in jars and in the
+ * modules of the Java runtime. It can be shared by several processes, so the class files of the same JDK and library
+ * jars are only decoded once.
+ * <p>
+ * Each classpath entry is stored in a directory that is named after a hash of the location, the size and the
+ * modification time of the jar, or of the module and the version of the Java runtime respectively. A changed jar is
+ * therefore stored in a new directory. The directory contains a serialized snapshot of each mirrored top level type
+ * and a {@link TypeNameIndex} of all classes of the classpath entry. Class folders are not stored since they are
+ * expected to change.
+ * </p>
+ * Files are written to a temporary file that is atomically moved to its final location, so concurrent processes
+ * never read partially written files.
+ *
+ * @since 2.39
+ */
+public class PersistentJvmTypeStore {
+
+	/**
+	 * The system property that configures the directory of the {@link #getDefault() default store}.
+	 */
+	public static final String DIRECTORY = "org.eclipse.xtext.common.types.access.binary.PersistentJvmTypeStore.directory";
+
+	/**
+	 * Changes whenever the format of the stored files changes.
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	private static final String TYPE_FILE_EXTENSION = ".jvmtype";
+
+	private static final String INDEX_FILE_NAME = "types.index";
+
+	private static final Logger LOG = Logger.getLogger(PersistentJvmTypeStore.class);
+
+	private static final Map<Path, PersistentJvmTypeStore> STORES = new ConcurrentHashMap<>();
+
+	/**
+	 * A classpath entry whose types are stored.
+	 */
+	public static abstract class Container {
+
+		private final String key;
+
+		protected Container(String key) {
+			this.key = key;
+		}
+
+		/**
+		 * The name of the directory of this container.
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * @return the binary names of all classes in this container.
+		 */
+		protected abstract List<String> computeBinaryNames() throws IOException;
+
+		/**
+		 * @return <code>false</code> if the classpath entry has changed since this container was created.
+		 */
+		protected boolean isUpToDate() {
+			return true;
+		}
+	}
+
+	protected static class ArchiveContainer extends Container {
+
+		private final File archive;
+
+		private final long length;
+
+		private final long lastModified;
+
+		/**
+		 * @param length
+		 *            the size of the archive that the key was computed for.
+		 * @param lastModified
+		 *            the modification time of the archive that the key was computed for.
+		 */
+		protected ArchiveContainer(String key, File archive, long length, long lastModified) {
+			super(key);
+			this.archive = archive;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		@Override
+		protected boolean isUpToDate() {
+			return archive.length() == length && archive.lastModified() == lastModified;
+		}
+
+		@Override
+		protected List<String> computeBinaryNames() throws IOException {
+			List<String> result = new ArrayList<>();
+			// the entries are read from the central directory without inflating any class file
+			try (ZipFile zipFile = new ZipFile(archive)) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					String binaryName = entry.isDirectory() ? null : TypeNameIndex.toBinaryName(entry.getName());
+					if (binaryName != null) {
+						result.add(binaryName);
+					}
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return archive.toString();
+		}
+	}
+
+	protected static class ModuleContainer extends Container {
+
+		private final String moduleName;
+
+		protected ModuleContainer(String key, String moduleName) {
+			super(key);
+			this.moduleName = moduleName;
+		}
+
+		@Override
+		protected List<String> computeBinaryNames() throws IOException {
+			FileSystem fileSystem = FileSystems.getFileSystem(java.net.URI.create("jrt:/"));
+			Path moduleRoot = fileSystem.getPath("/modules", moduleName);
+			List<String> result = new ArrayList<>();
+			try (Stream<Path> paths = Files.walk(moduleRoot)) {
+				paths.forEach((path) -> {
+					String binaryName = TypeNameIndex.toBinaryName(moduleRoot.relativize(path).toString());
+					if (binaryName != null) {
+						result.add(binaryName);
+					}
+				});
+			}
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return "jrt:/" + moduleName;
+		}
+	}
+
+	/**
+	 * @return the store in the directory that is configured by the system property {@link #DIRECTORY}, or
+	 *         <code>null</code> if the property is not set.
+	 */
+	public static PersistentJvmTypeStore getDefault() {
+		String directory = System.getProperty(DIRECTORY);
+		if (directory == null || directory.isEmpty()) {
+			return null;
+		}
+		return STORES.computeIfAbsent(Paths.get(directory).toAbsolutePath(), PersistentJvmTypeStore::new);
+	}
+
+	private final Path directory;
+
+	/**
+	 * The containers by the location of the classpath entry.
+	 */
+	private final Map<String, Container> containers = new ConcurrentHashMap<>();
+
+	private final Map<String, TypeNameIndex> indexes = new ConcurrentHashMap<>();
+
+	public PersistentJvmTypeStore(Path directory) {
+		this.directory = directory;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the container of the class file at the given location, or <code>null</code> if the types of the class
+	 * file cannot be stored. A jar whose size or modification time has changed gets a new container.
+	 */
+	public Container getContainer(URI classFileLocation) {
+		if (classFileLocation == null) {
+			return null;
+		}
+		String location = classFileLocation.toString();
+		if (location.startsWith("jar:file:")) {
+			int separator = location.indexOf("!/");
+			if (separator == -1) {
+				return null;
+			}
+			return getContainerForLocation(location.substring("jar:".length(), separator));
+		}
+		if (location.startsWith("jrt:/")) {
+			int separator = location.indexOf('/', "jrt:/".length());
+			if (separator == -1) {
+				return null;
+			}
+			return getContainerForLocation(location.substring(0, separator));
+		}
+		return null;
+	}
+
+	private Container getContainerForLocation(String location) {
+		Container result = containers.get(location);
+		if (result != null && !result.isUpToDate()) {
+			// e.g. a snapshot dependency was rebuilt, its types are stored under a new key
+			containers.remove(location, result);
+			result = null;
+		}
+		if (result == null) {
+			try {
+				result = createContainer(location);
+			} catch (Exception e) {
+				LOG.debug("Cannot store the types of " + location, e);
+				return null;
+			}
+			if (result != null) {
+				containers.put(location, result);
+			}
+		}
+		return result;
+	}
+
+	protected Container createContainer(String location) throws Exception {
+		if (location.startsWith("jrt:/")) {
+			String moduleName = location.substring("jrt:/".length());
+			String version = System.getProperty("java.home") + '\n' + Runtime.version();
+			return new ModuleContainer(hash("jrt\n" + moduleName + '\n' + version), moduleName);
+		}
+		File archive = new File(new java.net.URI(location));
+		if (!archive.isFile()) {
+			return null;
+		}
+		long length = archive.length();
+		long lastModified = archive.lastModified();
+		return new ArchiveContainer(hash(archive.getAbsolutePath() + '\n' + length + '\n' + lastModified), archive,
+				length, lastModified);
+	}
+
+	protected String hash(String value) throws NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-1");
+		digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+		byte[] bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+		StringBuilder result = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Loads the stored snapshot of the top level type with the given binary name. The result is not contained in a
+	 * resource and refers to other types by proxies.
+	 *
+	 * @return the type or <code>null</code> if it was not stored yet.
+	 */
+	public JvmDeclaredType load(Container container, String binaryName) {
+		Path file = getTypeFile(container, binaryName);
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			Resource resource = createResource(binaryName);
+			resource.load(in, null);
+			JvmDeclaredType result = (JvmDeclaredType) resource.getContents().get(0);
+			resource.getContents().clear();
+			return result;
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (Exception e) {
+			LOG.debug("Cannot load the stored type " + binaryName + " of " + container, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a snapshot of the given top level type, which must not be contained in a resource.
+	 */
+	public void store(Container container, String binaryName, JvmDeclaredType type) {
+		if (type.eResource() != null) {
+			throw new IllegalArgumentException("The type " + binaryName + " is contained in a resource.");
+		}
+		Resource resource = createResource(binaryName);
+		resource.getContents().add(type);
+		try {
+			write(getTypeFile(container, binaryName), (out) -> resource.save(out, null));
+		} finally {
+			resource.getContents().clear();
+		}
+	}
+
+	/**
+	 * Returns the index of the names of all classes in the given container. The index is computed from the jar or the
+	 * module when it is requested for the first time and stored for other processes.
+	 */
+	public TypeNameIndex getTypeNameIndex(Container container) {
+		TypeNameIndex result = indexes.get(container.getKey());
+		if (result != null) {
+			return result;
+		}
+		Path file = directory.resolve(container.getKey()).resolve(INDEX_FILE_NAME);
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			result = TypeNameIndex.read(in);
+		} catch (NoSuchFileException e) {
+			// compute it below
+		} catch (IOException e) {
+			LOG.debug("Cannot read the stored type index of " + container, e);
+		}
+		if (result == null) {
+			try {
+				result = new TypeNameIndex(container.computeBinaryNames());
+			} catch (IOException e) {
+				LOG.warn("Cannot index the types of " + container, e);
+				return null;
+			}
+			TypeNameIndex index = result;
+			write(file, (out) -> index.write(out));
+		}
+		TypeNameIndex existing = indexes.putIfAbsent(container.getKey(), result);
+		return existing != null ? existing : result;
+	}
+
+	protected Path getTypeFile(Container container, String binaryName) {
+		return directory.resolve(container.getKey()).resolve(binaryName + TYPE_FILE_EXTENSION);
+	}
+
+	protected Resource createResource(String binaryName) {
+		// make sure the package is registered for loading
+		TypesPackage.eINSTANCE.eClass();
+		return new BinaryResourceImpl(URIHelperConstants.OBJECTS_URI.appendSegment(binaryName));
+	}
+
+	private interface ContentWriter {
+		void write(OutputStream out) throws IOException;
+	}
+
+	private void write(Path file, ContentWriter writer) {
+		Path tempFile = null;
+		try {
+			Files.createDirectories(file.getParent());
+			tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				writer.write(out);
+			}
+			try {
+				Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			tempFile = null;
+		} catch (Exception e) {
+			LOG.debug("Cannot write " + file, e);
+		} finally {
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable index of the binary names of the classes in a classpath entry, grouped by their package.
+ *
+ * @since 2.39
+ */
+public class TypeNameIndex {
+
+	/**
+	 * The sorted simple binary names, e.g. <code>Map$Entry</code>, by their package name.
+	 */
+	private final Map<String, List<String>> typeNames;
+
+	private final int size;
+
+	public TypeNameIndex(Collection<String> binaryNames) {
+		Map<String, List<String>> typeNames = new HashMap<>();
+		for (String binaryName : binaryNames) {
+			int lastDot = binaryName.lastIndexOf('.');
+			String packageName = lastDot == -1 ? "" : binaryName.substring(0, lastDot);
+			typeNames.computeIfAbsent(packageName, (it) -> new ArrayList<>()).add(binaryName.substring(lastDot + 1));
+		}
+		int size = 0;
+		for (List<String> names : typeNames.values()) {
+			Collections.sort(names);
+			size += names.size();
+		}
+		this.typeNames = typeNames;
+		this.size = size;
+	}
+
+	public Set<String> getPackageNames() {
+		return Collections.unmodifiableSet(typeNames.keySet());
+	}
+
+	public boolean containsPackage(String packageName) {
+		return typeNames.containsKey(packageName);
+	}
+
+	/**
+	 * @return the sorted simple binary names of the types in the given package, including nested types.
+	 */
+	public List<String> getTypeNames(String packageName) {
+		List<String> result = typeNames.get(packageName);
+		return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+	}
+
+	public boolean contains(String binaryName) {
+		int lastDot = binaryName.lastIndexOf('.');
+		List<String> names = typeNames.get(lastDot == -1 ? "" : binaryName.substring(0, lastDot));
+		return names != null && Collections.binarySearch(names, binaryName.substring(lastDot + 1)) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Writes the binary names line by line.
+	 */
+	public void write(OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		for (Map.Entry<String, List<String>> entry : typeNames.entrySet()) {
+			String prefix = entry.getKey().isEmpty() ? "" : entry.getKey() + ".";
+			for (String typeName : entry.getValue()) {
+				writer.write(prefix);
+				writer.write(typeName);
+				writer.write('\n');
+			}
+		}
+		writer.flush();
+	}
+
+	public static TypeNameIndex read(InputStream in) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		List<String> binaryNames = new ArrayList<>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (!line.isEmpty()) {
+				binaryNames.add(line);
+			}
+		}
+		return new TypeNameIndex(binaryNames);
+	}
+
+	/**
+	 * Converts the path of a class file relative to its classpath entry to the binary name of the class, or returns
+	 * <code>null</code> if the path does not denote a class, e.g. for <code>module-info.class</code>.
+	 */
+	public static String toBinaryName(String classFilePath) {
+		if (!classFilePath.endsWith(".class")) {
+			return null;
+		}
+		String path = classFilePath.startsWith("/") ? classFilePath.substring(1) : classFilePath;
+		if (path.startsWith("META-INF/")) {
+			return null;
+		}
+		String binaryName = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+		if (binaryName.endsWith("module-info") || binaryName.endsWith("package-info")) {
+			return null;
+		}
+		return binaryName;
+	}
+}
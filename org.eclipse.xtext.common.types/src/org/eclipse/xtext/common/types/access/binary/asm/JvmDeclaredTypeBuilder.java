@@ -22,6 +22,7 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.ClassReader;
@@ -35,6 +36,8 @@ import org.objectweb.asm.Opcodes;
  */
 public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
 
+	private static final int PARSING_OPTIONS = ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES | ClassReader.SKIP_CODE;
+
 	protected final Proxies proxies;
 
     protected JvmDeclaredType result;
@@ -47,19 +50,57 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
 
 	private final BinaryClass binaryClass;
 
-	private final ClassFileBytesAccess bytesAccess;
+	/**
+	 * The shared access to the class files. It is released once a type with lazily created members has been built,
+	 * so the members are decoded with a private instance.
+	 */
+	private ClassFileBytesAccess bytesAccess;
+
+	/**
+	 * If <code>true</code>, the fields, methods and nested types are decoded when the members of the type are
+	 * accessed for the first time.
+	 */
+	private final boolean lazyMembers;
+
+	/**
+	 * <code>true</code> while the class file is visited to create the type itself but not its members.
+	 */
+	private boolean skipMembers;
+
+	/**
+	 * <code>true</code> while the class file is visited to create the members of the already created type.
+	 */
+	private boolean membersOnly;
 
     public JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader) {
-		this(binaryClass, bytesAccess, classLoader, null, new Proxies());
+		this(binaryClass, bytesAccess, classLoader, false);
 	}
+
+    /**
+     * @param lazyMembers
+     *            if <code>true</code>, only the type itself with its modifiers, type parameters, super types and
+     *            annotations is created eagerly. Its fields, methods and nested types are decoded on first access.
+     * @since 2.39
+     */
+    public JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, boolean lazyMembers) {
+    	this(binaryClass, bytesAccess, classLoader, null, new Proxies(), lazyMembers);
+    }
     
     protected JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, Map<String, JvmTypeParameter> typeParameters, Proxies proxies) {
+    	this(binaryClass, bytesAccess, classLoader, typeParameters, proxies, false);
+    }
+
+    /**
+     * @since 2.39
+     */
+    protected JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, Map<String, JvmTypeParameter> typeParameters, Proxies proxies, boolean lazyMembers) {
     	super(Opcodes.ASM9);
     	this.proxies = proxies;
 		this.binaryClass = binaryClass;
 		this.bytesAccess = bytesAccess;
 		this.classLoader = classLoader;
 		this.typeParameters = typeParameters;
+		this.lazyMembers = lazyMembers;
     }
 
     public JvmDeclaredType buildType() {
@@ -68,13 +109,61 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     		return null;
     	}
 		ClassReader reader = new ClassReader(bytes);
-		reader.accept(this, 
-			  ClassReader.SKIP_DEBUG 
-			| ClassReader.SKIP_FRAMES 
-			| ClassReader.SKIP_CODE
-		);
+		skipMembers = lazyMembers;
+		try {
+			reader.accept(this, PARSING_OPTIONS);
+		} finally {
+			skipMembers = false;
+		}
+		if (lazyMembers) {
+			if (result instanceof JvmDeclaredTypeImplCustom) {
+				// the initializer must neither retain the bytes nor the shared bytes access, which is not thread safe
+				JvmDeclaredTypeBuilder membersBuilder = createMembersBuilder();
+				((JvmDeclaredTypeImplCustom) result).setMembersInitializer((type) -> membersBuilder.buildMembers());
+			} else if (result != null) {
+				membersOnly = true;
+				try {
+					reader.accept(this, PARSING_OPTIONS);
+				} finally {
+					membersOnly = false;
+				}
+			}
+		}
 		return result;
 	}
+
+    /**
+     * Creates the builder that adds the members to the {@link #result type} that was created without its members.
+     * It reads the class file again and does not share any mutable state with this builder.
+     * 
+     * @since 2.39
+     */
+    protected JvmDeclaredTypeBuilder createMembersBuilder() {
+    	JvmDeclaredTypeBuilder result = new JvmDeclaredTypeBuilder(binaryClass, null, classLoader, typeParameters, new Proxies(), true);
+    	result.result = this.result;
+    	result.offset = this.offset;
+    	result.membersOnly = true;
+    	return result;
+    }
+
+    /**
+     * Adds the fields, methods and nested types to the {@link #result type}. Only used by a
+     * {@link #createMembersBuilder() members builder}.
+     * 
+     * @since 2.39
+     */
+    protected void buildMembers() {
+    	byte[] bytes = binaryClass.getBytes();
+    	if (bytes == null) {
+    		throw new IllegalStateException("Cannot read the class file of " + binaryClass.getName());
+    	}
+    	bytesAccess = new ClassFileBytesAccess();
+    	try {
+    		new ClassReader(bytes).accept(this, PARSING_OPTIONS);
+    	} finally {
+    		bytesAccess = null;
+    	}
+    }
     
     // ------------------------------------------------------------------------
     // Implementation of the ClassVisitor interface
@@ -89,6 +178,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String superName,
         final String[] interfaces)
     {
+    	if (membersOnly) {
+    		return;
+    	}
     	if ((access & ACC_SYNTHETIC) != 0)
 			throw new IllegalStateException("Cannot create type for anonymous or synthetic classes");
     	if ((ACC_ENUM & access) != 0) {
@@ -124,6 +216,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     
 	@Override
 	public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+		if (membersOnly) {
+			return null;
+		}
 		return new JvmAnnotationReferenceBuilder((InternalEList<JvmAnnotationReference>) result
 				.getAnnotations(), desc, proxies);
 	}
@@ -208,6 +303,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String name,
         final String desc)
     {
+    	if (membersOnly) {
+    		return;
+    	}
     	throw new IllegalStateException("Expected top-level type");
     }
 
@@ -218,6 +316,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String innerName,
         final int access)
     {
+    	if (skipMembers) {
+    		return;
+    	}
     	if (outerName != null && innerName != null && outerName.replace('/', '.').equals(result.getIdentifier())) {
     		BinaryClass binaryClass = new BinaryClass(name, classLoader);
     		boolean isStatic = (access & ACC_STATIC) != 0;
@@ -228,7 +329,8 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     				bytesAccess,
     				classLoader,
     				typeParameters,
-    				proxies);
+    				proxies,
+    				lazyMembers);
     		JvmDeclaredType nestedType = builder.buildType();
     		if (nestedType != null) {
 	    		if (isStatic) {
@@ -251,8 +353,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
 				ClassFileBytesAccess bytesAccess,
 				ClassLoader classLoader,
 				Map<String, JvmTypeParameter> typeParameters,
-				Proxies proxies) {
-			super(binaryClass, bytesAccess, classLoader, typeParameters, proxies);
+				Proxies proxies,
+				boolean lazyMembers) {
+			super(binaryClass, bytesAccess, classLoader, typeParameters, proxies, lazyMembers);
 			this.innerName = innerName;
 			this.offset = offset;
 		}
@@ -289,7 +392,7 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String signature,
         final Object value)
     {
-    	if ((access & ACC_SYNTHETIC) == 0) {
+    	if (!skipMembers && (access & ACC_SYNTHETIC) == 0) {
 	        JvmFieldBuilder fieldBuilder = new JvmFieldBuilder(
 	        		result,
 	        		(access & ACC_STATIC) == 0 ? typeParameters : null,
@@ -312,7 +415,7 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String signature,
         final String[] exceptions)
     {
-    	if ((access & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0 && !isClinit(name)) {
+    	if (!skipMembers && (access & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0 && !isClinit(name)) {
     		JvmExecutableBuilder builder = new JvmExecutableBuilder(
     				result,
     				offset,
@@ -29,6 +29,9 @@ import org.eclipse.xtext.common.types.access.TypeResource;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
 import org.eclipse.xtext.common.types.access.binary.BinaryClassFinder;
 import org.eclipse.xtext.common.types.access.binary.BinaryClassMirror;
+import org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex;
+import org.eclipse.xtext.common.types.access.binary.IndexedBinaryClassFinder;
+import org.eclipse.xtext.common.types.access.binary.PersistentJvmTypeStore;
 import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess.UnknownNestedTypeException;
 import org.eclipse.xtext.util.Strings;
@@ -168,12 +171,30 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 		resourceSet.setURIConverter(new JavaURIConverter(existing));
 	}
 	
+	/**
+	 * Creates the finder for the class files. If the {@link ClasspathTypeIndex} is {@link ClasspathTypeIndex#ENABLED
+	 * enabled} and the classpath of the given class loader can be indexed, the finder looks up the class names in the
+	 * index rather than probing the class loader.
+	 */
 	protected BinaryClassFinder createBinaryClassFinder(ClassLoader classLoader) {
+		ClasspathTypeIndex index = ClasspathTypeIndex.get(classLoader);
+		if (index != null) {
+			return new IndexedBinaryClassFinder(classLoader, index);
+		}
 		return new BinaryClassFinder(classLoader);
 	}
 
+	/**
+	 * Creates the factory for the mirrored types. If the system property {@link PersistentJvmTypeStore#DIRECTORY} is
+	 * set, the types of jars and of the Java runtime are read from and written to the {@link PersistentJvmTypeStore}.
+	 */
 	protected ITypeFactory<BinaryClass, JvmDeclaredType> createDeclaredTypeFactory(ClassFileBytesAccess readerAccess, ClassLoader classLoader) {
-		return new DeclaredTypeFactory(readerAccess, classLoader);
+		DeclaredTypeFactory result = new DeclaredTypeFactory(readerAccess, classLoader);
+		PersistentJvmTypeStore store = PersistentJvmTypeStore.getDefault();
+		if (store != null) {
+			return new PersistentDeclaredTypeFactory(result, store);
+		}
+		return result;
 	}
 
 	public ITypeFactory<BinaryClass, JvmDeclaredType> getDeclaredTypeFactory() {
@@ -224,6 +245,17 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 	}
 
 	private JvmType doFindTypeByName(String name) {
+		if (classFinder instanceof IndexedBinaryClassFinder) {
+			// resolves the source names of nested types by a single lookup
+			String binaryName = ((IndexedBinaryClassFinder) classFinder).getIndex().getBinaryName(name);
+			if (binaryName != null) {
+				try {
+					return findTypeByClass(classFinder.forName(binaryName));
+				} catch (ClassNotFoundException e) {
+					// fall through
+				}
+			}
+		}
 		try {
 			// seems to be the only reliable way to locate nested types
 			// since dollar signs are a quite good indicator but not necessarily the best
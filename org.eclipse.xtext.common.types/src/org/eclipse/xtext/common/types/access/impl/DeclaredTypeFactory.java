@@ -37,6 +37,15 @@ import com.google.inject.Inject;
  */
 public class DeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclaredType> {
 
+	/**
+	 * The system property that enables the lazy creation of the members of binary types. If set to <code>true</code>,
+	 * the fields, methods and nested types of a type are decoded from its class file when they are accessed for the
+	 * first time.
+	 * 
+	 * @since 2.39
+	 */
+	public static final String LAZY_MEMBERS = "org.eclipse.xtext.common.types.access.impl.DeclaredTypeFactory.lazyMembers";
+
 	private final StoppedTask createTypeTask = Stopwatches.forTask("AsmTypeFactory.createType");
 	
 	private static final Logger logger = Logger.getLogger(DeclaredTypeFactory.class);
@@ -55,6 +64,8 @@ public class DeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclare
 	
 	private final boolean useASM;
 
+	private final boolean lazyMembers = Boolean.getBoolean(LAZY_MEMBERS);
+
 	@Inject
 	public DeclaredTypeFactory(ClassFileBytesAccess bytesAccess, ClassLoader loader) {
 		this(bytesAccess, loader, ASM_AVAILABLE);
@@ -113,10 +124,17 @@ public class DeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclare
 	}
 
 	protected JvmDeclaredType doCreateType(BinaryClass binaryClass) {
-		JvmDeclaredTypeBuilder builder = new JvmDeclaredTypeBuilder(binaryClass, getBytesAccess(), getClassLoader());
+		JvmDeclaredTypeBuilder builder = new JvmDeclaredTypeBuilder(binaryClass, getBytesAccess(), getClassLoader(), isLazyMembers());
 		return builder.buildType();
 	}
 	
+	/**
+	 * @since 2.39
+	 */
+	protected boolean isLazyMembers() {
+		return lazyMembers;
+	}
+
 	/**
 	 * @since 2.35
 	 */
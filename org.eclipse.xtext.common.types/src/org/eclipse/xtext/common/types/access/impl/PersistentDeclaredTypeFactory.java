@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.access.binary.PersistentJvmTypeStore;
+
+/**
+ * A type factory that reads the types of jars and of the Java runtime from a {@link PersistentJvmTypeStore} and only
+ * decodes the class files of types that were not stored yet, e.g. by a previous build or by another process.
+ *
+ * @since 2.39
+ */
+public class PersistentDeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclaredType> {
+
+	private final ITypeFactory<BinaryClass, JvmDeclaredType> delegate;
+
+	private final PersistentJvmTypeStore store;
+
+	public PersistentDeclaredTypeFactory(ITypeFactory<BinaryClass, JvmDeclaredType> delegate, PersistentJvmTypeStore store) {
+		this.delegate = delegate;
+		this.store = store;
+	}
+
+	@Override
+	public JvmDeclaredType createType(BinaryClass clazz) {
+		PersistentJvmTypeStore.Container container = store.getContainer(clazz.getLocationURI());
+		if (container == null) {
+			return delegate.createType(clazz);
+		}
+		JvmDeclaredType result = store.load(container, clazz.getName());
+		if (result != null) {
+			return result;
+		}
+		result = delegate.createType(clazz);
+		if (result != null) {
+			store.store(container, clazz.getName(), result);
+		}
+		return result;
+	}
+
+	public ITypeFactory<BinaryClass, JvmDeclaredType> getDelegate() {
+		return delegate;
+	}
+
+	public PersistentJvmTypeStore getStore() {
+		return store;
+	}
+}
@@ -17,10 +17,12 @@ import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
@@ -142,6 +144,47 @@ public class ClasspathScanner {
 		return getDescriptors(ClassLoader.getSystemClassLoader(), true, packagePrefixes);
 	}
 
+	/**
+	 * Returns the descriptors of the types whose simple name starts with the given prefix, ignoring the case. The
+	 * types are looked up in the {@link ClasspathTypeIndex} of the class loader, which includes the Java runtime, so
+	 * neither a class is loaded nor the classpath is scanned.
+	 *
+	 * @return the descriptors or <code>null</code> if the index is not enabled or not available for the class loader.
+	 * @since 2.39
+	 */
+	public Iterable<ITypeDescriptor> getDescriptorsBySimpleNamePrefix(ClassLoader classLoader, String prefix) {
+		ClasspathTypeIndex index = ClasspathTypeIndex.get(classLoader);
+		if (index == null) {
+			return null;
+		}
+		return Iterables.transform(index.getBinaryNamesBySimpleNamePrefix(prefix),
+				(name) -> newIndexedDescriptor(name, classLoader));
+	}
+
+	/**
+	 * Returns the descriptors of the types whose qualified name starts with the given prefix, ignoring the case, e.g.
+	 * for the proposals in import declarations.
+	 *
+	 * @return the descriptors or <code>null</code> if the index is not enabled or not available for the class loader.
+	 * @see #getDescriptorsBySimpleNamePrefix(ClassLoader, String)
+	 * @since 2.39
+	 */
+	public Iterable<ITypeDescriptor> getDescriptorsByQualifiedNamePrefix(ClassLoader classLoader, String prefix) {
+		ClasspathTypeIndex index = ClasspathTypeIndex.get(classLoader);
+		if (index == null) {
+			return null;
+		}
+		return Iterables.transform(index.getBinaryNamesByQualifiedNamePrefix(prefix),
+				(name) -> newIndexedDescriptor(name, classLoader));
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	protected ITypeDescriptor newIndexedDescriptor(String name, ClassLoader classLoader) {
+		return new IndexedTypeDescriptor(name, classLoader);
+	}
+
 	private String[] systemClasspath = null;
 
 	public String[] getSystemClasspath() {
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.descriptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+
+import com.google.common.base.Splitter;
+
+/**
+ * A descriptor of a type from the {@link ClasspathTypeIndex}. The modifiers are read from the header of the class file
+ * when they are requested for the first time, so the descriptors of types that are filtered by their name never read
+ * the class file.
+ *
+ * @since 2.39
+ */
+public class IndexedTypeDescriptor implements ITypeDescriptor {
+
+	private static final Splitter PACKAGE_AND_NESTED_CLASS_SPLITTER = Splitter.onPattern("\\.|\\$");
+
+	private static final int UNKNOWN = -1;
+
+	private final String name;
+
+	private final ClassLoader classLoader;
+
+	private volatile int modifiers = UNKNOWN;
+
+	public IndexedTypeDescriptor(String name, ClassLoader classLoader) {
+		this.name = name;
+		this.classLoader = classLoader;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getSimpleName() {
+		return name.substring(Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1);
+	}
+
+	@Override
+	public QualifiedName getQualifiedName() {
+		return QualifiedName.create(PACKAGE_AND_NESTED_CLASS_SPLITTER.splitToList(name));
+	}
+
+	@Override
+	public int getModifiers() {
+		int result = modifiers;
+		if (result == UNKNOWN) {
+			result = readModifiers();
+			modifiers = result;
+		}
+		return result;
+	}
+
+	protected int readModifiers() {
+		try (InputStream in = classLoader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+			if (in == null) {
+				return 0;
+			}
+			ClassReader reader = new ClassReader(in);
+			if (name.indexOf('$') < 0) {
+				return reader.getAccess() & ~Opcodes.ACC_SUPER;
+			}
+			// the modifiers of a nested type are only complete in the inner classes attribute
+			int[] result = { reader.getAccess() & ~Opcodes.ACC_SUPER };
+			String internalName = reader.getClassName();
+			reader.accept(new ClassVisitor(Opcodes.ASM9) {
+				@Override
+				public void visitInnerClass(String innerClassName, String outerName, String innerName, int access) {
+					if (internalName.equals(innerClassName)) {
+						result[0] = access;
+					}
+				}
+			}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+			return result[0];
+		} catch (IOException | RuntimeException e) {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		return name.equals(((IndexedTypeDescriptor) obj).name);
+	}
+
+	@Override
+	public int hashCode() {
+		return name.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -15,6 +15,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
@@ -548,9 +549,82 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 		}
 	}
 	
+	/**
+	 * The pending creation of the members. The thread that runs the initializer may access the members while they are
+	 * created, other threads wait until the initializer has finished.
+	 */
+	private static class MembersInitialization {
+
+		private final Consumer<? super JvmDeclaredType> initializer;
+
+		private Thread initializingThread;
+
+		MembersInitialization(Consumer<? super JvmDeclaredType> initializer) {
+			this.initializer = initializer;
+		}
+	}
+
+	private volatile MembersInitialization membersInitialization;
+
+	/**
+	 * Defers the creation of the members of this type until they are accessed for the first time, e.g. by means of
+	 * {@link #getMembers()}, {@link #eContents()} or reflectively. The initializer is expected to add the members to
+	 * the given type. It is invoked again on the next access if it fails, otherwise it is invoked at most once.
+	 * 
+	 * @since 2.39
+	 */
+	public void setMembersInitializer(Consumer<? super JvmDeclaredType> membersInitializer) {
+		this.membersInitialization = membersInitializer != null ? new MembersInitialization(membersInitializer) : null;
+	}
+
+	/**
+	 * @return <code>true</code> if the members of this type are available without running a pending
+	 *         {@link #setMembersInitializer(Consumer) members initializer}.
+	 * @since 2.39
+	 */
+	public boolean isMembersInitialized() {
+		return membersInitialization == null;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	protected void checkMembersInitialized() {
+		MembersInitialization initialization = membersInitialization;
+		if (initialization == null) {
+			return;
+		}
+		synchronized (initialization) {
+			if (initialization.initializingThread == Thread.currentThread() || membersInitialization != initialization) {
+				// the initializer accesses the members itself, or another thread has created them meanwhile
+				return;
+			}
+			initialization.initializingThread = Thread.currentThread();
+			EList<JvmMember> members = super.getMembers();
+			int initialSize = members.size();
+			boolean wasDeliver = eDeliver();
+			eSetDeliver(false);
+			try {
+				initialization.initializer.accept(this);
+				// cleared only now, so other threads don't see a members list that is still being filled
+				membersInitialization = null;
+			} catch (RuntimeException | Error e) {
+				// drop the partially created members, the initializer runs again on the next access
+				while (members.size() > initialSize) {
+					members.remove(members.size() - 1);
+				}
+				throw e;
+			} finally {
+				eSetDeliver(wasDeliver);
+				initialization.initializingThread = null;
+			}
+		}
+	}
+
 	@Override
 	public EList<EObject> eContents() {
 		checkPendingInitialization();
+		checkMembersInitialized();
 		return super.eContents();
 	}
 	
@@ -569,6 +643,9 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 	@Override
 	public boolean eIsSet(int featureID) {
 		checkPendingInitialization();
+		if (featureID == TypesPackage.JVM_DECLARED_TYPE__MEMBERS) {
+			checkMembersInitialized();
+		}
 		return super.eIsSet(featureID);
 	}
 	
@@ -600,12 +677,14 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 	 * access to the members without triggering pending initialization
 	 */
 	public EList<JvmMember> basicGetMembers() {
+		checkMembersInitialized();
 		return super.getMembers();
 	}
 	
 	@Override
 	public EList<JvmMember> getMembers() {
 		checkPendingInitialization();
+		checkMembersInitialized();
 		return super.getMembers();
 	}
 	
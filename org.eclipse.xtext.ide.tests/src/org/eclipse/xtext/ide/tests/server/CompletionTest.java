@@ -8,8 +8,20 @@
  */
 package org.eclipse.xtext.ide.tests.server;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.xtext.testing.TestCompletionConfiguration;
+import org.eclipse.xtext.xbase.lib.Pair;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -168,4 +180,32 @@ public class CompletionTest extends AbstractTestLangLanguageServerTest {
 		}
 	}
 
+
+	@Test
+	public void testCompletion_partialResults() throws Exception {
+		initialize();
+		String uri = getVirtualFile("MyModel.testlang");
+		open(uri, "type Foo {}\ntype Bar {}\n");
+		CompletionParams params = new CompletionParams(new TextDocumentIdentifier(uri),
+				new Position(1, "type Bar {".length()));
+		List<CompletionItem> expected = languageServer.completion(params).get().getRight().getItems();
+
+		params.setPartialResultToken("token");
+		CompletionList result = languageServer.completion(params).get().getRight();
+		Assert.assertTrue(result.getItems().isEmpty());
+		List<CompletionItem> streamed = new ArrayList<>();
+		for (Pair<String, Object> notification : notifications) {
+			if ("$/progress".equals(notification.getKey())) {
+				ProgressParams progress = (ProgressParams) notification.getValue();
+				Assert.assertEquals("token", progress.getToken().getLeft());
+				@SuppressWarnings("unchecked")
+				List<CompletionItem> items = (List<CompletionItem>) progress.getValue().getRight();
+				streamed.addAll(items);
+			}
+		}
+		streamed.sort(Comparator.comparing(CompletionItem::getSortText).thenComparing(CompletionItem::getLabel,
+				String.CASE_INSENSITIVE_ORDER));
+		Assert.assertEquals(expected.stream().map(CompletionItem::getLabel).collect(Collectors.toList()),
+				streamed.stream().map(CompletionItem::getLabel).collect(Collectors.toList()));
+	}
 }
@@ -45,6 +45,8 @@ public class MultiProjectTest {
 
 	private File project1;
 
+	private File project2;
+
 	private Map<URI, List<Issue>> diagnostics = new HashMap<>();
 
 	@Inject
@@ -68,6 +70,29 @@ public class MultiProjectTest {
 		Assert.assertTrue(diagnostics.get(bar).isEmpty());
 	}
 
+	@Test
+	public void testIndependentProjectsAreBuiltBeforeTheirDependents() throws Exception {
+		URI foo = createFile(project0, "Foo.testlang", "type Foo { Bar bar Baz baz }");
+		URI bar = createFile(project1, "Bar.testlang", "type Bar { Baz baz }");
+		URI baz = createFile(project2, "Baz.testlang", "type Baz {}");
+		workspaceManager.getProjectManager(project0.getName()).getProjectDescription().getDependencies()
+				.addAll(Lists.newArrayList(project1.getName(), project2.getName()));
+		workspaceManager.getProjectManager(project1.getName()).getProjectDescription().getDependencies()
+				.add(project2.getName());
+		workspaceManager.doBuild(Lists.newArrayList(foo, bar, baz), Collections.emptyList(), CancelIndicator.NullImpl);
+		Assert.assertEquals(3, diagnostics.size());
+		Assert.assertTrue(diagnostics.get(foo).isEmpty());
+		Assert.assertTrue(diagnostics.get(bar).isEmpty());
+		Assert.assertTrue(diagnostics.get(baz).isEmpty());
+		diagnostics.clear();
+		URI other = createFile(project1, "Other.testlang", "type Other { Unknown unknown }");
+		URI qux = createFile(project2, "Qux.testlang", "type Qux { Baz baz }");
+		workspaceManager.doBuild(Lists.newArrayList(other, qux), Collections.emptyList(), CancelIndicator.NullImpl);
+		Assert.assertEquals(2, diagnostics.size());
+		Assert.assertEquals(1, diagnostics.get(other).size());
+		Assert.assertTrue(diagnostics.get(qux).isEmpty());
+	}
+
 	@Before
 	public void setup() throws Exception {
 		Injector injector = Guice.createInjector(Modules2.mixin(new ServerModule(), new AbstractModule() {
@@ -80,8 +105,10 @@ public class MultiProjectTest {
 		File workspaceRoot = getRoot("test-data");
 		project0 = new File(workspaceRoot, "test-project0");
 		project1 = new File(workspaceRoot, "test-project1");
+		project2 = new File(workspaceRoot, "test-project2");
 		project0.mkdir();
 		project1.mkdir();
+		project2.mkdir();
 		workspaceManager.initialize(URI.createFileURI(workspaceRoot.getAbsolutePath()),
 				(URI $0, Iterable<Issue> $1) -> diagnostics.put($0, IterableExtensions.toList($1)), null);
 	}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.ProjectStatePersister;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.UriExtensions;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.util.Files;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+
+public class ProjectStatePersisterTest {
+
+	private File root;
+
+	private File snapshots;
+
+	private Map<URI, List<Issue>> diagnostics;
+
+	private Set<URI> builtFiles;
+
+	@Before
+	public void setup() throws IOException {
+		root = new File("test-data/snapshot-project").getAbsoluteFile();
+		snapshots = new File("test-data/snapshots").getAbsoluteFile();
+		if (!root.mkdirs()) {
+			Files.cleanFolder(root, null, true, false);
+		}
+		if (!snapshots.mkdirs()) {
+			Files.cleanFolder(snapshots, null, true, false);
+		}
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.cleanFolder(root, null, true, true);
+		Files.cleanFolder(snapshots, null, true, true);
+	}
+
+	@Test
+	public void testOnlyChangedFilesAreBuiltOnWarmStart() throws IOException {
+		URI a = writeFile("A.testlang", "type A { B b }");
+		URI b = writeFile("B.testlang", "type B { Unknown c }");
+		URI c = writeFile("C.testlang", "type C { string s }");
+		WorkspaceManager first = startServer();
+		Assert.assertEquals(Set.of(a, b, c), builtFiles);
+		Assert.assertEquals(1, diagnostics.get(b).size());
+		first.persistProjectStates();
+
+		writeFile("C.testlang", "type C2 { A a }");
+		URI d = writeFile("D.testlang", "type D { C2 c }");
+		new File(root, "A.testlang").delete();
+		WorkspaceManager second = startServer();
+		Assert.assertEquals(Set.of(a, c, d), builtFiles);
+		Assert.assertNotNull(second.getIndex().getResourceDescription(b));
+		Assert.assertNull(second.getIndex().getResourceDescription(a));
+		Assert.assertEquals(QualifiedName.create("C2"),
+				second.getIndex().getResourceDescription(c).getExportedObjects().iterator().next().getName());
+		// the issues of the unchanged file are restored from the snapshot
+		Assert.assertEquals(1, diagnostics.get(b).size());
+		Assert.assertEquals("Couldn't resolve reference to TypeDeclaration 'Unknown'.",
+				diagnostics.get(b).get(0).getMessage());
+		Assert.assertEquals(Integer.valueOf(1), diagnostics.get(b).get(0).getLineNumber());
+		Assert.assertEquals(1, diagnostics.get(c).size());
+		Assert.assertTrue(diagnostics.get(d).isEmpty());
+	}
+
+	@Test
+	public void testFileChangedAfterTheLastBuildIsBuiltOnWarmStart() throws IOException {
+		URI a = writeFile("A.testlang", "type A {}");
+		URI b = writeFile("B.testlang", "type B {}");
+		WorkspaceManager first = startServer();
+		// the server is not notified about the change before the snapshot is written
+		writeFile("A.testlang", "type A2 {}");
+		first.persistProjectStates();
+
+		WorkspaceManager second = startServer();
+		Assert.assertEquals(Set.of(a), builtFiles);
+		Assert.assertNotNull(second.getIndex().getResourceDescription(b));
+		Assert.assertEquals(QualifiedName.create("A2"),
+				second.getIndex().getResourceDescription(a).getExportedObjects().iterator().next().getName());
+	}
+
+	@Test
+	public void testColdStartWithoutSnapshot() throws IOException {
+		URI a = writeFile("A.testlang", "type A {}");
+		startServer();
+		Assert.assertEquals(Set.of(a), builtFiles);
+		startServer();
+		Assert.assertEquals(Set.of(a), builtFiles);
+	}
+
+	@Test
+	public void testSnapshotOfOtherVersionIsDiscarded() throws IOException {
+		URI a = writeFile("A.testlang", "type A {}");
+		URI b = writeFile("B.testlang", "type B {}");
+		startServer("1.0").persistProjectStates();
+		startServer("1.0");
+		Assert.assertTrue(builtFiles.isEmpty());
+		startServer("1.1");
+		Assert.assertEquals(Set.of(a, b), builtFiles);
+	}
+
+	private WorkspaceManager startServer() {
+		return startServer(null);
+	}
+
+	private WorkspaceManager startServer(String fingerprint) {
+		WorkspaceManager result = Guice.createInjector(new ServerModule(), binder -> {
+			binder.bindConstant().annotatedWith(Names.named(ProjectStatePersister.SNAPSHOT_DIRECTORY))
+					.to(snapshots.getAbsolutePath());
+			if (fingerprint != null) {
+				binder.bindConstant().annotatedWith(Names.named(ProjectStatePersister.FINGERPRINT)).to(fingerprint);
+			}
+		}).getInstance(WorkspaceManager.class);
+		UriExtensions uriExtensions = new UriExtensions();
+		diagnostics = new HashMap<>();
+		builtFiles = new HashSet<>();
+		result.addBuildListener((List<IResourceDescription.Delta> deltas) -> {
+			for (IResourceDescription.Delta delta : deltas) {
+				builtFiles.add(delta.getUri());
+			}
+		});
+		result.initialize(uriExtensions.withEmptyAuthority(URI.createFileURI(root.getAbsolutePath())),
+				(URI uri, Iterable<Issue> issues) -> diagnostics.put(uri, IterableExtensions.toList(issues)), null);
+		return result;
+	}
+
+	private URI writeFile(String path, String contents) throws IOException {
+		File file = new File(root, path);
+		try (FileWriter fileWriter = new FileWriter(file)) {
+			fileWriter.write(contents);
+		}
+		return new UriExtensions().withEmptyAuthority(URI.createFileURI(file.getAbsolutePath()));
+	}
+}
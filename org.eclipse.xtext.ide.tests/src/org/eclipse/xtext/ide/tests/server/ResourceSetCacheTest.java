@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.ResourceSetCache;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.UriExtensions;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.Files;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+
+public class ResourceSetCacheTest {
+
+	private File root;
+
+	private WorkspaceManager workspaceManager;
+
+	@Before
+	public void setup() throws IOException {
+		root = new File("test-data/resource-set-cache").getAbsoluteFile();
+		if (!root.mkdirs()) {
+			Files.cleanFolder(root, null, true, false);
+		}
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.cleanFolder(root, null, true, true);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedResourcesAreUnloaded() throws IOException {
+		URI a = writeFile("A.testlang", "type A extends B {}");
+		URI b = writeFile("B.testlang", "type B extends C {}");
+		URI c = writeFile("C.testlang", "type C {}");
+		URI d = writeFile("D.testlang", "type D {}");
+		startServer(2);
+		ProjectManager projectManager = workspaceManager.getProjectManager(a);
+		ResourceSetCache cache = projectManager.getResourceSetCache();
+		Assert.assertTrue(cache.getLoadedResourceCount() <= 2);
+
+		workspaceManager.didOpen(a, 1, "type A extends B {}").build(null);
+		for (URI uri : List.of(b, c, d)) {
+			workspaceManager.doRead(uri, (Document document, XtextResource resource) -> resource);
+		}
+		workspaceManager.doBuild(List.of(d), Collections.emptyList(), null);
+		// the open document and the most recently used resource are kept
+		Assert.assertEquals(2, cache.getLoadedResourceCount());
+		Assert.assertNotNull(projectManager.getResourceSet().getResource(a, false));
+		Assert.assertNotNull(projectManager.getResourceSet().getResource(d, false));
+		Assert.assertNull(projectManager.getResourceSet().getResource(b, false));
+		Assert.assertTrue(cache.getEvictionCount() >= 2);
+		Assert.assertTrue(cache.getEstimatedFootprint() > 0);
+
+		// unloaded resources are loaded again on demand
+		EObject type = workspaceManager.doRead(a,
+				(Document document, XtextResource resource) -> resource.getContents().get(0).eContents().get(0));
+		EObject referenced = (EObject) type.eGet(type.eClass().getEStructuralFeature("superType"), true);
+		Assert.assertFalse(referenced.eIsProxy());
+		Assert.assertEquals(b, EcoreUtil.getURI(referenced).trimFragment());
+	}
+
+	@Test
+	public void testUnboundedByDefault() throws IOException {
+		URI a = writeFile("A.testlang", "type A {}");
+		startServer(-1);
+		ResourceSetCache cache = workspaceManager.getProjectManager(a).getResourceSetCache();
+		Assert.assertFalse(cache.isBounded());
+		Assert.assertEquals(0, cache.getEvictionCount());
+	}
+
+	private void startServer(int maxResources) {
+		workspaceManager = Guice.createInjector(new ServerModule(), binder -> {
+			if (maxResources >= 0) {
+				binder.bindConstant().annotatedWith(Names.named(ResourceSetCache.MAX_RESOURCES)).to(maxResources);
+			}
+		}).getInstance(WorkspaceManager.class);
+		UriExtensions uriExtensions = new UriExtensions();
+		workspaceManager.initialize(uriExtensions.withEmptyAuthority(URI.createFileURI(root.getAbsolutePath())),
+				(URI uri, Iterable<Issue> issues) -> {
+				}, null);
+	}
+
+	private URI writeFile(String path, String contents) throws IOException {
+		File file = new File(root, path);
+		try (FileWriter fileWriter = new FileWriter(file)) {
+			fileWriter.write(contents);
+		}
+		return new UriExtensions().withEmptyAuthority(URI.createFileURI(file.getAbsolutePath()));
+	}
+}
@@ -12,10 +12,24 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.xtext.testing.SemanticTokensFullConfiguration;
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 
 /**
  * @author Rubn Porras Campo - Initial test
@@ -44,4 +58,54 @@ public class SemanticTokensTest extends AbstractTestLangLanguageServerTest {
 		it.setExpected(expectedTokens.stream().flatMap(List::stream).collect(Collectors.toList()));
 		});
 	}
+
+	@Test
+	public void testSemanticTokensFullDelta() throws Exception {
+		initialize();
+		String uri = getVirtualFile("MyModel.testlang");
+		open(uri, "type foo {\n}\ntype bar extends foo {\n}\n");
+		SemanticTokens full = languageServer.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(uri)))
+				.get();
+		Assert.assertNotNull(full.getResultId());
+
+		// nothing changed
+		SemanticTokensDelta unchanged = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), full.getResultId()))
+				.get().getRight();
+		Assert.assertTrue(unchanged.getEdits().isEmpty());
+		Assert.assertNotEquals(full.getResultId(), unchanged.getResultId());
+
+		// rename bar to bazz
+		DidChangeTextDocumentParams change = new DidChangeTextDocumentParams();
+		change.setTextDocument(new VersionedTextDocumentIdentifier(uri, 2));
+		TextDocumentContentChangeEvent event = new TextDocumentContentChangeEvent("bazz");
+		event.setRange(new Range(new Position(2, 5), new Position(2, 8)));
+		change.setContentChanges(Lists.newArrayList(event));
+		languageServer.didChange(change);
+		SemanticTokensDelta delta = languageServer.semanticTokensFullDelta(
+				new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), unchanged.getResultId())).get().getRight();
+		Assert.assertEquals(1, delta.getEdits().size());
+		SemanticTokensEdit edit = delta.getEdits().get(0);
+		Assert.assertEquals(17, edit.getStart());
+		Assert.assertEquals(5, edit.getDeleteCount());
+		Assert.assertEquals(ImmutableList.of(4, 1, 16, 0, 5), edit.getData());
+
+		// an unknown previous result yields the full tokens
+		SemanticTokens fallback = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), "unknown")).get()
+				.getLeft();
+		Assert.assertEquals(ImmutableList.of(0, 0, 4, 15, 0, 0, 5, 3, 1, 16, 2, 0, 4, 15, 0, 0, 5, 4, 1, 16, 0, 5, 7,
+				15, 0), fallback.getData());
+	}
+
+	@Test
+	public void testSemanticTokensRange() throws Exception {
+		initialize();
+		String uri = getVirtualFile("MyModel.testlang");
+		open(uri, "type foo {\n}\ntype bar extends foo {\n}\ntype baz {\n}\n");
+		SemanticTokens tokens = languageServer.semanticTokensRange(new SemanticTokensRangeParams(
+				new TextDocumentIdentifier(uri), new Range(new Position(2, 6), new Position(3, 0)))).get();
+		// bar and extends, relative to the start of the document
+		Assert.assertEquals(ImmutableList.of(2, 5, 3, 1, 16, 0, 4, 7, 15, 0), tokens.getData());
+	}
 }
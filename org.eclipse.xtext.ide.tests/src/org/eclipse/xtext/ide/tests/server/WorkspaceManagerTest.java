@@ -16,15 +16,21 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.xtext.ide.server.Document;
 import org.eclipse.xtext.ide.server.ServerModule;
 import org.eclipse.xtext.ide.server.UriExtensions;
 import org.eclipse.xtext.ide.server.WorkspaceManager;
 import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Files;
 import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.lib.Functions.Function2;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.junit.After;
 import org.junit.Assert;
@@ -58,6 +64,44 @@ public class WorkspaceManagerTest {
 				workspaceManger.doRead(path, (Document $0, XtextResource $1) -> $0.getContents()));
 	}
 
+	@Test
+	public void testDoReadCached() throws IOException {
+		URI path = operator_mappedTo("MyType1.testlang", "type Test {}");
+		workspaceManger.doBuild(Lists.newArrayList(path), Collections.emptyList(), null);
+		AtomicInteger computations = new AtomicInteger();
+		Function2<Document, XtextResource, String> work = (Document document, XtextResource resource) -> {
+			computations.incrementAndGet();
+			return document.getContents();
+		};
+		// not open
+		workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work);
+		workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work);
+		Assert.assertEquals(2, computations.get());
+
+		workspaceManger.didOpen(path, 1, "type Test {}").build(null);
+		String first = workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work);
+		Assert.assertSame(first, workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work));
+		Assert.assertEquals(3, computations.get());
+		workspaceManger.doReadCached(path, "other", CancelIndicator.NullImpl, work);
+		Assert.assertEquals(4, computations.get());
+		// a cancelled result is not cached
+		workspaceManger.doReadCached(path, "cancelled", () -> true, work);
+		workspaceManger.doReadCached(path, "cancelled", () -> true, work);
+		Assert.assertEquals(6, computations.get());
+
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent("Test2");
+		change.setRange(new Range(new Position(0, 5), new Position(0, 9)));
+		workspaceManger.didChangeTextDocumentContent(path, 2, List.of(change)).build(null);
+		Assert.assertEquals("type Test2 {}", workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work));
+		Assert.assertEquals(7, computations.get());
+		workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work);
+		Assert.assertEquals(7, computations.get());
+
+		workspaceManger.didClose(path).build(null);
+		workspaceManger.doReadCached(path, "key", CancelIndicator.NullImpl, work);
+		Assert.assertEquals(8, computations.get());
+	}
+
 	@Inject
 	protected WorkspaceManager workspaceManger;
 
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.symbol.WorkspaceSymbolIndex;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+public class WorkspaceSymbolIndexTest {
+
+	private WorkspaceSymbolIndex index;
+
+	private ResourceDescriptionsData indexData;
+
+	@Before
+	public void setUp() {
+		index = Guice.createInjector().getInstance(WorkspaceSymbolIndex.class);
+		indexData = new ResourceDescriptionsData(Arrays.asList(
+				resource("a", "foo.NullPointerException", "foo.bar"),
+				resource("b", "baz.Zonk"),
+				resource("c", "foo.FooBar.member")));
+	}
+
+	@Test
+	public void testSubstring() {
+		Assert.assertEquals(List.of(uri("a"), uri("c")), find("fOo"));
+		Assert.assertEquals(List.of(uri("a")), find("pointer"));
+		// the candidates for a query with delimiters are the resources that contain its longest part
+		Assert.assertEquals(List.of(uri("a"), uri("c")), find("oo.bar"));
+		Assert.assertEquals(List.of(uri("b")), find("z"));
+		Assert.assertEquals(List.of(), find("pointers"));
+		Assert.assertEquals(List.of(uri("a"), uri("b"), uri("c")), find(""));
+	}
+
+	@Test
+	public void testCamelCase() {
+		Assert.assertEquals(List.of(uri("a")), find("NPE"));
+		Assert.assertEquals(List.of(uri("a")), find("NuPo"));
+		Assert.assertEquals(List.of(uri("c")), find("FB"));
+		Assert.assertTrue(WorkspaceSymbolIndex.matchesCamelCase("NullPointerException", "NuPE"));
+		Assert.assertTrue(WorkspaceSymbolIndex.matchesCamelCase("fooBar", "fB"));
+		Assert.assertFalse(WorkspaceSymbolIndex.matchesCamelCase("NullPointerException", "NE"));
+		Assert.assertFalse(WorkspaceSymbolIndex.matchesCamelCase("Foo", "Foo"));
+	}
+
+	@Test
+	public void testUpdate() {
+		Assert.assertEquals(List.of(uri("b")), find("zonk"));
+		IResourceDescription newB = resource("b", "baz.Bonk");
+		IResourceDescription d = resource("d", "qux.Zonk");
+		indexData.register(new DefaultResourceDescriptionDelta(indexData.getResourceDescription(uri("b")), newB));
+		indexData.register(new DefaultResourceDescriptionDelta(null, d));
+		index.update(List.of(new DefaultResourceDescriptionDelta(null, newB), new DefaultResourceDescriptionDelta(null, d),
+				new DefaultResourceDescriptionDelta(indexData.getResourceDescription(uri("a")), null)));
+		Assert.assertEquals(List.of(uri("d")), find("zonk"));
+		Assert.assertEquals(List.of(uri("b")), find("bonk"));
+		Assert.assertEquals(List.of(uri("c")), find("foo"));
+	}
+
+	@Test
+	public void testCompaction() {
+		find("foo");
+		List<IResourceDescription.Delta> added = new ArrayList<>();
+		for (int i = 0; i < 1500; i++) {
+			added.add(new DefaultResourceDescriptionDelta(null, resource("r" + i, "pkg.Type" + i)));
+		}
+		index.update(added);
+		Assert.assertEquals(1500, find("type").size());
+		List<IResourceDescription.Delta> removed = new ArrayList<>();
+		for (int i = 0; i < 1400; i++) {
+			removed.add(new DefaultResourceDescriptionDelta(added.get(i).getNew(), null));
+		}
+		index.update(removed);
+		List<URI> result = find("type");
+		Assert.assertEquals(100, result.size());
+		Assert.assertEquals(uri("r1400"), result.get(0));
+		Assert.assertEquals(List.of(uri("r1499")), find("type1499"));
+		Assert.assertEquals(List.of(), find("type13"));
+		Assert.assertEquals(List.of(uri("a"), uri("c")), find("foo"));
+	}
+
+	@Test
+	public void testInvalidate() {
+		Assert.assertEquals(List.of(uri("b")), find("zonk"));
+		indexData.removeDescription(uri("b"));
+		Assert.assertEquals(List.of(uri("b")), find("zonk"));
+		index.invalidate();
+		Assert.assertEquals(List.of(), find("zonk"));
+	}
+
+	private List<URI> find(String query) {
+		return index.findCandidates(query, indexData, CancelIndicator.NullImpl);
+	}
+
+	private URI uri(String name) {
+		return URI.createURI("file:/" + name + ".testlang");
+	}
+
+	private IResourceDescription resource(String name, String... qualifiedNames) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(uri(name));
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>();
+		for (String qualifiedName : qualifiedNames) {
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setQualifiedName(QualifiedName.create(qualifiedName.split("\\.")));
+			description.setEObjectURI(uri(name).appendFragment(qualifiedName));
+			descriptions.add(description);
+		}
+		result.setDescriptions(descriptions);
+		return result;
+	}
+}
@@ -79,4 +79,24 @@ public class WorkspaceSymbolTest extends AbstractTestLangLanguageServerTest {
 			it.setExpectedSymbols(expectedSymbols);
 		});
 	}
+
+	@Test
+	public void testSymbol_camelCase() {
+		testSymbol((WorkspaceSymbolConfiguration it) -> {
+			String model = "type FooBar {\n" +
+					"	int fooBaz\n" +
+					"}\n";
+			it.setModel(model);
+			it.setQuery("FB");
+			String expectedSymbols = "symbol \"FooBar\" {\n" +
+					"	kind: 7\n" +
+					"	location: MyModel.testlang [[0, 5] .. [0, 11]]\n" +
+					"}\n" +
+					"symbol \"FooBar.fooBaz\" {\n" +
+					"	kind: 7\n" +
+					"	location: MyModel.testlang [[1, 5] .. [1, 11]]\n" +
+					"}\n";
+			it.setExpectedSymbols(expectedSymbols);
+		});
+	}
 }
@@ -25,6 +25,7 @@ import org.eclipse.xtext.ide.server.ServerModule;
 import org.eclipse.xtext.ide.server.concurrent.AbstractRequest;
 import org.eclipse.xtext.ide.server.concurrent.ReadRequest;
 import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestStatistics;
 import org.eclipse.xtext.ide.server.concurrent.WriteRequest;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.testing.RepeatedTest;
@@ -312,6 +313,57 @@ public class RequestManagerTest {
 		Assert.assertEquals(1, sharedState.get());
 	}
 
+	@Test(timeout = 1000)
+	public void testRunPriorityReadDoesNotWaitForCancellable() throws Exception {
+		CountDownLatch proceedWithWrite = new CountDownLatch(1);
+		CompletableFuture<Object> writer = requestManager.runWrite(() -> sharedState.incrementAndGet(),
+				(CancelIndicator cancelIndicator, Object ignored) -> {
+					Uninterruptibles.awaitUninterruptibly(proceedWithWrite);
+					return sharedState.incrementAndGet();
+				});
+		CompletableFuture<Integer> read = requestManager.runRead((CancelIndicator it) -> sharedState.get());
+		CompletableFuture<Integer> priorityRead = requestManager
+				.runPriorityRead((CancelIndicator it) -> sharedState.get());
+		Assert.assertEquals(1, priorityRead.get().intValue());
+		Assert.assertFalse(read.isDone());
+		proceedWithWrite.countDown();
+		Assert.assertEquals(2, read.get().intValue());
+		writer.join();
+	}
+
+	@Test(timeout = 1000)
+	public void testStatistics() throws Exception {
+		requestManager.runWrite(() -> null, (CancelIndicator $0, Object $1) -> null).join();
+		requestManager.runRead((CancelIndicator it) -> null).join();
+		requestManager.runPriorityRead((CancelIndicator it) -> null).join();
+		RequestStatistics statistics = requestManager.getStatistics();
+		// the latency is recorded after the result is available
+		while (statistics.getWrites().getCount() + statistics.getReads().getCount()
+				+ statistics.getPriorityReads().getCount() < 3) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(1, statistics.getWrites().getCount());
+		Assert.assertEquals(1, statistics.getReads().getCount());
+		Assert.assertEquals(1, statistics.getPriorityReads().getCount());
+		Assert.assertEquals(0, statistics.getReads().getCancelled());
+		Assert.assertTrue(statistics.getWrites().getMaxNanos() > 0);
+	}
+
+	@Test(timeout = 1000)
+	public void testWriteWaitsForPriorityRead() throws Exception {
+		CountDownLatch proceedWithRead = new CountDownLatch(1);
+		CompletableFuture<Integer> priorityRead = requestManager.runPriorityRead((CancelIndicator it) -> {
+			Uninterruptibles.awaitUninterruptibly(proceedWithRead);
+			return sharedState.get();
+		});
+		CompletableFuture<Integer> writer = requestManager.runWrite(() -> sharedState.incrementAndGet(),
+				(CancelIndicator $0, Object $1) -> sharedState.get());
+		proceedWithRead.countDown();
+		Assert.assertEquals(1, writer.get().intValue());
+		Assert.assertTrue(priorityRead.isDone());
+		Assert.assertTrue(priorityRead.isCancelled() || priorityRead.get().intValue() == 0);
+	}
+
 	@Test(timeout = 1000)
 	public void testCancelRead() throws Exception {
 		AtomicBoolean isCanceled = new AtomicBoolean(false);
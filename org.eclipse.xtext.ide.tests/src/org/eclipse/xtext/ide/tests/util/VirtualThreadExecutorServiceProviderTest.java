@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.xtext.ide.ExecutorServiceProvider;
+import org.eclipse.xtext.ide.VirtualThreadExecutorServiceProvider;
+import org.eclipse.xtext.ide.server.ServerLauncher;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class VirtualThreadExecutorServiceProviderTest {
+
+	@Test
+	public void testRunsTasks() throws Exception {
+		VirtualThreadExecutorServiceProvider provider = new VirtualThreadExecutorServiceProvider();
+		try {
+			ExecutorService executorService = provider.get();
+			Thread thread = executorService.submit(Thread::currentThread).get();
+			Assert.assertEquals(VirtualThreadExecutorServiceProvider.isVirtualThreadsSupported(), isVirtual(thread));
+			Assert.assertSame(executorService, provider.get());
+			Assert.assertNotSame(executorService, provider.get("other"));
+		} finally {
+			provider.dispose();
+		}
+	}
+
+	@Test
+	public void testVirtualThreadsAreOptIn() {
+		Injector injector = Guice.createInjector(new ServerModule());
+		Assert.assertEquals(ExecutorServiceProvider.class, injector.getInstance(ExecutorServiceProvider.class).getClass());
+		Injector virtual = Guice.createInjector(new ServerModule(), binder -> binder.bind(ExecutorServiceProvider.class)
+				.to(VirtualThreadExecutorServiceProvider.class));
+		Assert.assertEquals(VirtualThreadExecutorServiceProvider.class,
+				virtual.getInstance(ExecutorServiceProvider.class).getClass());
+		Assert.assertTrue(ServerLauncher.shouldUseVirtualThreads(new String[] { "-log", "-virtualThreads" }));
+		Assert.assertFalse(ServerLauncher.shouldUseVirtualThreads(new String[] { "-log" }));
+	}
+
+	private boolean isVirtual(Thread thread) throws Exception {
+		try {
+			Method isVirtual = Thread.class.getMethod("isVirtual");
+			return (Boolean) isVirtual.invoke(thread);
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.log4j.Logger;
+
+import com.google.inject.Singleton;
+
+/**
+ * An {@link ExecutorServiceProvider} that creates executor services which start a new virtual thread for each task,
+ * if the JDK supports virtual threads. Otherwise it falls back to the executor services of the super class.
+ * <p>
+ * Virtual threads are cheap to block, so tasks that wait for resource loading or other IO don't occupy a platform
+ * thread. Tasks are still cancelled cooperatively, e.g. by means of a cancel indicator.
+ * </p>
+ * To run the requests of a language server on virtual threads, bind the {@link ExecutorServiceProvider} to this
+ * class, e.g. by starting the server with the <code>-virtualThreads</code> argument.
+ *
+ * @since 2.39
+ */
+@Singleton
+public class VirtualThreadExecutorServiceProvider extends ExecutorServiceProvider {
+
+	private static final Logger LOG = Logger.getLogger(VirtualThreadExecutorServiceProvider.class);
+
+	private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+	private static MethodHandle findVirtualThreadPerTaskExecutor() {
+		try {
+			return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+					MethodType.methodType(ExecutorService.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return whether the running JDK supports virtual threads.
+	 */
+	public static boolean isVirtualThreadsSupported() {
+		return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+	}
+
+	@Override
+	protected ExecutorService createInstance(String key) {
+		if (isVirtualThreadsSupported()) {
+			try {
+				return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+			} catch (Throwable e) {
+				// e.g. virtual threads are a preview feature that is not enabled
+				LOG.warn("Cannot create a virtual thread executor, using platform threads instead.", e);
+			}
+		}
+		return super.createInstance(key);
+	}
+}
@@ -8,6 +8,8 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.editor.contentassist;
 
+import org.eclipse.xtext.util.CancelIndicator;
+
 /**
  * @noreference
  */
@@ -30,5 +32,14 @@ public interface IIdeContentProposalAcceptor {
 		// where the acceptor accepted all proposals so far but should reject another one
 		return canAcceptMoreProposals();
 	}
+
+	/**
+	 * The indicator that is checked while proposals are created, e.g. for every candidate of a scope lookup.
+	 * 
+	 * @since 2.39
+	 */
+	default CancelIndicator getCancelIndicator() {
+		return CancelIndicator.NullImpl;
+	}
 	
 }
@@ -60,6 +60,14 @@ public class IdeContentProposalAcceptor
 		return didAcceptAllProposals = entries.size() < 100;
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	@Override
+	public CancelIndicator getCancelIndicator() {
+		return cancelIndicator != null ? cancelIndicator : CancelIndicator.NullImpl;
+	}
+
 	@Override
 	public boolean didAcceptAllProposals() {
 		return didAcceptAllProposals;
@@ -8,8 +8,10 @@
  */
 package org.eclipse.xtext.ide.editor.contentassist;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
@@ -28,6 +30,7 @@ import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.IScopeProvider;
 import org.eclipse.xtext.util.TextRegion;
+import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xtext.CurrentTypeFinder;
 
 import com.google.common.base.Predicate;
@@ -60,19 +63,43 @@ public class IdeContentProposalProvider {
 	private CurrentTypeFinder currentTypeFinder;
 
 	/**
-	 * Create content assist proposals and pass them to the given acceptor.
+	 * Create content assist proposals and pass them to the given acceptor. The proposals for the elements that are
+	 * {@link #isDeferred(AbstractElement) deferred} are created after all other proposals, so the cheap proposals are
+	 * available even if the acceptor stops accepting proposals during a scope lookup.
 	 */
 	public void createProposals(Collection<ContentAssistContext> contexts, IIdeContentProposalAcceptor acceptor) {
+		List<Pair<AbstractElement, ContentAssistContext>> deferred = new ArrayList<>();
 		for (ContentAssistContext context : getFilteredContexts(contexts)) {
 			for (AbstractElement element : context.getFirstSetGrammarElements()) {
 				if (!acceptor.canAcceptMoreProposals()) {
 					return;
 				}
-				createProposals(element, context, acceptor);
+				if (isDeferred(element)) {
+					deferred.add(Pair.of(element, context));
+				} else {
+					createProposals(element, context, acceptor);
+				}
+			}
+		}
+		for (Pair<AbstractElement, ContentAssistContext> it : deferred) {
+			if (!acceptor.canAcceptMoreProposals()) {
+				return;
 			}
+			createProposals(it.getKey(), it.getValue(), acceptor);
 		}
 	}
 
+	/**
+	 * Whether the proposals for the given element are computed from a scope, which may be expensive for large global
+	 * scopes.
+	 * 
+	 * @since 2.39
+	 */
+	protected boolean isDeferred(AbstractElement element) {
+		return element instanceof CrossReference
+				|| element instanceof Assignment && ((Assignment) element).getTerminal() instanceof CrossReference;
+	}
+
 	protected Iterable<ContentAssistContext> getFilteredContexts(Collection<ContentAssistContext> contexts) {
 		return contexts;
 	}
@@ -13,6 +13,7 @@ import org.eclipse.xtext.CrossReference;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.service.OperationCanceledManager;
 
 import com.google.common.base.Predicate;
 import com.google.inject.Inject;
@@ -35,10 +36,19 @@ public class IdeCrossrefProposalProvider {
 	@Inject
 	private IdeContentProposalPriorities proposalPriorities;
 
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	/**
+	 * Passes a proposal for each candidate of the scope that matches the filter to the acceptor. Checks for
+	 * cancellation for every candidate, including the ones that are filtered out, since enumerating large global
+	 * scopes may take a while.
+	 */
 	public void lookupCrossReference(IScope scope, CrossReference crossReference, ContentAssistContext context,
 			IIdeContentProposalAcceptor acceptor, Predicate<IEObjectDescription> filter) {
 		try {
 			for (IEObjectDescription candidate : queryScope(scope, crossReference, context)) {
+				operationCanceledManager.checkCanceled(acceptor.getCancelIndicator());
 				if (!acceptor.canAcceptMoreProposals()) {
 					return;
 				}
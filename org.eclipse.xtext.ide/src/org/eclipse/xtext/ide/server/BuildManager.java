@@ -9,12 +9,19 @@
 package org.eclipse.xtext.ide.server;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.build.IncrementalBuilder;
@@ -23,6 +30,7 @@ import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
 import org.eclipse.xtext.resource.impl.ProjectDescription;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
@@ -125,12 +133,21 @@ public class BuildManager {
 	@Inject
 	private Provider<TopologicalSorter> sorterProvider;
 
+	/**
+	 * The executor that builds independent projects concurrently. Projects are built one after the other if there is
+	 * none.
+	 */
+	@Inject(optional = true)
+	private ExecutorService executorService;
+
 	private final LinkedHashSet<URI> dirtyFiles = new LinkedHashSet<>();
 
 	private final LinkedHashSet<URI> deletedFiles = new LinkedHashSet<>();
 
 	private List<IResourceDescription.Delta> unreportedDeltas = new ArrayList<>();
 
+	private volatile boolean buildPending;
+
 	/**
 	 * Enqueue the given file collections.
 	 *
@@ -139,9 +156,21 @@ public class BuildManager {
 	public Buildable submit(List<URI> dirtyFiles, List<URI> deletedFiles) {
 		queue(this.dirtyFiles, deletedFiles, dirtyFiles);
 		queue(this.deletedFiles, dirtyFiles, deletedFiles);
+		buildPending = !this.dirtyFiles.isEmpty() || !this.deletedFiles.isEmpty();
 		return this::internalBuild;
 	}
 
+	/**
+	 * Whether there are submitted files that are not yet built, e.g. because the build is still running or was
+	 * cancelled. The resource sets of the projects are not in a consistent state then. This method may be called from
+	 * any thread.
+	 *
+	 * @since 2.39
+	 */
+	public boolean isBuildPending() {
+		return buildPending;
+	}
+
 	/**
 	 * Update the contents of the given set.
 	 */
@@ -159,9 +188,30 @@ public class BuildManager {
 			CancelIndicator indicator) {
 		List<ProjectDescription> sortedDescriptions = sortByDependencies(projects);
 		List<IResourceDescription.Delta> result = new ArrayList<>();
+		if (isBuildInParallel(sortedDescriptions)) {
+			Map<String, ProjectManager> projectManagers = new HashMap<>();
+			for (ProjectDescription description : sortedDescriptions) {
+				projectManagers.put(description.getName(), workspaceManager.getProjectManager(description.getName()));
+			}
+			CompletableFuture<List<IResourceDescription.Delta>>[] builds = scheduleBuilds(sortedDescriptions,
+					Collections.emptyList(), (description, externalDeltas) -> projectManagers.get(description.getName())
+							.doInitialBuild(externalDeltas, indicator).getAffectedResources());
+			Throwable failure = null;
+			for (CompletableFuture<List<IResourceDescription.Delta>> build : builds) {
+				try {
+					result.addAll(build.join());
+				} catch (CompletionException | CancellationException e) {
+					failure = failure != null ? failure : unwrap(e);
+				}
+			}
+			if (failure != null) {
+				throw Exceptions.sneakyThrow(failure);
+			}
+			return result;
+		}
 		for (ProjectDescription description : sortedDescriptions) {
 			IncrementalBuilder.Result partialresult = workspaceManager.getProjectManager(description.getName())
-					.doInitialBuild(indicator);
+					.doInitialBuild(new ArrayList<>(result), indicator);
 			result.addAll(partialresult.getAffectedResources());
 		}
 		return result;
@@ -183,6 +233,20 @@ public class BuildManager {
 		}
 		List<ProjectDescription> sortedDescriptions = sortByDependencies(
 				Sets.union(project2dirty.keySet(), project2deleted.keySet()));
+		if (isBuildInParallel(sortedDescriptions)) {
+			internalBuildInParallel(sortedDescriptions, project2dirty, project2deleted, cancelIndicator);
+		} else {
+			internalBuildSequentially(sortedDescriptions, allDirty, project2dirty, project2deleted, cancelIndicator);
+		}
+		buildPending = !dirtyFiles.isEmpty() || !deletedFiles.isEmpty();
+		List<IResourceDescription.Delta> result = unreportedDeltas;
+		unreportedDeltas = new ArrayList<>();
+		return result;
+	}
+
+	private void internalBuildSequentially(List<ProjectDescription> sortedDescriptions, List<URI> allDirty,
+			Multimap<ProjectDescription, URI> project2dirty, Multimap<ProjectDescription, URI> project2deleted,
+			CancelIndicator cancelIndicator) {
 		for (ProjectDescription it : sortedDescriptions) {
 			ProjectManager projectManager = workspaceManager.getProjectManager(it.getName());
 			List<URI> projectDirty = new ArrayList<>(project2dirty.get(it));
@@ -195,8 +259,106 @@ public class BuildManager {
 			deletedFiles.removeAll(projectDeleted);
 			mergeWithUnreportedDeltas(partialResult.getAffectedResources());
 		}
-		List<IResourceDescription.Delta> result = unreportedDeltas;
-		unreportedDeltas = new ArrayList<>();
+	}
+
+	/**
+	 * Builds the projects concurrently. The results are recorded in dependency order, after all started builds are
+	 * done, so a cancelled build leaves the same state as a sequential build that was cancelled after the last
+	 * successful project.
+	 */
+	private void internalBuildInParallel(List<ProjectDescription> sortedDescriptions,
+			Multimap<ProjectDescription, URI> project2dirty, Multimap<ProjectDescription, URI> project2deleted,
+			CancelIndicator cancelIndicator) {
+		Map<String, ProjectManager> projectManagers = new HashMap<>();
+		Map<String, List<URI>> projectDirty = new HashMap<>();
+		Map<String, List<URI>> projectDeleted = new HashMap<>();
+		for (ProjectDescription it : sortedDescriptions) {
+			projectManagers.put(it.getName(), workspaceManager.getProjectManager(it.getName()));
+			projectDirty.put(it.getName(), new ArrayList<>(project2dirty.get(it)));
+			projectDeleted.put(it.getName(), new ArrayList<>(project2deleted.get(it)));
+		}
+		CompletableFuture<List<IResourceDescription.Delta>>[] builds = scheduleBuilds(sortedDescriptions,
+				new ArrayList<>(unreportedDeltas), (description, externalDeltas) -> {
+					String name = description.getName();
+					return projectManagers.get(name).doBuild(projectDirty.get(name), projectDeleted.get(name),
+							externalDeltas, cancelIndicator).getAffectedResources();
+				});
+		Throwable failure = null;
+		for (int i = 0; i < builds.length; i++) {
+			try {
+				List<IResourceDescription.Delta> deltas = builds[i].join();
+				String name = sortedDescriptions.get(i).getName();
+				dirtyFiles.removeAll(projectDirty.get(name));
+				deletedFiles.removeAll(projectDeleted.get(name));
+				mergeWithUnreportedDeltas(deltas);
+			} catch (CompletionException | CancellationException e) {
+				failure = failure != null ? failure : unwrap(e);
+			}
+		}
+		if (failure != null) {
+			throw Exceptions.sneakyThrow(failure);
+		}
+	}
+
+	/**
+	 * Whether the given projects are built concurrently. Projects that depend on each other are still built one after
+	 * the other.
+	 * 
+	 * @since 2.39
+	 */
+	protected boolean isBuildInParallel(List<ProjectDescription> sortedDescriptions) {
+		return executorService != null && sortedDescriptions.size() > 1;
+	}
+
+	/**
+	 * Schedules the build of each project as soon as the builds of all its upstream projects are done. A project
+	 * receives the given external deltas merged with the deltas of its upstream projects, in dependency order.
+	 * 
+	 * @return the pending builds in the order of the given projects. If a build fails, the builds of its downstream
+	 *         projects fail, too.
+	 */
+	@SuppressWarnings("unchecked")
+	private CompletableFuture<List<IResourceDescription.Delta>>[] scheduleBuilds(
+			List<ProjectDescription> sortedDescriptions, List<IResourceDescription.Delta> externalDeltas,
+			BiFunction<ProjectDescription, List<IResourceDescription.Delta>, List<IResourceDescription.Delta>> build) {
+		int size = sortedDescriptions.size();
+		Map<String, Integer> name2index = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			name2index.put(sortedDescriptions.get(i).getName(), i);
+		}
+		CompletableFuture<List<IResourceDescription.Delta>>[] result = new CompletableFuture[size];
+		BitSet[] upstream = new BitSet[size];
+		for (int i = 0; i < size; i++) {
+			ProjectDescription description = sortedDescriptions.get(i);
+			BitSet projectUpstream = new BitSet();
+			List<CompletableFuture<?>> dependencies = new ArrayList<>();
+			for (String dependency : description.getDependencies()) {
+				Integer index = name2index.get(dependency);
+				if (index != null && index < i) {
+					projectUpstream.set(index);
+					projectUpstream.or(upstream[index]);
+					dependencies.add(result[index]);
+				}
+			}
+			upstream[i] = projectUpstream;
+			result[i] = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[dependencies.size()]))
+					.thenApplyAsync((ignore) -> {
+						List<IResourceDescription.Delta> projectExternalDeltas = new ArrayList<>(externalDeltas);
+						for (int j = projectUpstream.nextSetBit(0); j >= 0; j = projectUpstream.nextSetBit(j + 1)) {
+							merge(projectExternalDeltas, result[j].join());
+						}
+						return build.apply(description, projectExternalDeltas);
+					}, executorService);
+		}
+		return result;
+	}
+
+	private Throwable unwrap(Throwable throwable) {
+		Throwable result = throwable;
+		while ((result instanceof CompletionException || result instanceof CancellationException)
+				&& result.getCause() != null) {
+			result = result.getCause();
+		}
 		return result;
 	}
 
@@ -204,20 +366,24 @@ public class BuildManager {
 	 * @since 2.18
 	 */
 	protected void mergeWithUnreportedDeltas(List<IResourceDescription.Delta> newDeltas) {
-		if (unreportedDeltas.isEmpty()) {
-			unreportedDeltas.addAll(newDeltas);
+		merge(unreportedDeltas, newDeltas);
+	}
+
+	private void merge(List<IResourceDescription.Delta> deltas, List<IResourceDescription.Delta> newDeltas) {
+		if (deltas.isEmpty()) {
+			deltas.addAll(newDeltas);
 		} else {
-			Map<URI, IResourceDescription.Delta> unreportedByUri = IterableExtensions.toMap(unreportedDeltas,
+			Map<URI, IResourceDescription.Delta> deltasByUri = IterableExtensions.toMap(deltas,
 					IResourceDescription.Delta::getUri);
 			for(IResourceDescription.Delta newDelta: newDeltas) {
-				IResourceDescription.Delta unreportedDelta = unreportedByUri.get(newDelta.getUri());
-				if (unreportedDelta == null) {
-					unreportedDeltas.add(newDelta);
+				IResourceDescription.Delta delta = deltasByUri.get(newDelta.getUri());
+				if (delta == null) {
+					deltas.add(newDelta);
 				} else {
-					unreportedDeltas.remove(unreportedDelta);
-					IResourceDescription oldDescription = unreportedDelta.getOld();
+					deltas.remove(delta);
+					IResourceDescription oldDescription = delta.getOld();
 					IResourceDescription newDescription = newDelta.getNew();
-					unreportedDeltas.add(new DefaultResourceDescriptionDelta(oldDescription, newDescription));
+					deltas.add(new DefaultResourceDescriptionDelta(oldDescription, newDescription));
 				}
 			}
 		}
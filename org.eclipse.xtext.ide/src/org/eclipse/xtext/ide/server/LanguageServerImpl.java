@@ -75,6 +75,7 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PrepareRenameDefaultBehavior;
 import org.eclipse.lsp4j.PrepareRenameParams;
 import org.eclipse.lsp4j.PrepareRenameResult;
+import org.eclipse.lsp4j.ProgressParams;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
@@ -83,7 +84,11 @@ import org.eclipse.lsp4j.RenameOptions;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
 import org.eclipse.lsp4j.SemanticTokensLegend;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.SignatureHelp;
@@ -184,6 +189,9 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Inject
 	private SemanticTokensService semanticTokensService;
+
+	@Inject
+	private ProjectStatePersister projectStatePersister;
 	
 	private WorkspaceManager workspaceManager;
 
@@ -231,6 +239,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 		result.setCapabilities(createServerCapabilities(params));
 		access.addBuildListener(this);
+		access.addBuildListener(workspaceSymbolService);
 		return requestManager.runWrite(() -> {
 			if (clientSupportsWorkspaceFolders() && workspaceManager.isSupportsWorkspaceFolders()) {
 				List<WorkspaceFolder> workspaceFolders = params.getWorkspaceFolders();
@@ -280,8 +289,8 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		serverCapabilities.setTextDocumentSync(TextDocumentSyncKind.Incremental);
 		SemanticTokensLegend legend = new SemanticTokensLegend(semanticTokensService.getTokenTypes(), semanticTokensService.getTokenModifiers());
 		SemanticTokensWithRegistrationOptions semanticTokensWithRegistrationOptions = new SemanticTokensWithRegistrationOptions(legend);
-		semanticTokensWithRegistrationOptions.setFull(true);
-		semanticTokensWithRegistrationOptions.setRange(false);		
+		semanticTokensWithRegistrationOptions.setFull(new SemanticTokensServerFull(true));
+		semanticTokensWithRegistrationOptions.setRange(true);
 		serverCapabilities.setSemanticTokensProvider(semanticTokensWithRegistrationOptions);
 		CompletionOptions completionOptions = new CompletionOptions();
 		completionOptions.setResolveProvider(false);
@@ -391,7 +400,13 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	@Override
 	public CompletableFuture<Object> shutdown() {
 		shutdownAndExitHandler.shutdown();
-		return CompletableFuture.completedFuture(new Object());
+		if (!projectStatePersister.isEnabled()) {
+			return CompletableFuture.completedFuture(new Object());
+		}
+		return requestManager.runWrite(() -> {
+			workspaceManager.persistProjectStates();
+			return new Object();
+		}, (cancelIndicator, it) -> it);
 	}
 
 	@Override
@@ -446,7 +461,9 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	 * Evaluate the params and deduce the respective build command.
 	 */
 	protected Buildable toBuildable(DidCloseTextDocumentParams params) {
-		return workspaceManager.didClose(getURI(params.getTextDocument()));
+		URI uri = getURI(params.getTextDocument());
+		semanticTokensService.forgetPreviousResult(uri);
+		return workspaceManager.didClose(uri);
 	}
 
 	@Override
@@ -492,6 +509,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	public void didChangeConfiguration(DidChangeConfigurationParams params) {
 		requestManager.runWrite(() -> {
 			workspaceManager.refreshWorkspaceConfig(CancelIndicator.NullImpl);
+			workspaceSymbolService.invalidateIndex();
 			return null;
 		}, (a, b) -> null);
 	}
@@ -503,6 +521,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	public void didChangeWorkspaceFolders(DidChangeWorkspaceFoldersParams params) {
 		requestManager.runWrite(() -> {
 			workspaceManager.didChangeWorkspaceFolders(params, CancelIndicator.NullImpl);
+			workspaceSymbolService.invalidateIndex();
 			return null;
 		}, (a, b) -> null);
 	}
@@ -569,11 +588,12 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
-		return requestManager.runRead((cancelIndicator) -> completion(cancelIndicator, params));
+		return requestManager.runPriorityRead((cancelIndicator) -> completion(cancelIndicator, params));
 	}
 
 	/**
-	 * Compute the completion items.
+	 * Compute the completion items. If the client passes a partial result token, the items are streamed to the
+	 * client while they are computed.
 	 */
 	protected Either<List<CompletionItem>, CompletionList> completion(CancelIndicator originalCancelIndicator,
 			CompletionParams params) {
@@ -583,6 +603,12 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 			return Either.forRight(new CompletionList());
 		}
 		BufferedCancelIndicator cancelIndicator = new BufferedCancelIndicator(originalCancelIndicator);
+		Either<String, Integer> partialResultToken = params.getPartialResultToken();
+		if (partialResultToken != null && client != null) {
+			return Either.forRight(workspaceManager.doRead(uri,
+					(doc, res) -> contentAssistService.createCompletionList(doc, res, params, cancelIndicator,
+							(items) -> client.notifyProgress(new ProgressParams(partialResultToken, Either.forRight(items))))));
+		}
 		return Either.forRight(workspaceManager.doRead(uri,
 				(doc, res) -> contentAssistService.createCompletionList(doc, res, params, cancelIndicator)));
 	}
@@ -661,7 +687,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	@Override
 	public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(
 			DocumentSymbolParams params) {
-		return requestManager.runRead((cancelIndicator) -> {
+		return requestManager.runPriorityRead((cancelIndicator) -> {
 			List<DocumentSymbol> symbols = documentSymbol(params, cancelIndicator);
 			return Lists.transform(symbols, Either::forRight);
 		});
@@ -678,7 +704,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		if (documentSymbolService == null) {
 			return Collections.emptyList();
 		}
-		return workspaceManager.doRead(uri,
+		return workspaceManager.doReadCached(uri, documentSymbolService.getClass(), cancelIndicator,
 				(document, resource) -> documentSymbolService.getSymbols(document, resource, params, cancelIndicator));
 	}
 
@@ -738,7 +764,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
-		return requestManager.runRead((cancelIndicator) -> hover(params, cancelIndicator));
+		return requestManager.runPriorityRead((cancelIndicator) -> hover(params, cancelIndicator));
 	}
 
 	/**
@@ -762,7 +788,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams params) {
-		return requestManager.runRead((cancelIndicator) -> signatureHelp(params, cancelIndicator));
+		return requestManager.runPriorityRead((cancelIndicator) -> signatureHelp(params, cancelIndicator));
 	}
 
 	/**
@@ -781,7 +807,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<? extends DocumentHighlight>> documentHighlight(DocumentHighlightParams params) {
-		return requestManager.runRead((cancelIndicator) -> documentHighlight(params, cancelIndicator));
+		return requestManager.runPriorityRead((cancelIndicator) -> documentHighlight(params, cancelIndicator));
 	}
 
 	/**
@@ -1054,7 +1080,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	 * @since 2.26
 	 */
 	public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-		return requestManager.runRead(cancelIndicator -> foldingRange(params, cancelIndicator));
+		return requestManager.runPriorityRead(cancelIndicator -> foldingRange(params, cancelIndicator));
 	}
 
 	/**
@@ -1066,8 +1092,8 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		if (foldingRangeService == null) {
 			return Lists.newArrayList();
 		}
-		return workspaceManager.doRead(uri, (document, resource) -> foldingRangeService
-				.createFoldingRanges(document, resource, cancelIndicator));
+		return workspaceManager.doReadCached(uri, foldingRangeService.getClass(), cancelIndicator,
+				(document, resource) -> foldingRangeService.createFoldingRanges(document, resource, cancelIndicator));
 	}
 
 	@Override
@@ -1303,4 +1329,43 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		return getWorkspaceManager().doRead(uri,
 				(doc, res) -> semanticTokensService.semanticTokensFull(doc, res, params, cancelIndicator));
 	}
+
+	/**
+	 * @since 2.39
+	 */
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			final SemanticTokensDeltaParams params) {
+		return getRequestManager().runRead((cancelIndicator) -> semanticTokensFullDelta(params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	@Beta
+	protected Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(
+			final SemanticTokensDeltaParams params, final CancelIndicator cancelIndicator) {
+		URI uri = getURI(params.getTextDocument());
+		return getWorkspaceManager().doRead(uri,
+				(doc, res) -> semanticTokensService.semanticTokensFullDelta(doc, res, params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensRange(final SemanticTokensRangeParams params) {
+		return getRequestManager().runRead((cancelIndicator) -> semanticTokensRange(params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	@Beta
+	protected SemanticTokens semanticTokensRange(final SemanticTokensRangeParams params,
+			final CancelIndicator cancelIndicator) {
+		URI uri = getURI(params.getTextDocument());
+		return getWorkspaceManager().doRead(uri,
+				(doc, res) -> semanticTokensService.semanticTokensRange(doc, res, params, cancelIndicator));
+	}
 }
@@ -10,8 +10,12 @@ package org.eclipse.xtext.ide.server;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -19,6 +23,7 @@ import org.eclipse.xtext.build.BuildRequest;
 import org.eclipse.xtext.build.IncrementalBuilder;
 import org.eclipse.xtext.build.IndexState;
 import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.ide.server.ProjectStatePersister.ProjectState;
 import org.eclipse.xtext.resource.IExternalContentSupport;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
@@ -36,6 +41,8 @@ import org.eclipse.xtext.workspace.ProjectConfigAdapter;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 
@@ -59,6 +66,18 @@ public class ProjectManager {
 	@Inject
 	protected IExternalContentSupport externalContentSupport;
 
+	/**
+	 * @since 2.39
+	 */
+	@Inject
+	protected ProjectStatePersister projectStatePersister;
+
+	/**
+	 * @since 2.39
+	 */
+	@Inject
+	protected ResourceSetCache resourceSetCache;
+
 	private IndexState indexState = new IndexState();
 
 	private URI baseDir;
@@ -75,6 +94,17 @@ public class ProjectManager {
 
 	private IProjectConfig projectConfig;
 
+	/**
+	 * The issues of the source files, only tracked if snapshots are enabled.
+	 */
+	private final Map<URI, List<Issue>> issues = new ConcurrentHashMap<>();
+
+	/**
+	 * The hashes of the content of the source files when they were built, only tracked if snapshots are enabled. A file
+	 * that was built with the unsaved content of an editor has no hash.
+	 */
+	private final Map<URI, String> contentHashes = new ConcurrentHashMap<>();
+
 	public void initialize(ProjectDescription description, IProjectConfig projectConfig,
 			Procedure2<? super URI, ? super Iterable<Issue>> acceptor,
 			IExternalContentSupport.IExternalContentProvider openedDocumentsContentProvider,
@@ -91,11 +121,92 @@ public class ProjectManager {
 	 * Initial build of this project.
 	 */
 	public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
+		return doInitialBuild(Collections.emptyList(), cancelIndicator);
+	}
+
+	/**
+	 * Initial build of this project. If a snapshot of the project state is available, it is restored and only the files
+	 * that changed since the snapshot was written are built, together with the files that are affected by the given
+	 * deltas of the upstream projects. Otherwise all files are built and the deltas are ignored.
+	 *
+	 * @since 2.39
+	 */
+	public IncrementalBuilder.Result doInitialBuild(List<IResourceDescription.Delta> externalDeltas,
+			CancelIndicator cancelIndicator) {
 		List<URI> allUris = new ArrayList<>();
 		for (ISourceFolder srcFolder : projectConfig.getSourceFolders()) {
 			allUris.addAll(srcFolder.getAllResources(fileSystemScanner));
 		}
-		return doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+		ProjectState snapshot = projectStatePersister.readProjectState(projectDescription.getName(), baseDir);
+		if (snapshot == null) {
+			return doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+		}
+		restoreProjectState(snapshot);
+		Set<URI> deletedFiles = new HashSet<>(indexState.getResourceDescriptions().getAllURIs());
+		List<URI> dirtyFiles = new ArrayList<>();
+		for (URI uri : allUris) {
+			deletedFiles.remove(uri);
+			String hash = snapshot.getContentHashes().get(uri);
+			if (hash == null || openedDocumentsContentProvider.hasContent(uri)
+					|| !hash.equals(projectStatePersister.computeContentHash(uri))) {
+				dirtyFiles.add(uri);
+			} else {
+				List<Issue> fileIssues = snapshot.getIssues().get(uri);
+				synchronized (issueAcceptor) {
+					issueAcceptor.apply(uri, fileIssues != null ? fileIssues : Collections.emptyList());
+				}
+			}
+		}
+		return doBuild(dirtyFiles, new ArrayList<>(deletedFiles), externalDeltas, cancelIndicator);
+	}
+
+	/**
+	 * Installs the index state of the given snapshot, such that the index can be queried right away.
+	 *
+	 * @since 2.39
+	 */
+	protected void restoreProjectState(ProjectState snapshot) {
+		ResourceDescriptionsData resourceDescriptions = indexState.getResourceDescriptions().copy();
+		for (IResourceDescription description : snapshot.getResourceDescriptions()) {
+			resourceDescriptions.addDescription(description.getURI(), description);
+		}
+		resourceDescriptions.restoreReferenceIndex(snapshot.getReferenceIndex());
+		indexState = new IndexState(resourceDescriptions, snapshot.getFileMappings());
+		issues.putAll(snapshot.getIssues());
+		contentHashes.putAll(snapshot.getContentHashes());
+		indexProvider.get().put(projectDescription.getName(), resourceDescriptions);
+	}
+
+	/**
+	 * Writes a snapshot of the current state of this project, if snapshots are enabled. The snapshot contains the
+	 * hashes of the files as they were built, files that were built with the unsaved content of an editor are built
+	 * again when the snapshot is restored.
+	 *
+	 * @since 2.39
+	 */
+	public void persistProjectState() {
+		if (!projectStatePersister.isEnabled()) {
+			return;
+		}
+		IndexState state = indexState;
+		List<IResourceDescription> resourceDescriptions = Lists
+				.newArrayList(state.getResourceDescriptions().getAllResourceDescriptions());
+		Map<URI, String> fileHashes = new HashMap<>();
+		Map<URI, List<Issue>> fileIssues = new HashMap<>();
+		for (IResourceDescription description : resourceDescriptions) {
+			URI uri = description.getURI();
+			String hash = contentHashes.get(uri);
+			if (hash != null) {
+				fileHashes.put(uri, hash);
+				List<Issue> issuesOfFile = issues.get(uri);
+				if (issuesOfFile != null) {
+					fileIssues.put(uri, issuesOfFile);
+				}
+			}
+		}
+		projectStatePersister.writeProjectState(projectDescription.getName(), baseDir,
+				new ProjectState(resourceDescriptions, state.getFileMappings().copy(), fileHashes, fileIssues,
+						state.getResourceDescriptions().getReferenceIndex()));
 	}
 
 	/**
@@ -103,15 +214,40 @@ public class ProjectManager {
 	 */
 	public IncrementalBuilder.Result doBuild(List<URI> dirtyFiles, List<URI> deletedFiles,
 			List<IResourceDescription.Delta> externalDeltas, CancelIndicator cancelIndicator) {
+		if (projectStatePersister.isEnabled()) {
+			recordContentHashes(dirtyFiles, deletedFiles);
+		}
 		BuildRequest request = newBuildRequest(dirtyFiles, deletedFiles, externalDeltas, cancelIndicator);
 		IncrementalBuilder.Result result = incrementalBuilder.build(request,
 				languagesRegistry::getResourceServiceProvider);
 		indexState = result.getIndexState();
 		resourceSet = request.getResourceSet();
 		indexProvider.get().put(projectDescription.getName(), indexState.getResourceDescriptions());
+		if (resourceSetCache.isBounded()) {
+			resourceSetCache.evict(resourceSet, openedDocumentsContentProvider::hasContent);
+		}
 		return result;
 	}
 
+	/**
+	 * Hashes the content of the files that are about to be built. A file that changes on disk after it was hashed is
+	 * considered dirty when the snapshot is restored, even if the build already saw the new content.
+	 */
+	private void recordContentHashes(List<URI> dirtyFiles, List<URI> deletedFiles) {
+		for (URI uri : deletedFiles) {
+			contentHashes.remove(uri);
+		}
+		for (URI uri : dirtyFiles) {
+			String hash = openedDocumentsContentProvider.hasContent(uri) ? null
+					: projectStatePersister.computeContentHash(uri);
+			if (hash != null) {
+				contentHashes.put(uri, hash);
+			} else {
+				contentHashes.remove(uri);
+			}
+		}
+	}
+
 	/**
 	 * Creates a new build request for this project.
 	 */
@@ -126,7 +262,17 @@ public class ProjectManager {
 		result.setDeletedFiles(deletedFiles);
 		result.setExternalDeltas(externalDeltas);
 		result.setAfterValidate((URI uri, Iterable<Issue> issues) -> {
-			issueAcceptor.apply(uri, issues);
+			// independent projects may be built in parallel and share the acceptor
+			synchronized (issueAcceptor) {
+				issueAcceptor.apply(uri, issues);
+			}
+			if (projectStatePersister.isEnabled()) {
+				if (Iterables.isEmpty(issues)) {
+					this.issues.remove(uri);
+				} else {
+					this.issues.put(uri, ImmutableList.copyOf(issues));
+				}
+			}
 			return true;
 		});
 		result.setCancelIndicator(cancelIndicator);
@@ -180,6 +326,9 @@ public class ProjectManager {
 	public Resource getResource(URI uri) {
 		Resource resource = resourceSet.getResource(uri, true);
 		resource.getContents();
+		if (resourceSetCache.isBounded()) {
+			resourceSetCache.touch(resource);
+		}
 		return resource;
 	}
 
@@ -220,6 +369,13 @@ public class ProjectManager {
 		return resourceSet;
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	public ResourceSetCache getResourceSetCache() {
+		return resourceSetCache;
+	}
+
 	public ProjectDescription getProjectDescription() {
 		return projectDescription;
 	}
@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.xtext.build.Source2GeneratedMapping;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+/**
+ * Writes the state of a project to a snapshot file and reads it back when the language server starts again, such that
+ * only the files that changed in the meantime have to be built.
+ *
+ * A snapshot contains the resource descriptions, the reverse index of their reference descriptions, the mapping of the
+ * sources to the generated files, the content hashes of the source files and the issues that have been reported for
+ * them.
+ *
+ * Snapshots are disabled unless a directory is bound to the name {@link #SNAPSHOT_DIRECTORY}, e.g.
+ *
+ * <pre>
+ * bindConstant().annotatedWith(Names.named(ProjectStatePersister.SNAPSHOT_DIRECTORY)).to("/path/to/snapshots");
+ * </pre>
+ *
+ * A snapshot is only restored if it was written with the same {@link #getFingerprint() fingerprint}. The fingerprint
+ * defaults to the version of Xtext. Languages should bind a string that changes with their version to the name
+ * {@link #FINGERPRINT}, such that the snapshots of an older version are discarded after an upgrade.
+ *
+ * @since 2.39
+ */
+@Singleton
+public class ProjectStatePersister {
+
+	/**
+	 * The state of a project as it is stored in a snapshot.
+	 */
+	public static class ProjectState {
+
+		private final List<IResourceDescription> resourceDescriptions;
+
+		private final Source2GeneratedMapping fileMappings;
+
+		private final Map<URI, String> contentHashes;
+
+		private final Map<URI, List<Issue>> issues;
+
+		private final Map<URI, Set<URI>> referenceIndex;
+
+		public ProjectState(List<IResourceDescription> resourceDescriptions, Source2GeneratedMapping fileMappings,
+				Map<URI, String> contentHashes, Map<URI, List<Issue>> issues, Map<URI, Set<URI>> referenceIndex) {
+			this.resourceDescriptions = resourceDescriptions;
+			this.referenceIndex = referenceIndex;
+			this.fileMappings = fileMappings;
+			this.contentHashes = contentHashes;
+			this.issues = issues;
+		}
+
+		public List<IResourceDescription> getResourceDescriptions() {
+			return resourceDescriptions;
+		}
+
+		public Source2GeneratedMapping getFileMappings() {
+			return fileMappings;
+		}
+
+		/**
+		 * @return the content hashes of the source files. A file without a hash has to be built.
+		 */
+		public Map<URI, String> getContentHashes() {
+			return contentHashes;
+		}
+
+		public Map<URI, List<Issue>> getIssues() {
+			return issues;
+		}
+
+		/**
+		 * @return the URIs of the resources that are referenced by each resource.
+		 * @see ResourceDescriptionsData#getReferenceIndex()
+		 */
+		public Map<URI, Set<URI>> getReferenceIndex() {
+			return referenceIndex;
+		}
+	}
+
+	/**
+	 * The name of the directory that contains the snapshots.
+	 */
+	public static final String SNAPSHOT_DIRECTORY = "org.eclipse.xtext.ide.server.ProjectStatePersister.snapshotDirectory";
+
+	/**
+	 * The name of the fingerprint of the languages and the server that is written to the snapshots.
+	 */
+	public static final String FINGERPRINT = "org.eclipse.xtext.ide.server.ProjectStatePersister.fingerprint";
+
+	private static final Logger LOG = Logger.getLogger(ProjectStatePersister.class);
+
+	private static final int MAGIC = 0x58505353;
+
+	private static final int VERSION = 3;
+
+	@Inject(optional = true)
+	@Named(SNAPSHOT_DIRECTORY)
+	private String snapshotDirectory;
+
+	@Inject(optional = true)
+	@Named(FINGERPRINT)
+	private String fingerprint;
+
+	public boolean isEnabled() {
+		return snapshotDirectory != null;
+	}
+
+	/**
+	 * @return the fingerprint of the languages and the server. Snapshots that were written with a different
+	 *         fingerprint are discarded.
+	 */
+	protected String getFingerprint() {
+		String xtextVersion = ProjectStatePersister.class.getPackage().getImplementationVersion();
+		return String.valueOf(xtextVersion) + "/" + String.valueOf(fingerprint);
+	}
+
+	/**
+	 * @return the snapshot file of the project with the given name and location or {@code null} if snapshots are
+	 *         disabled.
+	 */
+	protected Path getSnapshotFile(String projectName, URI baseDir) {
+		if (!isEnabled()) {
+			return null;
+		}
+		String fileName = projectName.replaceAll("[^\\w.-]", "_") + "-"
+				+ Integer.toHexString(String.valueOf(baseDir).hashCode()) + ".snapshot";
+		return Paths.get(snapshotDirectory, fileName);
+	}
+
+	/**
+	 * Computes the hash of the current content of the given file.
+	 *
+	 * @return the hash or {@code null} if the file cannot be read.
+	 */
+	public String computeContentHash(URI uri) {
+		try (InputStream in = URIConverter.INSTANCE.createInputStream(uri)) {
+			return Hashing.murmur3_128().hashBytes(ByteStreams.toByteArray(in)).toString();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the snapshot of the given project.
+	 *
+	 * @return the state of the project or {@code null} if snapshots are disabled or there is no usable snapshot.
+	 */
+	public ProjectState readProjectState(String projectName, URI baseDir) {
+		Path file = getSnapshotFile(projectName, baseDir);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !String.valueOf(baseDir).equals(in.readUTF())
+					|| !getFingerprint().equals(in.readUTF())) {
+				return null;
+			}
+			return readProjectState(in);
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
+			LOG.warn("Cannot read the snapshot " + file + " of the project " + projectName, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the snapshot of the given project. The file is replaced atomically if the file system supports it.
+	 */
+	public void writeProjectState(String projectName, URI baseDir, ProjectState state) {
+		Path file = getSnapshotFile(projectName, baseDir);
+		if (file == null) {
+			return;
+		}
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			Files.createDirectories(file.getParent());
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeUTF(String.valueOf(baseDir));
+				out.writeUTF(getFingerprint());
+				writeProjectState(state, out);
+			}
+			try {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			LOG.error("Cannot write the snapshot " + file + " of the project " + projectName, e);
+		}
+	}
+
+	protected ProjectState readProjectState(ObjectInput in) throws IOException, ClassNotFoundException {
+		int numDescriptions = in.readInt();
+		List<IResourceDescription> descriptions = new ArrayList<>(numDescriptions);
+		for (int i = 0; i < numDescriptions; i++) {
+			descriptions.add((IResourceDescription) in.readObject());
+		}
+		Source2GeneratedMapping fileMappings = new Source2GeneratedMapping();
+		fileMappings.readExternal(in);
+		int numHashes = in.readInt();
+		Map<URI, String> contentHashes = new HashMap<>(numHashes);
+		for (int i = 0; i < numHashes; i++) {
+			contentHashes.put(URI.createURI(in.readUTF()), in.readUTF());
+		}
+		int numIssueLists = in.readInt();
+		Map<URI, List<Issue>> issues = new HashMap<>(numIssueLists);
+		for (int i = 0; i < numIssueLists; i++) {
+			URI uri = URI.createURI(in.readUTF());
+			int numIssues = in.readInt();
+			List<Issue> list = new ArrayList<>(numIssues);
+			for (int j = 0; j < numIssues; j++) {
+				list.add(readIssue(in));
+			}
+			issues.put(uri, list);
+		}
+		int numSources = in.readInt();
+		Map<URI, Set<URI>> referenceIndex = new HashMap<>(numSources);
+		for (int i = 0; i < numSources; i++) {
+			URI source = URI.createURI(in.readUTF());
+			int numTargets = in.readInt();
+			Set<URI> targets = new HashSet<>(numTargets);
+			for (int j = 0; j < numTargets; j++) {
+				targets.add(URI.createURI(in.readUTF()));
+			}
+			referenceIndex.put(source, targets);
+		}
+		return new ProjectState(descriptions, fileMappings, contentHashes, issues, referenceIndex);
+	}
+
+	protected void writeProjectState(ProjectState state, ObjectOutput out) throws IOException {
+		out.writeInt(state.getResourceDescriptions().size());
+		for (IResourceDescription description : state.getResourceDescriptions()) {
+			out.writeObject(description instanceof Serializable ? description
+					: SerializableResourceDescription.createCopy(description));
+		}
+		state.getFileMappings().writeExternal(out);
+		out.writeInt(state.getContentHashes().size());
+		for (Map.Entry<URI, String> entry : state.getContentHashes().entrySet()) {
+			out.writeUTF(entry.getKey().toString());
+			out.writeUTF(entry.getValue());
+		}
+		out.writeInt(state.getIssues().size());
+		for (Map.Entry<URI, List<Issue>> entry : state.getIssues().entrySet()) {
+			out.writeUTF(entry.getKey().toString());
+			out.writeInt(entry.getValue().size());
+			for (Issue issue : entry.getValue()) {
+				writeIssue(issue, out);
+			}
+		}
+		out.writeInt(state.getReferenceIndex().size());
+		for (Map.Entry<URI, Set<URI>> entry : state.getReferenceIndex().entrySet()) {
+			out.writeUTF(entry.getKey().toString());
+			out.writeInt(entry.getValue().size());
+			for (URI target : entry.getValue()) {
+				out.writeUTF(target.toString());
+			}
+		}
+	}
+
+	protected Issue readIssue(ObjectInput in) throws IOException, ClassNotFoundException {
+		Issue.IssueImpl result = new Issue.IssueImpl();
+		String severity = (String) in.readObject();
+		result.setSeverity(severity != null ? Severity.valueOf(severity) : null);
+		result.setMessage((String) in.readObject());
+		result.setCode((String) in.readObject());
+		String type = (String) in.readObject();
+		result.setType(type != null ? CheckType.valueOf(type) : null);
+		String uriToProblem = (String) in.readObject();
+		result.setUriToProblem(uriToProblem != null ? URI.createURI(uriToProblem) : null);
+		result.setLineNumber((Integer) in.readObject());
+		result.setColumn((Integer) in.readObject());
+		result.setLineNumberEnd((Integer) in.readObject());
+		result.setColumnEnd((Integer) in.readObject());
+		result.setOffset((Integer) in.readObject());
+		result.setLength((Integer) in.readObject());
+		result.setData((String[]) in.readObject());
+		result.setSyntaxError(in.readBoolean());
+		return result;
+	}
+
+	protected void writeIssue(Issue issue, ObjectOutput out) throws IOException {
+		out.writeObject(issue.getSeverity() != null ? issue.getSeverity().name() : null);
+		out.writeObject(issue.getMessage());
+		out.writeObject(issue.getCode());
+		out.writeObject(issue.getType() != null ? issue.getType().name() : null);
+		out.writeObject(issue.getUriToProblem() != null ? issue.getUriToProblem().toString() : null);
+		out.writeObject(issue.getLineNumber());
+		out.writeObject(issue.getColumn());
+		out.writeObject(issue.getLineNumberEnd());
+		out.writeObject(issue.getColumnEnd());
+		out.writeObject(issue.getOffset());
+		out.writeObject(issue.getLength());
+		out.writeObject(issue.getData());
+		out.writeBoolean(issue.isSyntaxError());
+	}
+}
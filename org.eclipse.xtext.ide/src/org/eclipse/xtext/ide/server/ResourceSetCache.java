@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.ResourceSizeEstimator;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+/**
+ * Bounds the number and the estimated memory footprint of the resources that are kept loaded in the resource set of a
+ * {@link ProjectManager}. The resources are tracked in least recently used order, and after each build the least
+ * recently used ones are unloaded until the limits are met again. Resources that are pinned, e.g. the resources of
+ * open documents, and modified resources are never unloaded.
+ * <p>
+ * Unloading turns the references of other resources to the contents of an unloaded resource into proxies, so the
+ * resource is loaded again when it is touched the next time, from its storage if it is a
+ * {@link org.eclipse.xtext.resource.persistence.StorageAwareResource StorageAwareResource} with an up-to-date storage.
+ * </p>
+ * The limits are not set by default. They are configured by binding the constants {@link #MAX_RESOURCES} and
+ * {@link #MAX_FOOTPRINT}.
+ *
+ * @since 2.39
+ */
+public class ResourceSetCache {
+
+	/**
+	 * The maximum number of loaded resources.
+	 */
+	public static final String MAX_RESOURCES = "org.eclipse.xtext.ide.server.ResourceSetCache.maxResources";
+
+	/**
+	 * The maximum estimated footprint of the loaded resources in bytes.
+	 */
+	public static final String MAX_FOOTPRINT = "org.eclipse.xtext.ide.server.ResourceSetCache.maxFootprint";
+
+	@Inject(optional = true)
+	@Named(MAX_RESOURCES)
+	private int maxResources = Integer.MAX_VALUE;
+
+	@Inject(optional = true)
+	@Named(MAX_FOOTPRINT)
+	private long maxFootprint = Long.MAX_VALUE;
+
+	@Inject
+	private ResourceSizeEstimator resourceSizeEstimator;
+
+	/**
+	 * The estimated footprints of the loaded resources in access order.
+	 */
+	private final LinkedHashMap<URI, Long> footprints = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long estimatedFootprint;
+
+	private long evictionCount;
+
+	/**
+	 * Marks the given resource as recently used.
+	 */
+	public synchronized void touch(Resource resource) {
+		URI uri = resource.getURI();
+		if (footprints.get(uri) == null) {
+			footprints.put(uri, 0L);
+		}
+	}
+
+	/**
+	 * Unloads the least recently used resources of the given resource set until the limits are met.
+	 *
+	 * @param isPinned
+	 *            whether the resource with the given URI must be kept loaded.
+	 * @return the URIs of the unloaded resources.
+	 */
+	public synchronized List<URI> evict(ResourceSet resourceSet, Predicate<URI> isPinned) {
+		Map<URI, Resource> loaded = update(resourceSet);
+		List<URI> result = new ArrayList<>();
+		Iterator<Map.Entry<URI, Long>> iterator = footprints.entrySet().iterator();
+		while (isExceeded() && iterator.hasNext()) {
+			Map.Entry<URI, Long> entry = iterator.next();
+			Resource resource = loaded.get(entry.getKey());
+			if (!isPinned.test(entry.getKey()) && !resource.isModified()) {
+				iterator.remove();
+				estimatedFootprint -= entry.getValue();
+				resourceSet.getResources().remove(resource);
+				// proxify
+				resource.unload();
+				result.add(entry.getKey());
+			}
+		}
+		evictionCount += result.size();
+		return result;
+	}
+
+	/**
+	 * Tracks the loaded resources that were not touched yet as the most recently used ones, and updates the estimated
+	 * footprints.
+	 */
+	protected Map<URI, Resource> update(ResourceSet resourceSet) {
+		Map<URI, Resource> loaded = new LinkedHashMap<>();
+		for (Resource resource : resourceSet.getResources()) {
+			if (resource.isLoaded()) {
+				loaded.put(resource.getURI(), resource);
+			}
+		}
+		Set<URI> untracked = new HashSet<>(loaded.keySet());
+		untracked.removeAll(footprints.keySet());
+		footprints.keySet().retainAll(loaded.keySet());
+		for (URI uri : untracked) {
+			footprints.put(uri, 0L);
+		}
+		estimatedFootprint = 0;
+		for (Map.Entry<URI, Long> entry : footprints.entrySet()) {
+			long footprint = estimateFootprint(loaded.get(entry.getKey()));
+			entry.setValue(footprint);
+			estimatedFootprint += footprint;
+		}
+		return loaded;
+	}
+
+	protected boolean isExceeded() {
+		return footprints.size() > maxResources || estimatedFootprint > maxFootprint;
+	}
+
+	/**
+	 * Estimates the memory that is used by the given resource.
+	 * 
+	 * @see ResourceSizeEstimator
+	 */
+	protected long estimateFootprint(Resource resource) {
+		return resourceSizeEstimator.estimateRetainedSize(resource);
+	}
+
+	/**
+	 * @return the number of loaded resources as of the last eviction.
+	 */
+	public synchronized int getLoadedResourceCount() {
+		return footprints.size();
+	}
+
+	/**
+	 * @return the estimated footprint of the loaded resources in bytes as of the last eviction.
+	 */
+	public synchronized long getEstimatedFootprint() {
+		return estimatedFootprint;
+	}
+
+	/**
+	 * @return the number of resources that were unloaded so far.
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public boolean isBounded() {
+		return maxResources != Integer.MAX_VALUE || maxFootprint != Long.MAX_VALUE;
+	}
+}
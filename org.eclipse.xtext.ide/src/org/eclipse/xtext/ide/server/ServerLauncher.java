@@ -15,11 +15,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.Future;
 
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.xtext.ide.ExecutorServiceProvider;
+import org.eclipse.xtext.ide.VirtualThreadExecutorServiceProvider;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.InputOutput;
 
@@ -38,12 +41,22 @@ public class ServerLauncher {
 
 	public static final String NO_VALIDATE = "-noValidate";
 
+	/**
+	 * @since 2.39
+	 */
+	public static final String VIRTUAL_THREADS = "-virtualThreads";
+
 	public static void main(String[] args) {
 		launch(ServerLauncher.class.getName(), args, new ServerModule());
 	}
 
 	public static void launch(String prefix, String[] args, com.google.inject.Module... modules) {
 		LaunchArgs launchArgs = createLaunchArgs(prefix, args);
+		if (shouldUseVirtualThreads(args)) {
+			modules = Arrays.copyOf(modules, modules.length + 1);
+			modules[modules.length - 1] = binder -> binder.bind(ExecutorServiceProvider.class)
+					.to(VirtualThreadExecutorServiceProvider.class);
+		}
 		ServerLauncher launcher = Guice.createInjector(modules).<ServerLauncher>getInstance(ServerLauncher.class);
 		launcher.start(launchArgs);
 	}
@@ -104,6 +117,15 @@ public class ServerLauncher {
 		return testArg(args, ServerLauncher.TRACE);
 	}
 
+	/**
+	 * Whether the requests are run on virtual threads, if the JDK supports them.
+	 *
+	 * @since 2.39
+	 */
+	public static boolean shouldUseVirtualThreads(String[] args) {
+		return testArg(args, ServerLauncher.VIRTUAL_THREADS);
+	}
+
 	public static boolean shouldLogStandardStreams(String[] args) {
 		return testArg(args, ServerLauncher.LOG, "debug");
 	}
@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.log4j.Logger;
@@ -29,6 +30,7 @@ import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.xtext.build.IndexState;
 import org.eclipse.xtext.ide.server.BuildManager.Buildable;
 import org.eclipse.xtext.resource.IExternalContentSupport;
 import org.eclipse.xtext.resource.IResourceDescription;
@@ -83,10 +85,73 @@ public class WorkspaceManager {
 	
 	private final List<ILanguageServerAccess.IBuildListener> buildListeners = new CopyOnWriteArrayList<>();
 
-	private final Map<String, ResourceDescriptionsData> fullIndex = new HashMap<>();
+	/**
+	 * Updated concurrently by the {@link BuildManager} when independent projects are built in parallel.
+	 */
+	private final Map<String, ResourceDescriptionsData> fullIndex = new ConcurrentHashMap<>();
 
 	private final Map<URI, Document> openDocuments = createOpenDocuments();
 
+	/**
+	 * A resource of an open document that was read while a build was pending.
+	 */
+	private static class IsolatedResource {
+
+		final Document document;
+
+		final IndexState indexState;
+
+		final Resource resource;
+
+		IsolatedResource(Document document, IndexState indexState, Resource resource) {
+			this.document = document;
+			this.indexState = indexState;
+			this.resource = resource;
+		}
+	}
+
+	private final Map<URI, IsolatedResource> isolatedResources = new ConcurrentHashMap<>();
+
+	/**
+	 * The resource set of a project that files which are not open are read into while a build is pending.
+	 */
+	private static class IsolatedResourceSet {
+
+		final IndexState indexState;
+
+		final XtextResourceSet resourceSet;
+
+		IsolatedResourceSet(IndexState indexState, XtextResourceSet resourceSet) {
+			this.indexState = indexState;
+			this.resourceSet = resourceSet;
+		}
+	}
+
+	private final Map<ProjectManager, IsolatedResourceSet> isolatedResourceSets = new ConcurrentHashMap<>();
+
+	/**
+	 * The results of read operations on an open document, that are valid as long as neither the document, nor its
+	 * resource, nor the index of its project change.
+	 */
+	private static class DocumentResults {
+
+		final Document document;
+
+		final XtextResource resource;
+
+		final IndexState indexState;
+
+		final Map<Object, Object> results = new ConcurrentHashMap<>();
+
+		DocumentResults(Document document, XtextResource resource, IndexState indexState) {
+			this.document = document;
+			this.resource = resource;
+			this.indexState = indexState;
+		}
+	}
+
+	private final Map<URI, DocumentResults> documentResults = new ConcurrentHashMap<>();
+
 	/**
 	 * Add the listener to this workspace.
 	 *
@@ -295,6 +360,8 @@ public class WorkspaceManager {
 	 * @return a build command that can be triggered
 	 */
 	public Buildable didChangeFiles(List<URI> dirtyFiles, List<URI> deletedFiles) {
+		// the shared isolated resource sets may contain the old content of the changed files
+		isolatedResourceSets.clear();
 		BuildManager.Buildable buildable = buildManager.submit(dirtyFiles, deletedFiles);
 		return (cancelIndicator) -> {
 			List<IResourceDescription.Delta> deltas = buildable.build(cancelIndicator);
@@ -382,6 +449,19 @@ public class WorkspaceManager {
 		return ImmutableList.copyOf(projectName2ProjectManager.values());
 	}
 
+	/**
+	 * Writes snapshots of the state of all projects, such that the next start of the language server only has to build
+	 * the files that changed in the meantime.
+	 *
+	 * @see ProjectStatePersister
+	 * @since 2.39
+	 */
+	public void persistProjectStates() {
+		for (ProjectManager projectManager : getProjectManagers()) {
+			projectManager.persistProjectState();
+		}
+	}
+
 	/**
 	 * As opposed to {@link TextEdit}[] the positions in the edits of a {@link DidChangeTextDocumentParams} refer to the
 	 * state after applying the preceding edits. See
@@ -427,6 +507,8 @@ public class WorkspaceManager {
 	 */
 	public BuildManager.Buildable didClose(URI uri) {
 		openDocuments.remove(uri);
+		isolatedResources.remove(uri);
+		documentResults.remove(uri);
 		if (exists(uri)) {
 			return didChangeFiles(ImmutableList.of(uri), Collections.emptyList());
 		}
@@ -461,13 +543,71 @@ public class WorkspaceManager {
 	}
 
 	/**
-	 * Find the resource and the document with the given URI.
+	 * Like {@link #doRead(URI, Function2)}, but reuses the result of a previous read operation with the same key as
+	 * long as neither the open document, nor its resource, nor the {@link ProjectManager#getIndexState() index state}
+	 * of its project changed. The document changes with every edit and the index state with every build, which also
+	 * relinks the resource if a dependency changed. Cached results are therefore never stale, but repeated requests
+	 * for the same version of a document, e.g. for the document symbols or the folding ranges, don't traverse the
+	 * resource again.
+	 * <p>
+	 * Results are only cached for open documents, and not if the read operation was cancelled or returned
+	 * <code>null</code>. Callers must not modify the result.
+	 * </p>
+	 *
+	 * @param key
+	 *            identifies the read operation, e.g. the service that computes the result.
+	 * @since 2.39
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T doReadCached(URI uri, Object key, CancelIndicator cancelIndicator,
+			Function2<? super Document, ? super XtextResource, ? extends T> work) {
+		Pair<? super Document, ? super XtextResource> pair = read(uri);
+		if (pair == null) {
+			return work.apply(null, null);
+		}
+		Document doc = (Document) pair.getFirst();
+		XtextResource resource = (XtextResource) pair.getSecond();
+		if (doc != openDocuments.get(resource.getURI())) {
+			return work.apply(doc, resource);
+		}
+		ProjectManager projectManager = getProjectManager(resource.getURI());
+		IndexState indexState = projectManager != null ? projectManager.getIndexState() : null;
+		DocumentResults cached = documentResults.get(resource.getURI());
+		if (cached == null || cached.document != doc || cached.resource != resource
+				|| cached.indexState != indexState) {
+			cached = new DocumentResults(doc, resource, indexState);
+			documentResults.put(resource.getURI(), cached);
+		}
+		Object result = cached.results.get(key);
+		if (result == null) {
+			result = work.apply(doc, resource);
+			if (result != null && !cancelIndicator.isCanceled()) {
+				cached.results.put(key, result);
+			}
+		}
+		return (T) result;
+	}
+
+	/**
+	 * Find the resource and the document with the given URI. While a build is pending, the resource is loaded into a
+	 * resource set of its own, see {@link #getIsolatedResource(ProjectManager, URI)}.
 	 */
 	public Pair<? super Document, ? super XtextResource> read(URI uri) {
 		URI resourceURI = uri.trimFragment();
 		ProjectManager projectMnr = getProjectManager(resourceURI);
 		if (projectMnr != null) {
-			Resource resource = projectMnr.getResource(resourceURI);
+			Resource resource;
+			if (buildManager.isBuildPending()) {
+				resource = getIsolatedResource(projectMnr, resourceURI);
+			} else {
+				if (!isolatedResources.isEmpty()) {
+					isolatedResources.clear();
+				}
+				if (!isolatedResourceSets.isEmpty()) {
+					isolatedResourceSets.clear();
+				}
+				resource = projectMnr.getResource(resourceURI);
+			}
 			if (resource instanceof XtextResource) {
 				XtextResource xtextResource = (XtextResource) resource; 
 				Document doc = getDocument(xtextResource);
@@ -477,6 +617,40 @@ public class WorkspaceManager {
 		return null;
 	}
 	
+	/**
+	 * Loads the resource with the given URI into a new resource set that is linked against the last built index of the
+	 * project. In contrast to the resource set of the project, it is not modified by a running build, so it can be read
+	 * while the build is running, or after it was cancelled. The resource of an open document is reused until the
+	 * document or the index changes. Other files share one resource set per project, which is reused until the index
+	 * or any file changes.
+	 *
+	 * @since 2.39
+	 */
+	protected Resource getIsolatedResource(ProjectManager projectManager, URI uri) {
+		IndexState indexState = projectManager.getIndexState();
+		Document document = openDocuments.get(uri);
+		if (document == null) {
+			IsolatedResourceSet isolated = isolatedResourceSets.compute(projectManager,
+					(key, existing) -> existing != null && existing.indexState == indexState ? existing
+							: new IsolatedResourceSet(indexState,
+									projectManager.createNewResourceSet(indexState.getResourceDescriptions())));
+			synchronized (isolated.resourceSet) {
+				Resource resource = isolated.resourceSet.getResource(uri, true);
+				resource.getContents();
+				return resource;
+			}
+		}
+		IsolatedResource cached = isolatedResources.get(uri);
+		if (cached != null && cached.document == document && cached.indexState == indexState) {
+			return cached.resource;
+		}
+		XtextResourceSet resourceSet = projectManager.createNewResourceSet(indexState.getResourceDescriptions());
+		Resource resource = resourceSet.getResource(uri, true);
+		resource.getContents();
+		isolatedResources.put(uri, new IsolatedResource(document, indexState, resource));
+		return resource;
+	}
+
 	/**
 	 * Find the document for the given resource.
 	 *
@@ -47,6 +47,15 @@ public class RequestManager {
 
 	private List<AbstractRequest<?>> requests = new ArrayList<>();
 
+	/**
+	 * Completed as soon as the non-cancellable logic of the last submitted write request is done. Since write requests
+	 * are executed one after the other, the non-cancellable logic of all previous write requests is done, too.
+	 */
+	private CompletableFuture<Void> lastNonCancellableDone = CompletableFuture.completedFuture(null);
+
+	@Inject
+	private RequestStatistics statistics = new RequestStatistics();
+
 	/**
 	 * An orderly shutdown of this request manager.
 	 */
@@ -63,12 +72,38 @@ public class RequestManager {
 	protected final ExecutorService getParallelExecutorService() {
 		return parallel;
 	}
+
+	/**
+	 * @since 2.39
+	 */
+	public RequestStatistics getStatistics() {
+		return statistics;
+	}
 	
 	/**
 	 * Run the given cancellable logic as a read request.
 	 */
 	public synchronized <V> CompletableFuture<V> runRead(Function1<? super CancelIndicator, ? extends V> cancellable) {
-		return submit(new ReadRequest<>(this, cancellable, parallel));
+		long start = System.nanoTime();
+		return record(submit(new ReadRequest<>(this, cancellable, parallel)), start, statistics.getReads());
+	}
+
+	/**
+	 * Run the given cancellable logic as a read request as soon as the non-cancellable logic of all previous write
+	 * requests is done. In contrast to {@link #runRead(Function1)}, the request does not wait for the cancellable logic
+	 * of the previous write requests, e.g. a build. The given logic must therefore not access state that is modified by
+	 * the cancellable logic of a write request. Subsequent write requests cancel the request and wait for it, just like
+	 * for any other read request.
+	 *
+	 * @since 2.39
+	 */
+	public synchronized <V> CompletableFuture<V> runPriorityRead(
+			Function1<? super CancelIndicator, ? extends V> cancellable) {
+		long start = System.nanoTime();
+		ReadRequest<V> request = new ReadRequest<>(this, cancellable, parallel);
+		addRequest(request);
+		lastNonCancellableDone.whenComplete((result, t) -> request.run());
+		return record(request.get(), start, statistics.getPriorityReads());
 	}
 
 	/**
@@ -77,7 +112,16 @@ public class RequestManager {
 	public synchronized <U, V> CompletableFuture<V> runWrite(
 			Function0<? extends U> nonCancellable,
 			Function2<? super CancelIndicator, ? super U, ? extends V> cancellable) {
-		return submit(new WriteRequest<>(this, nonCancellable, cancellable, cancel()));
+		long start = System.nanoTime();
+		WriteRequest<U, V> request = new WriteRequest<>(this, nonCancellable, cancellable, cancel());
+		lastNonCancellableDone = request.getNonCancellableDone();
+		return record(submit(request), start, statistics.getWrites());
+	}
+
+	private <V> CompletableFuture<V> record(CompletableFuture<V> result, long start,
+			RequestStatistics.Latency latency) {
+		result.whenComplete((value, t) -> latency.record(System.nanoTime() - start, result.isCancelled()));
+		return result;
 	}
 
 	/**
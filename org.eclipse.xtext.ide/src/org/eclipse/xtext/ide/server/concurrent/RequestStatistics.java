@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.inject.Singleton;
+
+/**
+ * Measures the latency of the requests that are handled by the {@link RequestManager}, i.e. the time from the
+ * submission of a request until its result is available. The numbers are accumulated until they are
+ * {@link #reset()}.
+ *
+ * @since 2.39
+ */
+@Singleton
+public class RequestStatistics {
+
+	/**
+	 * The accumulated latency of one kind of requests.
+	 */
+	public static class Latency {
+
+		private final AtomicLong count = new AtomicLong();
+
+		private final AtomicLong cancelled = new AtomicLong();
+
+		private final AtomicLong totalNanos = new AtomicLong();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		public void record(long nanos, boolean wasCancelled) {
+			count.incrementAndGet();
+			if (wasCancelled) {
+				cancelled.incrementAndGet();
+			}
+			totalNanos.addAndGet(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		public long getCount() {
+			return count.get();
+		}
+
+		public long getCancelled() {
+			return cancelled.get();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.get();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		/**
+		 * @return the average latency in milliseconds or {@code 0} if no request was recorded.
+		 */
+		public double getAverageMillis() {
+			long currentCount = count.get();
+			return currentCount == 0 ? 0 : (double) totalNanos.get() / currentCount / TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+		public void reset() {
+			count.set(0);
+			cancelled.set(0);
+			totalNanos.set(0);
+			maxNanos.set(0);
+		}
+
+		@Override
+		public String toString() {
+			return "[count=" + getCount() + ", cancelled=" + getCancelled() + ", averageMillis=" + getAverageMillis()
+					+ ", maxMillis=" + TimeUnit.NANOSECONDS.toMillis(getMaxNanos()) + "]";
+		}
+	}
+
+	private final Latency reads = new Latency();
+
+	private final Latency priorityReads = new Latency();
+
+	private final Latency writes = new Latency();
+
+	/**
+	 * @see RequestManager#runRead(org.eclipse.xtext.xbase.lib.Functions.Function1)
+	 */
+	public Latency getReads() {
+		return reads;
+	}
+
+	/**
+	 * @see RequestManager#runPriorityRead(org.eclipse.xtext.xbase.lib.Functions.Function1)
+	 */
+	public Latency getPriorityReads() {
+		return priorityReads;
+	}
+
+	/**
+	 * @see RequestManager#runWrite(org.eclipse.xtext.xbase.lib.Functions.Function0,
+	 *      org.eclipse.xtext.xbase.lib.Functions.Function2)
+	 */
+	public Latency getWrites() {
+		return writes;
+	}
+
+	public void reset() {
+		reads.reset();
+		priorityReads.reset();
+		writes.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "RequestStatistics [reads=" + reads + ", priorityReads=" + priorityReads + ", writes=" + writes + "]";
+	}
+}
@@ -28,6 +28,8 @@ public class WriteRequest<U, V> extends AbstractRequest<V> {
 
 	private final CompletableFuture<Void> allPreviousRequests;
 
+	private final CompletableFuture<Void> nonCancellableDone = new CompletableFuture<>();
+
 	public WriteRequest(RequestManager requestManager, Function0<? extends U> nonCancellable,
 			Function2<? super CancelIndicator, ? super U, ? extends V> cancellable,
 			CompletableFuture<Void> allPreviousRequests) {
@@ -47,7 +49,12 @@ public class WriteRequest<U, V> extends AbstractRequest<V> {
 			}
 		}
 		try {
-			U intermediateResult = this.nonCancellable.apply();
+			U intermediateResult;
+			try {
+				intermediateResult = this.nonCancellable.apply();
+			} finally {
+				nonCancellableDone.complete(null);
+			}
 			cancelIndicator.checkCanceled();
 			V writeResult = cancellable.apply(cancelIndicator, intermediateResult);
 			complete(writeResult);
@@ -56,6 +63,16 @@ public class WriteRequest<U, V> extends AbstractRequest<V> {
 		}
 	}
 	
+	/**
+	 * A future that is completed as soon as the non-cancellable logic of this request is done, no matter whether it
+	 * succeeded.
+	 *
+	 * @since 2.39
+	 */
+	protected CompletableFuture<Void> getNonCancellableDone() {
+		return nonCancellableDone;
+	}
+
 	@Override
 	protected Logger getLogger() {
 		return LOG;
@@ -10,7 +10,12 @@ package org.eclipse.xtext.ide.server.contentassist;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -34,6 +39,7 @@ import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.ReplaceRegion;
 import org.eclipse.xtext.util.TextRegion;
 import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Pair;
 
 import com.google.common.base.Strings;
 import com.google.inject.Inject;
@@ -65,6 +71,83 @@ public class ContentAssistService {
 	@Inject
 	private OperationCanceledManager operationCanceledManager;
 
+	/**
+	 * Passes the proposals to a delegate and reports the proposals that were accepted by the delegate in regular
+	 * intervals, together with their priority.
+	 * 
+	 * @since 2.39
+	 */
+	protected static class PartialResultAcceptor implements IIdeContentProposalAcceptor {
+
+		private final IdeContentProposalAcceptor delegate;
+
+		private final Consumer<List<Pair<Integer, ContentAssistEntry>>> consumer;
+
+		private final long intervalInNanos;
+
+		/**
+		 * The priorities of the accepted entries that were not reported yet.
+		 */
+		private final Map<ContentAssistEntry, Integer> unreported = new IdentityHashMap<>();
+
+		private long lastReport = System.nanoTime();
+
+		public PartialResultAcceptor(IdeContentProposalAcceptor delegate,
+				Consumer<List<Pair<Integer, ContentAssistEntry>>> consumer, long intervalInMillis) {
+			this.delegate = delegate;
+			this.consumer = consumer;
+			this.intervalInNanos = TimeUnit.MILLISECONDS.toNanos(intervalInMillis);
+		}
+
+		@Override
+		public void accept(ContentAssistEntry entry, int priority) {
+			delegate.accept(entry, priority);
+			if (entry != null) {
+				unreported.put(entry, priority);
+			}
+			if (System.nanoTime() - lastReport >= intervalInNanos) {
+				report();
+			}
+		}
+
+		@Override
+		public boolean canAcceptMoreProposals() {
+			return delegate.canAcceptMoreProposals();
+		}
+
+		@Override
+		public CancelIndicator getCancelIndicator() {
+			return delegate.getCancelIndicator();
+		}
+
+		@Override
+		public boolean didAcceptAllProposals() {
+			return delegate.didAcceptAllProposals();
+		}
+
+		/**
+		 * Reports the accepted entries that were not reported yet. Entries that were dropped by the delegate as
+		 * duplicates are not reported. Nothing is reported once the request is cancelled.
+		 */
+		public void report() {
+			lastReport = System.nanoTime();
+			if (unreported.isEmpty() || getCancelIndicator().isCanceled()) {
+				return;
+			}
+			List<Pair<Integer, ContentAssistEntry>> entries = new ArrayList<>(unreported.size());
+			for (ContentAssistEntry entry : delegate.getEntries()) {
+				Integer priority = unreported.remove(entry);
+				if (priority != null) {
+					entries.add(Pair.of(priority, entry));
+				}
+			}
+			unreported.clear();
+			if (!entries.isEmpty()) {
+				consumer.accept(entries);
+			}
+		}
+	}
+
 	public CompletionList createCompletionList(Document document, XtextResource resource, CompletionParams params,
 			CancelIndicator cancelIndicator) {
 		try {
@@ -74,15 +157,7 @@ public class ContentAssistService {
 			Position caretPosition = params.getPosition();
 			int caretOffset = document.getOffSet(caretPosition);
 			TextRegion position = new TextRegion(caretOffset, 0);
-			try {
-				createProposals(document.getContents(), position, caretOffset, resource, acceptor);
-				result.setIsIncomplete(!acceptor.didAcceptAllProposals());
-			} catch (Throwable t) {
-				result.setIsIncomplete(true);
-				if (!operationCanceledManager.isOperationCanceledException(t)) {
-					throw t;
-				}
-			}
+			result.setIsIncomplete(!createProposals(document, position, caretOffset, resource, acceptor));
 			int idx = 0;
 			for (ContentAssistEntry it : acceptor.getEntries()) {
 				CompletionItem item = toCompletionItem(it, caretOffset, caretPosition, document);
@@ -96,6 +171,82 @@ public class ContentAssistService {
 		}
 	}
 
+	/**
+	 * Computes the completion items and passes them in chunks to the given consumer while they are computed, at most
+	 * every {@link #getPartialResultInterval()} milliseconds. Together with the
+	 * {@link IdeContentProposalProvider#isDeferred(org.eclipse.xtext.AbstractElement) deferred} scope lookups, this
+	 * allows a client to show the keyword and local proposals before the global scopes are enumerated completely. If
+	 * the request is cancelled, the computation stops and no further items are reported.
+	 * 
+	 * @return the completion list without any items, since all of them are passed to the consumer.
+	 * @since 2.39
+	 */
+	public CompletionList createCompletionList(Document document, XtextResource resource, CompletionParams params,
+			CancelIndicator cancelIndicator, Consumer<List<CompletionItem>> partialResultConsumer) {
+		try {
+			CompletionList result = new CompletionList();
+			IdeContentProposalAcceptor acceptor = proposalAcceptorProvider.get();
+			acceptor.setCancelIndicator(cancelIndicator);
+			Position caretPosition = params.getPosition();
+			int caretOffset = document.getOffSet(caretPosition);
+			TextRegion position = new TextRegion(caretOffset, 0);
+			PartialResultAcceptor partialResultAcceptor = new PartialResultAcceptor(acceptor, (entries) -> {
+				List<CompletionItem> items = new ArrayList<>(entries.size());
+				for (Pair<Integer, ContentAssistEntry> it : entries) {
+					CompletionItem item = toCompletionItem(it.getValue(), caretOffset, caretPosition, document);
+					item.setSortText(getPartialResultSortText(it.getKey()));
+					items.add(item);
+				}
+				partialResultConsumer.accept(items);
+			}, getPartialResultInterval());
+			result.setIsIncomplete(!createProposals(document, position, caretOffset, resource, partialResultAcceptor));
+			if (partialResultAcceptor.getCancelIndicator().isCanceled()) {
+				return result;
+			}
+			partialResultAcceptor.report();
+			return result;
+		} catch (Throwable e) {
+			throw Exceptions.sneakyThrow(e);
+		}
+	}
+
+	/**
+	 * Creates the proposals and stops silently on cancellation.
+	 * 
+	 * @return whether all proposals were accepted.
+	 */
+	private boolean createProposals(Document document, TextRegion position, int caretOffset, XtextResource resource,
+			IIdeContentProposalAcceptor acceptor) {
+		try {
+			createProposals(document.getContents(), position, caretOffset, resource, acceptor);
+			return acceptor.didAcceptAllProposals();
+		} catch (Throwable t) {
+			if (!operationCanceledManager.isOperationCanceledException(t)) {
+				throw t;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * The interval in milliseconds in which the computed completion items are reported as partial results.
+	 * 
+	 * @since 2.39
+	 */
+	protected long getPartialResultInterval() {
+		return 50;
+	}
+
+	/**
+	 * The sort text of an item that is reported as partial result. Since the final position of the item is not known
+	 * yet, the sort text orders the items by descending priority.
+	 * 
+	 * @since 2.39
+	 */
+	protected String getPartialResultSortText(int priority) {
+		return Strings.padStart(Long.toString((long) Integer.MAX_VALUE - priority), 10, '0');
+	}
+
 	protected void createProposals(String document, TextRegion selection, int caretOffset, XtextResource resource,
 			IIdeContentProposalAcceptor acceptor) {
 		if (caretOffset > document.length()) {
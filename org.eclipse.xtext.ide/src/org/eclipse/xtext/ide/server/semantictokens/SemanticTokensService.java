@@ -13,14 +13,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokenModifiers;
 import org.eclipse.lsp4j.SemanticTokenTypes;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.ISemanticHighlightingCalculator;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.LightweightPosition;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.MergingHighlightedPositionAcceptor;
@@ -49,6 +58,34 @@ public class SemanticTokensService {
 	private final List<String> tokenTypes = new ArrayList<>();
 	private final List<String> tokenModifiers = new ArrayList<>();
 
+	/**
+	 * The last result that was computed for a document, i.e. the base of the next delta request.
+	 * 
+	 * @since 2.39
+	 */
+	protected static class PreviousResult {
+		private final String resultId;
+
+		private final List<Integer> data;
+
+		public PreviousResult(final String resultId, final List<Integer> data) {
+			this.resultId = resultId;
+			this.data = data;
+		}
+
+		public String getResultId() {
+			return resultId;
+		}
+
+		public List<Integer> getData() {
+			return data;
+		}
+	}
+
+	private final Map<URI, PreviousResult> previousResults = new ConcurrentHashMap<>();
+
+	private final AtomicLong resultIds = new AtomicLong();
+
 	protected SemanticTokensService() {
 		addTokenTypes();
 		addTokenModifiers();
@@ -125,6 +162,83 @@ public class SemanticTokensService {
 		if (document == null || resource == null) {
 			return new SemanticTokens(Collections.emptyList());
 		}
+		List<Integer> data = computeData(document, resource, null, cancelIndicator);
+		return new SemanticTokens(rememberResult(resource.getURI(), data, cancelIndicator), data);
+	}
+
+	/**
+	 * Semantic tokens full delta. Returns the edits that turn the previous result into the current one, if the previous
+	 * result is still known, or the full semantic tokens otherwise.
+	 *
+	 * @param document
+	 *            the document
+	 * @param resource
+	 *            the resource
+	 * @param params
+	 *            the parameters
+	 * @param cancelIndicator
+	 *            the cancel indicator
+	 * @return the semantic tokens or the delta to the previous result
+	 * 
+	 * @since 2.39
+	 */
+	public Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(final Document document,
+			final XtextResource resource, final SemanticTokensDeltaParams params,
+			final CancelIndicator cancelIndicator) {
+		if (document == null || resource == null) {
+			return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+		}
+		PreviousResult previous = previousResults.get(resource.getURI());
+		List<Integer> data = computeData(document, resource, null, cancelIndicator);
+		String resultId = rememberResult(resource.getURI(), data, cancelIndicator);
+		if (previous == null || !previous.getResultId().equals(params.getPreviousResultId())) {
+			return Either.forLeft(new SemanticTokens(resultId, data));
+		}
+		return Either.forRight(new SemanticTokensDelta(computeEdits(previous.getData(), data), resultId));
+	}
+
+	/**
+	 * Semantic tokens range. Only the tokens that overlap with the requested range are encoded.
+	 *
+	 * @param document
+	 *            the document
+	 * @param resource
+	 *            the resource
+	 * @param params
+	 *            the parameters
+	 * @param cancelIndicator
+	 *            the cancel indicator
+	 * @return the semantic tokens
+	 * 
+	 * @since 2.39
+	 */
+	public SemanticTokens semanticTokensRange(final Document document, final XtextResource resource,
+			final SemanticTokensRangeParams params, final CancelIndicator cancelIndicator) {
+		if (document == null || resource == null) {
+			return new SemanticTokens(Collections.emptyList());
+		}
+		return new SemanticTokens(computeData(document, resource, params.getRange(), cancelIndicator));
+	}
+
+	/**
+	 * Forget the previous result of the given document, e.g. because it was closed.
+	 * 
+	 * @since 2.39
+	 */
+	public void forgetPreviousResult(final URI uri) {
+		previousResults.remove(uri);
+	}
+
+	/**
+	 * Computes the encoded tokens of the given resource. If a range is given, only the tokens that overlap with it are
+	 * encoded.
+	 * 
+	 * @since 2.39
+	 */
+	protected List<Integer> computeData(final Document document, final XtextResource resource, final Range range,
+			final CancelIndicator cancelIndicator) {
+		int startOffset = range == null ? 0 : document.getOffSet(range.getStart());
+		int endOffset = range == null ? Integer.MAX_VALUE : document.getOffSet(range.getEnd());
 		List<Integer> data = new ArrayList<>();
 		int lastOffset = 0;
 		int lastLine = 0;
@@ -132,6 +246,12 @@ public class SemanticTokensService {
 			List<LightweightPosition> positions = getPositions(resource, cancelIndicator);
 			positions.sort(Comparator.comparing(LightweightPosition::getOffset));
 			for (LightweightPosition lightweightPosition : positions) {
+				if (lightweightPosition.getOffset() >= endOffset) {
+					break;
+				}
+				if (lightweightPosition.getOffset() + lightweightPosition.getLength() <= startOffset) {
+					continue;
+				}
 				Integer positionTokenType = getTokenType(lightweightPosition.getIds());
 				Integer positionTokenModifiers = getTokenModifiers(lightweightPosition.getIds());
 
@@ -155,7 +275,40 @@ public class SemanticTokensService {
 		} catch (IOException e) {
 			throw new WrappedException(e);
 		}
-		return new SemanticTokens(data); // resultId not set, no delta support
+		return data;
+	}
+
+	/**
+	 * Computes a single edit that replaces everything between the common prefix and the common suffix of the previous
+	 * and the current data. Since the tokens are encoded relative to each other, a local change in the document
+	 * usually results in a small edit.
+	 * 
+	 * @since 2.39
+	 */
+	protected List<SemanticTokensEdit> computeEdits(final List<Integer> previous, final List<Integer> current) {
+		int minSize = Math.min(previous.size(), current.size());
+		int prefix = 0;
+		while (prefix < minSize && previous.get(prefix).equals(current.get(prefix))) {
+			prefix++;
+		}
+		if (prefix == previous.size() && prefix == current.size()) {
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		while (suffix < minSize - prefix && previous.get(previous.size() - 1 - suffix)
+				.equals(current.get(current.size() - 1 - suffix))) {
+			suffix++;
+		}
+		List<Integer> data = new ArrayList<>(current.subList(prefix, current.size() - suffix));
+		return Collections.singletonList(new SemanticTokensEdit(prefix, previous.size() - prefix - suffix, data));
+	}
+
+	private String rememberResult(final URI uri, final List<Integer> data, final CancelIndicator cancelIndicator) {
+		String resultId = Long.toString(resultIds.incrementAndGet());
+		if (!cancelIndicator.isCanceled()) {
+			previousResults.put(uri, new PreviousResult(resultId, data));
+		}
+		return resultId;
 	}
 
 	public List<String> getTokenTypes() {
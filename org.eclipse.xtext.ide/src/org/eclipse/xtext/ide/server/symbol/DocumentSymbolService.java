@@ -88,6 +88,8 @@ public class DocumentSymbolService implements IDocumentSymbolService {
 	@Inject
 	private HierarchicalDocumentSymbolService hierarchicalDocumentSymbolService;
 
+	private volatile Boolean usingSymbolIndex;
+
 	/**
 	 * @since 2.21
 	 */
@@ -253,8 +255,47 @@ public class DocumentSymbolService implements IDocumentSymbolService {
 		return symbols;
 	}
 
+	/**
+	 * Accepts descriptions whose qualified name contains the query ignoring the case, or whose simple name matches the
+	 * query as camel case.
+	 * 
+	 * @see WorkspaceSymbolIndex
+	 */
 	protected boolean filter(IEObjectDescription description, String query) {
-		return description.getQualifiedName().toLowerCase().toString().contains(query.toLowerCase());
+		QualifiedName qualifiedName = description.getQualifiedName();
+		return qualifiedName.toLowerCase().toString().contains(query.toLowerCase())
+				|| qualifiedName.getSegmentCount() > 0
+						&& WorkspaceSymbolIndex.matchesCamelCase(qualifiedName.getLastSegment(), query);
+	}
+
+	/**
+	 * Whether the {@link WorkspaceSymbolIndex} may skip resources of this language for a workspace symbol query. The
+	 * index finds the resources that contain matches for the default {@link #filter(IEObjectDescription, String)}, so
+	 * it is not used if the filter or the {@link #getSymbols(IResourceDescription, String,
+	 * IReferenceFinder.IResourceAccess, CancelIndicator) symbols of a resource description} are customized.
+	 * 
+	 * @since 2.39
+	 */
+	public boolean isUsingSymbolIndex() {
+		Boolean result = usingSymbolIndex;
+		if (result == null) {
+			result = !isOverridden("filter", IEObjectDescription.class, String.class) && !isOverridden("getSymbols",
+					IResourceDescription.class, String.class, IReferenceFinder.IResourceAccess.class, CancelIndicator.class);
+			usingSymbolIndex = result;
+		}
+		return result;
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		for (Class<?> type = getClass(); type != DocumentSymbolService.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod(methodName, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not declared by this type
+			}
+		}
+		return false;
 	}
 
 	protected void createSymbol(IEObjectDescription description, IReferenceFinder.IResourceAccess resourceAccess,
@@ -0,0 +1,406 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import com.google.inject.Inject;
+
+/**
+ * An index of the names of the exported objects in the workspace that finds the resources that may contain matches
+ * for a workspace symbol query without walking all exported objects.
+ * <p>
+ * The index maps the distinct segments of the qualified names to the resources that export an object with that
+ * segment. Segments are found by their trigrams, so a query finds all resources with a qualified name that contains
+ * the query, and by the initials of their camel case humps, so a query like <code>NPE</code> finds
+ * <code>NullPointerException</code>.
+ * </p>
+ * The index is populated from the complete index data on the first query and is maintained incrementally from the
+ * build deltas afterwards.
+ *
+ * @since 2.39
+ */
+public class WorkspaceSymbolIndex {
+
+	private static final String DELIMITER = ".";
+
+	/**
+	 * The index is compacted if it contains at least this many removed resources and more removed than live ones.
+	 */
+	private static final int COMPACTION_THRESHOLD = 1000;
+
+	protected static class Segment {
+
+		private final String name;
+
+		private final String lowerCase;
+
+		private int[] resourceIds = new int[2];
+
+		private int size;
+
+		protected Segment(String name) {
+			this.name = name;
+			this.lowerCase = name.toLowerCase();
+		}
+
+		protected void add(int resourceId) {
+			// resource IDs are increasing, so the last one is the only possible duplicate
+			if (size > 0 && resourceIds[size - 1] == resourceId) {
+				return;
+			}
+			if (size == resourceIds.length) {
+				resourceIds = Arrays.copyOf(resourceIds, size * 2);
+			}
+			resourceIds[size++] = resourceId;
+		}
+
+		protected void addTo(BitSet result) {
+			for (int i = 0; i < size; i++) {
+				result.set(resourceIds[i]);
+			}
+		}
+
+		/**
+		 * Replaces the resource IDs with the given new ones, a negative new ID drops the resource.
+		 * 
+		 * @return whether the segment is still used by any resource.
+		 */
+		protected boolean remap(int[] newIds) {
+			int newSize = 0;
+			for (int i = 0; i < size; i++) {
+				int newId = newIds[resourceIds[i]];
+				if (newId >= 0) {
+					resourceIds[newSize++] = newId;
+				}
+			}
+			size = newSize;
+			return size > 0;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getLowerCase() {
+			return lowerCase;
+		}
+	}
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	private boolean initialized;
+
+	/**
+	 * The indexed resources by their ID, <code>null</code> for removed resources.
+	 */
+	private final List<URI> resources = new ArrayList<>();
+
+	private final Map<URI, Integer> resourceIds = new HashMap<>();
+
+	private final Map<String, Segment> segments = new HashMap<>();
+
+	private final Map<String, Set<Segment>> trigrams = new HashMap<>();
+
+	private final TreeMap<String, Set<Segment>> initials = new TreeMap<>();
+
+	/**
+	 * Returns the resources that may contain symbols that match the given query, in the order in which they were
+	 * indexed. The candidates match the default {@link DocumentSymbolService#filter(IEObjectDescription, String)
+	 * filter}.
+	 *
+	 * @param indexData
+	 *            the index data that is used to populate this index on the first query.
+	 */
+	public synchronized List<URI> findCandidates(String query, IResourceDescriptions indexData,
+			CancelIndicator cancelIndicator) {
+		if (!initialized) {
+			initialize(indexData, cancelIndicator);
+		}
+		BitSet candidates = new BitSet(resources.size());
+		collectCandidates(query, candidates);
+		List<URI> result = new ArrayList<>(candidates.cardinality());
+		for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+			URI uri = resources.get(id);
+			if (uri != null) {
+				result.add(uri);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Updates the index with the deltas of a build. Deltas are ignored as long as the index was not populated.
+	 */
+	public synchronized void update(List<IResourceDescription.Delta> deltas) {
+		if (!initialized) {
+			return;
+		}
+		for (IResourceDescription.Delta delta : deltas) {
+			remove(delta.getUri());
+			if (delta.getNew() != null) {
+				add(delta.getNew());
+			}
+		}
+		int removed = resources.size() - resourceIds.size();
+		if (removed >= COMPACTION_THRESHOLD && removed > resourceIds.size()) {
+			compact();
+		}
+	}
+
+	/**
+	 * Discards the index, so that it is populated again from the index data on the next query.
+	 */
+	public synchronized void invalidate() {
+		initialized = false;
+		clear();
+	}
+
+	protected void initialize(IResourceDescriptions indexData, CancelIndicator cancelIndicator) {
+		clear();
+		try {
+			for (IResourceDescription resourceDescription : indexData.getAllResourceDescriptions()) {
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				add(resourceDescription);
+			}
+			initialized = true;
+		} finally {
+			if (!initialized) {
+				clear();
+			}
+		}
+	}
+
+	protected void collectCandidates(String query, BitSet result) {
+		String part = getLongestPart(query.toLowerCase());
+		if (part.isEmpty()) {
+			result.set(0, resources.size());
+			return;
+		}
+		for (Segment segment : getSegmentsContaining(part)) {
+			segment.addTo(result);
+		}
+		List<String> queryHumps = getHumps(query);
+		if (queryHumps.size() > 1) {
+			String queryInitials = getInitials(queryHumps);
+			for (Set<Segment> matching : initials.subMap(queryInitials, queryInitials + Character.MAX_VALUE).values()) {
+				for (Segment segment : matching) {
+					segment.addTo(result);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Each part of the query between two delimiters is contained in a single segment of a matching qualified name, so
+	 * the longest part is the most selective one.
+	 */
+	protected String getLongestPart(String lowerCaseQuery) {
+		String result = "";
+		for (String part : lowerCaseQuery.split("\\" + DELIMITER)) {
+			if (part.length() > result.length()) {
+				result = part;
+			}
+		}
+		return result;
+	}
+
+	protected Iterable<Segment> getSegmentsContaining(String lowerCasePart) {
+		Collection<Segment> candidates = null;
+		if (lowerCasePart.length() >= 3) {
+			// the segments with the rarest trigram of the part
+			for (String trigram : getTrigrams(lowerCasePart)) {
+				Set<Segment> withTrigram = trigrams.get(trigram);
+				if (withTrigram == null) {
+					return Collections.emptyList();
+				}
+				if (candidates == null || withTrigram.size() < candidates.size()) {
+					candidates = withTrigram;
+				}
+			}
+		} else {
+			candidates = segments.values();
+		}
+		List<Segment> result = new ArrayList<>();
+		for (Segment segment : candidates) {
+			if (segment.getLowerCase().contains(lowerCasePart)) {
+				result.add(segment);
+			}
+		}
+		return result;
+	}
+
+	protected void add(IResourceDescription resourceDescription) {
+		int id = resources.size();
+		resources.add(resourceDescription.getURI());
+		resourceIds.put(resourceDescription.getURI(), id);
+		for (IEObjectDescription description : resourceDescription.getExportedObjects()) {
+			QualifiedName name = description.getQualifiedName();
+			if (name == null) {
+				continue;
+			}
+			for (String segmentName : name.getSegments()) {
+				Segment segment = segments.get(segmentName);
+				if (segment == null) {
+					segment = new Segment(segmentName);
+					segments.put(segmentName, segment);
+					register(segment);
+				}
+				segment.add(id);
+			}
+		}
+	}
+
+	protected void remove(URI uri) {
+		Integer id = resourceIds.remove(uri);
+		if (id != null) {
+			resources.set(id, null);
+		}
+	}
+
+	/**
+	 * Assigns new IDs to the live resources and drops the segments that are no longer used.
+	 */
+	protected void compact() {
+		int[] newIds = new int[resources.size()];
+		List<URI> live = new ArrayList<>(resourceIds.size());
+		for (int id = 0; id < resources.size(); id++) {
+			URI uri = resources.get(id);
+			if (uri == null) {
+				newIds[id] = -1;
+			} else {
+				newIds[id] = live.size();
+				resourceIds.put(uri, live.size());
+				live.add(uri);
+			}
+		}
+		resources.clear();
+		resources.addAll(live);
+		Iterator<Segment> iterator = segments.values().iterator();
+		while (iterator.hasNext()) {
+			Segment segment = iterator.next();
+			if (!segment.remap(newIds)) {
+				iterator.remove();
+				unregister(segment);
+			}
+		}
+	}
+
+	protected void register(Segment segment) {
+		for (String trigram : getTrigrams(segment.getLowerCase())) {
+			trigrams.computeIfAbsent(trigram, (it) -> new LinkedHashSet<>()).add(segment);
+		}
+		List<String> humps = getHumps(segment.getName());
+		if (humps.size() > 1) {
+			initials.computeIfAbsent(getInitials(humps), (it) -> new LinkedHashSet<>()).add(segment);
+		}
+	}
+
+	protected void unregister(Segment segment) {
+		for (String trigram : getTrigrams(segment.getLowerCase())) {
+			removeFrom(trigrams, trigram, segment);
+		}
+		List<String> humps = getHumps(segment.getName());
+		if (humps.size() > 1) {
+			removeFrom(initials, getInitials(humps), segment);
+		}
+	}
+
+	private void removeFrom(Map<String, Set<Segment>> map, String key, Segment segment) {
+		Set<Segment> set = map.get(key);
+		if (set != null && set.remove(segment) && set.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+	private void clear() {
+		resources.clear();
+		resourceIds.clear();
+		segments.clear();
+		trigrams.clear();
+		initials.clear();
+	}
+
+	protected static Set<String> getTrigrams(String lowerCase) {
+		Set<String> result = new LinkedHashSet<>();
+		for (int i = 0; i + 3 <= lowerCase.length(); i++) {
+			result.add(lowerCase.substring(i, i + 3));
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the given name into its camel case humps, e.g. <code>NullPointerException</code> into
+	 * <code>Null</code>, <code>Pointer</code> and <code>Exception</code>.
+	 */
+	protected static List<String> getHumps(String name) {
+		List<String> result = new ArrayList<>();
+		int start = 0;
+		for (int i = 1; i < name.length(); i++) {
+			if (Character.isUpperCase(name.charAt(i))) {
+				result.add(name.substring(start, i));
+				start = i;
+			}
+		}
+		if (start < name.length()) {
+			result.add(name.substring(start));
+		}
+		return result;
+	}
+
+	private static String getInitials(List<String> humps) {
+		StringBuilder result = new StringBuilder(humps.size());
+		for (String hump : humps) {
+			result.append(Character.toLowerCase(hump.charAt(0)));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Whether the query consists of at least two camel case humps that are prefixes of the leading humps of the
+	 * name, e.g. <code>NuPE</code> matches <code>NullPointerException</code>.
+	 */
+	public static boolean matchesCamelCase(String name, String query) {
+		List<String> queryHumps = getHumps(query);
+		if (queryHumps.size() < 2) {
+			return false;
+		}
+		List<String> nameHumps = getHumps(name);
+		if (queryHumps.size() > nameHumps.size()) {
+			return false;
+		}
+		for (int i = 0; i < queryHumps.size(); i++) {
+			String queryHump = queryHumps.get(i);
+			if (!nameHumps.get(i).regionMatches(true, 0, queryHump, 0, queryHump.length())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -8,17 +8,21 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.server.symbol;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
@@ -27,7 +31,7 @@ import com.google.inject.Singleton;
  * @since 2.11
  */
 @Singleton
-public class WorkspaceSymbolService {
+public class WorkspaceSymbolService implements ILanguageServerAccess.IBuildListener {
 
 	@Inject
 	private IResourceServiceProvider.Registry registry;
@@ -35,24 +39,97 @@ public class WorkspaceSymbolService {
 	@Inject
 	private OperationCanceledManager operationCanceledManager;
 
+	@Inject
+	private WorkspaceSymbolIndex symbolIndex;
+
+	/**
+	 * Computes the symbols of the resources that the {@link WorkspaceSymbolIndex} reports as candidates for the query.
+	 * If a language {@link DocumentSymbolService#isUsingSymbolIndex() does not use the index}, all resources are
+	 * searched. At most {@link #getMaxResults()} symbols are returned.
+	 */
 	public List<? extends WorkspaceSymbol> getSymbols(
 		String query,
 		IResourceAccess resourceAccess,
 		IResourceDescriptions indexData,
 		CancelIndicator cancelIndicator
 	) {
-		List<WorkspaceSymbol> result = new LinkedList<>();
-		for (IResourceDescription resourceDescription : indexData.getAllResourceDescriptions()) {
+		List<WorkspaceSymbol> result = new ArrayList<>();
+		int maxResults = getMaxResults();
+		Iterable<IResourceDescription> resourceDescriptions;
+		if (isSymbolIndexUsed()) {
+			resourceDescriptions = Iterables.filter(Iterables.transform(
+					symbolIndex.findCandidates(query, indexData, cancelIndicator), indexData::getResourceDescription),
+					Objects::nonNull);
+		} else {
+			resourceDescriptions = indexData.getAllResourceDescriptions();
+		}
+		for (IResourceDescription resourceDescription : resourceDescriptions) {
 			operationCanceledManager.checkCanceled(cancelIndicator);
-			IResourceServiceProvider resourceServiceProvider = registry.getResourceServiceProvider(resourceDescription.getURI());
+			IResourceServiceProvider resourceServiceProvider = registry
+					.getResourceServiceProvider(resourceDescription.getURI());
 			if (resourceServiceProvider != null) {
 				DocumentSymbolService documentSymbolService = resourceServiceProvider.get(DocumentSymbolService.class);
 				if (documentSymbolService != null) {
 					result.addAll(documentSymbolService.getSymbols(resourceDescription, query, resourceAccess, cancelIndicator));
 				}
 			}
+			if (result.size() >= maxResults) {
+				break;
+			}
+		}
+		operationCanceledManager.checkCanceled(cancelIndicator);
+		if (result.size() > maxResults) {
+			return new ArrayList<>(result.subList(0, maxResults));
 		}
 		return result;
 	}
 
+	/**
+	 * Whether the {@link WorkspaceSymbolIndex} can be used to find the candidates for a query, i.e. all languages
+	 * {@link DocumentSymbolService#isUsingSymbolIndex() use the index}.
+	 * 
+	 * @since 2.39
+	 */
+	protected boolean isSymbolIndexUsed() {
+		for (String fileExtension : registry.getExtensionToFactoryMap().keySet()) {
+			IResourceServiceProvider resourceServiceProvider = registry
+					.getResourceServiceProvider(URI.createURI("synth:///file." + fileExtension));
+			DocumentSymbolService documentSymbolService = resourceServiceProvider != null
+					? resourceServiceProvider.get(DocumentSymbolService.class)
+					: null;
+			if (documentSymbolService != null && !documentSymbolService.isUsingSymbolIndex()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Keeps the index of symbol names up to date.
+	 * 
+	 * @since 2.39
+	 */
+	@Override
+	public void afterBuild(List<IResourceDescription.Delta> deltas) {
+		symbolIndex.update(deltas);
+	}
+
+	/**
+	 * Discards the index of symbol names, e.g. because projects were added or removed.
+	 * 
+	 * @since 2.39
+	 */
+	public void invalidateIndex() {
+		symbolIndex.invalidate();
+	}
+
+	/**
+	 * The maximum number of symbols that are returned for a query.
+	 * 
+	 * @since 2.39
+	 */
+	protected int getMaxResults() {
+		return 1000;
+	}
+
 }
@@ -168,6 +168,10 @@ abstract class AbstractLanguageServerTest implements Endpoint {
 			return result
 		}
 
+		override synchronized <V> runPriorityRead((CancelIndicator)=>V request) {
+			return runRead(request)
+		}
+
 		override synchronized <U, V> runWrite(()=>U nonCancellable, (CancelIndicator, U)=>V request) {
 			val result = new CompletableFuture()
 			try {
@@ -169,6 +169,11 @@ public abstract class AbstractLanguageServerTest implements Endpoint {
       return result;
     }
 
+    @Override
+    public synchronized <V extends Object> CompletableFuture<V> runPriorityRead(final Function1<? super CancelIndicator, ? extends V> request) {
+      return this.runRead(request);
+    }
+
     @Override
     public synchronized <U extends Object, V extends Object> CompletableFuture<V> runWrite(final Function0<? extends U> nonCancellable, final Function2<? super CancelIndicator, ? super U, ? extends V> request) {
       final CompletableFuture<V> result = new CompletableFuture<V>();
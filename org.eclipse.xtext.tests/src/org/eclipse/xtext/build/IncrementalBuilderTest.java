@@ -7,6 +7,9 @@
  */
 package org.eclipse.xtext.build;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -312,4 +315,59 @@ public class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
 		Assert.assertEquals(1, deleted.size());
 		Assert.assertTrue(containsSuffix(deleted, "src-gen/A.txt"));
 	}
+
+	@Test
+	public void testParallelBuild() {
+		String sequential = buildAll(false);
+		IndexState sequentialState = indexState;
+		String parallel = buildAll(true);
+		Assert.assertEquals(sequential, parallel);
+		Assert.assertEquals(20, Iterables.size(indexState.getResourceDescriptions().getAllResourceDescriptions()));
+		for (int i = 0; i < 20; i++) {
+			URI source = uri("src/A" + i + ".indextestlanguage");
+			Assert.assertEquals(sequentialState.getFileMappings().getGenerated(source),
+					indexState.getFileMappings().getGenerated(source));
+			if (i % 7 == 3) {
+				Assert.assertTrue(generated.get(source).isEmpty());
+			} else {
+				Assert.assertTrue(containsSuffix(generated.get(source), "src-gen/A" + i + ".txt"));
+			}
+		}
+		Assert.assertTrue(parallel, parallel.contains("foo.Missing"));
+		build(newBuildRequest((BuildRequest it) -> {
+			it.setParallelBuild(true);
+			it.setDeletedFiles(Lists.newArrayList(delete(uri("src/A0.indextestlanguage"))));
+		}));
+		Assert.assertEquals(issues.toString(), 1, issues.size());
+		Assert.assertEquals(0, generated.size());
+		Assert.assertTrue(containsSuffix(deleted, "src-gen/A0.txt"));
+		Assert.assertTrue(indexState.getFileMappings().getGenerated(uri("src/A0.indextestlanguage")).isEmpty());
+	}
+
+	private String buildAll(boolean parallelBuild) {
+		indexState = new IndexState();
+		build(newBuildRequest((BuildRequest it) -> {
+			it.setParallelBuild(parallelBuild);
+			it.setParallelism(4);
+			List<URI> dirtyFiles = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				String target = i % 7 == 3 ? "foo.Missing" : "foo.A" + (i + 1) % 20;
+				String model = 
+						"foo {\n" +
+						"	entity A" + i + " { " + target + " reference }\n" +
+						"}\n";
+				dirtyFiles.add(newFile("src/A" + i + ".indextestlanguage", model));
+			}
+			it.setDirtyFiles(dirtyFiles);
+		}));
+		List<String> result = new ArrayList<>();
+		for (URI source : generated.keySet()) {
+			result.add("generated " + source + " -> " + generated.get(source));
+		}
+		for (Issue issue : issues) {
+			result.add("issue " + issue.getUriToProblem() + " " + issue.getMessage());
+		}
+		Collections.sort(result);
+		return String.join("\n", result);
+	}
 }
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Iterator;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.testing.AbstractXtextTests;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageRuntimeModule;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
+import org.eclipse.xtext.util.LineAndColumn;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class CompactNodeModelBuilderTest extends AbstractXtextTests {
+
+	public static class CompactSetup extends SimpleExpressionsTestLanguageStandaloneSetup {
+		@SuppressWarnings("unused")
+		@Override
+		public Injector createInjector() {
+			return Guice.createInjector(new SimpleExpressionsTestLanguageRuntimeModule() {
+				public Class<? extends NodeModelBuilder> bindNodeModelBuilder() {
+					return CompactNodeModelBuilder.class;
+				}
+			});
+		}
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(SimpleExpressionsTestLanguageStandaloneSetup.class);
+	}
+
+	@Override
+	protected void checkNodeModel(XtextResource resource) {
+		// the invariant checker is specific to the mutable node model, compact ones are compared against it instead
+		if (!(resource.getParseResult() instanceof CompactParseResult)) {
+			super.checkNodeModel(resource);
+		}
+	}
+
+	@Test
+	public void testSameStructure() throws Exception {
+		assertSameStructure("a");
+		assertSameStructure("(a + b) * c");
+		assertSameStructure("  a +\n b *\n\t(c + d) // comment\n");
+	}
+
+	@Test
+	public void testSameStructureWithSyntaxErrors() throws Exception {
+		assertSameStructure("a + b +");
+		assertSameStructure("(a + ) * ");
+		assertSameStructure("");
+	}
+
+	@Test
+	public void testParseResult() throws Exception {
+		String model = "(a + b) *\n c";
+		XtextResource resource = getCompactResource(model);
+		CompactParseResult parseResult = (CompactParseResult) resource.getParseResult();
+		ICompositeNode rootNode = parseResult.getRootNode();
+		assertSame(rootNode, parseResult.getRootNode());
+		assertSame(rootNode, rootNode.getFirstChild().getRootNode());
+		assertNull(rootNode.getParent());
+		assertFalse(rootNode.hasSiblings());
+		assertEquals(model, rootNode.getText());
+		EObject root = resource.getContents().get(0);
+		ICompositeNode node = NodeModelUtils.getNode(root);
+		assertSame(node, NodeModelUtils.getNode(root));
+		assertSame(root, node.getSemanticElement());
+		assertTrue(node.hasDirectSemanticElement());
+		assertSame(node, parseResult.getNodeModel().getNode(parseResult.getNodeModel().getNodeIndex(root)));
+		assertSame(root, NodeModelUtils.findActualSemanticObjectFor(NodeModelUtils.findLeafNodeAtOffset(rootNode, 8)));
+		ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, 11);
+		assertEquals("c", leaf.getText());
+		assertEquals(2, leaf.getStartLine());
+		assertEquals(LineAndColumn.from(2, 2), NodeModelUtils.getLineAndColumn(leaf, leaf.getOffset()));
+		assertNull(NodeModelUtils.findLeafNodeAtOffset(rootNode, model.length()));
+		assertEquals("Sequence", NodeModelUtils.getEntryParserRule(leaf).getName());
+	}
+
+	@Test
+	public void testMoveFromEmptiesTheMutableNodeModel() throws Exception {
+		String model = "(a + b) * c // comment";
+		XtextResource resource = getResourceFromStringAndExpect(model, UNKNOWN_EXPECTATION);
+		ICompositeNode rootNode = resource.getParseResult().getRootNode();
+		int size = Iterables.size(rootNode.getAsTreeIterable());
+		CompactNodeModel compactModel = CompactNodeModel.moveFrom(rootNode, new RemovingNodeModelBuilder()::remove);
+		assertEquals(size, compactModel.size());
+		assertEquals(model, compactModel.getRootNode().getText());
+		assertFalse(rootNode.hasChildren());
+	}
+
+	@Test
+	public void testMoveFromWithEmptyCompositeNodes() throws Exception {
+		ICompositeNode expected = newNodeModelWithEmptyCompositeNodes();
+		CompactNodeModel compactModel = CompactNodeModel.moveFrom(newNodeModelWithEmptyCompositeNodes(),
+				new RemovingNodeModelBuilder()::remove);
+		BidiTreeIterator<INode> expectedNodes = expected.getAsTreeIterable().iterator();
+		BidiTreeIterator<INode> actualNodes = compactModel.getRootNode().getAsTreeIterable().iterator();
+		while (expectedNodes.hasNext()) {
+			assertEquals(expectedNodes.next().getTotalTextRegion(), actualNodes.next().getTotalTextRegion());
+		}
+		assertFalse(actualNodes.hasNext());
+	}
+
+	/**
+	 * Creates the node model for "a b" with empty composite nodes between the leaf nodes and at the end.
+	 */
+	private ICompositeNode newNodeModelWithEmptyCompositeNodes() {
+		NodeModelBuilder builder = new RemovingNodeModelBuilder();
+		ICompositeNode root = builder.newRootNode("a b");
+		ICompositeNode first = builder.newCompositeNode(null, 0, root);
+		builder.newLeafNode(0, 1, null, false, null, first);
+		builder.newCompositeNode(null, 0, root);
+		ICompositeNode second = builder.newCompositeNode(null, 0, root);
+		builder.newLeafNode(1, 1, null, true, null, second);
+		builder.newCompositeNode(null, 0, second);
+		builder.newLeafNode(2, 1, null, false, null, second);
+		ICompositeNode last = builder.newCompositeNode(null, 0, root);
+		builder.newCompositeNode(null, 0, last);
+		return root;
+	}
+
+	@Test
+	public void testSyntaxErrors() throws Exception {
+		XtextResource resource = getCompactResource("a + b +");
+		assertTrue(resource.getParseResult().hasSyntaxErrors());
+		INode error = Iterables.getOnlyElement(resource.getParseResult().getSyntaxErrors());
+		assertNotNull(error.getSyntaxErrorMessage());
+		assertEquals(1, resource.getErrors().size());
+	}
+
+	@Test
+	public void testUpdateFallsBackToFullParse() throws Exception {
+		XtextResource resource = getCompactResource("(a + b) * c");
+		resource.update(1, 1, "x");
+		assertEquals("(x + b) * c", resource.getParseResult().getRootNode().getText());
+		assertTrue(resource.getParseResult() instanceof CompactParseResult);
+		assertFalse(resource.getParseResult().hasSyntaxErrors());
+		EObject root = resource.getContents().get(0);
+		assertSame(resource.getParseResult().getRootNode(), NodeModelUtils.getNode(root).getRootNode());
+		assertSame(root, NodeModelUtils.getNode(root).getSemanticElement());
+	}
+
+	private static class RemovingNodeModelBuilder extends NodeModelBuilder {
+		INode remove(ICompositeNode node) {
+			return removeFirstChild(node);
+		}
+	}
+
+	private XtextResource getCompactResource(String model) throws Exception {
+		with(CompactSetup.class);
+		return getResourceFromStringAndExpect(model, UNKNOWN_EXPECTATION);
+	}
+
+	private void assertSameStructure(String model) throws Exception {
+		with(SimpleExpressionsTestLanguageStandaloneSetup.class);
+		XtextResource expected = getResourceFromStringAndExpect(model, UNKNOWN_EXPECTATION);
+		XtextResource actual = getCompactResource(model);
+		assertTrue(actual.getParseResult() instanceof CompactParseResult);
+		assertEquals(Iterables.size(expected.getParseResult().getSyntaxErrors()),
+				Iterables.size(actual.getParseResult().getSyntaxErrors()));
+		Iterator<EObject> expectedObjects = expected.getAllContents();
+		Iterator<EObject> actualObjects = actual.getAllContents();
+		BidiTreeIterator<INode> expectedNodes = expected.getParseResult().getRootNode().getAsTreeIterable().iterator();
+		BidiTreeIterator<INode> actualNodes = actual.getParseResult().getRootNode().getAsTreeIterable().iterator();
+		while (expectedNodes.hasNext()) {
+			assertTrue(actualNodes.hasNext());
+			assertSameNode(expected, actual, expectedNodes.next(), actualNodes.next());
+		}
+		assertFalse(actualNodes.hasNext());
+		while (expectedObjects.hasNext()) {
+			EObject expectedObject = expectedObjects.next();
+			EObject actualObject = actualObjects.next();
+			ICompositeNode expectedNode = NodeModelUtils.getNode(expectedObject);
+			ICompositeNode actualNode = NodeModelUtils.getNode(actualObject);
+			assertEquals(expectedNode.getTotalTextRegion(), actualNode.getTotalTextRegion());
+			assertSame(actualObject, actualNode.getSemanticElement());
+		}
+		assertFalse(actualObjects.hasNext());
+	}
+
+	private void assertSameNode(XtextResource expectedResource, XtextResource actualResource, INode expected,
+			INode actual) {
+		String message = expected.toString();
+		assertEquals(message, expected instanceof ILeafNode, actual instanceof ILeafNode);
+		assertEquals(message, expected.getTotalTextRegion(), actual.getTotalTextRegion());
+		assertEquals(message, expected.getTextRegionWithLineInformation(), actual.getTextRegionWithLineInformation());
+		assertEquals(message, expected.getText(), actual.getText());
+		assertEquals(message, fragment(expected.getGrammarElement()), fragment(actual.getGrammarElement()));
+		assertEquals(message, expected.hasDirectSemanticElement(), actual.hasDirectSemanticElement());
+		assertEquals(message, expected.hasSiblings(), actual.hasSiblings());
+		assertEquals(message, expected.hasNextSibling(), actual.hasNextSibling());
+		assertEquals(message, expected.hasPreviousSibling(), actual.hasPreviousSibling());
+		assertEquals(message, expected.getSyntaxErrorMessage(), actual.getSyntaxErrorMessage());
+		assertEquals(message, expected.getTotalStartLine(), actual.getTotalStartLine());
+		assertEquals(message, expected.getTotalEndLine(), actual.getTotalEndLine());
+		assertEquals(message, fragment(expectedResource, expected.getSemanticElement()),
+				fragment(actualResource, actual.getSemanticElement()));
+		if (expected instanceof ICompositeNode) {
+			assertEquals(message, ((ICompositeNode) expected).getLookAhead(), ((ICompositeNode) actual).getLookAhead());
+			assertEquals(message, Iterables.size(((ICompositeNode) expected).getChildren()),
+					Iterables.size(((ICompositeNode) actual).getChildren()));
+			if (((ICompositeNode) actual).hasChildren()) {
+				assertSame(message, actual, ((ICompositeNode) actual).getLastChild().getParent());
+				assertSame(message, actual, ((ICompositeNode) actual).getFirstChild().getParent());
+			}
+		} else {
+			assertEquals(message, ((ILeafNode) expected).isHidden(), ((ILeafNode) actual).isHidden());
+		}
+		if (actual.hasNextSibling()) {
+			assertSame(message, actual, actual.getNextSibling().getPreviousSibling());
+		}
+	}
+
+	private String fragment(EObject grammarElement) {
+		return grammarElement == null ? null : EcoreUtil.getURI(grammarElement).toString();
+	}
+
+	private String fragment(XtextResource resource, EObject object) {
+		return object == null ? null : resource.getURIFragment(object);
+	}
+}
@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -22,10 +23,13 @@ import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
 import org.eclipse.xtext.nodemodel.impl.RootNode;
 import org.eclipse.xtext.parser.ParserTestHelper;
 import org.eclipse.xtext.parser.impl.PartialParsingHelper;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.ParseResultWrapper;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.ResourceStorageFacade;
+import org.eclipse.xtext.resource.persistence.ResourceStorageFormat;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageRuntimeModule;
@@ -35,6 +39,8 @@ import org.eclipse.xtext.testing.AbstractXtextTests;
 import org.eclipse.xtext.util.StringInputStream;
 import org.junit.Test;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -121,6 +127,46 @@ public class ResourceStorageTest extends AbstractXtextTests {
 		doTestWriteAndLoad(modelAsString);
 	}
 	
+	@Test
+	public void testWriteAndLoad_compact() throws Exception {
+		resourceStorageFacade.setStorageFormat(ResourceStorageFormat.COMPACT);
+		doTestWriteAndLoad("(d - e) / e * d // fasdf s");
+		doTestWriteAndLoad("a + b + c + d + e +");
+	}
+
+	@Test
+	public void testWriteAndLoad_compactCompressed() throws Exception {
+		resourceStorageFacade.setStorageFormat(ResourceStorageFormat.COMPACT_COMPRESSED);
+		doTestWriteAndLoad("(d - e) / e * d // fasdf s");
+		doTestWriteAndLoad("a + b + c + d + e +");
+	}
+
+	@Test
+	public void testLoadZipWithCompactFormat() throws Exception {
+		StorageAwareResource originalResource = parse("a + b * c");
+		ByteArrayOutputStream zip = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(zip).writeResource(originalResource);
+		resourceStorageFacade.setStorageFormat(ResourceStorageFormat.COMPACT);
+		ByteArrayOutputStream compact = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(compact).writeResource(originalResource);
+		assertFalse(Arrays.equals(zip.toByteArray(), compact.toByteArray()));
+		IResourceDescription expected = originalResource.getResourceServiceProvider().getResourceDescriptionManager()
+				.getResourceDescription(originalResource);
+		for (ByteArrayOutputStream bytes : Arrays.asList(zip, compact)) {
+			StorageAwareResource reloadedResource = (StorageAwareResource) originalResource.getResourceSet()
+					.createResource(URI.createURI("synthetic:/Test" + bytes.size() + "." + getCurrentFileExtension()));
+			reloadedResource.loadFromStorage(
+					resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bytes.toByteArray())));
+			assertTrue(new EqualityHelper().equals(originalResource.getContents().get(0),
+					reloadedResource.getContents().get(0)));
+			IResourceDescription actual = reloadedResource.getResourceDescription();
+			assertEquals(reloadedResource.getURI(), actual.getURI());
+			assertEquals(Lists.newArrayList(Iterables.transform(expected.getExportedObjects(), IEObjectDescription::getName)),
+					Lists.newArrayList(Iterables.transform(actual.getExportedObjects(), IEObjectDescription::getName)));
+			assertEquals(Lists.newArrayList(expected.getImportedNames()), Lists.newArrayList(actual.getImportedNames()));
+		}
+	}
+
 	void doTestWriteAndLoad(String modelAsString) throws Exception {
 		StorageAwareResource originalResource = parse(modelAsString);
 		DetachableParseResult originalParseResult = (DetachableParseResult) originalResource.getParseResult();
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.parser;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.parser.impl.PartialParsingStatistics;
+import org.eclipse.xtext.testlanguages.TestLanguageStandaloneSetup;
+import org.eclipse.xtext.testlanguages.testLang.AbstractElement;
+import org.eclipse.xtext.testlanguages.testLang.Model;
+import org.eclipse.xtext.util.EmfFormatter;
+import org.eclipse.xtext.util.ReplaceRegion;
+import org.junit.Test;
+
+public class PartialParsingElementRangeTest extends AbstractPartialParserTest {
+
+	private PartialParsingStatistics statistics;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(TestLanguageStandaloneSetup.class);
+		statistics = getPartialParser().getStatistics();
+		statistics.reset();
+	}
+
+	@Test public void testInsertElement() throws Exception {
+		String model = "choice a\nchoice b\nchoice c\nchoice d\n";
+		IParseResult parseResult = getParser().parse(new StringReader(model));
+		List<AbstractElement> oldElements = List.copyOf(((Model) parseResult.getRootASTElement()).getMultiFeature());
+		int offset = model.indexOf("choice c");
+		IParseResult reparsed = reparseAndCompare(parseResult, offset, 0, "choice x\n");
+		assertEquals(1, statistics.getElementRangeReparses());
+		assertEquals(0, statistics.getFullReparses());
+		assertEquals(1, statistics.getReusedElements());
+		List<AbstractElement> newElements = ((Model) reparsed.getRootASTElement()).getMultiFeature();
+		assertEquals(5, newElements.size());
+		assertSame(oldElements.get(0), newElements.get(0));
+		assertSame(parseResult.getRootASTElement(), reparsed.getRootASTElement());
+	}
+
+	@Test public void testChangeSpansElements() throws Exception {
+		String model = "choice z\nchoice a\nchoice b\nreducible 'c' 'd'\nchoice e\nchoice f\nchoice g";
+		IParseResult parseResult = getParser().parse(new StringReader(model));
+		EObject first = ((Model) parseResult.getRootASTElement()).getMultiFeature().get(0);
+		EObject last = ((Model) parseResult.getRootASTElement()).getMultiFeature().get(6);
+		int offset = model.indexOf("b\n");
+		reparseAndCompare(parseResult, offset, model.indexOf("'d'") - offset, "y choice optional z reducible 'c' ");
+		assertEquals(1, statistics.getElementRangeReparses());
+		assertSame(first, ((Model) parseResult.getRootASTElement()).getMultiFeature().get(0));
+		assertSame(last, ((Model) parseResult.getRootASTElement()).getMultiFeature().get(7));
+	}
+
+	@Test public void testAppendElement() throws Exception {
+		String model = "choice a\nchoice b\nchoice c\n";
+		IParseResult parseResult = getParser().parse(new StringReader(model));
+		reparseAndCompare(parseResult, model.length(), 0, "choice d\n");
+		assertEquals(0, statistics.getFullReparses());
+		assertTrue(statistics.getReusedCharacters() > 0);
+	}
+
+	@Test public void testSyntaxErrorFallsBackToFullReparse() throws Exception {
+		String model = "choice a\nchoice b\nchoice c\nchoice d";
+		IParseResult parseResult = getParser().parse(new StringReader(model));
+		reparseAndCompare(parseResult, model.indexOf("choice c"), 0, "choice ");
+		assertEquals(0, statistics.getElementRangeReparses());
+		assertEquals(1, statistics.getFullReparses());
+	}
+
+	@Test public void testAllDeletions() throws Exception {
+		String model = "choice a reducible 'b' 'c' choice optional d\nreducible 'e' choice f";
+		for (int i = 0; i < model.length() - 1; ++i) {
+			for (int j = 1; j + i < model.length(); ++j) {
+				reparseAndCompare(getParser().parse(new StringReader(model)), i, j, "");
+			}
+		}
+		assertTrue(statistics.getElementRangeReparses() > 0);
+	}
+
+	private IParseResult reparseAndCompare(IParseResult parseResult, int offset, int length, String text) throws Exception {
+		StringBuilder newModel = new StringBuilder(parseResult.getRootNode().getText());
+		new ReplaceRegion(offset, length, text).applyTo(newModel);
+		IParseResult expected = getParser().parse(new StringReader(newModel.toString()));
+		IParseResult actual = reparse(parseResult, offset, length, text);
+		String message = "Replaced " + offset + "/" + length + " with '" + text + "' in: " + newModel;
+		assertEquals(message, expected.hasSyntaxErrors(), actual.hasSyntaxErrors());
+		assertEquals(message, newModel.toString(), actual.getRootNode().getText());
+		assertSameStructure(expected.getRootNode(), actual.getRootNode());
+		assertSameLookAhead(expected.getRootNode(), actual.getRootNode());
+		if (expected.getRootASTElement() != null)
+			assertEquals(message, EmfFormatter.objToStr(expected.getRootASTElement()), EmfFormatter.objToStr(actual.getRootASTElement()));
+		return actual;
+	}
+
+	private void assertSameLookAhead(ICompositeNode expected, ICompositeNode actual) {
+		BidiTreeIterator<INode> expectedIter = expected.getAsTreeIterable().iterator();
+		BidiTreeIterator<INode> actualIter = actual.getAsTreeIterable().iterator();
+		while (expectedIter.hasNext()) {
+			INode expectedNext = expectedIter.next();
+			INode actualNext = actualIter.next();
+			if (expectedNext instanceof ICompositeNode) {
+				assertEquals(((ICompositeNode) expectedNext).getLookAhead(), ((ICompositeNode) actualNext).getLookAhead());
+			}
+			assertEquals(expectedNext.hasDirectSemanticElement(), actualNext.hasDirectSemanticElement());
+		}
+	}
+}
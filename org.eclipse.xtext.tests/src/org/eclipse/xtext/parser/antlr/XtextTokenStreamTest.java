@@ -8,9 +8,15 @@
  *******************************************************************************/
 package org.eclipse.xtext.parser.antlr;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
 import org.antlr.runtime.TokenSource;
+import org.eclipse.xtext.testlanguages.parser.antlr.internal.InternalSimpleExpressionsTestLanguageLexer;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -77,6 +83,63 @@ public class XtextTokenStreamTest extends Assert implements TokenSource {
 		}
 	}
 
+	@Test
+	public void testCompactTokensMatchLexerTokens() {
+		String model = "a + (b * c)\n\t// comment\n  d 'unterminated";
+		List<Token> expected = new ArrayList<>();
+		InternalSimpleExpressionsTestLanguageLexer lexer = new InternalSimpleExpressionsTestLanguageLexer(new ANTLRStringStream(model));
+		for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+			expected.add(token);
+		}
+		XtextTokenStream stream = createSimpleExpressionsStream(model);
+		assertEquals(InternalSimpleExpressionsTestLanguageLexer.RULE_ID, stream.LA(1));
+		assertEquals(expected.size(), stream.size());
+		assertEquals(model, stream.toString(0, stream.size() - 1));
+		for (int i = 0; i < expected.size(); i++) {
+			CommonToken expectedToken = (CommonToken) expected.get(i);
+			assertEquals(expectedToken.getType(), stream.getTokenType(i));
+			assertEquals(expectedToken.getStartIndex(), stream.getTokenStartIndex(i));
+			assertEquals(expectedToken.getStopIndex(), stream.getTokenStopIndex(i));
+			CommonToken actualToken = (CommonToken) stream.get(i);
+			assertSame(actualToken, stream.get(i));
+			assertEquals(i, actualToken.getTokenIndex());
+			assertEquals(expectedToken.getText(), actualToken.getText());
+			assertEquals(expectedToken.getLine(), actualToken.getLine());
+			assertEquals(expectedToken.getCharPositionInLine(), actualToken.getCharPositionInLine());
+		}
+		Token invalidToken = stream.get(stream.size() - 1);
+		assertEquals(Token.INVALID_TOKEN_TYPE, invalidToken.getType());
+		assertNotNull(stream.getLexerErrorMessage(invalidToken));
+	}
+
+	@Test
+	public void testHiddenTokensAreNotMaterialized() {
+		XtextTokenStream stream = createSimpleExpressionsStream("a  +  b\n*\tc");
+		List<Integer> visibleTypes = new ArrayList<>();
+		while (stream.LA(1) != Token.EOF) {
+			visibleTypes.add(stream.LA(1));
+			stream.consume();
+		}
+		assertEquals(5, visibleTypes.size());
+		CompactTokenList tokens = (CompactTokenList) stream.getTokens();
+		for (int i = 0; i < tokens.size(); i++) {
+			assertFalse(tokens.isMaterialized(i));
+			if (tokens.getType(i) == InternalSimpleExpressionsTestLanguageLexer.RULE_WS) {
+				assertEquals(Token.HIDDEN_CHANNEL, stream.getTokenChannel(i));
+			} else {
+				assertEquals(Token.DEFAULT_CHANNEL, stream.getTokenChannel(i));
+			}
+		}
+	}
+
+	private XtextTokenStream createSimpleExpressionsStream(String model) {
+		InternalSimpleExpressionsTestLanguageLexer lexer = new InternalSimpleExpressionsTestLanguageLexer(new ANTLRStringStream(model));
+		XtextTokenStream result = new XtextTokenStream(lexer,
+				() -> Collections.singletonMap(InternalSimpleExpressionsTestLanguageLexer.RULE_WS, "RULE_WS"));
+		result.setInitialHiddenTokens("RULE_WS");
+		return result;
+	}
+
 	@Override
 	public Token nextToken() {
 		if (tokenCount == 0)
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.clustering;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+public class AdaptiveResourceClusteringPolicyTest {
+
+	private AdaptiveResourceClusteringPolicy policy;
+
+	private ResourceSet resourceSet;
+
+	@Before
+	public void setUp() {
+		policy = Guice.createInjector().getInstance(AdaptiveResourceClusteringPolicy.class);
+		resourceSet = new ResourceSetImpl();
+	}
+
+	@Test
+	public void testCappedByRetainedSize() {
+		policy.setMinimumClusterSize(2);
+		policy.setMaximumPercentRetainedMemory(0);
+		addResource("a");
+		Assert.assertTrue(policy.continueProcessing(resourceSet, null, 1));
+		addResource("b");
+		Assert.assertFalse(policy.continueProcessing(resourceSet, null, 2));
+		Assert.assertTrue(policy.continueProcessing(resourceSet, uri("b"), 2));
+		Assert.assertEquals(1, policy.getStatistics().getCappedByRetainedSize());
+		Assert.assertTrue(policy.getStatistics().getPeakRetainedSize() > 0);
+
+		policy.setMaximumPercentRetainedMemory(100);
+		Assert.assertTrue(policy.continueProcessing(resourceSet, null, 2));
+	}
+
+	@Test
+	public void testEvictUnreferencedResources() {
+		Resource a = addResource("a");
+		Resource b = addResource("b");
+		Resource c = addResource("c");
+		Resource d = addResource("d");
+		policy.continueProcessing(resourceSet, null, 4);
+		ResourceDescriptionsData index = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("p", "b"),
+				newDescription("d", "c")));
+		List<URI> evicted = policy.evict(resourceSet, Arrays.asList(uri("p"), uri("d")), index);
+		Assert.assertEquals(Arrays.asList(uri("a")), evicted);
+		Assert.assertEquals(Arrays.asList(b, c, d), resourceSet.getResources());
+		Assert.assertFalse(a.isLoaded());
+		Assert.assertTrue(b.isLoaded());
+
+		AdaptiveResourceClusteringPolicy.Statistics statistics = policy.getStatistics();
+		Assert.assertEquals(1, statistics.getClusterCount());
+		Assert.assertEquals(4, statistics.getLargestCluster());
+		Assert.assertEquals(1, statistics.getEvictedResources());
+		Assert.assertEquals(3, statistics.getKeptResources());
+	}
+
+	@Test
+	public void testEvictAll() {
+		addResource("a");
+		addResource("b");
+		ResourceDescriptionsData.ResourceSetAdapter.installResourceDescriptionsData(resourceSet,
+				new ResourceDescriptionsData(Arrays.asList(newDescription("p", "a"))));
+		Assert.assertEquals(Arrays.asList(uri("b")), policy.evict(resourceSet, Arrays.asList(uri("p")), null));
+		Assert.assertEquals(Arrays.asList(uri("a")), policy.evict(resourceSet, Arrays.asList(uri("q")), null));
+		Assert.assertTrue(resourceSet.getResources().isEmpty());
+	}
+
+	private Resource addResource(String name) {
+		Resource result = new ResourceImpl(uri(name));
+		result.getContents().add(EcoreFactory.eINSTANCE.createEClass());
+		resourceSet.getResources().add(result);
+		return result;
+	}
+
+	private URI uri(String name) {
+		return URI.createURI("file:/" + name + ".ext");
+	}
+
+	private SerializableResourceDescription newDescription(String name, String... targets) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(uri(name));
+		result.setDescriptions(new ArrayList<>());
+		List<SerializableReferenceDescription> references = new ArrayList<>();
+		for (String target : targets) {
+			SerializableReferenceDescription reference = new SerializableReferenceDescription();
+			reference.setSourceEObjectUri(uri(name).appendFragment("/0"));
+			reference.setTargetEObjectUri(uri(target).appendFragment("/0"));
+			reference.setEReference(EcorePackage.Literals.ECLASS__ESUPER_TYPES);
+			reference.setIndexInList(-1);
+			references.add(reference);
+		}
+		result.setReferences(references);
+		return result;
+	}
+}
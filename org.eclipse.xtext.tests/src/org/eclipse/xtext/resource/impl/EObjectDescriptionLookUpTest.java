@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import static org.eclipse.emf.ecore.EcorePackage.Literals.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class EObjectDescriptionLookUpTest {
+
+	@Test
+	public void testExportedObjectsByType() {
+		IEObjectDescription eClass = newDescription("a", EcoreFactory.eINSTANCE.createEClass());
+		IEObjectDescription eDataType = newDescription("b", EcoreFactory.eINSTANCE.createEDataType());
+		IEObjectDescription eEnum = newDescription("c", EcoreFactory.eINSTANCE.createEEnum());
+		IEObjectDescription eReference = newDescription("d", EcoreFactory.eINSTANCE.createEReference());
+		EObjectDescriptionLookUp lookUp = new EObjectDescriptionLookUp(Lists.newArrayList(eClass, eDataType, eEnum, eReference));
+		Assert.assertEquals(Lists.newArrayList(eClass, eDataType, eEnum), Lists.newArrayList(lookUp.getExportedObjectsByType(ECLASSIFIER)));
+		Assert.assertEquals(Lists.newArrayList(eDataType, eEnum), Lists.newArrayList(lookUp.getExportedObjectsByType(EDATA_TYPE)));
+		Assert.assertEquals(Lists.newArrayList(eClass, eDataType, eEnum, eReference), Lists.newArrayList(lookUp.getExportedObjectsByType(EOBJECT)));
+		Assert.assertTrue(Lists.newArrayList(lookUp.getExportedObjectsByType(EPACKAGE)).isEmpty());
+		Assert.assertTrue(Lists.newArrayList(lookUp.getExportedObjectsByType(null)).isEmpty());
+		Assert.assertSame(lookUp.getExportedObjectsByType(ECLASSIFIER), lookUp.getExportedObjectsByType(ECLASSIFIER));
+	}
+
+	@Test
+	public void testTypesMatchingAllDescriptionsShareTheList() {
+		List<IEObjectDescription> descriptions = Lists.newArrayList(
+				newDescription("a", EcoreFactory.eINSTANCE.createEClass()),
+				newDescription("b", EcoreFactory.eINSTANCE.createEEnum()));
+		EObjectDescriptionLookUp lookUp = new EObjectDescriptionLookUp(descriptions);
+		Assert.assertSame(descriptions, lookUp.getExportedObjectsByType(ECLASSIFIER));
+		Assert.assertSame(descriptions, lookUp.getExportedObjectsByType(ENAMED_ELEMENT));
+		Assert.assertSame(descriptions, lookUp.getExportedObjectsByType(EOBJECT));
+	}
+
+	@Test
+	public void testSetExportedObjectsResetsIndex() {
+		IEObjectDescription eClass = newDescription("a", EcoreFactory.eINSTANCE.createEClass());
+		IEObjectDescription eEnum = newDescription("b", EcoreFactory.eINSTANCE.createEEnum());
+		EObjectDescriptionLookUp lookUp = new EObjectDescriptionLookUp(Lists.newArrayList(eClass));
+		Assert.assertEquals(Lists.newArrayList(eClass), Lists.newArrayList(lookUp.getExportedObjectsByType(ECLASSIFIER)));
+		Assert.assertEquals(Lists.newArrayList(eClass), Lists.newArrayList(lookUp.getExportedObjects(ECLASSIFIER, QualifiedName.create("A"), true)));
+		lookUp.setExportedObjects(Lists.newArrayList(eEnum));
+		Assert.assertEquals(Lists.newArrayList(eEnum), Lists.newArrayList(lookUp.getExportedObjectsByType(ECLASSIFIER)));
+		Assert.assertTrue(Lists.newArrayList(lookUp.getExportedObjects(ECLASSIFIER, QualifiedName.create("a"), false)).isEmpty());
+	}
+
+	@Test
+	public void testExportedObjectsByName() {
+		List<IEObjectDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			descriptions.add(newDescription("name" + i, EcoreFactory.eINSTANCE.createEClass()));
+			descriptions.add(newDescription("Name" + i, EcoreFactory.eINSTANCE.createEEnum()));
+		}
+		EObjectDescriptionLookUp lookUp = new EObjectDescriptionLookUp(descriptions);
+		QualifiedName name = QualifiedName.create("name42");
+		Assert.assertEquals(Lists.newArrayList(descriptions.get(84), descriptions.get(85)),
+				Lists.newArrayList(lookUp.getExportedObjects(ECLASSIFIER, name, true)));
+		Assert.assertEquals(Lists.newArrayList(descriptions.get(84)),
+				Lists.newArrayList(lookUp.getExportedObjects(ECLASSIFIER, name, false)));
+		Assert.assertEquals(Lists.newArrayList(descriptions.get(85)),
+				Lists.newArrayList(lookUp.getExportedObjects(EENUM, name, true)));
+	}
+
+	private IEObjectDescription newDescription(String name, EObject object) {
+		return EObjectDescription.create(QualifiedName.create(name), object);
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PersistentHashMapTest {
+
+	/**
+	 * A key with a configurable hash code to enforce collisions.
+	 */
+	private static class Key {
+		final int id;
+
+		final int hash;
+
+		Key(int id, int hash) {
+			this.id = id;
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && ((Key) obj).id == id;
+		}
+
+		@Override
+		public String toString() {
+			return id + "#" + hash;
+		}
+	}
+
+	@Test
+	public void testPutAndRemove() {
+		PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+		map = map.put("a", 1).put("b", 2).put("a", 3);
+		Assert.assertEquals(2, map.size());
+		Assert.assertEquals(Integer.valueOf(3), map.get("a"));
+		Assert.assertEquals(Integer.valueOf(2), map.get("b"));
+		Assert.assertNull(map.get("c"));
+		Assert.assertSame(map, map.remove("c"));
+		map = map.remove("a");
+		Assert.assertEquals(1, map.size());
+		Assert.assertFalse(map.containsKey("a"));
+		Assert.assertTrue(map.keySet().contains("b"));
+		Assert.assertTrue(map.remove("b").isEmpty());
+	}
+
+	@Test
+	public void testModificationsDoNotChangeTheOriginal() {
+		PersistentHashMap<Integer, Integer> original = PersistentHashMap.empty();
+		for (int i = 0; i < 1000; i++) {
+			original = original.put(i, i);
+		}
+		PersistentHashMap<Integer, Integer> modified = original.put(1000, 1000).remove(0).put(1, -1);
+		Assert.assertEquals(1000, original.size());
+		Assert.assertEquals(Integer.valueOf(0), original.get(0));
+		Assert.assertEquals(Integer.valueOf(1), original.get(1));
+		Assert.assertNull(original.get(1000));
+		Assert.assertEquals(1000, modified.size());
+		Assert.assertNull(modified.get(0));
+		Assert.assertEquals(Integer.valueOf(-1), modified.get(1));
+	}
+
+	@Test
+	public void testTransientDoesNotChangeTheOriginal() {
+		PersistentHashMap<Integer, Integer> original = PersistentHashMap.empty();
+		for (int i = 0; i < 100; i++) {
+			original = original.put(i, i);
+		}
+		PersistentHashMap.Transient<Integer, Integer> editor = original.asTransient();
+		for (int i = 0; i < 100; i += 2) {
+			editor.remove(i);
+			editor.put(i + 1, -i);
+		}
+		PersistentHashMap<Integer, Integer> modified = editor.persistent();
+		Assert.assertEquals(50, modified.size());
+		Assert.assertEquals(100, original.size());
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(Integer.valueOf(i), original.get(i));
+		}
+		try {
+			editor.put(1, 1);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(42);
+		for (int hashRange : new int[] { 4, 1000, Integer.MAX_VALUE }) {
+			Map<Key, Integer> expected = new HashMap<>();
+			PersistentHashMap<Key, Integer> persistent = PersistentHashMap.empty();
+			PersistentHashMap.Transient<Key, Integer> editor = PersistentHashMap.<Key, Integer> empty().asTransient();
+			for (int i = 0; i < 20000; i++) {
+				int id = random.nextInt(2000);
+				Key key = new Key(id, hashRange == Integer.MAX_VALUE ? Integer.rotateLeft(id * 0x9E3779B9, 7) : id % hashRange);
+				if (random.nextInt(3) == 0) {
+					expected.remove(key);
+					persistent = persistent.remove(key);
+					editor.remove(key);
+				} else {
+					expected.put(key, i);
+					persistent = persistent.put(key, i);
+					editor.put(key, i);
+				}
+			}
+			assertEqualMaps(expected, persistent);
+			assertEqualMaps(expected, editor.persistent());
+		}
+	}
+
+	private <K, V> void assertEqualMaps(Map<K, V> expected, PersistentHashMap<K, V> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		for (Map.Entry<K, V> entry : expected.entrySet()) {
+			Assert.assertEquals(entry.getValue(), actual.get(entry.getKey()));
+		}
+		Map<K, V> iterated = new HashMap<>();
+		for (Map.Entry<K, V> entry : actual) {
+			Assert.assertNull(iterated.put(entry.getKey(), entry.getValue()));
+		}
+		Assert.assertEquals(expected, iterated);
+		Assert.assertEquals(expected.keySet(), actual.keySet());
+	}
+}
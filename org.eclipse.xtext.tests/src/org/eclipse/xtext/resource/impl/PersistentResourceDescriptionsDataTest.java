@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class PersistentResourceDescriptionsDataTest {
+
+	@Test
+	public void testLookup() {
+		ResourceDescriptionsData data = new PersistentResourceDescriptionsData(Arrays.asList(
+				newDescription("file:/a.ext", "A", "Shared"),
+				newDescription("file:/b.ext", "B", "shared")));
+		assertNames(data, QualifiedName.create("a"), true, "A");
+		assertNames(data, QualifiedName.create("a"), false);
+		assertNames(data, QualifiedName.create("SHARED"), true, "Shared", "shared");
+		assertNames(data, QualifiedName.create("shared"), false, "shared");
+		Assert.assertEquals(Sets.newHashSet(URI.createURI("file:/a.ext"), URI.createURI("file:/b.ext")), data.getAllURIs());
+		Assert.assertNotNull(data.getResourceDescription(URI.createURI("file:/a.ext")));
+		Assert.assertFalse(data.isEmpty());
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		ResourceDescriptionsData data = new PersistentResourceDescriptionsData();
+		Assert.assertTrue(data.isEmpty());
+		data.addDescription(URI.createURI("file:/a.ext"), newDescription("file:/a.ext", "A", "Shared"));
+		data.addDescription(URI.createURI("file:/b.ext"), newDescription("file:/b.ext", "Shared"));
+		data.addDescription(URI.createURI("file:/c.ext"), newDescription("file:/c.ext", "Shared"));
+		assertNames(data, QualifiedName.create("Shared"), false, "Shared", "Shared", "Shared");
+
+		data.addDescription(URI.createURI("file:/a.ext"), newDescription("file:/a.ext", "A2"));
+		assertNames(data, QualifiedName.create("a"), true);
+		assertNames(data, QualifiedName.create("a2"), true, "A2");
+		assertNames(data, QualifiedName.create("Shared"), false, "Shared", "Shared");
+
+		data.removeDescription(URI.createURI("file:/b.ext"));
+		data.removeDescription(URI.createURI("file:/unknown.ext"));
+		assertNames(data, QualifiedName.create("Shared"), false, "Shared");
+		Assert.assertEquals(2, data.getAllURIs().size());
+		Assert.assertNull(data.getResourceDescription(URI.createURI("file:/b.ext")));
+	}
+
+	@Test
+	public void testCopyIsIsolated() {
+		ResourceDescriptionsData data = new PersistentResourceDescriptionsData();
+		for (int i = 0; i < 100; i++) {
+			data.addDescription(URI.createURI("file:/" + i + ".ext"), newDescription("file:/" + i + ".ext", "E" + i, "Shared"));
+		}
+		ResourceDescriptionsData copy = data.copy();
+		copy.removeDescription(URI.createURI("file:/0.ext"));
+		copy.addDescription(URI.createURI("file:/100.ext"), newDescription("file:/100.ext", "E100"));
+		data.addDescription(URI.createURI("file:/1.ext"), newDescription("file:/1.ext", "Other"));
+
+		Assert.assertEquals(100, data.getAllURIs().size());
+		assertNames(data, QualifiedName.create("E0"), false, "E0");
+		assertNames(data, QualifiedName.create("E1"), false);
+		assertNames(data, QualifiedName.create("E100"), false);
+		Assert.assertEquals(99, size(data.getExportedObjects(EcorePackage.Literals.ECLASS, QualifiedName.create("Shared"), false)));
+
+		Assert.assertEquals(100, copy.getAllURIs().size());
+		assertNames(copy, QualifiedName.create("E0"), false);
+		assertNames(copy, QualifiedName.create("E1"), false, "E1");
+		assertNames(copy, QualifiedName.create("E100"), false, "E100");
+		Assert.assertEquals(99, size(copy.getExportedObjects(EcorePackage.Literals.ECLASS, QualifiedName.create("Shared"), false)));
+	}
+
+	@Test
+	public void testSameContentsAsResourceDescriptionsData() {
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			descriptions.add(newDescription("file:/" + i + ".ext", "E" + i, "Group" + (i % 7)));
+		}
+		ResourceDescriptionsData expected = new ResourceDescriptionsData(descriptions);
+		ResourceDescriptionsData actual = new PersistentResourceDescriptionsData(descriptions);
+		Assert.assertEquals(expected.getAllURIs(), actual.getAllURIs());
+		Assert.assertEquals(names(expected.getExportedObjects()), names(actual.getExportedObjects()));
+		for (int i = 0; i < 7; i++) {
+			QualifiedName name = QualifiedName.create("group" + i);
+			Assert.assertEquals(names(expected.getExportedObjects(EcorePackage.Literals.ECLASS, name, true)),
+					names(actual.getExportedObjects(EcorePackage.Literals.ECLASS, name, true)));
+		}
+	}
+
+	private void assertNames(ResourceDescriptionsData data, QualifiedName name, boolean ignoreCase, String... expected) {
+		List<String> names = new ArrayList<>();
+		for (IEObjectDescription object : data.getExportedObjects(EcorePackage.Literals.ECLASS, name, ignoreCase)) {
+			names.add(object.getName().toString());
+		}
+		names.sort(null);
+		Assert.assertEquals(Arrays.asList(expected), names);
+	}
+
+	private Set<String> names(Iterable<IEObjectDescription> objects) {
+		Set<String> result = new TreeSet<>();
+		for (IEObjectDescription object : objects) {
+			result.add(object.getEObjectURI().toString());
+		}
+		return result;
+	}
+
+	private int size(Iterable<?> iterable) {
+		int result = 0;
+		for (@SuppressWarnings("unused") Object o : iterable) {
+			result++;
+		}
+		return result;
+	}
+
+	private SerializableResourceDescription newDescription(String uri, String... names) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(URI.createURI(uri));
+		List<SerializableEObjectDescription> objects = new ArrayList<>();
+		for (String name : names) {
+			SerializableEObjectDescription object = new SerializableEObjectDescription();
+			object.setEObjectURI(result.getURI().appendFragment(name));
+			object.setQualifiedName(QualifiedName.create(name.split("\\.")));
+			object.setEClass(EcorePackage.Literals.ECLASS);
+			object.setUserData(new HashMap<>());
+			objects.add(object);
+		}
+		result.setDescriptions(objects);
+		return result;
+	}
+}
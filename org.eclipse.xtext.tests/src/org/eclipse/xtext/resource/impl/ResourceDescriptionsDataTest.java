@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class ResourceDescriptionsDataTest {
+
+	@Test
+	public void testReferencingResources() {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("a", "b", "c"),
+				newDescription("b", "c", "b"),
+				newDescription("c")));
+		Assert.assertEquals(Collections.emptySet(), data.getReferencingResourceURIs(uri("a")));
+		Assert.assertEquals(Sets.newHashSet(uri("a")), data.getReferencingResourceURIs(uri("b")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), data.getReferencingResourceURIs(uri("c")));
+	}
+
+	@Test
+	public void testIncrementalUpdate() {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("a", "c"),
+				newDescription("b", "c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), data.getReferencingResourceURIs(uri("c")));
+		data.addDescription(uri("a"), newDescription("a", "b"));
+		data.addDescription(uri("d"), newDescription("d", "c"));
+		data.removeDescription(uri("b"));
+		Assert.assertEquals(Sets.newHashSet(uri("d")), data.getReferencingResourceURIs(uri("c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a")), data.getReferencingResourceURIs(uri("b")));
+		Assert.assertEquals(Collections.emptySet(), data.getReferencingResourceURIs(uri("a")));
+		data.register(new DefaultResourceDescriptionDelta(null, newDescription("b", "a")));
+		Assert.assertEquals(Sets.newHashSet(uri("a")), data.getReferencingResourceURIs(uri("b")));
+		Assert.assertEquals(Sets.newHashSet(uri("b")), data.getReferencingResourceURIs(uri("a")));
+	}
+
+	@Test
+	public void testCopyIsIsolated() {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("a", "c"),
+				newDescription("b", "c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), data.getReferencingResourceURIs(uri("c")));
+		ResourceDescriptionsData copy = data.copy();
+		copy.removeDescription(uri("a"));
+		Assert.assertEquals(Sets.newHashSet(uri("b")), copy.getReferencingResourceURIs(uri("c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), data.getReferencingResourceURIs(uri("c")));
+	}
+
+	@Test
+	public void testCopySharesTheIndexUntilModified() {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("a", "c"),
+				newDescription("b", "c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), data.getReferencingResourceURIs(uri("c")));
+		data.addDescription(uri("d"), newDescription("d", "c"));
+		ResourceDescriptionsData copy = data.copy();
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b"), uri("d")), copy.getReferencingResourceURIs(uri("c")));
+		data.removeDescription(uri("a"));
+		Assert.assertEquals(Sets.newHashSet(uri("b"), uri("d")), data.getReferencingResourceURIs(uri("c")));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b"), uri("d")), copy.getReferencingResourceURIs(uri("c")));
+	}
+
+	@Test
+	public void testRestoreReferenceIndex() {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(Arrays.asList(
+				newDescription("a", "c"),
+				newDescription("b", "c"),
+				newDescription("c")));
+		Map<URI, Set<URI>> referenceIndex = data.getReferenceIndex();
+		Assert.assertEquals(Sets.newHashSet(uri("c")), referenceIndex.get(uri("a")));
+		Assert.assertEquals(Collections.emptySet(), referenceIndex.get(uri("c")));
+		// the restored entries are used instead of the reference descriptions
+		SerializableResourceDescription a = newDescription("a");
+		ResourceDescriptionsData restored = new ResourceDescriptionsData(Arrays.asList(
+				a,
+				newDescription("b"),
+				newDescription("d", "c")));
+		restored.restoreReferenceIndex(referenceIndex);
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b"), uri("d")), restored.getReferencingResourceURIs(uri("c")));
+		restored.addDescription(uri("a"), a);
+		Assert.assertEquals(Sets.newHashSet(uri("b"), uri("d")), restored.getReferencingResourceURIs(uri("c")));
+	}
+
+	@Test
+	public void testChunkedResourceDescriptions() {
+		ChunkedResourceDescriptions descriptions = new ChunkedResourceDescriptions(Map.of(
+				"p1", new ResourceDescriptionsData(Arrays.asList(newDescription("a", "c"), newDescription("c"))),
+				"p2", new ResourceDescriptionsData(Arrays.asList(newDescription("b", "c")))));
+		Assert.assertEquals(Sets.newHashSet(uri("a"), uri("b")), descriptions.getReferencingResourceURIs(uri("c")));
+		descriptions.setContainer("p3", new PersistentResourceDescriptionsData());
+		Assert.assertNull(descriptions.getReferencingResourceURIs(uri("c")));
+	}
+
+	private URI uri(String name) {
+		return URI.createURI("file:/" + name + ".ext");
+	}
+
+	private SerializableResourceDescription newDescription(String name, String... targets) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(uri(name));
+		result.setDescriptions(new ArrayList<>());
+		List<SerializableReferenceDescription> references = new ArrayList<>();
+		for (String target : targets) {
+			SerializableReferenceDescription reference = new SerializableReferenceDescription();
+			reference.setSourceEObjectUri(uri(name).appendFragment("/0"));
+			reference.setTargetEObjectUri(uri(target).appendFragment("/0"));
+			reference.setEReference(EcorePackage.Literals.ECLASS__ESUPER_TYPES);
+			reference.setIndexInList(-1);
+			references.add(reference);
+		}
+		result.setReferences(references);
+		return result;
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.generator.AbstractFileSystemAccess2;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.serialization.ResourceStorageTest.InMemoryURIConverter;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageRuntimeModule;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
+import org.eclipse.xtext.testing.AbstractXtextTests;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+public class LazyStorageParseResultTest extends AbstractXtextTests {
+
+	public static class StorageSetup extends SimpleExpressionsTestLanguageStandaloneSetup {
+		@SuppressWarnings("unused")
+		@Override
+		public Injector createInjector() {
+			return Guice.createInjector(new SimpleExpressionsTestLanguageRuntimeModule() {
+				public Class<? extends IResourceStorageFacade> bindIResourceStorageFacade() {
+					return ResourceStorageFacade.class;
+				}
+
+				@Override
+				public Class<? extends XtextResource> bindXtextResource() {
+					return StorageAwareResource.class;
+				}
+
+				public Class<? extends AbstractFileSystemAccess2> bindAbstractFileSystemAccess2() {
+					return JavaIoFileSystemAccess.class;
+				}
+			});
+		}
+	}
+
+	@Inject
+	private ResourceStorageFacade resourceStorageFacade;
+
+	private InMemoryURIConverter converter;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(StorageSetup.class);
+		injectMembers(this);
+		resourceStorageFacade.setStoreNodeModel(true);
+		resourceStorageFacade.setLazyNodeModel(true);
+	}
+
+	@Test
+	public void testNodeModelIsMaterializedOnRequest() throws Exception {
+		String model = "(a + b) * c";
+		StorageAwareResource reloaded = writeAndLoad(model);
+		LazyStorageParseResult parseResult = (LazyStorageParseResult) reloaded.getParseResult();
+		assertFalse(parseResult.isMaterialized());
+		EObject root = reloaded.getContents().get(0);
+		assertSame(root, parseResult.getRootASTElement());
+
+		ICompositeNode node = NodeModelUtils.getNode(root);
+		assertTrue(parseResult.isMaterialized());
+		assertEquals(model, node.getText());
+		assertSame(node, NodeModelUtils.getNode(root));
+		assertSame(root, node.getSemanticElement());
+		assertSame(parseResult.getRootNode(), node.getRootNode());
+	}
+
+	@Test
+	public void testRootNodeAccess() throws Exception {
+		String model = "a + b +";
+		StorageAwareResource reloaded = writeAndLoad(model);
+		IParseResult parseResult = reloaded.getParseResult();
+		assertEquals(model, parseResult.getRootNode().getText());
+		assertTrue(parseResult.hasSyntaxErrors());
+		EObject root = reloaded.getContents().get(0);
+		assertSame(parseResult.getRootNode(), NodeModelUtils.getNode(root).getRootNode());
+	}
+
+	@Test
+	public void testSyntaxErrorsAreKnownWithoutMaterializing() throws Exception {
+		LazyStorageParseResult withErrors = (LazyStorageParseResult) writeAndLoad("a + b +").getParseResult();
+		assertTrue(withErrors.hasSyntaxErrors());
+		assertFalse(withErrors.isMaterialized());
+		LazyStorageParseResult withoutErrors = (LazyStorageParseResult) writeAndLoad("a + b").getParseResult();
+		assertFalse(withoutErrors.hasSyntaxErrors());
+		assertFalse(withoutErrors.isMaterialized());
+	}
+
+	@Test
+	public void testSourceChangedSinceLoading() throws Exception {
+		StorageAwareResource reloaded = writeAndLoad("a + b");
+		EObject root = reloaded.getContents().get(0);
+		converter.addModel(reloaded.getURI().toString(), "(a + b) * c");
+		// the nodes match the source that was read when the resource was loaded
+		assertEquals("a + b", reloaded.getParseResult().getRootNode().getText());
+		assertSame(root, reloaded.getContents().get(0));
+		assertSame(root, NodeModelUtils.getNode(root).getSemanticElement());
+	}
+
+	@Test
+	public void testEagerNodeModel() throws Exception {
+		assertFalse(new ResourceStorageFacade().isLazyNodeModel());
+		resourceStorageFacade.setLazyNodeModel(false);
+		StorageAwareResource reloaded = writeAndLoad("a * b");
+		assertFalse(reloaded.getParseResult() instanceof LazyStorageParseResult);
+		assertEquals("a * b", reloaded.getParseResult().getRootNode().getText());
+	}
+
+	private StorageAwareResource writeAndLoad(String model) throws Exception {
+		XtextResource original = getResourceFromStringAndExpect(model, UNKNOWN_EXPECTATION);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource((StorageAwareResource) original);
+		StorageAwareResource reloaded = (StorageAwareResource) original.getResourceSet()
+				.createResource(URI.createURI("synthetic:/Test." + getCurrentFileExtension()));
+		converter = new InMemoryURIConverter();
+		converter.addModel(reloaded.getURI().toString(), model);
+		reloaded.getResourceSet().setURIConverter(converter);
+		reloaded.loadFromStorage(
+				resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		return reloaded;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+public class MappedResourceDescriptionsTest {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		SerializableResourceDescription before = newDescription("file:/foo/bar.baz", "foo.Bar", "foo.Baz");
+		SerializableReferenceDescription reference = new SerializableReferenceDescription();
+		reference.setSourceEObjectUri(before.getURI().appendFragment("foo"));
+		reference.setTargetEObjectUri(URI.createURI("file:/other#target"));
+		reference.setContainerEObjectURI(null);
+		reference.setEReference(EcorePackage.eINSTANCE.getEAnnotation_References());
+		reference.setIndexInList(3);
+		before.setReferences(Lists.newArrayList(reference));
+		before.setImportedNames(Lists.newArrayList(QualifiedName.create("foo"), QualifiedName.create("foo", "bar")));
+		before.getDescriptions().get(0).getUserData().put("key", "value");
+
+		MappedResourceDescriptions index = write(Collections.singletonList(before));
+		IResourceDescription after = index.getResourceDescription(before.getURI());
+		Assert.assertNotNull(after);
+		Assert.assertEquals(before.getURI(), after.getURI());
+		Assert.assertEquals(Lists.newArrayList(before.getImportedNames()), Lists.newArrayList(after.getImportedNames()));
+		SerializableReferenceDescription afterRef = (SerializableReferenceDescription) Iterables
+				.getOnlyElement(after.getReferenceDescriptions());
+		Assert.assertEquals(reference.getSourceEObjectUri(), afterRef.getSourceEObjectUri());
+		Assert.assertEquals(reference.getTargetEObjectUri(), afterRef.getTargetEObjectUri());
+		Assert.assertNull(afterRef.getContainerEObjectURI());
+		Assert.assertEquals(reference.getEReference(), afterRef.getEReference());
+		Assert.assertEquals(3, afterRef.getIndexInList());
+		List<IEObjectDescription> objects = Lists.newArrayList(after.getExportedObjects());
+		Assert.assertEquals(2, objects.size());
+		for (int i = 0; i < objects.size(); i++) {
+			SerializableEObjectDescription expected = before.getDescriptions().get(i);
+			IEObjectDescription actual = objects.get(i);
+			Assert.assertEquals(expected.getName(), actual.getName());
+			Assert.assertEquals(expected.getEClass(), actual.getEClass());
+			Assert.assertEquals(expected.getEObjectURI(), actual.getEObjectURI());
+			Assert.assertEquals(expected.getUserData(), ((SerializableEObjectDescription) actual).getUserData());
+		}
+		Assert.assertNull(index.getResourceDescription(URI.createURI("file:/unknown")));
+	}
+
+	@Test
+	public void testLookups() throws Exception {
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			descriptions.add(newDescription("file:/res" + i + ".ext", "pkg" + i + ".Type", "pkg.Shared"));
+		}
+		MappedResourceDescriptions index = write(descriptions);
+		Assert.assertEquals(100, index.getResourceCount());
+		Assert.assertEquals(200, Iterables.size(index.getExportedObjects()));
+		Assert.assertEquals(100, Iterables.size(index.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("pkg", "Shared"), false)));
+		Assert.assertEquals(0, Iterables.size(index.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("pkg", "shared"), false)));
+		Assert.assertEquals(100, Iterables.size(index.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("PKG", "shared"), true)));
+		Assert.assertEquals(0, Iterables.size(index.getExportedObjects(EcorePackage.Literals.EDATA_TYPE,
+				QualifiedName.create("pkg", "Shared"), false)));
+		IEObjectDescription type = Iterables.getOnlyElement(index.getExportedObjects(EcorePackage.Literals.ECLASSIFIER,
+				QualifiedName.create("pkg42", "Type"), false));
+		Assert.assertEquals(URI.createURI("file:/res42.ext#pkg42.Type"), type.getEObjectURI());
+		Assert.assertEquals(200, Iterables.size(index.getExportedObjectsByType(EcorePackage.Literals.ECLASSIFIER)));
+		Assert.assertEquals(0, Iterables.size(index.getExportedObjectsByType(EcorePackage.Literals.EDATA_TYPE)));
+	}
+
+	@Test
+	public void testIsEmpty() throws Exception {
+		Assert.assertTrue(write(Collections.emptyList()).isEmpty());
+		MappedResourceDescriptions withoutObjects = write(Collections.singletonList(newDescription("file:/a.ext")));
+		Assert.assertFalse(withoutObjects.isEmpty());
+		Assert.assertEquals(1, withoutObjects.getResourceCount());
+	}
+
+	@Test
+	public void testMappedFile() throws Exception {
+		Path file = Files.createTempFile("index", ".bin");
+		try {
+			new BinaryResourceDescriptionsWriter().write(
+					Collections.singletonList(newDescription("file:/foo.ext", "a.B")), file);
+			MappedResourceDescriptions index = MappedResourceDescriptions.open(file);
+			Assert.assertEquals(1, Iterables.size(index.getExportedObjects(EcorePackage.Literals.ECLASS,
+					QualifiedName.create("a", "B"), false)));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testMappedResourceDescriptionsData() throws Exception {
+		MappedResourceDescriptions index = write(Lists.newArrayList(newDescription("file:/a.ext", "A"),
+				newDescription("file:/b.ext", "B")));
+		MappedResourceDescriptionsData data = new MappedResourceDescriptionsData(index);
+		Assert.assertEquals(2, Iterables.size(data.getAllResourceDescriptions()));
+		data.addDescription(URI.createURI("file:/a.ext"), newDescription("file:/a.ext", "A2"));
+		data.removeDescription(URI.createURI("file:/b.ext"));
+		data.addDescription(URI.createURI("file:/c.ext"), newDescription("file:/c.ext", "C"));
+		assertNames(data, "A2", "C");
+		Assert.assertNull(data.getResourceDescription(URI.createURI("file:/b.ext")));
+		Assert.assertTrue(Iterables.isEmpty(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("A"), false)));
+		Assert.assertEquals(1, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a2"), true)));
+		Assert.assertEquals(2, Iterables.size(data.getExportedObjectsByType(EcorePackage.Literals.ECLASS)));
+
+		ResourceDescriptionsData copy = data.copy();
+		copy.removeDescription(URI.createURI("file:/c.ext"));
+		assertNames(copy, "A2");
+		assertNames(data, "A2", "C");
+	}
+
+	private void assertNames(ResourceDescriptionsData data, String... expected) {
+		List<String> names = new ArrayList<>();
+		for (IEObjectDescription object : data.getExportedObjects()) {
+			names.add(object.getName().toString());
+		}
+		Assert.assertEquals(Lists.newArrayList(expected), names);
+	}
+
+	private MappedResourceDescriptions write(List<? extends IResourceDescription> descriptions) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new BinaryResourceDescriptionsWriter().write(descriptions, out);
+		return new MappedResourceDescriptions(ByteBuffer.wrap(out.toByteArray()));
+	}
+
+	private SerializableResourceDescription newDescription(String uri, String... names) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(URI.createURI(uri));
+		List<SerializableEObjectDescription> objects = new ArrayList<>();
+		for (String name : names) {
+			SerializableEObjectDescription object = new SerializableEObjectDescription();
+			object.setEObjectURI(result.getURI().appendFragment(name));
+			object.setQualifiedName(QualifiedName.create(name.split("\\.")));
+			object.setEClass(EcorePackage.Literals.ECLASS);
+			object.setUserData(new HashMap<>());
+			objects.add(object);
+		}
+		result.setDescriptions(objects);
+		return result;
+	}
+}
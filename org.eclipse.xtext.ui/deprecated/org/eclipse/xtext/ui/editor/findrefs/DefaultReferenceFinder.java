@@ -106,6 +106,16 @@ public class DefaultReferenceFinder extends ReferenceFinder implements org.eclip
 		findLocalReferencesInResource(targetURIs, resource, (IAcceptor<IReferenceDescription>) acceptor);
 	}
 	
+	/**
+	 * Subclasses may find references in the legacy methods of this class.
+	 * 
+	 * @since 2.39
+	 */
+	@Override
+	protected boolean isUsingReferenceDescriptions() {
+		return false;
+	}
+
 	@Override
 	protected IReferenceFinder getLanguageSpecificReferenceFinder(URI candidate) {
 		// bogus old implementation did not dispatch properly for all candidates
@@ -68,7 +68,7 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 			importSection = importsConfiguration.getImportSection(context.getResource());
 			importSectionRegion = importSectionRegionUtil.computeRegion(context.getResource());
 		}
-		for (ITypeDescriptor typeDesc : getTypeDescriptors(context)) {
+		for (ITypeDescriptor typeDesc : getTypeDescriptors(reference, context)) {
 			if (!acceptor.canAcceptMoreProposals()) {
 				return;
 			}
@@ -82,7 +82,38 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 		}
 	}
 
+	/**
+	 * Returns the candidate types for the given reference. The proposals in import declarations are qualified names,
+	 * so if the {@link org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex ClasspathTypeIndex} is enabled,
+	 * their candidates are looked up by the qualified prefix. The other candidates are computed by
+	 * {@link #getTypeDescriptors(ContentAssistContext)}.
+	 * 
+	 * @since 2.39
+	 */
+	protected Iterable<ITypeDescriptor> getTypeDescriptors(EReference reference, ContentAssistContext context) {
+		if (isImportDeclaration(reference, context)) {
+			String prefix = context.getPrefix();
+			Iterable<ITypeDescriptor> indexed = classpathScanner.getDescriptorsByQualifiedNamePrefix(
+					getClassLoader(context), prefix != null ? prefix : "");
+			if (indexed != null) {
+				return indexed;
+			}
+		}
+		return getTypeDescriptors(context);
+	}
+
+	/**
+	 * Returns the candidate types. If the {@link org.eclipse.xtext.common.types.access.binary.ClasspathTypeIndex
+	 * ClasspathTypeIndex} is enabled, only the types whose simple name starts with the prefix are looked up in the
+	 * index. Otherwise all types of the classpath and the <code>java</code> packages of the boot classpath are
+	 * returned.
+	 */
 	protected Iterable<ITypeDescriptor> getTypeDescriptors(ContentAssistContext context) {
+		Iterable<ITypeDescriptor> indexed = classpathScanner.getDescriptorsBySimpleNamePrefix(getClassLoader(context),
+				getSimpleNamePrefix(context));
+		if (indexed != null) {
+			return indexed;
+		}
 		Iterable<ITypeDescriptor> bootClasspath = classpathScanner
 				.getBootClasspathDescriptors(Lists.newArrayList("java"));
 		Iterable<ITypeDescriptor> appClasspath = classpathScanner.getDescriptors(getClassLoader(context),
@@ -90,6 +121,18 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 		return Iterables.concat(bootClasspath, appClasspath);
 	}
 
+	/**
+	 * @return the last segment of the prefix, e.g. <code>Li</code> for <code>java.util.Li</code>.
+	 * @since 2.39
+	 */
+	protected String getSimpleNamePrefix(ContentAssistContext context) {
+		String prefix = context.getPrefix();
+		if (prefix == null) {
+			return "";
+		}
+		return prefix.substring(prefix.lastIndexOf('.') + 1);
+	}
+
 	protected ClassLoader getClassLoader(ContentAssistContext context) {
 		ResourceSet resourceSet = context.getResource().getResourceSet();
 		if (resourceSet instanceof XtextResourceSet) {
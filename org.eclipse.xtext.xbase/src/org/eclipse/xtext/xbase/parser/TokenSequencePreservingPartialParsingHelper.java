@@ -29,6 +29,7 @@ import org.eclipse.xtext.XtextPackage;
 import org.eclipse.xtext.nodemodel.BidiTreeIterator;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.compact.CompactNode;
 import org.eclipse.xtext.nodemodel.impl.AbstractNode;
 import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
 import org.eclipse.xtext.nodemodel.impl.SyntheticCompositeNode;
@@ -148,6 +149,10 @@ public class TokenSequencePreservingPartialParsingHelper implements IPartialPars
 	 * is unrecoverable.
 	 */
 	protected boolean isBrokenPreviousState(IParseResult previousParseResult, int offset) {
+		if (previousParseResult.getRootNode() instanceof CompactNode) {
+			// the compact node model is immutable
+			return true;
+		}
 		if (previousParseResult.hasSyntaxErrors()) {
 			BidiTreeIterator<AbstractNode> iterator = ((AbstractNode) previousParseResult.getRootNode()).basicIterator();
 			while(iterator.hasPrevious()) {
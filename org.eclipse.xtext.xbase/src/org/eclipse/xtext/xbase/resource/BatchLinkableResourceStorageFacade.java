@@ -31,12 +31,14 @@ public class BatchLinkableResourceStorageFacade extends ResourceStorageFacade {
 
 	@Override
 	public ResourceStorageLoadable createResourceStorageLoadable(InputStream in) {
-		return new BatchLinkableResourceStorageLoadable(in, isStoreNodeModel());
+		BatchLinkableResourceStorageLoadable result = new BatchLinkableResourceStorageLoadable(in, isStoreNodeModel());
+		result.setLazyNodeModel(isLazyNodeModel());
+		return result;
 	}
 
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel());
+		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel(), getStorageFormat());
 	}
 
 	@Override
@@ -27,6 +27,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.resource.persistence.ResourceStorageFormat;
 import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.xbase.compiler.DocumentationAdapter;
@@ -48,6 +49,13 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 		super(out, storeNodeModel);
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel, ResourceStorageFormat format) {
+		super(out, storeNodeModel, format);
+	}
+
 	@Override
 	protected void writeEntries(StorageAwareResource resource, ZipOutputStream zipOut) throws IOException {
 		super.writeEntries(resource, zipOut);
@@ -97,6 +97,10 @@ public class BuildRequest {
 
 	private boolean indexOnly = false;
 
+	private boolean parallelBuild = false;
+
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
 	private XtextResourceSet resourceSet;
 
 	private CancelIndicator cancelIndicator = CancelIndicator.NullImpl;
@@ -185,6 +189,43 @@ public class BuildRequest {
 		this.indexOnly = indexOnly;
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	public boolean isParallelBuild() {
+		return parallelBuild;
+	}
+
+	/**
+	 * Enables the parallel build mode. The resources are linked, validated and generated concurrently. Each worker
+	 * thread uses a resource set of its own that is configured like the {@link #getResourceSet() resource set} of this
+	 * request, so referenced resources may be loaded once per thread.
+	 * 
+	 * Callbacks of this request are never invoked concurrently and are invoked in the same order as in the sequential
+	 * build. The validation and generation hooks of the builder, however, are invoked from the worker threads.
+	 * 
+	 * @since 2.39
+	 */
+	public void setParallelBuild(boolean parallelBuild) {
+		this.parallelBuild = parallelBuild;
+	}
+
+	/**
+	 * The number of worker threads that are used in the {@link #isParallelBuild() parallel build mode}.
+	 * 
+	 * @since 2.39
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
 	public XtextResourceSet getResourceSet() {
 		return resourceSet;
 	}
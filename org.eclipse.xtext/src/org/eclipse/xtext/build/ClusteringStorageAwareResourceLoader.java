@@ -9,7 +9,6 @@
 package org.eclipse.xtext.build;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.emf.common.util.URI;
@@ -17,9 +16,12 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.IResourceServiceProviderExtension;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.clustering.AdaptiveResourceClusteringPolicy;
+import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Lists;
 
 /**
  * @author Jan Koehnlein - Initial contribution and API
@@ -38,13 +40,13 @@ public class ClusteringStorageAwareResourceLoader {
 		int loadedURIsCount = 0;
 		List<Resource> resources = new ArrayList<>();
 		List<T> result = new ArrayList<>();
-		Iterator<URI> iter = uris.iterator();
-		while (iter.hasNext()) {
-			URI uri = iter.next();
+		List<URI> uriList = Lists.newArrayList(uris);
+		for (int i = 0; i < uriList.size(); i++) {
+			URI uri = uriList.get(i);
 			XtextResourceSet resourceSet = context.getResourceSet();
 			if (!context.getClusteringPolicy().continueProcessing(resourceSet, uri, loadedURIsCount)) {
 				FluentIterable.from(resources).transform(operation::apply).copyInto(result);
-				clearResourceSet();
+				clearResourceSet(uriList.subList(i, uriList.size()));
 				resources.clear();
 				loadedURIsCount = 0;
 			}
@@ -65,6 +67,23 @@ public class ClusteringStorageAwareResourceLoader {
 				&& ((IResourceServiceProviderExtension) provider).isSource(uri);
 	}
 	
+	/**
+	 * Release the resources of a cluster. An {@link AdaptiveResourceClusteringPolicy} keeps the resources that are
+	 * still required by the pending ones, otherwise all resources are removed.
+	 * 
+	 * @param pending
+	 *            the URIs that remain to be processed.
+	 * @since 2.39
+	 */
+	protected void clearResourceSet(List<URI> pending) {
+		IResourceClusteringPolicy clusteringPolicy = context.getClusteringPolicy();
+		if (clusteringPolicy instanceof AdaptiveResourceClusteringPolicy) {
+			((AdaptiveResourceClusteringPolicy) clusteringPolicy).evict(context.getResourceSet(), pending, null);
+		} else {
+			clearResourceSet();
+		}
+	}
+
 	/**
 	 * Remove all resources from the resource set without delivering notifications.
 	 */
@@ -15,13 +15,20 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.GeneratorDelegate;
@@ -32,6 +39,7 @@ import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IFileSystemAccessExtension3;
 import org.eclipse.xtext.generator.IShouldGenerate;
 import org.eclipse.xtext.generator.OutputConfiguration;
+import org.eclipse.xtext.generator.OutputConfigurationAdapter;
 import org.eclipse.xtext.generator.URIBasedFileSystemAccess;
 import org.eclipse.xtext.generator.trace.TraceFileNameProvider;
 import org.eclipse.xtext.generator.trace.TraceRegionSerializer;
@@ -44,6 +52,9 @@ import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.DisabledClusteringPolicy;
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ProjectDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
 import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
@@ -57,12 +68,14 @@ import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.workspace.IProjectConfig;
 import org.eclipse.xtext.workspace.IProjectConfigProvider;
 import org.eclipse.xtext.workspace.ISourceFolder;
+import org.eclipse.xtext.workspace.ProjectConfigAdapter;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
@@ -204,6 +217,20 @@ public class IncrementalBuilder {
 		@Inject
 		private OperationCanceledManager operationCanceledManager;
 
+		/**
+		 * The number of resources per worker thread that are built before their results are applied in the parallel
+		 * build mode.
+		 */
+		private static final int BATCH_SIZE_PER_THREAD = 4;
+
+		@Inject
+		private Provider<XtextResourceSet> resourceSetProvider;
+
+		/**
+		 * The task of the current worker thread in the {@link BuildRequest#isParallelBuild() parallel build mode}.
+		 */
+		private final ThreadLocal<ParallelBuildTask> parallelBuildTask = new ThreadLocal<>();
+
 		protected void unloadResource(URI uri) {
 			unloadResource(uri, x -> true);
 		}
@@ -278,34 +305,241 @@ public class IncrementalBuilder {
 					.map(Delta::getUri).collect(Collectors.toList());
 			
 			installSourceLevelURIs(toBeBuilt);
-			Iterable<IResourceDescription.Delta> deltas = context.executeClustered(toBeBuilt,
-					(resource) -> {
-						CancelIndicator cancelIndicator = request.getCancelIndicator();
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						// trigger init
-						resource.getContents();
-						EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
-						IResourceDescription.Manager manager = serviceProvider.getResourceDescriptionManager();
-						IResourceDescription description = manager.getResourceDescription(resource);
-						IResourceDescription copiedDescription = getSerializableResourceDescription(description);
-						result.getNewIndex().addDescription(resource.getURI(), copiedDescription);
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						if (!request.isIndexOnly() && validate(resource) && serviceProvider.get(IShouldGenerate.class)
-								.shouldGenerate(resource, CancelIndicator.NullImpl)) {
-							operationCanceledManager.checkCanceled(cancelIndicator);
-							generate(resource, request, newSource2GeneratedMapping);
-						}
-						IResourceDescription old = context.getOldState().getResourceDescriptions()
-								.getResourceDescription(resource.getURI());
-						return manager.createDelta(old, copiedDescription);
-					});
+			Iterable<IResourceDescription.Delta> deltas;
+			if (request.isParallelBuild() && !request.isIndexOnly()) {
+				deltas = buildParallel(toBeBuilt, result, newSource2GeneratedMapping);
+			} else {
+				deltas = context.executeClustered(toBeBuilt, (resource) -> {
+					IResourceDescription.Delta delta = indexResource(resource, result);
+					if (!request.isIndexOnly()) {
+						validateAndGenerate(resource, newSource2GeneratedMapping);
+					}
+					return delta;
+				});
+			}
 
 			Iterables.addAll(resolvedDeltas, deltas);
 			return new IncrementalBuilder.Result(request.getState(), resolvedDeltas);
 		}
 
+		/**
+		 * Build the resources concurrently. Each worker thread loads, links, validates and generates the resources in a
+		 * resource set of its own, so the resource set of the request is neither accessed concurrently nor modified.
+		 * The worker threads call the same hooks as the sequential build, i.e.
+		 * {@link #validateAndGenerate(Resource, Source2GeneratedMapping)}, {@link #validate(Resource)},
+		 * {@link #generate(Resource, BuildRequest, Source2GeneratedMapping)} and
+		 * {@link #storeBinaryResource(Resource, IFileSystemAccessExtension3)}. The
+		 * {@link BuildRequest#getAfterValidate() validation callback} is invoked in the order of the given URIs. All
+		 * other results of a batch of resources, i.e. their new resource descriptions, the changes of the source to
+		 * generated mapping and the generated and deleted files, are applied in the same order once the whole batch is
+		 * built.
+		 */
+		private List<IResourceDescription.Delta> buildParallel(List<URI> toBeBuilt, Indexer.IndexResult result,
+				Source2GeneratedMapping newSource2GeneratedMapping) {
+			List<URI> uris = toBeBuilt.stream().filter(context::canHandle).collect(Collectors.toList());
+			int parallelism = Math.max(1, request.getParallelism());
+			ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+					new ThreadFactoryBuilder().setNameFormat("ParallelBuild-%d").setDaemon(true).build());
+			ThreadLocal<XtextResourceSet> resourceSets = ThreadLocal.withInitial(this::createParallelBuildResourceSet);
+			List<IResourceDescription.Delta> deltas = new ArrayList<>(uris.size());
+			try {
+				int batchSize = parallelism * BATCH_SIZE_PER_THREAD;
+				for (int start = 0; start < uris.size(); start += batchSize) {
+					List<Future<ParallelBuildResult>> futures = new ArrayList<>(batchSize);
+					// the tasks are started in order, a task only waits for the validation of its predecessor
+					CompletableFuture<Void> validated = CompletableFuture.completedFuture(null);
+					for (URI uri : uris.subList(start, Math.min(uris.size(), start + batchSize))) {
+						CompletableFuture<Void> previous = validated;
+						CompletableFuture<Void> next = new CompletableFuture<>();
+						futures.add(executor.submit(() -> buildInOwnResourceSet(uri, resourceSets.get(),
+								newSource2GeneratedMapping, previous, next)));
+						validated = next;
+					}
+					List<ParallelBuildResult> results = new ArrayList<>(futures.size());
+					for (Future<ParallelBuildResult> future : futures) {
+						results.add(getParallelBuildResult(future));
+					}
+					for (ParallelBuildResult buildResult : results) {
+						result.getNewIndex().addDescription(buildResult.delta.getUri(), buildResult.delta.getNew());
+						deltas.add(buildResult.delta);
+						buildResult.stateUpdates.forEach(Runnable::run);
+					}
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+			return deltas;
+		}
+
+		private ParallelBuildResult buildInOwnResourceSet(URI uri, XtextResourceSet resourceSet,
+				Source2GeneratedMapping newMappings, Future<Void> previousValidated, CompletableFuture<Void> validated) {
+			ParallelBuildTask task = new ParallelBuildTask(previousValidated, validated);
+			parallelBuildTask.set(task);
+			try {
+				if (!context.getClusteringPolicy().continueProcessing(resourceSet, uri, resourceSet.getResources().size())) {
+					clearResourceSet(resourceSet);
+				}
+				Resource resource = resourceSet.getResource(uri, true);
+				IResourceDescription.Delta delta = linkAndCreateDelta(resource);
+				validateAndGenerate(resource, newMappings);
+				return new ParallelBuildResult(delta, task.stateUpdates);
+			} finally {
+				parallelBuildTask.remove();
+				validated.complete(null);
+			}
+		}
+
+		private ParallelBuildResult getParallelBuildResult(Future<ParallelBuildResult> future) {
+			try {
+				return future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WrappedException(e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new WrappedException((Exception) cause);
+			}
+		}
+
+		private void clearResourceSet(XtextResourceSet resourceSet) {
+			boolean wasDeliver = resourceSet.eDeliver();
+			try {
+				resourceSet.eSetDeliver(false);
+				for (Resource resource : resourceSet.getResources()) {
+					resource.eSetDeliver(false);
+				}
+				resourceSet.getResources().clear();
+			} finally {
+				resourceSet.eSetDeliver(wasDeliver);
+			}
+		}
+
+		/**
+		 * Create the resource set of a worker thread in the {@link BuildRequest#isParallelBuild() parallel build mode}.
+		 * It is configured like the resource set of the request and sees the same index.
+		 * 
+		 * @since 2.39
+		 */
+		protected XtextResourceSet createParallelBuildResourceSet() {
+			XtextResourceSet resourceSet = request.getResourceSet();
+			XtextResourceSet result = resourceSetProvider.get();
+			result.getLoadOptions().putAll(resourceSet.getLoadOptions());
+			result.setURIConverter(resourceSet.getURIConverter());
+			result.setClasspathURIContext(resourceSet.getClasspathURIContext());
+			result.setClasspathUriResolver(resourceSet.getClasspathUriResolver());
+			ProjectDescription projectDescription = ProjectDescription.findInEmfObject(resourceSet);
+			if (projectDescription != null) {
+				projectDescription.attachToEmfObject(result);
+			}
+			ProjectConfigAdapter projectConfig = ProjectConfigAdapter.findInEmfObject(resourceSet);
+			if (projectConfig != null) {
+				ProjectConfigAdapter.install(result, projectConfig.getProjectConfig());
+			}
+			ChunkedResourceDescriptions index = ChunkedResourceDescriptions.findInEmfObject(resourceSet);
+			if (index != null) {
+				index.createShallowCopyWith(result);
+			}
+			ResourceDescriptionsData data = ResourceDescriptionsData.ResourceSetAdapter
+					.findResourceDescriptionsData(resourceSet);
+			if (data != null) {
+				ResourceDescriptionsData.ResourceSetAdapter.installResourceDescriptionsData(result, data);
+			}
+			OutputConfigurationAdapter outputConfigurations = (OutputConfigurationAdapter) EcoreUtil
+					.getAdapter(resourceSet.eAdapters(), OutputConfigurationAdapter.class);
+			if (outputConfigurations != null) {
+				result.eAdapters().add(
+						new OutputConfigurationAdapter(outputConfigurations.getOutputConfigurationsPerLanguage()));
+			}
+			SourceLevelURIsAdapter.setSourceLevelUrisWithoutCopy(result, request.getSourceLevelUris());
+			return result;
+		}
+
+		private static class ParallelBuildTask {
+
+			private final Future<Void> previousValidated;
+
+			private final CompletableFuture<Void> validated;
+
+			private final List<Runnable> stateUpdates = new ArrayList<>();
+
+			ParallelBuildTask(Future<Void> previousValidated, CompletableFuture<Void> validated) {
+				this.previousValidated = previousValidated;
+				this.validated = validated;
+			}
+
+			void awaitPreviousValidated() {
+				try {
+					previousValidated.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new WrappedException(e);
+				} catch (ExecutionException e) {
+					throw new WrappedException(e);
+				}
+			}
+		}
+
+		private static class ParallelBuildResult {
+
+			private final IResourceDescription.Delta delta;
+
+			private final List<Runnable> stateUpdates;
+
+			ParallelBuildResult(IResourceDescription.Delta delta, List<Runnable> stateUpdates) {
+				this.delta = delta;
+				this.stateUpdates = stateUpdates;
+			}
+		}
+
+		/**
+		 * Load and link the given resource and add its description to the new index.
+		 * 
+		 * @return the delta between the old and the new description of the resource.
+		 * @since 2.39
+		 */
+		protected IResourceDescription.Delta indexResource(Resource resource, Indexer.IndexResult result) {
+			IResourceDescription.Delta delta = linkAndCreateDelta(resource);
+			result.getNewIndex().addDescription(resource.getURI(), delta.getNew());
+			return delta;
+		}
+
+		private IResourceDescription.Delta linkAndCreateDelta(Resource resource) {
+			CancelIndicator cancelIndicator = request.getCancelIndicator();
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			// trigger init
+			resource.getContents();
+			EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			IResourceDescription.Manager manager = getResourceServiceProvider(resource).getResourceDescriptionManager();
+			IResourceDescription description = manager.getResourceDescription(resource);
+			IResourceDescription copiedDescription = getSerializableResourceDescription(description);
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			IResourceDescription old = context.getOldState().getResourceDescriptions()
+					.getResourceDescription(resource.getURI());
+			return manager.createDelta(old, copiedDescription);
+		}
+
+		/**
+		 * Validate the given resource and generate code for it if the build should proceed.
+		 * 
+		 * @since 2.39
+		 */
+		protected void validateAndGenerate(Resource resource, Source2GeneratedMapping newMappings) {
+			CancelIndicator cancelIndicator = request.getCancelIndicator();
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			if (validate(resource) && getResourceServiceProvider(resource).get(IShouldGenerate.class)
+					.shouldGenerate(resource, CancelIndicator.NullImpl)) {
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				generate(resource, request, newMappings);
+			}
+		}
+
 		/**
 	 	* Return a new Serializable resource description from a {@link IResourceDescription}.
 	 	*
@@ -352,7 +586,37 @@ public class IncrementalBuilder {
 			}
 			List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL,
 					request.getCancelIndicator());
-			return request.getAfterValidate().afterValidate(resource.getURI(), validationResult);
+			return afterValidate(resource.getURI(), validationResult);
+		}
+
+		/**
+		 * Pass the issues to the {@link BuildRequest#getAfterValidate() validation callback}. In the parallel build
+		 * mode, this waits until the callback was invoked for the preceding resource.
+		 */
+		private boolean afterValidate(URI uri, List<Issue> issues) {
+			ParallelBuildTask task = parallelBuildTask.get();
+			if (task == null) {
+				return request.getAfterValidate().afterValidate(uri, issues);
+			}
+			task.awaitPreviousValidated();
+			try {
+				return request.getAfterValidate().afterValidate(uri, issues);
+			} finally {
+				task.validated.complete(null);
+			}
+		}
+
+		/**
+		 * Run the given update of the build state, i.e. of the source to generated mapping or of the request. In the
+		 * parallel build mode, the update is deferred until the whole batch of resources is built.
+		 */
+		private void updateState(Runnable update) {
+			ParallelBuildTask task = parallelBuildTask.get();
+			if (task == null) {
+				update.run();
+			} else {
+				task.stateUpdates.add(update);
+			}
 		}
 
 		/**
@@ -360,17 +624,29 @@ public class IncrementalBuilder {
 		 */
 		protected void generate(Resource resource, BuildRequest request, Source2GeneratedMapping newMappings) {
 			IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
-			Set<URI> previous = newMappings.deleteSource(resource.getURI());
+			URI source = resource.getURI();
+			Set<URI> previous;
+			if (parallelBuildTask.get() == null) {
+				previous = newMappings.deleteSource(source);
+			} else {
+				// the mapping is not modified while a batch is built
+				previous = new HashSet<>(newMappings.getGenerated(source));
+				updateState(() -> newMappings.deleteSource(source));
+			}
 			URIBasedFileSystemAccess fileSystemAccess = createFileSystemAccess(serviceProvider, resource);
 			fileSystemAccess.setBeforeWrite((uri, outputCfgName, contents) -> {
-				newMappings.addSource2Generated(resource.getURI(), uri, outputCfgName);
 				previous.remove(uri);
-				request.getAfterGenerateFile().apply(resource.getURI(), uri);
+				updateState(() -> {
+					newMappings.addSource2Generated(source, uri, outputCfgName);
+					request.getAfterGenerateFile().apply(source, uri);
+				});
 				return contents;
 			});
 			fileSystemAccess.setBeforeDelete((uri) -> {
-				newMappings.deleteGenerated(uri);
-				request.getAfterDeleteFile().apply(uri);
+				updateState(() -> {
+					newMappings.deleteGenerated(uri);
+					request.getAfterDeleteFile().apply(uri);
+				});
 				return true;
 			});
 			fileSystemAccess.setContext(resource);
@@ -385,7 +661,7 @@ public class IncrementalBuilder {
 			for (URI noLongerCreated : previous) {
 				try {
 					resourceSet.getURIConverter().delete(noLongerCreated, Collections.emptyMap());
-					request.getAfterDeleteFile().apply(noLongerCreated);
+					updateState(() -> request.getAfterDeleteFile().apply(noLongerCreated));
 				} catch (IOException e) {
 					throw new RuntimeIOException(e);
 				}
@@ -442,7 +718,7 @@ public class IncrementalBuilder {
 						.getResourceStorageFacade();
 				if (resourceStorageFacade != null) {
 					resourceStorageFacade.saveResource((StorageAwareResource) resource, fileSystemAccess);
-					request.getSourceLevelUris().remove(resource.getURI());
+					updateState(() -> request.getSourceLevelUris().remove(resource.getURI()));
 				}
 			}
 		}
@@ -10,6 +10,7 @@ package org.eclipse.xtext.findReferences;
 
 import static com.google.common.collect.Iterables.*;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -43,6 +44,8 @@ public class ReferenceFinder implements IReferenceFinder {
 
 	@Inject
 	private IResourceServiceProvider.Registry serviceProviderRegistry;
+
+	private volatile Boolean usingReferenceDescriptions;
 	
 	protected static final int MONITOR_CHUNK_SIZE = 100;
 	
@@ -175,11 +178,15 @@ public class ReferenceFinder implements IReferenceFinder {
 			SubMonitor subMonitor = SubMonitor.convert(monitor, size(allResourceDescriptions) / MONITOR_CHUNK_SIZE + 1);
 			IProgressMonitor useMe = subMonitor.newChild(1);
 			int i = 0;
+			Set<URI> referencing = getReferencingResourceURIs(targetURIs, indexData);
 			for (IResourceDescription resourceDescription : allResourceDescriptions) {
 				if (subMonitor.isCanceled())
 					throw new OperationCanceledException();
 				IReferenceFinder languageSpecific = getLanguageSpecificReferenceFinder(resourceDescription.getURI());
-				languageSpecific.findReferences(targetURIs, resourceDescription, resourceAccess, acceptor, useMe);
+				if (referencing == null || referencing.contains(resourceDescription.getURI())
+						|| !isUsingReferenceDescriptions(languageSpecific)) {
+					languageSpecific.findReferences(targetURIs, resourceDescription, resourceAccess, acceptor, useMe);
+				}
 				i++;
 				if (i % MONITOR_CHUNK_SIZE == 0) {
 					useMe = subMonitor.newChild(1);
@@ -188,6 +195,75 @@ public class ReferenceFinder implements IReferenceFinder {
 		}
 	}
 
+	/**
+	 * Returns the resources that may contain references to the given targets according to the reverse reference index
+	 * of the given index data, including the target resources themselves.
+	 * 
+	 * @return the URIs of the referencing resources, or <code>null</code> if the index data does not provide a reverse
+	 *         reference index.
+	 * @since 2.39
+	 */
+	protected Set<URI> getReferencingResourceURIs(TargetURIs targetURIs, IResourceDescriptions indexData) {
+		if (!(indexData instanceof IResourceDescriptions.IReferenceIndexAware)) {
+			return null;
+		}
+		IResourceDescriptions.IReferenceIndexAware referenceIndex = (IResourceDescriptions.IReferenceIndexAware) indexData;
+		Set<URI> result = new HashSet<>();
+		for (URI targetResourceURI : targetURIs.getTargetResourceURIs()) {
+			Set<URI> referencing = referenceIndex.getReferencingResourceURIs(targetResourceURI);
+			if (referencing == null) {
+				return null;
+			}
+			result.add(targetResourceURI);
+			result.addAll(referencing);
+		}
+		return result;
+	}
+
+	/**
+	 * Whether the given reference finder only finds references in other resources by means of the
+	 * {@link IResourceDescription#getReferenceDescriptions() reference descriptions}, so that resources that are not
+	 * known to reference a target can be skipped.
+	 * 
+	 * @since 2.39
+	 */
+	protected boolean isUsingReferenceDescriptions(IReferenceFinder referenceFinder) {
+		return referenceFinder instanceof ReferenceFinder && ((ReferenceFinder) referenceFinder).isUsingReferenceDescriptions();
+	}
+
+	/**
+	 * Whether this reference finder only finds references in other resources by means of the
+	 * {@link IResourceDescription#getReferenceDescriptions() reference descriptions}. This is assumed as long as
+	 * neither {@link #findReferences(TargetURIs, IResourceDescription, IResourceAccess, Acceptor, IProgressMonitor)}
+	 * nor {@link #findReferencesInDescription(TargetURIs, IResourceDescription, IResourceAccess, Acceptor, IProgressMonitor)}
+	 * is overridden. Subclasses that find references in other ways have to return <code>false</code>.
+	 * 
+	 * @since 2.39
+	 */
+	protected boolean isUsingReferenceDescriptions() {
+		Boolean result = usingReferenceDescriptions;
+		if (result == null) {
+			result = !isOverridden("findReferences", TargetURIs.class, IResourceDescription.class,
+					IResourceAccess.class, Acceptor.class, IProgressMonitor.class)
+					&& !isOverridden("findReferencesInDescription", TargetURIs.class, IResourceDescription.class,
+							IResourceAccess.class, Acceptor.class, IProgressMonitor.class);
+			usingReferenceDescriptions = result;
+		}
+		return result;
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		for (Class<?> type = getClass(); type != ReferenceFinder.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod(methodName, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not declared by this type
+			}
+		}
+		return false;
+	}
+
 	protected void findLocalReferencesFromElement(
 			Predicate<URI> targetURIs, 
 			EObject sourceCandidate,
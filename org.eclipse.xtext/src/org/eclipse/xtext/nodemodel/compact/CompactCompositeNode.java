@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.xtext.nodemodel.BidiIterable;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.EmptyBidiIterable;
+import org.eclipse.xtext.nodemodel.util.NodeIterable;
+import org.eclipse.xtext.nodemodel.util.SingletonBidiIterable;
+
+/**
+ * A composite node of a {@link CompactNodeModel}.
+ *
+ * @since 2.39
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class CompactCompositeNode extends CompactNode implements ICompositeNode {
+
+	protected CompactCompositeNode(CompactNodeModel model, int index) {
+		super(model, index);
+	}
+
+	@Override
+	public BidiIterable<INode> getChildren() {
+		INode firstChild = getFirstChild();
+		if (firstChild == null) {
+			return EmptyBidiIterable.instance();
+		}
+		if (firstChild.hasSiblings()) {
+			return new NodeIterable(firstChild);
+		}
+		return SingletonBidiIterable.<INode> create(firstChild);
+	}
+
+	@Override
+	public boolean hasChildren() {
+		return model.getFirstChild(index) != CompactNodeModel.NONE;
+	}
+
+	@Override
+	public INode getFirstChild() {
+		return model.getNode(model.getFirstChild(index));
+	}
+
+	@Override
+	public INode getLastChild() {
+		return model.getNode(model.getLastChild(index));
+	}
+
+	@Override
+	public int getLookAhead() {
+		return model.getLookAhead(index);
+	}
+
+	@Override
+	public String getText() {
+		if (index == 0) {
+			return model.getCompleteContent();
+		}
+		return super.getText();
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Iterator;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiTreeIterable;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.nodemodel.util.NodeTreeIterator;
+import org.eclipse.xtext.nodemodel.util.ReversedBidiTreeIterable;
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ITextRegionWithLineInformation;
+import org.eclipse.xtext.util.TextRegion;
+import org.eclipse.xtext.util.TextRegionWithLineInformation;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * A view on a single entry of a {@link CompactNodeModel}.
+ *
+ * @since 2.39
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public abstract class CompactNode implements INode, BidiTreeIterable<INode> {
+
+	protected final CompactNodeModel model;
+
+	protected final int index;
+
+	protected CompactNode(CompactNodeModel model, int index) {
+		this.model = model;
+		this.index = index;
+	}
+
+	public CompactNodeModel getModel() {
+		return model;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		return (ICompositeNode) model.getNode(model.getParent(index));
+	}
+
+	@Override
+	public boolean hasSiblings() {
+		return hasPreviousSibling() || hasNextSibling();
+	}
+
+	@Override
+	public boolean hasPreviousSibling() {
+		return model.getPreviousSibling(index) != CompactNodeModel.NONE;
+	}
+
+	@Override
+	public boolean hasNextSibling() {
+		return model.getNextSibling(index) != CompactNodeModel.NONE;
+	}
+
+	@Override
+	public INode getPreviousSibling() {
+		return model.getNode(model.getPreviousSibling(index));
+	}
+
+	@Override
+	public INode getNextSibling() {
+		return model.getNode(model.getNextSibling(index));
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		return model.getRootNode();
+	}
+
+	@Override
+	public Iterable<ILeafNode> getLeafNodes() {
+		return new Iterable<ILeafNode>() {
+			@Override
+			public Iterator<ILeafNode> iterator() {
+				return Iterators.filter(CompactNode.this.iterator(), ILeafNode.class);
+			}
+		};
+	}
+
+	@Override
+	public String getText() {
+		int offset = getTotalOffset();
+		return model.getCompleteContent().substring(offset, offset + getTotalLength());
+	}
+
+	@Override
+	public int getTotalStartLine() {
+		return model.getLine(getTotalOffset());
+	}
+
+	@Override
+	public int getStartLine() {
+		return model.getLine(getOffset());
+	}
+
+	@Override
+	public int getEndLine() {
+		return model.getLine(getEndOffset());
+	}
+
+	@Override
+	public int getTotalEndLine() {
+		return model.getLine(getTotalEndOffset());
+	}
+
+	@Override
+	public int getTotalOffset() {
+		return model.getTotalOffset(index);
+	}
+
+	@Override
+	public int getOffset() {
+		return model.getOffset(index);
+	}
+
+	@Override
+	public int getTotalLength() {
+		return model.getTotalLength(index);
+	}
+
+	@Override
+	public int getLength() {
+		return model.getLength(index);
+	}
+
+	@Override
+	public int getTotalEndOffset() {
+		return getTotalOffset() + getTotalLength();
+	}
+
+	@Override
+	public int getEndOffset() {
+		return model.getEndOffset(index);
+	}
+
+	@Override
+	public ITextRegion getTextRegion() {
+		int offset = getOffset();
+		return new TextRegion(offset, getEndOffset() - offset);
+	}
+
+	@Override
+	public ITextRegion getTotalTextRegion() {
+		return new TextRegion(getTotalOffset(), getTotalLength());
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTextRegionWithLineInformation() {
+		int offset = getOffset();
+		int endOffset = getEndOffset();
+		return new TextRegionWithLineInformation(offset, endOffset - offset, model.getLine(offset),
+				model.getLine(endOffset));
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTotalTextRegionWithLineInformation() {
+		int offset = getTotalOffset();
+		int endOffset = getTotalEndOffset();
+		return new TextRegionWithLineInformation(offset, endOffset - offset, model.getLine(offset),
+				model.getLine(endOffset));
+	}
+
+	@Override
+	public EObject getGrammarElement() {
+		return model.getGrammarElement(index);
+	}
+
+	@Override
+	public EObject getSemanticElement() {
+		return model.getSemanticElement(index);
+	}
+
+	@Override
+	public boolean hasDirectSemanticElement() {
+		return model.hasDirectSemanticElement(index);
+	}
+
+	@Override
+	public SyntaxErrorMessage getSyntaxErrorMessage() {
+		return model.getSyntaxErrorMessage(index);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> getAsTreeIterable() {
+		return this;
+	}
+
+	@Override
+	public BidiTreeIterator<INode> iterator() {
+		return new NodeTreeIterator(this);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> reverse() {
+		return new ReversedBidiTreeIterable<INode>(this);
+	}
+
+	@Override
+	public NodeModelUtils.Implementation utils() {
+		return CompactNodeModelUtils.INSTANCE;
+	}
+
+	@Override
+	public String toString() {
+		String grammarElementToString = model.getGrammarElement(index) == null ? "null"
+				: model.getGrammarElement(index).eClass().getName();
+		return getClass().getSimpleName() + " [" + grammarElementToString + "] " + getTotalTextRegion();
+	}
+}
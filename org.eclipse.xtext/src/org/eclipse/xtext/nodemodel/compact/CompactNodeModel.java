@@ -0,0 +1,577 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Adapter;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.impl.InternalNodeModelUtils;
+import org.eclipse.xtext.util.LineAndColumn;
+
+import com.google.common.collect.AbstractIterator;
+
+/**
+ * A node model that stores the complete tree in parallel primitive arrays. The nodes are numbered in pre-order, so the
+ * subtree of a node {@code i} occupies the indexes {@code i} to {@code end(i) - 1}, its first child is {@code i + 1}
+ * and its next sibling is {@code end(i)}.
+ *
+ * The nodes that are handed out are light-weight views that implement {@link ICompositeNode} and {@link ILeafNode}.
+ * Views are created on demand and canonicalized per index, so clients that compare nodes by identity keep working.
+ *
+ * {@link org.eclipse.xtext.nodemodel.impl.SyntheticCompositeNode Synthetic nodes} of the mutable node model are stored
+ * as regular composite nodes.
+ *
+ * @since 2.39
+ */
+public class CompactNodeModel {
+
+	static final byte COMPOSITE = 1;
+
+	static final byte HIDDEN = 2;
+
+	static final byte SEMANTIC_ELEMENT = 4;
+
+	static final byte SYNTAX_ERROR = 8;
+
+	static final int NONE = -1;
+
+	private final String completeContent;
+
+	private final EObject[] grammarElementTable;
+
+	private final int size;
+
+	private final int[] totalOffsets;
+
+	private final int[] totalLengths;
+
+	private final int[] grammarElements;
+
+	private final int[] parents;
+
+	private final int[] ends;
+
+	private final int[] previousSiblings;
+
+	private final int[] lookAheads;
+
+	private final byte[] flags;
+
+	private final int[] semanticNodes;
+
+	private final EObject[] semanticElements;
+
+	private final int[] errorNodes;
+
+	private final SyntaxErrorMessage[] errorMessages;
+
+	private int[] lineBreaks;
+
+	private volatile CompactNode[] views;
+
+	private CompactNodeModel(Builder builder) {
+		this.completeContent = builder.completeContent;
+		this.grammarElementTable = builder.grammarElementTable.toArray(new EObject[0]);
+		this.size = builder.size;
+		this.totalOffsets = Arrays.copyOf(builder.totalOffsets, size);
+		this.totalLengths = Arrays.copyOf(builder.totalLengths, size);
+		this.grammarElements = Arrays.copyOf(builder.grammarElements, size);
+		this.parents = Arrays.copyOf(builder.parents, size);
+		this.ends = Arrays.copyOf(builder.ends, size);
+		this.previousSiblings = Arrays.copyOf(builder.previousSiblings, size);
+		this.lookAheads = Arrays.copyOf(builder.lookAheads, size);
+		this.flags = Arrays.copyOf(builder.flags, size);
+		this.semanticNodes = Arrays.copyOf(builder.semanticNodes, builder.semanticCount);
+		this.semanticElements = Arrays.copyOf(builder.semanticElements, builder.semanticCount);
+		this.errorNodes = Arrays.copyOf(builder.errorNodes, builder.errorCount);
+		this.errorMessages = Arrays.copyOf(builder.errorMessages, builder.errorCount);
+	}
+
+	/**
+	 * Copy the tree below the given root node into a new compact node model.
+	 */
+	public static CompactNodeModel copyOf(ICompositeNode rootNode) {
+		return copyOf(rootNode, (node) -> node.getChildren().iterator());
+	}
+
+	/**
+	 * Move the tree below the given root node into a new compact node model. Each node is removed from its parent by
+	 * the given function right before it is copied, so the copied nodes can be garbage collected while the compact
+	 * model is filled. The regions of the composite nodes below the root are computed from the leaf nodes, since a
+	 * composite node that was removed from its parent cannot compute its own offset anymore.
+	 */
+	public static CompactNodeModel moveFrom(ICompositeNode rootNode, Function<ICompositeNode, INode> removeFirstChild) {
+		return copyOf(rootNode, (node) -> new AbstractIterator<INode>() {
+			@Override
+			protected INode computeNext() {
+				INode result = removeFirstChild.apply(node);
+				return result != null ? result : endOfData();
+			}
+		});
+	}
+
+	private static CompactNodeModel copyOf(ICompositeNode rootNode, Function<ICompositeNode, Iterator<INode>> children) {
+		Builder builder = new Builder(rootNode.getText());
+		builder.add(rootNode, NONE, NONE);
+		Deque<Iterator<INode>> iterators = new ArrayDeque<>();
+		Deque<int[]> parentAndLastChild = new ArrayDeque<>();
+		if (rootNode.hasChildren()) {
+			iterators.push(children.apply(rootNode));
+			parentAndLastChild.push(new int[] { 0, NONE });
+		} else {
+			builder.ends[0] = 1;
+		}
+		while (!iterators.isEmpty()) {
+			Iterator<INode> children = iterators.peek();
+			int[] state = parentAndLastChild.peek();
+			if (!children.hasNext()) {
+				iterators.pop();
+				parentAndLastChild.pop();
+				builder.ends[state[0]] = builder.size;
+				continue;
+			}
+			INode child = children.next();
+			int index = builder.add(child, state[0], state[1]);
+			state[1] = index;
+			if (child instanceof ICompositeNode && ((ICompositeNode) child).hasChildren()) {
+				iterators.push(children.apply((ICompositeNode) child));
+				parentAndLastChild.push(new int[] { index, NONE });
+			} else {
+				builder.ends[index] = index + 1;
+			}
+		}
+		builder.computeCompositeRegions();
+		return new CompactNodeModel(builder);
+	}
+
+	public ICompositeNode getRootNode() {
+		return (ICompositeNode) getNode(0);
+	}
+
+	/**
+	 * @return the number of nodes in this model.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the canonical view of the node with the given index.
+	 */
+	public INode getNode(int index) {
+		if (index == NONE) {
+			return null;
+		}
+		CompactNode[] views = this.views;
+		if (views == null) {
+			synchronized (this) {
+				views = this.views;
+				if (views == null) {
+					views = new CompactNode[size];
+					this.views = views;
+				}
+			}
+		}
+		CompactNode result = views[index];
+		if (result == null) {
+			synchronized (this) {
+				result = views[index];
+				if (result == null) {
+					if (isComposite(index)) {
+						result = new CompactCompositeNode(this, index);
+					} else {
+						result = new CompactLeafNode(this, index);
+					}
+					views[index] = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the nodes that carry a syntax error in document order.
+	 */
+	public List<INode> getSyntaxErrors() {
+		return new AbstractList<INode>() {
+			@Override
+			public INode get(int index) {
+				return getNode(errorNodes[index]);
+			}
+
+			@Override
+			public int size() {
+				return errorNodes.length;
+			}
+		};
+	}
+
+	/**
+	 * @return the index of the node that is associated with the given semantic element by a {@link CompactNodeReference}
+	 *         or {@code -1}.
+	 */
+	public int getNodeIndex(EObject semanticElement) {
+		for (Adapter adapter : semanticElement.eAdapters()) {
+			if (adapter instanceof CompactNodeReference && ((CompactNodeReference) adapter).getNodeModel() == this) {
+				return ((CompactNodeReference) adapter).getNodeIndex();
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Visit all nodes that are directly associated with a semantic element.
+	 */
+	public void forEachSemanticElement(SemanticElementVisitor visitor) {
+		for (int i = 0; i < semanticNodes.length; i++) {
+			visitor.visit(semanticElements[i], semanticNodes[i]);
+		}
+	}
+
+	@FunctionalInterface
+	public interface SemanticElementVisitor {
+		void visit(EObject semanticElement, int nodeIndex);
+	}
+
+	String getCompleteContent() {
+		return completeContent;
+	}
+
+	boolean isComposite(int index) {
+		return (flags[index] & COMPOSITE) != 0;
+	}
+
+	boolean isHidden(int index) {
+		return (flags[index] & HIDDEN) != 0;
+	}
+
+	boolean hasDirectSemanticElement(int index) {
+		return (flags[index] & SEMANTIC_ELEMENT) != 0;
+	}
+
+	int getTotalOffset(int index) {
+		return totalOffsets[index];
+	}
+
+	int getTotalLength(int index) {
+		return totalLengths[index];
+	}
+
+	int getLookAhead(int index) {
+		return lookAheads[index];
+	}
+
+	EObject getGrammarElement(int index) {
+		int id = grammarElements[index];
+		return id == NONE ? null : grammarElementTable[id];
+	}
+
+	int getParent(int index) {
+		return parents[index];
+	}
+
+	int getEnd(int index) {
+		return ends[index];
+	}
+
+	int getFirstChild(int index) {
+		return ends[index] > index + 1 ? index + 1 : NONE;
+	}
+
+	int getLastChild(int index) {
+		int child = getFirstChild(index);
+		if (child == NONE) {
+			return NONE;
+		}
+		int end = ends[index];
+		while (ends[child] < end) {
+			child = ends[child];
+		}
+		return child;
+	}
+
+	int getNextSibling(int index) {
+		int parent = parents[index];
+		if (parent == NONE || ends[index] >= ends[parent]) {
+			return NONE;
+		}
+		return ends[index];
+	}
+
+	int getPreviousSibling(int index) {
+		return previousSiblings[index];
+	}
+
+	EObject getSemanticElement(int index) {
+		for (int current = index; current != NONE; current = parents[current]) {
+			if (hasDirectSemanticElement(current)) {
+				return semanticElements[Arrays.binarySearch(semanticNodes, current)];
+			}
+		}
+		return null;
+	}
+
+	SyntaxErrorMessage getSyntaxErrorMessage(int index) {
+		if ((flags[index] & SYNTAX_ERROR) == 0) {
+			return null;
+		}
+		return errorMessages[Arrays.binarySearch(errorNodes, index)];
+	}
+
+	/**
+	 * The offset of the first non-hidden leaf in the subtree of the given node.
+	 */
+	int getOffset(int index) {
+		int firstLeaf = NONE;
+		for (int i = index, end = ends[index]; i < end; i++) {
+			if (!isComposite(i)) {
+				if (!isHidden(i)) {
+					return totalOffsets[i];
+				}
+				if (firstLeaf == NONE) {
+					firstLeaf = i;
+				}
+			}
+		}
+		return firstLeaf != NONE ? totalOffsets[firstLeaf] : totalOffsets[index];
+	}
+
+	/**
+	 * The end offset of the last non-hidden leaf in the subtree of the given node.
+	 */
+	int getEndOffset(int index) {
+		int lastVisibleLeaf = getLastVisibleLeaf(index);
+		if (lastVisibleLeaf != NONE) {
+			return totalOffsets[lastVisibleLeaf] + totalLengths[lastVisibleLeaf];
+		}
+		return totalOffsets[index] + totalLengths[index];
+	}
+
+	int getLength(int index) {
+		if (getLastVisibleLeaf(index) != NONE) {
+			return getEndOffset(index) - getOffset(index);
+		}
+		return totalLengths[index];
+	}
+
+	private int getLastVisibleLeaf(int index) {
+		for (int i = ends[index] - 1; i >= index; i--) {
+			if (!isComposite(i) && !isHidden(i)) {
+				return i;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Find the leaf at the given document offset below the given node.
+	 */
+	int findLeafNodeAtOffset(int index, int offset) {
+		int current = index;
+		if (!intersects(current, offset)) {
+			return NONE;
+		}
+		while (isComposite(current)) {
+			int child = getFirstChild(current);
+			while (child != NONE && !intersects(child, offset)) {
+				if (totalOffsets[child] > offset) {
+					return NONE;
+				}
+				child = getNextSibling(child);
+			}
+			if (child == NONE) {
+				return NONE;
+			}
+			current = child;
+		}
+		return current;
+	}
+
+	private boolean intersects(int index, int offset) {
+		return totalOffsets[index] <= offset && totalOffsets[index] + totalLengths[index] > offset;
+	}
+
+	LineAndColumn getLineAndColumn(int offset) {
+		int[] result = lineBreaks;
+		if (result == null) {
+			result = LineBreaks.compute(completeContent);
+			lineBreaks = result;
+		}
+		return LineBreaks.get(completeContent, result, offset);
+	}
+
+	int getLine(int offset) {
+		return getLineAndColumn(offset).getLine();
+	}
+
+	private static class LineBreaks extends InternalNodeModelUtils {
+		static int[] compute(String text) {
+			return computeLineBreaks(text);
+		}
+
+		static LineAndColumn get(String text, int[] lineBreaks, int offset) {
+			return getLineAndColumn(text, lineBreaks, offset);
+		}
+	}
+
+	private static class Builder {
+		final String completeContent;
+
+		final List<EObject> grammarElementTable = new ArrayList<>();
+
+		final Map<EObject, Integer> grammarElementIds = new HashMap<>();
+
+		int size;
+
+		int[] totalOffsets = new int[256];
+
+		int[] totalLengths = new int[256];
+
+		int[] grammarElements = new int[256];
+
+		int[] parents = new int[256];
+
+		int[] ends = new int[256];
+
+		int[] previousSiblings = new int[256];
+
+		int[] lookAheads = new int[256];
+
+		byte[] flags = new byte[256];
+
+		int semanticCount;
+
+		int[] semanticNodes = new int[32];
+
+		EObject[] semanticElements = new EObject[32];
+
+		int errorCount;
+
+		int[] errorNodes = new int[8];
+
+		SyntaxErrorMessage[] errorMessages = new SyntaxErrorMessage[8];
+
+		Builder(String completeContent) {
+			this.completeContent = completeContent;
+		}
+
+		int add(INode node, int parent, int previousSibling) {
+			int index = size++;
+			if (index == flags.length) {
+				int capacity = index * 2;
+				totalOffsets = Arrays.copyOf(totalOffsets, capacity);
+				totalLengths = Arrays.copyOf(totalLengths, capacity);
+				grammarElements = Arrays.copyOf(grammarElements, capacity);
+				parents = Arrays.copyOf(parents, capacity);
+				ends = Arrays.copyOf(ends, capacity);
+				previousSiblings = Arrays.copyOf(previousSiblings, capacity);
+				lookAheads = Arrays.copyOf(lookAheads, capacity);
+				flags = Arrays.copyOf(flags, capacity);
+			}
+			if (parent == NONE || !(node instanceof ICompositeNode)) {
+				totalOffsets[index] = node.getTotalOffset();
+				totalLengths[index] = node.getTotalLength();
+			}
+			EObject grammarElement = node.getGrammarElement();
+			grammarElements[index] = grammarElement == null ? NONE
+					: grammarElementIds.computeIfAbsent(grammarElement, (it) -> {
+						grammarElementTable.add(it);
+						return grammarElementTable.size() - 1;
+					});
+			parents[index] = parent;
+			previousSiblings[index] = previousSibling;
+			byte flag = 0;
+			if (node instanceof ICompositeNode) {
+				flag |= COMPOSITE;
+				lookAheads[index] = ((ICompositeNode) node).getLookAhead();
+			} else if (((ILeafNode) node).isHidden()) {
+				flag |= HIDDEN;
+			}
+			if (node.hasDirectSemanticElement()) {
+				flag |= SEMANTIC_ELEMENT;
+				if (semanticCount == semanticNodes.length) {
+					semanticNodes = Arrays.copyOf(semanticNodes, semanticCount * 2);
+					semanticElements = Arrays.copyOf(semanticElements, semanticCount * 2);
+				}
+				semanticNodes[semanticCount] = index;
+				semanticElements[semanticCount] = node.getSemanticElement();
+				semanticCount++;
+			}
+			SyntaxErrorMessage syntaxError = node.getSyntaxErrorMessage();
+			if (syntaxError != null) {
+				flag |= SYNTAX_ERROR;
+				if (errorCount == errorNodes.length) {
+					errorNodes = Arrays.copyOf(errorNodes, errorCount * 2);
+					errorMessages = Arrays.copyOf(errorMessages, errorCount * 2);
+				}
+				errorNodes[errorCount] = index;
+				errorMessages[errorCount] = syntaxError;
+				errorCount++;
+			}
+			flags[index] = flag;
+			return index;
+		}
+
+		/**
+		 * Computes the regions of the composite nodes below the root the same way
+		 * {@link org.eclipse.xtext.nodemodel.impl.CompositeNode CompositeNode} does, i.e. an empty composite node
+		 * starts where the next node starts. The nodes are visited in reverse order, so the regions of the children and
+		 * of the following nodes are known.
+		 */
+		void computeCompositeRegions() {
+			for (int index = size - 1; index > 0; index--) {
+				if ((flags[index] & COMPOSITE) == 0) {
+					continue;
+				}
+				if (ends[index] > index + 1) {
+					int lastChild = index + 1;
+					for (int child = ends[lastChild]; child < ends[index]; child = ends[child]) {
+						lastChild = child;
+					}
+					totalOffsets[index] = totalOffsets[index + 1];
+					totalLengths[index] = totalOffsets[lastChild] + totalLengths[lastChild] - totalOffsets[index];
+				} else {
+					totalOffsets[index] = getOffsetOfEmptyComposite(index);
+					totalLengths[index] = 0;
+				}
+			}
+		}
+
+		private int getOffsetOfEmptyComposite(int index) {
+			int current = index;
+			while (parents[current] != NONE && ends[current] == ends[parents[current]]) {
+				current = parents[current];
+			}
+			if (parents[current] != NONE) {
+				return totalOffsets[ends[current]];
+			}
+			for (int previous = index - 1; previous >= 0; previous--) {
+				if ((flags[previous] & COMPOSITE) == 0) {
+					return totalOffsets[previous] + totalLengths[previous];
+				}
+			}
+			return 0;
+		}
+	}
+}
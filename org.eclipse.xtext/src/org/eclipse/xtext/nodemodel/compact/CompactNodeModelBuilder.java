@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.impl.CompositeNodeWithSemanticElement;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.parser.IParseResult;
+
+/**
+ * A node model builder that converts the node model into a {@link CompactNodeModel} as soon as the parser is done.
+ * The parser itself still works on the mutable node model, because it moves completed subtrees when it applies actions.
+ * The conversion in {@link #createParseResult(EObject, ICompositeNode, boolean)} removes the mutable nodes from the
+ * tree while it copies them, so both models are not retained completely at the same time.
+ *
+ * Partial parsing is not supported for compact node models, the parser falls back to a full parse instead.
+ *
+ * @since 2.39
+ */
+public class CompactNodeModelBuilder extends NodeModelBuilder {
+
+	@Override
+	public IParseResult createParseResult(EObject model, ICompositeNode root, boolean hasErrors) {
+		CompactNodeModel compactModel = CompactNodeModel.moveFrom(root, this::removeFirstChild);
+		compactModel.forEachSemanticElement((semanticElement, nodeIndex) -> {
+			List<Adapter> adapters = semanticElement.eAdapters();
+			for (int i = adapters.size() - 1; i >= 0; i--) {
+				if (adapters.get(i) instanceof CompositeNodeWithSemanticElement) {
+					adapters.remove(i);
+				}
+			}
+			adapters.add(new CompactNodeReference(compactModel, nodeIndex));
+		});
+		return new CompactParseResult(model, compactModel, hasErrors);
+	}
+
+}
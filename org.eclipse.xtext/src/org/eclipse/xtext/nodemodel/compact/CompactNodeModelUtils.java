@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.Action;
+import org.eclipse.xtext.ParserRule;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.util.LineAndColumn;
+
+/**
+ * Implements the index based algorithms of the {@link NodeModelUtils} for a {@link CompactNodeModel}.
+ *
+ * @since 2.39
+ */
+public class CompactNodeModelUtils implements NodeModelUtils.Implementation {
+
+	public static final CompactNodeModelUtils INSTANCE = new CompactNodeModelUtils();
+
+	@Override
+	public ILeafNode findLeafNodeAtOffset(INode node, int leafNodeOffset) {
+		if (node instanceof CompactNode) {
+			CompactNode casted = (CompactNode) node;
+			return (ILeafNode) casted.model.getNode(casted.model.findLeafNodeAtOffset(casted.index, leafNodeOffset));
+		}
+		return NodeModelUtils.Implementation.super.findLeafNodeAtOffset(node, leafNodeOffset);
+	}
+
+	@Override
+	public LineAndColumn getLineAndColumn(INode anyNode, int documentOffset) {
+		if (anyNode instanceof CompactNode) {
+			return ((CompactNode) anyNode).model.getLineAndColumn(documentOffset);
+		}
+		return NodeModelUtils.Implementation.super.getLineAndColumn(anyNode, documentOffset);
+	}
+
+	@Override
+	public ParserRule getEntryParserRule(INode node) {
+		ICompositeNode root = node.getRootNode();
+		EObject ge1 = root.getGrammarElement();
+		if (ge1 instanceof ParserRule) {
+			return (ParserRule) ge1;
+		} else if (ge1 instanceof Action) {
+			INode firstChild = root.getFirstChild();
+			while (firstChild.getGrammarElement() instanceof Action && firstChild instanceof ICompositeNode) {
+				firstChild = ((ICompositeNode) firstChild).getFirstChild();
+			}
+			EObject ge2 = firstChild.getGrammarElement();
+			if (ge2 instanceof ParserRule) {
+				return (ParserRule) ge2;
+			}
+		}
+		throw new IllegalStateException("No Root Parser Rule found; The Node Model is broken.");
+	}
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.INodeReference;
+
+/**
+ * Associates a semantic object with its node in a {@link CompactNodeModel}.
+ *
+ * @since 2.39
+ */
+public class CompactNodeReference extends AdapterImpl implements INodeReference {
+
+	private final CompactNodeModel nodeModel;
+
+	private final int nodeIndex;
+
+	public CompactNodeReference(CompactNodeModel nodeModel, int nodeIndex) {
+		this.nodeModel = nodeModel;
+		this.nodeIndex = nodeIndex;
+	}
+
+	public CompactNodeModel getNodeModel() {
+		return nodeModel;
+	}
+
+	public int getNodeIndex() {
+		return nodeIndex;
+	}
+
+	@Override
+	public ICompositeNode getNode() {
+		return (ICompositeNode) nodeModel.getNode(nodeIndex);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type instanceof Class<?> && INode.class.isAssignableFrom((Class<?>) type);
+	}
+
+}
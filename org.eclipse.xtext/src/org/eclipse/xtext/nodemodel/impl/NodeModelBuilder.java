@@ -8,6 +8,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.nodemodel.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.emf.common.notify.Adapter;
@@ -76,6 +77,32 @@ public class NodeModelBuilder {
 		}
 	}
 	
+	/**
+	 * Removes the first child from the given composite node. The removed child keeps its own children.
+	 * 
+	 * @return the removed child or <code>null</code> if the node has no children.
+	 * @since 2.39
+	 */
+	protected INode removeFirstChild(ICompositeNode node) {
+		CompositeNode composite = (CompositeNode) node;
+		AbstractNode firstChild = composite.basicGetFirstChild();
+		if (firstChild == null) {
+			return null;
+		}
+		AbstractNode nextSibling = firstChild.basicGetNextSibling();
+		if (nextSibling == firstChild) {
+			composite.basicSetFirstChild(null);
+		} else {
+			AbstractNode lastChild = firstChild.basicGetPreviousSibling();
+			lastChild.basicSetNextSibling(nextSibling);
+			nextSibling.basicSetPreviousSibling(lastChild);
+			composite.basicSetFirstChild(nextSibling);
+			firstChild.basicSetNextSibling(firstChild);
+			firstChild.basicSetPreviousSibling(firstChild);
+		}
+		return firstChild;
+	}
+
 	public void associateWithSemanticElement(ICompositeNode node, EObject astElement) {
 		CompositeNodeWithSemanticElement casted = (CompositeNodeWithSemanticElement) node;
 		astElement.eAdapters().add(casted);
@@ -318,7 +345,58 @@ public class NodeModelBuilder {
 			CompositeNode newCompositeNode = (CompositeNode) newNode;
 			newCompositeNode.basicSetLookAhead(((ICompositeNode) oldNode).getLookAhead());
 		}
-		ICompositeNode root = newNode.getRootNode();
+		updateTotalOffsets(newNode.getRootNode());
+	}
+
+	/**
+	 * Replaces the children of the given parent from <code>firstChild</code> to <code>lastChild</code> (inclusive) by
+	 * the children of <code>newParent</code> and updates the offsets of all leaf nodes.
+	 * 
+	 * @since 2.39
+	 */
+	public void replaceChildren(ICompositeNode parent, INode firstChild, INode lastChild, ICompositeNode newParent) {
+		CompositeNode composite = (CompositeNode) parent;
+		List<AbstractNode> children = new ArrayList<AbstractNode>();
+		AbstractNode child = composite.basicGetFirstChild();
+		int firstIndex = -1;
+		int lastIndex = -1;
+		while (child != null) {
+			if (child == firstChild)
+				firstIndex = children.size();
+			if (child == lastChild)
+				lastIndex = children.size();
+			children.add(child);
+			child = child.basicGetNextSibling();
+			if (child == composite.basicGetFirstChild())
+				child = null;
+		}
+		if (firstIndex == -1 || lastIndex < firstIndex)
+			throw new IllegalArgumentException("firstChild and lastChild have to be children of the given parent");
+		List<AbstractNode> newChildren = new ArrayList<AbstractNode>();
+		child = ((CompositeNode) newParent).basicGetFirstChild();
+		while (child != null) {
+			newChildren.add(child);
+			child = child.basicGetNextSibling();
+			if (child == ((CompositeNode) newParent).basicGetFirstChild())
+				child = null;
+		}
+		((CompositeNode) newParent).basicSetFirstChild(null);
+		List<AbstractNode> result = new ArrayList<AbstractNode>(children.size() + newChildren.size());
+		result.addAll(children.subList(0, firstIndex));
+		result.addAll(newChildren);
+		result.addAll(children.subList(lastIndex + 1, children.size()));
+		int size = result.size();
+		composite.basicSetFirstChild(size == 0 ? null : result.get(0));
+		for (int i = 0; i < size; i++) {
+			AbstractNode node = result.get(i);
+			node.basicSetParent(composite);
+			node.basicSetNextSibling(result.get((i + 1) % size));
+			node.basicSetPreviousSibling(result.get((i + size - 1) % size));
+		}
+		updateTotalOffsets(parent.getRootNode());
+	}
+
+	private void updateTotalOffsets(ICompositeNode root) {
 		BidiTreeIterator<AbstractNode> iterator = ((AbstractNode) root).basicIterator();
 		int offset = 0;
 		while(iterator.hasNext()) {
@@ -272,7 +272,24 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 	}
 
 	private ILeafNode createLeafNode(Token token, EObject grammarElement) {
-		boolean isHidden = token.getChannel() == HIDDEN;
+		CommonToken commonToken = (CommonToken) token;
+		return createLeafNode(token, token.getTokenIndex(), token.getType(), token.getChannel(),
+				commonToken.getStartIndex(), commonToken.getStopIndex(), grammarElement);
+	}
+
+	/**
+	 * Creates the leaf node for a hidden or skipped token. The token is read from the stream by its index, so no token
+	 * object has to be created for it.
+	 */
+	private ILeafNode createLeafNode(int tokenIndex) {
+		XtextTokenStream stream = (XtextTokenStream) input;
+		return createLeafNode(null, tokenIndex, stream.getTokenType(tokenIndex), stream.getTokenChannel(tokenIndex),
+				stream.getTokenStartIndex(tokenIndex), stream.getTokenStopIndex(tokenIndex), null);
+	}
+
+	private ILeafNode createLeafNode(Token token, int tokenIndex, int tokenType, int channel, int startIndex,
+			int stopIndex, EObject grammarElement) {
+		boolean isHidden = channel == HIDDEN;
 		SyntaxErrorMessage error = null;
 		if (!isHidden) {
 			if (currentError != null) {
@@ -280,23 +297,23 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 				currentError = null;
 			}
 		}
-		if (token.getType() == Token.INVALID_TOKEN_TYPE) {
+		if (tokenType == Token.INVALID_TOKEN_TYPE) {
 			if (error == null) {
-				String lexerErrorMessage = ((XtextTokenStream) input).getLexerErrorMessage(token);
+				Token invalidToken = token != null ? token : input.get(tokenIndex);
+				String lexerErrorMessage = ((XtextTokenStream) input).getLexerErrorMessage(invalidToken);
 				LexerErrorContext errorContext = new LexerErrorContext(lexerErrorMessage);
 				error = syntaxErrorProvider.getSyntaxErrorMessage(errorContext);
 			}
 		}
 		if (grammarElement == null) {
-			String ruleName = antlrTypeToLexerName.get(token.getType());
+			String ruleName = antlrTypeToLexerName.get(tokenType);
 			grammarElement = allRules.get(ruleName);
 		}
-		CommonToken commonToken = (CommonToken) token;
 		if (error != null)
 			hadErrors = true;
 		return nodeBuilder.newLeafNode(
-				commonToken.getStartIndex(), 
-				commonToken.getStopIndex() - commonToken.getStartIndex() + 1, 
+				startIndex, 
+				stopIndex - startIndex + 1, 
 				grammarElement, 
 				isHidden, 
 				error, 
@@ -412,9 +429,8 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 
 	protected void appendAllTokens() {
 		for (int x = lastConsumedIndex + 1; input.size() > x; input.consume(), x++) {
-			Token hidden = input.get(x);
-			createLeafNode(hidden, null);
-			lastConsumedIndex = hidden.getTokenIndex();
+			createLeafNode(x);
+			lastConsumedIndex = x;
 		}
 		if (currentError != null) {
 			appendError(getLastLeafNode());
@@ -439,8 +455,7 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 		int indexOfTokenBefore = tokenBefore != null ? tokenBefore.getTokenIndex() : -1;
 		if (indexOfTokenBefore + 1 < currentTokenIndex) {
 			for (int x = indexOfTokenBefore + 1; x < currentTokenIndex; x++) {
-				Token hidden = input.get(x);
-				ILeafNode leaf = createLeafNode(hidden, null);
+				ILeafNode leaf = createLeafNode(x);
 				skipped.add(leaf);
 				lastConsumedIndex = x;
 			}
@@ -458,9 +473,8 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 		int size = input.size();
 		if (tokenBefore != null && tokenBefore.getTokenIndex() < size) {
 			for (int x = tokenBefore.getTokenIndex() + 1; x < size; x++) {
-				Token hidden = input.get(x);
-				createLeafNode(hidden, null);
-				lastConsumedIndex = hidden.getTokenIndex();
+				createLeafNode(x);
+				lastConsumedIndex = x;
 			}
 		}
 	}
@@ -750,8 +764,7 @@ public abstract class AbstractInternalAntlrParser extends Parser {
 		final int tokenIndex = token.getTokenIndex();
 		if (tokenIndex > lastConsumedIndex) {
 			for (int x = lastConsumedIndex + 1; x < tokenIndex; x++) {
-				Token hidden = input.get(x);
-				createLeafNode(hidden, null);
+				createLeafNode(x);
 			}
 			lastConsumedIndex = tokenIndex;
 			lastConsumedNode = createLeafNode(token, grammarElement);
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.parser.antlr;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+
+/**
+ * A list of tokens that keeps the type, channel, offsets and position of each token in primitive arrays. Token objects
+ * are only created when a token is {@link #get(int) requested}, e.g. by the generated parser, and are cached
+ * afterwards so the identity of a token does not change. Their text is derived from the {@link CharStream} on demand.
+ *
+ * Tokens that were produced as objects, e.g. by a custom token source, can be {@link #add(Object) added}, too.
+ *
+ * @since 2.39
+ */
+public class CompactTokenList extends AbstractList<Object> implements RandomAccess {
+
+	private CharStream charStream;
+
+	private int size;
+
+	private int[] types;
+
+	private int[] channels;
+
+	private int[] startIndexes;
+
+	private int[] stopIndexes;
+
+	private int[] lines;
+
+	private int[] charPositionsInLine;
+
+	private Token[] tokens;
+
+	public CompactTokenList(int initialCapacity) {
+		int capacity = Math.max(initialCapacity, 16);
+		types = new int[capacity];
+		channels = new int[capacity];
+		startIndexes = new int[capacity];
+		stopIndexes = new int[capacity];
+		lines = new int[capacity];
+		charPositionsInLine = new int[capacity];
+		tokens = new Token[capacity];
+	}
+
+	/**
+	 * The char stream that is used to create the tokens that were {@link #add(int, int, int, int, int, int) added} by
+	 * their values.
+	 */
+	public void setCharStream(CharStream charStream) {
+		this.charStream = charStream;
+	}
+
+	public CharStream getCharStream() {
+		return charStream;
+	}
+
+	/**
+	 * Adds a token without creating a token object. The token index is the current {@link #size()}.
+	 */
+	public void add(int type, int channel, int startIndex, int stopIndex, int line, int charPositionInLine) {
+		ensureCapacity(size + 1);
+		types[size] = type;
+		channels[size] = channel;
+		startIndexes[size] = startIndex;
+		stopIndexes[size] = stopIndex;
+		lines[size] = line;
+		charPositionsInLine[size] = charPositionInLine;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds an existing token object. Its token index is not changed.
+	 */
+	@Override
+	public boolean add(Object object) {
+		Token token = (Token) object;
+		ensureCapacity(size + 1);
+		types[size] = token.getType();
+		channels[size] = token.getChannel();
+		if (token instanceof CommonToken) {
+			startIndexes[size] = ((CommonToken) token).getStartIndex();
+			stopIndexes[size] = ((CommonToken) token).getStopIndex();
+		} else {
+			startIndexes[size] = -1;
+			stopIndexes[size] = -1;
+		}
+		lines[size] = token.getLine();
+		charPositionsInLine[size] = token.getCharPositionInLine();
+		tokens[size] = token;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public Object get(int index) {
+		return getToken(index);
+	}
+
+	/**
+	 * Returns the token at the given index and creates the token object if necessary.
+	 */
+	public Token getToken(int index) {
+		checkIndex(index);
+		Token result = tokens[index];
+		if (result == null) {
+			result = createToken(index);
+			tokens[index] = result;
+		}
+		return result;
+	}
+
+	protected Token createToken(int index) {
+		CommonToken result = new CommonToken(charStream, types[index], channels[index], startIndexes[index],
+				stopIndexes[index]);
+		result.setLine(lines[index]);
+		result.setCharPositionInLine(charPositionsInLine[index]);
+		result.setTokenIndex(index);
+		return result;
+	}
+
+	/**
+	 * @return whether a token object was created for the given index.
+	 */
+	public boolean isMaterialized(int index) {
+		checkIndex(index);
+		return tokens[index] != null;
+	}
+
+	public int getType(int index) {
+		checkIndex(index);
+		Token token = tokens[index];
+		return token != null ? token.getType() : types[index];
+	}
+
+	public int getChannel(int index) {
+		checkIndex(index);
+		Token token = tokens[index];
+		return token != null ? token.getChannel() : channels[index];
+	}
+
+	public void setChannel(int index, int channel) {
+		checkIndex(index);
+		channels[index] = channel;
+		Token token = tokens[index];
+		if (token != null) {
+			token.setChannel(channel);
+		}
+	}
+
+	/**
+	 * @return the offset of the first character of the token or {@code -1} if the token does not know its offset.
+	 */
+	public int getStartIndex(int index) {
+		checkIndex(index);
+		return startIndexes[index];
+	}
+
+	/**
+	 * @return the offset of the last character of the token or {@code -1} if the token does not know its offset.
+	 */
+	public int getStopIndex(int index) {
+		checkIndex(index);
+		return stopIndexes[index];
+	}
+
+	/**
+	 * Returns the text of the token at the given index without creating a token object.
+	 */
+	public String getText(int index) {
+		checkIndex(index);
+		Token token = tokens[index];
+		if (token != null) {
+			return token.getText();
+		}
+		if (charStream == null) {
+			return null;
+		}
+		return charStream.substring(startIndexes[index], stopIndexes[index]);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		Arrays.fill(tokens, 0, size, null);
+		size = 0;
+		modCount++;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > types.length) {
+			int newCapacity = Math.max(capacity, types.length + (types.length >> 1));
+			types = Arrays.copyOf(types, newCapacity);
+			channels = Arrays.copyOf(channels, newCapacity);
+			startIndexes = Arrays.copyOf(startIndexes, newCapacity);
+			stopIndexes = Arrays.copyOf(stopIndexes, newCapacity);
+			lines = Arrays.copyOf(lines, newCapacity);
+			charPositionsInLine = Arrays.copyOf(charPositionsInLine, newCapacity);
+			tokens = Arrays.copyOf(tokens, newCapacity);
+		}
+	}
+}
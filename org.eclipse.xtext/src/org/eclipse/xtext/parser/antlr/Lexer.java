@@ -45,6 +45,19 @@ public abstract class Lexer extends org.antlr.runtime.Lexer {
         super(input,state);
     }
 
+	private static final ClassValue<Boolean> COMPACT_TOKENS_SUPPORTED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("nextToken").getDeclaringClass() == Lexer.class
+						&& type.getMethod("emit").getDeclaringClass() == org.antlr.runtime.Lexer.class
+						&& type.getMethod("emit", Token.class).getDeclaringClass() == org.antlr.runtime.Lexer.class;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
 	private final Map<Token, String> tokenErrorMap = new HashMap<Token, String>();
 
 	@Override
@@ -87,6 +100,74 @@ public abstract class Lexer extends org.antlr.runtime.Lexer {
 		}
 	}
 
+	/**
+	 * Same as {@link #nextToken()} but appends the token to the given list. Plain tokens are stored by their values, so
+	 * no token object is created. Tokens that carry a custom text and tokens for invalid input are added as objects.
+	 * 
+	 * @return <code>false</code> if the end of the input was reached.
+	 * @since 2.39
+	 */
+	public boolean nextToken(CompactTokenList tokens) {
+		while (true) {
+			this.state.token = null;
+			this.state.channel = Token.DEFAULT_CHANNEL;
+			this.state.tokenStartCharIndex = input.index();
+			this.state.tokenStartCharPositionInLine = input.getCharPositionInLine();
+			this.state.tokenStartLine = input.getLine();
+			this.state.text = null;
+			if (input.LA(1) == CharStream.EOF) {
+				return false;
+			}
+			try {
+				mTokens();
+				if (this.state.token == null) {
+					if (this.state.text == null) {
+						tokens.add(state.type, state.channel, state.tokenStartCharIndex, getCharIndex() - 1,
+								state.tokenStartLine, state.tokenStartCharPositionInLine);
+						return true;
+					}
+					emit();
+				}
+				else if (this.state.token == Token.SKIP_TOKEN) {
+					continue;
+				}
+				addToken(tokens, this.state.token);
+				return true;
+			}
+			catch (RecognitionException re) {
+				reportError(re);
+				if (re instanceof NoViableAltException ||
+					re instanceof FailedPredicateException) {
+					recover(re);
+				}
+				// create token that holds mismatched char
+				Token t = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.HIDDEN_CHANNEL,
+						this.state.tokenStartCharIndex, getCharIndex() - 1);
+				t.setLine(this.state.tokenStartLine);
+				t.setCharPositionInLine(this.state.tokenStartCharPositionInLine);
+				tokenErrorMap.put(t, getErrorMessage(re, this.getTokenNames()));
+				emit(t);
+				addToken(tokens, this.state.token);
+				return true;
+			}
+		}
+	}
+
+	private void addToken(CompactTokenList tokens, Token token) {
+		token.setTokenIndex(tokens.size());
+		tokens.add(token);
+	}
+
+	/**
+	 * Whether this lexer may be used with {@link #nextToken(CompactTokenList)}. That's not the case if a subclass
+	 * customizes {@link #nextToken()} or {@link #emit()}.
+	 * 
+	 * @since 2.39
+	 */
+	public boolean isCompactTokenListSupported() {
+		return COMPACT_TOKENS_SUPPORTED.get(getClass());
+	}
+
 	public String getErrorMessage(Token t) {
 		return tokenErrorMap.get(t);
 	}
@@ -9,7 +9,6 @@
  *******************************************************************************/
 package org.eclipse.xtext.parser.antlr;
 
-import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -87,7 +86,15 @@ public class XtextTokenStream extends CommonTokenStream {
 		if ( stop>=tokens.size() ) {
 			stop = tokens.size()-1;
 		}
-		if (tokenSource instanceof Lexer) {
+		if (tokenSource instanceof Lexer && tokens instanceof TokenList) {
+			TokenList tokenList = (TokenList) tokens;
+			int startIndex = tokenList.getStartIndex(start);
+			int stopIndex = tokenList.getStopIndex(stop);
+			if (startIndex >= 0 && stopIndex >= 0) {
+				CharStream charStream = ((Lexer) tokenSource).getCharStream();
+				return charStream.substring(startIndex, stopIndex);
+			}
+		} else if (tokenSource instanceof Lexer) {
 			Token startToken = (Token) tokens.get(start);
 			Token stopToken = (Token) tokens.get(stop);
 			if (startToken instanceof CommonToken && stopToken instanceof CommonToken) {
@@ -108,31 +115,123 @@ public class XtextTokenStream extends CommonTokenStream {
 		return result.toString();
 	}
 	
-	@SuppressWarnings({ "serial" })
-	private final class TokenList extends ArrayList<Object> {
+	private final class TokenList extends CompactTokenList {
 		private TokenList(int initialCapacity) {
 			super(initialCapacity);
 		}
 
 		@Override
 		public Object get(int index) {
-			Token tok = (Token) super.get(index);
-			// adjust only tokens in the 'future', as we wont change the channel of previously parsed
-			// tokens
-			int current = p;
-			if (firstMarker != -1)
-				current = firstMarker;
-			if (hiddenTokens != null && tok.getType() >= Token.MIN_TOKEN_TYPE && index >= current)
-				tok.setChannel(hiddenTokens.get(tok.getType()) ? Token.HIDDEN_CHANNEL : Token.DEFAULT_CHANNEL);
-			return tok;
+			adjustChannel(index);
+			return super.get(index);
 		}
-		
-		@Override
-		public void clear() {
-			if (isEmpty())
+	}
+
+	/**
+	 * Updates the channel of the token at the given index according to the current hidden tokens and returns it.
+	 */
+	private int adjustChannel(int index) {
+		TokenList tokenList = (TokenList) tokens;
+		int type = tokenList.getType(index);
+		// adjust only tokens in the 'future', as we wont change the channel of previously parsed
+		// tokens
+		int current = p;
+		if (firstMarker != -1)
+			current = firstMarker;
+		if (hiddenTokens != null && type >= Token.MIN_TOKEN_TYPE && index >= current) {
+			int result = hiddenTokens.get(type) ? Token.HIDDEN_CHANNEL : Token.DEFAULT_CHANNEL;
+			tokenList.setChannel(index, result);
+			return result;
+		}
+		return tokenList.getChannel(index);
+	}
+
+	/**
+	 * Fills the buffer without creating token objects if the token source is an Xtext
+	 * {@link org.eclipse.xtext.parser.antlr.Lexer lexer}. Token objects are created when the parser asks for them.
+	 */
+	@Override
+	protected void fillBuffer() {
+		if (tokenSource instanceof org.eclipse.xtext.parser.antlr.Lexer && tokens instanceof TokenList
+				&& channelOverrideMap == null && discardSet == null && !discardOffChannelTokens) {
+			org.eclipse.xtext.parser.antlr.Lexer lexer = (org.eclipse.xtext.parser.antlr.Lexer) tokenSource;
+			if (lexer.isCompactTokenListSupported()) {
+				TokenList tokenList = (TokenList) tokens;
+				tokenList.setCharStream(lexer.getCharStream());
+				while (lexer.nextToken(tokenList)) {
+					// consume the complete input
+				}
+				p = 0;
+				p = skipOffTokenChannels(p);
 				return;
-			super.clear();
+			}
+		}
+		super.fillBuffer();
+	}
+
+	@Override
+	protected int skipOffTokenChannels(int i) {
+		if (!(tokens instanceof TokenList)) {
+			return super.skipOffTokenChannels(i);
+		}
+		int n = tokens.size();
+		while (i < n && adjustChannel(i) != channel) {
+			i++;
+		}
+		return i;
+	}
+
+	@Override
+	protected int skipOffTokenChannelsReverse(int i) {
+		if (!(tokens instanceof TokenList)) {
+			return super.skipOffTokenChannelsReverse(i);
+		}
+		while (i >= 0 && adjustChannel(i) != channel) {
+			i--;
+		}
+		return i;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public int getTokenType(int index) {
+		if (tokens instanceof TokenList) {
+			return ((TokenList) tokens).getType(index);
+		}
+		return get(index).getType();
+	}
+
+	/**
+	 * Returns the channel of the token at the given index with respect to the current hidden tokens.
+	 * 
+	 * @since 2.39
+	 */
+	public int getTokenChannel(int index) {
+		if (tokens instanceof TokenList) {
+			return adjustChannel(index);
 		}
+		return get(index).getChannel();
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public int getTokenStartIndex(int index) {
+		if (tokens instanceof TokenList) {
+			return ((TokenList) tokens).getStartIndex(index);
+		}
+		return ((CommonToken) get(index)).getStartIndex();
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public int getTokenStopIndex(int index) {
+		if (tokens instanceof TokenList) {
+			return ((TokenList) tokens).getStopIndex(index);
+		}
+		return ((CommonToken) get(index)).getStopIndex();
 	}
 
 	public interface HiddenTokens {
@@ -191,18 +290,30 @@ public class XtextTokenStream extends CommonTokenStream {
 	
 	@Override
 	public int LA(int i) {
+		if (i > 0 && tokens instanceof TokenList) {
+			int index = lookAheadIndex(i);
+			if (markerCount > 0) { // predicting with a marker
+				updateLookAhead(index == -1 ? size() : index);
+			} else if (i > currentLookAhead) {
+				currentLookAhead = i;
+			}
+			return index == -1 ? Token.EOF : ((TokenList) tokens).getType(index);
+		}
 		Token lookaheadToken = LT(i);
 		if (markerCount > 0) { // predicting with a marker
-			int laTokenIndex = getTokenIndex(lookaheadToken);
-			if (indexOfLookAhead < laTokenIndex) {
-				indexOfLookAhead = laTokenIndex;
-				currentLookAhead++;
-			}
+			updateLookAhead(getTokenIndex(lookaheadToken));
 		} else if (i > currentLookAhead) {
 			currentLookAhead = i;
 		}
 		return lookaheadToken.getType();
 	}
+
+	private void updateLookAhead(int laTokenIndex) {
+		if (indexOfLookAhead < laTokenIndex) {
+			indexOfLookAhead = laTokenIndex;
+			currentLookAhead++;
+		}
+	}
 	
 	/**
 	 * @since 2.22
@@ -286,6 +397,10 @@ public class XtextTokenStream extends CommonTokenStream {
 	 */
 	@Override
 	public Token LT(int k) {
+		if (k > 0 && tokens instanceof TokenList) {
+			int index = lookAheadIndex(k);
+			return index == -1 ? Token.EOF_TOKEN : (Token) tokens.get(index);
+		}
 		Token result = super.LT(k);
         if (k == 1 && result.getChannel()!=channel) {
         	// copied from super.LT(k) except from the last assignment to p
@@ -313,6 +428,41 @@ public class XtextTokenStream extends CommonTokenStream {
         return result;
 	}
 
+	/**
+	 * Same as {@link #LT(int)} for positive <code>k</code> but returns the index of the token
+	 * or {@code -1} for EOF, so no token object is necessary.
+	 */
+	private int lookAheadIndex(int k) {
+		if ( p == -1 ) {
+			fillBuffer();
+		}
+		int size = tokens.size();
+		if ( (p+k-1) >= size ) {
+			return -1;
+		}
+		int i = p;
+		int n = 1;
+		// find k good tokens
+		while ( n<k ) {
+			i = skipOffTokenChannels(i+1);
+			n++;
+		}
+		if ( i>=size ) {
+			return -1;
+		}
+		if (k == 1 && adjustChannel(i) != channel) {
+			if ( (p+1) >= size ) {
+				return -1;
+			}
+			i = skipOffTokenChannels(p+1);
+			if ( i>=size ) {
+				return -1;
+			}
+			p = i; // adjust p to the valid pointer
+		}
+		return i;
+	}
+
 	public int getCurrentLookAhead() {
 		return currentLookAhead;  
 	}
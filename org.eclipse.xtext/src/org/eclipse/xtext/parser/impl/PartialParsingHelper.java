@@ -18,13 +18,16 @@ import java.util.ListIterator;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.xtext.AbstractElement;
 import org.eclipse.xtext.AbstractRule;
 import org.eclipse.xtext.Action;
 import org.eclipse.xtext.Alternatives;
+import org.eclipse.xtext.Assignment;
 import org.eclipse.xtext.CompoundElement;
 import org.eclipse.xtext.GrammarUtil;
 import org.eclipse.xtext.Group;
@@ -36,6 +39,7 @@ import org.eclipse.xtext.nodemodel.BidiTreeIterator;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.ILeafNode;
 import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.compact.CompactNode;
 import org.eclipse.xtext.nodemodel.impl.AbstractNode;
 import org.eclipse.xtext.nodemodel.impl.CompositeNode;
 import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
@@ -69,6 +73,9 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 	@Inject(optional=true)
 	private TokenRegionProvider tokenRegionProvider;
 
+	@Inject(optional=true)
+	private PartialParsingStatistics statistics = new PartialParsingStatistics();
+
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public IParseResult reparse(IParser parser, IParseResult previousParseResult, ReplaceRegion changedRegion) {
@@ -78,6 +85,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			throw new NullPointerException("previousParseResult and previousParseResult.rootNode may not be null");
 		}
 		ICompositeNode oldRootNode = previousParseResult.getRootNode();
+		if (oldRootNode instanceof CompactNode) {
+			// the compact node model is immutable
+			return fullyReparse(parser, previousParseResult, changedRegion);
+		}
 		if (changedRegion.getEndOffset() > oldRootNode.getTotalLength()) {
 			log.error("Invalid " + changedRegion + " originalLength=" + oldRootNode.getTotalLength());
 			return fullyReparse(parser, previousParseResult, changedRegion);
@@ -114,6 +125,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			}
 		}
 		if (oldCompositeNode == null || reparseRegion.equals("") || oldCompositeNode == oldRootNode) {
+			IParseResult elementRangeResult = reparseElementRange(parser, previousParseResult, replaceRegion);
+			if (elementRangeResult != null) {
+				return elementRangeResult;
+			}
 			return fullyReparse(parser, previousParseResult, replaceRegion);
 		}
 		EObject entryRuleOrRuleCall = parsingPointers.findEntryRuleOrRuleCall(oldCompositeNode);
@@ -127,6 +142,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		}
 		if (newParseResult == null || newParseResult.hasSyntaxErrors()) {
 			// TODO: Should we reparse if the complete input was parsed?
+			IParseResult elementRangeResult = reparseElementRange(parser, previousParseResult, replaceRegion);
+			if (elementRangeResult != null) {
+				return elementRangeResult;
+			}
 			// on error fully reparse
 			return fullyReparse(parser, previousParseResult, replaceRegion);
 		}
@@ -183,9 +202,323 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			StringBuilder builder = new StringBuilder(oldRootNode.getText());
 			replaceRegion.applyTo(builder);
 			nodeModelBuilder.setCompleteContent(oldRootNode, builder.toString());
+			statistics.recordNodeReparse(reparseRegion.length(), builder.length());
 		} 
 		return newParseResult;
 	}
+
+	/**
+	 * Reparses a range of sibling nodes that are elements of the same multi-valued containment reference, e.g. the
+	 * top level elements of a model. This is used if a change cannot be mapped to a single replaceable node, e.g.
+	 * because it spans more than one element or because it introduces a new one. The nodes and semantic objects left
+	 * and right of the range are reused.
+	 * 
+	 * The range is extended by one unchanged element on each side. The reparsed text has to end with an element that
+	 * matches the old rightmost one, so the parser is known to be in sync with the reused part of the node model
+	 * again.
+	 * 
+	 * @return the new parse result or <code>null</code> if the change cannot be handled this way.
+	 * @since 2.39
+	 */
+	@SuppressWarnings("unchecked")
+	protected IParseResult reparseElementRange(IParser parser, IParseResult previousParseResult, ReplaceRegion replaceRegion) {
+		ICompositeNode oldRootNode = previousParseResult.getRootNode();
+		Range range = new Range(replaceRegion.getOffset(), replaceRegion.getEndOffset());
+		if (previousParseResult.hasSyntaxErrors())
+			range.mergeAllSyntaxErrors(oldRootNode);
+		List<ICompositeNode> nodesEnclosingRegion = collectNodesEnclosingChangeRegion(oldRootNode, range);
+		ElementRange elementRange = null;
+		for (int i = nodesEnclosingRegion.size() - 1; i >= 0 && elementRange == null; i--) {
+			elementRange = findElementRange(oldRootNode, nodesEnclosingRegion.subList(0, i + 1), range);
+		}
+		if (elementRange == null) {
+			return null;
+		}
+		ICompositeNode parent = elementRange.parent;
+		List<INode> children = elementRange.children;
+		INode firstChild = children.get(elementRange.first);
+		INode lastChild = children.get(elementRange.last);
+		int offset = firstChild.getTotalOffset();
+		StringBuilder builder = new StringBuilder(oldRootNode.getText().substring(offset, lastChild.getTotalEndOffset()));
+		replaceRegion.shiftBy(-offset).applyTo(builder);
+		String reparseRegion = builder.toString();
+		IParseResult newParseResult = null;
+		try {
+			if (parent == oldRootNode)
+				newParseResult = parser.parse(NodeModelUtils.getEntryParserRule(oldRootNode), new StringReader(reparseRegion));
+			else
+				newParseResult = parser.parse((RuleCall) parent.getGrammarElement(), new StringReader(reparseRegion), parent.getLookAhead());
+		} catch (ParseException exc) {
+		}
+		if (newParseResult == null || newParseResult.hasSyntaxErrors() || newParseResult.getRootASTElement() == null) {
+			return null;
+		}
+		ICompositeNode newParent = newParseResult.getRootNode();
+		if (parent != oldRootNode) {
+			INode newNode = newParent.getFirstChild();
+			if (!(newNode instanceof ICompositeNode) || newNode.hasNextSibling() || newNode.getGrammarElement() != parent.getGrammarElement())
+				return null;
+			newParent = (ICompositeNode) newNode;
+		}
+		EObject newContainer = newParseResult.getRootASTElement();
+		List<EObject> newElements = getElementsIfOnlyFeatureSet(newContainer, elementRange);
+		if (newElements == null) {
+			return null;
+		}
+		int newElementCount = 0;
+		INode lastNewElementNode = null;
+		for (INode newChild : newParent.getChildren()) {
+			if (getElementCall(newChild) == elementRange.elementCall) {
+				if (lastNewElementNode != newChild.getPreviousSibling() || newElementCount >= newElements.size()
+						|| getElement(newChild) != newElements.get(newElementCount))
+					return null;
+				newElementCount++;
+				lastNewElementNode = newChild;
+			} else if (!elementRange.includesEnd || !isHiddenLeaf(newChild)) {
+				return null;
+			}
+		}
+		if (newElementCount != newElements.size()) {
+			return null;
+		}
+		if (elementRange.extendedToTheRight) {
+			if (lastNewElementNode == null || !lastNewElementNode.getText().equals(lastChild.getText()))
+				return null;
+		}
+		// the new text is in sync with the reused nodes, so the old nodes and objects can be replaced
+		EList<EObject> oldElements = (EList<EObject>) elementRange.container.eGet(elementRange.feature);
+		int reusedElementCount = oldElements.size() - elementRange.elements.size();
+		for (EObject oldElement : elementRange.elements) {
+			unloadSemanticObject(oldElement);
+		}
+		int index = elementRange.index;
+		for (int i = 0; i < elementRange.elements.size(); i++) {
+			oldElements.remove(index);
+		}
+		oldElements.addAll(index, new ArrayList<EObject>(newElements));
+		nodeModelBuilder.replaceChildren(parent, firstChild, lastChild, newParent);
+		StringBuilder completeContent = new StringBuilder(oldRootNode.getText());
+		replaceRegion.applyTo(completeContent);
+		nodeModelBuilder.setCompleteContent(oldRootNode, completeContent.toString());
+		((ParseResult) newParseResult).setRootASTElement(previousParseResult.getRootASTElement());
+		((ParseResult) newParseResult).setRootNode(oldRootNode);
+		statistics.recordElementRangeReparse(reparseRegion.length(), completeContent.length(), reusedElementCount);
+		if (log.isDebugEnabled()) {
+			log.debug("reparsed " + elementRange.elements.size() + " elements as " + newElementCount + " elements, reused "
+					+ reusedElementCount + " elements");
+		}
+		return newParseResult;
+	}
+
+	/**
+	 * Finds the children of the innermost node of the given list that have to be reparsed.
+	 */
+	private ElementRange findElementRange(ICompositeNode rootNode, List<ICompositeNode> parents, Range range) {
+		ICompositeNode parent = parents.get(parents.size() - 1);
+		if (parent instanceof SyntheticCompositeNode || !(parent instanceof CompositeNode))
+			return null;
+		if (parent != rootNode && (!(parent.getGrammarElement() instanceof RuleCall) || !parent.hasDirectSemanticElement()
+				|| isInvalidRootNode(rootNode, parent)))
+			return null;
+		List<INode> children = new ArrayList<INode>();
+		int first = -1;
+		int last = -1;
+		for (INode child : parent.getChildren()) {
+			if (child.getTotalEndOffset() >= range.getOffset() && child.getTotalOffset() <= range.getEndOffset()) {
+				if (first == -1)
+					first = children.size();
+				last = children.size();
+			}
+			children.add(child);
+		}
+		if (first == -1)
+			return null;
+		// a change in the trailing hidden tokens is attributed to the last element
+		while (first > 0 && isHiddenLeaf(children.get(first)))
+			first--;
+		RuleCall elementCall = getElementCall(children.get(first));
+		if (elementCall == null)
+			return null;
+		boolean trailingLeafs = false;
+		for (int i = first + 1; i <= last; i++) {
+			INode child = children.get(i);
+			if (trailingLeafs || getElementCall(child) != elementCall) {
+				if (!isHiddenLeaf(child))
+					return null;
+				trailingLeafs = true;
+			}
+		}
+		ElementRange result = new ElementRange(parent, children, elementCall);
+		boolean extendedToTheLeft = false;
+		if (first > 0) {
+			// the first token of the unchanged element is the only lookahead into the reparsed region we allow
+			if (getElementCall(children.get(first - 1)) != elementCall)
+				return null;
+			first--;
+			extendedToTheLeft = true;
+		}
+		if (trailingLeafs || last + 1 == children.size()) {
+			if (parent != rootNode)
+				return null;
+			for (int i = last + 1; i < children.size(); i++) {
+				if (!isHiddenLeaf(children.get(i)))
+					return null;
+			}
+			last = children.size() - 1;
+			result.includesEnd = true;
+		} else {
+			if (getElementCall(children.get(last + 1)) != elementCall)
+				return null;
+			last++;
+			result.extendedToTheRight = true;
+		}
+		result.first = first;
+		result.last = last;
+		INode firstChild = children.get(first);
+		if (firstChild.getTotalOffset() > range.getOffset() || children.get(last).getTotalEndOffset() < range.getEndOffset())
+			return null;
+		int lookAheadLimit = firstChild.getTotalOffset();
+		if (extendedToTheLeft) {
+			ILeafNode firstLeaf = getFirstNonHiddenLeaf(firstChild);
+			if (firstLeaf != null)
+				lookAheadLimit = firstLeaf.getTotalEndOffset();
+		}
+		if (first > 0 && children.get(first - 1) instanceof ICompositeNode
+				&& !isLookAheadConsumedBefore((ICompositeNode) children.get(first - 1), lookAheadLimit))
+			return null;
+		for (ICompositeNode enclosing : parents) {
+			if (!isLookAheadConsumedBefore(enclosing, lookAheadLimit))
+				return null;
+		}
+		return collectElements(parent, result) ? result : null;
+	}
+
+	private boolean collectElements(ICompositeNode parent, ElementRange elementRange) {
+		EObject container = getElement(parent);
+		if (container == null)
+			return false;
+		Assignment assignment = GrammarUtil.containingAssignment(elementRange.elementCall);
+		EStructuralFeature feature = container.eClass().getEStructuralFeature(assignment.getFeature());
+		if (!(feature instanceof EReference) || !((EReference) feature).isContainment() || !feature.isMany())
+			return false;
+		List<?> values = (List<?>) container.eGet(feature);
+		for (int i = elementRange.first; i <= elementRange.last; i++) {
+			INode child = elementRange.children.get(i);
+			if (child instanceof ILeafNode)
+				continue;
+			EObject element = getElement(child);
+			if (element == null || element.eContainer() != container || element.eContainingFeature() != feature)
+				return false;
+			ICompositeNode actualNode = NodeModelUtils.findActualNodeFor(element);
+			if (actualNode == null || actualNode.getTotalOffset() != child.getTotalOffset() || actualNode.getTotalEndOffset() != child.getTotalEndOffset())
+				return false;
+			if (elementRange.elements.isEmpty()) {
+				elementRange.index = values.indexOf(element);
+			} else if (values.indexOf(element) != elementRange.index + elementRange.elements.size()) {
+				return false;
+			}
+			elementRange.elements.add(element);
+		}
+		elementRange.container = container;
+		elementRange.feature = feature;
+		return true;
+	}
+
+	/**
+	 * Returns the new elements if the given object has the same type as the container of the reparsed elements and
+	 * all its other features are unset.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EObject> getElementsIfOnlyFeatureSet(EObject newContainer, ElementRange elementRange) {
+		if (newContainer.eClass() != elementRange.container.eClass())
+			return null;
+		for (EStructuralFeature feature : newContainer.eClass().getEAllStructuralFeatures()) {
+			if (feature != elementRange.feature && !feature.isDerived() && !feature.isTransient() && newContainer.eIsSet(feature))
+				return null;
+		}
+		return (List<EObject>) newContainer.eGet(elementRange.feature);
+	}
+
+	/**
+	 * @return the rule call if the given node represents one element of a multi-valued containment reference.
+	 */
+	private RuleCall getElementCall(INode node) {
+		if (!(node instanceof ICompositeNode) || node instanceof SyntheticCompositeNode)
+			return null;
+		EObject grammarElement = node.getGrammarElement();
+		if (!(grammarElement instanceof RuleCall))
+			return null;
+		RuleCall ruleCall = (RuleCall) grammarElement;
+		if (!ruleCall.getArguments().isEmpty() || !(ruleCall.getRule() instanceof ParserRule))
+			return null;
+		ParserRule rule = (ParserRule) ruleCall.getRule();
+		if (GrammarUtil.isDatatypeRule(rule) || rule.isFragment() || !rule.getParameters().isEmpty())
+			return null;
+		Assignment assignment = GrammarUtil.containingAssignment(ruleCall);
+		if (assignment == null || !"+=".equals(assignment.getOperator()))
+			return null;
+		return ruleCall;
+	}
+
+	/**
+	 * @return the outermost semantic object that is created within the given node.
+	 */
+	private EObject getElement(INode node) {
+		for (INode candidate : node.getAsTreeIterable()) {
+			if (candidate.hasDirectSemanticElement())
+				return candidate.getSemanticElement();
+		}
+		return null;
+	}
+
+	private boolean isHiddenLeaf(INode node) {
+		return node instanceof ILeafNode && ((ILeafNode) node).isHidden();
+	}
+
+	private ILeafNode getFirstNonHiddenLeaf(INode node) {
+		for (ILeafNode leaf : node.getLeafNodes()) {
+			if (!leaf.isHidden())
+				return leaf;
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether all lookahead tokens of the given node end before the given offset.
+	 */
+	private boolean isLookAheadConsumedBefore(ICompositeNode node, int offset) {
+		int remainingLookAhead = node.getLookAhead();
+		if (remainingLookAhead == 0)
+			return true;
+		for (ILeafNode leaf : node.getLeafNodes()) {
+			if (!leaf.isHidden()) {
+				remainingLookAhead--;
+				if (remainingLookAhead == 0)
+					return leaf.getTotalEndOffset() <= offset;
+			}
+		}
+		return false;
+	}
+
+	private static class ElementRange {
+		private final ICompositeNode parent;
+		private final List<INode> children;
+		private final RuleCall elementCall;
+		private final List<EObject> elements = new ArrayList<EObject>();
+		private int first;
+		private int last;
+		private boolean extendedToTheRight;
+		private boolean includesEnd;
+		private EObject container;
+		private EStructuralFeature feature;
+		private int index;
+
+		private ElementRange(ICompositeNode parent, List<INode> children, RuleCall elementCall) {
+			this.parent = parent;
+			this.children = children;
+			this.elementCall = elementCall;
+		}
+	}
 	
 	private boolean isRangePartOfExceedingLookAhead(CompositeNode node, ReplaceRegion replaceRegion) {
 		TreeIterator<AbstractNode> iterator = node.basicIterator();
@@ -224,9 +557,24 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		ICompositeNode node = previousParseResult.getRootNode();
 		ParserRule parserRule = NodeModelUtils.getEntryParserRule(node);
 		String reparseRegion = insertChangeIntoReplaceRegion(previousParseResult.getRootNode(), replaceRegion);
+		statistics.recordFullReparse(reparseRegion.length());
 		return parser.parse(parserRule, new StringReader(reparseRegion));
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	public PartialParsingStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public void setStatistics(PartialParsingStatistics statistics) {
+		this.statistics = statistics;
+	}
+
 	public void unloadNode(INode node) {
 		if (node != null) {
 			EObject semantic = node.getSemanticElement();
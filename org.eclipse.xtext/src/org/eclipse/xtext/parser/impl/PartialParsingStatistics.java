@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.parser.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.inject.Singleton;
+
+/**
+ * Counts how the {@link PartialParsingHelper} handled the changes of a language and how much of the previous
+ * parse results could be reused. The numbers are accumulated until they are {@link #reset()}.
+ *
+ * @since 2.39
+ */
+@Singleton
+public class PartialParsingStatistics {
+
+	private final AtomicLong fullReparses = new AtomicLong();
+
+	private final AtomicLong nodeReparses = new AtomicLong();
+
+	private final AtomicLong elementRangeReparses = new AtomicLong();
+
+	private final AtomicLong reparsedCharacters = new AtomicLong();
+
+	private final AtomicLong reusedCharacters = new AtomicLong();
+
+	private final AtomicLong reusedElements = new AtomicLong();
+
+	public void recordFullReparse(int length) {
+		fullReparses.incrementAndGet();
+		reparsedCharacters.addAndGet(length);
+	}
+
+	/**
+	 * A single composite node was replaced.
+	 */
+	public void recordNodeReparse(int reparsedLength, int totalLength) {
+		nodeReparses.incrementAndGet();
+		reparsedCharacters.addAndGet(reparsedLength);
+		reusedCharacters.addAndGet(totalLength - reparsedLength);
+	}
+
+	/**
+	 * A range of sibling elements was replaced and the given number of siblings was kept.
+	 */
+	public void recordElementRangeReparse(int reparsedLength, int totalLength, int reusedElementCount) {
+		elementRangeReparses.incrementAndGet();
+		reparsedCharacters.addAndGet(reparsedLength);
+		reusedCharacters.addAndGet(totalLength - reparsedLength);
+		reusedElements.addAndGet(reusedElementCount);
+	}
+
+	public long getFullReparses() {
+		return fullReparses.get();
+	}
+
+	public long getNodeReparses() {
+		return nodeReparses.get();
+	}
+
+	public long getElementRangeReparses() {
+		return elementRangeReparses.get();
+	}
+
+	public long getReparsedCharacters() {
+		return reparsedCharacters.get();
+	}
+
+	public long getReusedCharacters() {
+		return reusedCharacters.get();
+	}
+
+	/**
+	 * @return the number of sibling elements that were kept by element range reparses.
+	 */
+	public long getReusedElements() {
+		return reusedElements.get();
+	}
+
+	/**
+	 * @return the share of the text that did not have to be parsed again, between {@code 0} and {@code 1}.
+	 */
+	public double getReuseRatio() {
+		long reused = reusedCharacters.get();
+		long total = reused + reparsedCharacters.get();
+		return total == 0 ? 0 : (double) reused / total;
+	}
+
+	public void reset() {
+		fullReparses.set(0);
+		nodeReparses.set(0);
+		elementRangeReparses.set(0);
+		reparsedCharacters.set(0);
+		reusedCharacters.set(0);
+		reusedElements.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "PartialParsingStatistics [full=" + getFullReparses() + ", node=" + getNodeReparses()
+				+ ", elementRange=" + getElementRangeReparses() + ", reparsedCharacters=" + getReparsedCharacters()
+				+ ", reusedCharacters=" + getReusedCharacters() + ", reusedElements=" + getReusedElements() + "]";
+	}
+}
@@ -9,6 +9,7 @@
 package org.eclipse.xtext.resource;
 
 import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.URI;
@@ -56,6 +57,25 @@ public interface IResourceDescriptions extends ISelectable {
 		ResourceSet getResourceSet();
 	}
 
+	/**
+	 * An instance of {@link IResourceDescriptions} that maintains a reverse index of the
+	 * {@link IResourceDescription#getReferenceDescriptions() reference descriptions}, so that the resources which
+	 * reference a given resource can be found without walking all reference descriptions.
+	 * 
+	 * @since 2.39
+	 */
+	interface IReferenceIndexAware extends IResourceDescriptions {
+
+		/**
+		 * Returns the URIs of the resources with reference descriptions that point into the resource with the given
+		 * URI. References within the target resource itself are not considered. The result may contain resources that
+		 * no longer reference the target resource.
+		 * 
+		 * @return the URIs of the referencing resources, or <code>null</code> if the reverse index is not available.
+		 */
+		Set<URI> getReferencingResourceURIs(URI targetResourceURI);
+	}
+
 	class NullImpl implements IResourceDescriptions {
 
 		@Override
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.persistence.LazyStorageParseResult;
+
+import com.google.inject.Singleton;
+
+/**
+ * Estimates the memory that is retained by a loaded resource, based on the length of its text. The estimate does not
+ * depend on when the garbage collector runs, and it never triggers the reconstruction of a node model that was not
+ * materialized yet.
+ *
+ * @since 2.39
+ */
+@Singleton
+public class ResourceSizeEstimator {
+
+	/**
+	 * A rough estimate of the memory that the AST and the node model of a resource use per character of its text.
+	 */
+	private static final long BYTES_PER_CHARACTER = 64;
+
+	/**
+	 * A rough estimate of the memory that the AST of a resource that was loaded from storage uses per byte of its
+	 * serialized node model, as long as the nodes were not rebuilt.
+	 */
+	private static final long BYTES_PER_SERIALIZED_BYTE = 16;
+
+	private static final long DEFAULT_RETAINED_SIZE = 16 * 1024;
+
+	public long estimateRetainedSize(Resource resource) {
+		if (resource instanceof XtextResource) {
+			IParseResult parseResult = ((XtextResource) resource).getParseResult();
+			if (parseResult instanceof LazyStorageParseResult && !((LazyStorageParseResult) parseResult).isMaterialized()) {
+				return ((LazyStorageParseResult) parseResult).getSerializedNodeModelSize() * BYTES_PER_SERIALIZED_BYTE;
+			}
+			ICompositeNode rootNode = parseResult != null ? parseResult.getRootNode() : null;
+			if (rootNode != null) {
+				return rootNode.getTotalLength() * BYTES_PER_CHARACTER;
+			}
+		}
+		return DEFAULT_RETAINED_SIZE;
+	}
+
+}
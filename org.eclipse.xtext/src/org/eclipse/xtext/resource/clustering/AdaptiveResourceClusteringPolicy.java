@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.clustering;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.ResourceSizeEstimator;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+/**
+ * A clustering policy that caps a cluster based on an estimate of the memory that is retained by the loaded resources,
+ * in addition to the free heap checks of the {@link DynamicResourceClusteringPolicy}. The estimate of a resource is
+ * based on the length of its text, so it does not depend on when the garbage collector runs.
+ * <p>
+ * At the end of a cluster, a builder that knows the pending resources {@link #evict(ResourceSet, Collection,
+ * IResourceDescriptions) evicts} only the loaded resources that are neither pending nor referenced by a pending
+ * resource according to the index, instead of clearing the complete resource set. The evicted resources are unloaded,
+ * so the kept resources refer to their contents by proxies and do not retain them.
+ * </p>
+ * The policy collects {@link Statistics statistics} about the clusters, which are logged on debug level and can be
+ * used to tune the configuration.
+ *
+ * @since 2.39
+ */
+public class AdaptiveResourceClusteringPolicy extends DynamicResourceClusteringPolicy {
+
+	/**
+	 * The maximum estimated size of the loaded resources in percent of the maximum heap.
+	 */
+	public static final String MAXIMUM_PERCENT_RETAINED_MEMORY = "org.eclipse.xtext.resource.clustering.AdaptiveResourceClusteringPolicy.maximumPercentRetainedMemory";
+
+	private static final Logger LOGGER = Logger.getLogger(AdaptiveResourceClusteringPolicy.class);
+
+	@Inject(optional = true)
+	@Named(MAXIMUM_PERCENT_RETAINED_MEMORY)
+	private long maximumPercentRetainedMemory = 40;
+
+	@Inject
+	private ResourceSizeEstimator resourceSizeEstimator;
+
+	/**
+	 * The statistics of the clusters that were processed with a policy.
+	 */
+	public static class Statistics {
+
+		private int clusterCount;
+
+		private int largestCluster;
+
+		private int cappedByRetainedSize;
+
+		private int cappedByFreeMemory;
+
+		private long evictedResources;
+
+		private long keptResources;
+
+		private long peakRetainedSize;
+
+		/**
+		 * @return the number of completed clusters.
+		 */
+		public int getClusterCount() {
+			return clusterCount;
+		}
+
+		/**
+		 * @return the maximum number of resources that were processed in a cluster.
+		 */
+		public int getLargestCluster() {
+			return largestCluster;
+		}
+
+		/**
+		 * @return the number of clusters that were capped because of the estimated size of the loaded resources.
+		 */
+		public int getCappedByRetainedSize() {
+			return cappedByRetainedSize;
+		}
+
+		/**
+		 * @return the number of clusters that were capped because of the free heap.
+		 */
+		public int getCappedByFreeMemory() {
+			return cappedByFreeMemory;
+		}
+
+		/**
+		 * @return the number of resources that were evicted at the end of a cluster.
+		 */
+		public long getEvictedResources() {
+			return evictedResources;
+		}
+
+		/**
+		 * @return the number of resources that were kept for a pending resource at the end of a cluster.
+		 */
+		public long getKeptResources() {
+			return keptResources;
+		}
+
+		/**
+		 * @return the peak estimated size of the loaded resources in bytes.
+		 */
+		public long getPeakRetainedSize() {
+			return peakRetainedSize;
+		}
+
+		@Override
+		public String toString() {
+			return clusterCount + " clusters (largest: " + largestCluster + ", capped by retained size/free memory: "
+					+ cappedByRetainedSize + "/" + cappedByFreeMemory + "), " + evictedResources + "/" + keptResources
+					+ " evicted/kept resources, peak retained size: " + (peakRetainedSize >> 20) + "m";
+		}
+	}
+
+	private final Statistics statistics = new Statistics();
+
+	/**
+	 * The estimated retained sizes of the loaded resources that were seen so far.
+	 */
+	private final Map<Resource, Long> retainedSizes = new IdentityHashMap<>();
+
+	private long retainedSize;
+
+	private int currentCluster;
+
+	@Override
+	public synchronized boolean continueProcessing(ResourceSet resourceSet, URI next, int alreadyProcessed) {
+		if (next != null && resourceSet.getResource(next, false) != null)
+			return true;
+		currentCluster = Math.max(currentCluster, alreadyProcessed);
+		if (alreadyProcessed == 0)
+			return true;
+		long estimate = updateRetainedSize(resourceSet);
+		if (alreadyProcessed < getMinimumClusterSize())
+			return true;
+		if (estimate > getMaximumRetainedSize()) {
+			statistics.cappedByRetainedSize++;
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Cluster capped at " + alreadyProcessed + '/' + resourceSet.getResources().size()
+						+ " processed/loaded resources; " + (estimate >> 20) + "m estimated retained size");
+			}
+			return false;
+		}
+		if (!super.continueProcessing(resourceSet, next, alreadyProcessed)) {
+			statistics.cappedByFreeMemory++;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the resources that are neither pending nor referenced by a pending resource from the given resource set
+	 * and unloads them. Completes the current cluster.
+	 *
+	 * @param pending
+	 *            the URIs of the resources that remain to be processed.
+	 * @param index
+	 *            the index that provides the references of the pending resources, or <code>null</code> to use the
+	 *            index that is installed in the resource set.
+	 * @return the URIs of the evicted resources.
+	 */
+	public synchronized List<URI> evict(ResourceSet resourceSet, Collection<URI> pending, IResourceDescriptions index) {
+		Set<URI> required = getRequiredURIs(pending, index != null ? index : findIndex(resourceSet));
+		EList<Resource> resources = resourceSet.getResources();
+		List<Resource> evicted = new ArrayList<>();
+		// retainAll looks up every resource of the resource set in this set
+		Set<Resource> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Resource resource : resources) {
+			if (required.contains(resource.getURI())) {
+				kept.add(resource);
+			} else {
+				evicted.add(resource);
+			}
+		}
+		List<URI> result = new ArrayList<>(evicted.size());
+		boolean wasDeliver = resourceSet.eDeliver();
+		try {
+			resourceSet.eSetDeliver(false);
+			for (Resource resource : evicted) {
+				resource.eSetDeliver(false);
+				result.add(resource.getURI());
+			}
+			if (kept.isEmpty()) {
+				resources.clear();
+			} else {
+				resources.retainAll(kept);
+				for (Resource resource : evicted) {
+					// turn the references of the kept resources into proxies
+					resource.unload();
+				}
+			}
+		} finally {
+			resourceSet.eSetDeliver(wasDeliver);
+		}
+		for (Resource resource : evicted) {
+			Long size = retainedSizes.remove(resource);
+			if (size != null) {
+				retainedSize -= size;
+			}
+		}
+		statistics.clusterCount++;
+		statistics.largestCluster = Math.max(statistics.largestCluster, currentCluster);
+		statistics.evictedResources += evicted.size();
+		statistics.keptResources += kept.size();
+		currentCluster = 0;
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Evicted " + evicted.size() + " resources, kept " + kept.size() + "; " + statistics);
+		}
+		return result;
+	}
+
+	/**
+	 * The pending resources and the resources that they reference.
+	 */
+	protected Set<URI> getRequiredURIs(Collection<URI> pending, IResourceDescriptions index) {
+		Set<URI> result = new HashSet<>(pending);
+		if (index != null) {
+			for (URI uri : pending) {
+				IResourceDescription description = index.getResourceDescription(uri);
+				if (description != null) {
+					for (IReferenceDescription reference : description.getReferenceDescriptions()) {
+						result.add(reference.getTargetEObjectUri().trimFragment());
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	protected IResourceDescriptions findIndex(ResourceSet resourceSet) {
+		IResourceDescriptions result = ResourceDescriptionsData.ResourceSetAdapter.findResourceDescriptionsData(resourceSet);
+		if (result == null) {
+			result = ChunkedResourceDescriptions.findInEmfObject(resourceSet);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the estimates of the resources that were loaded since the last call and returns the estimated retained size
+	 * of all loaded resources.
+	 */
+	protected long updateRetainedSize(ResourceSet resourceSet) {
+		EList<Resource> resources = resourceSet.getResources();
+		// new resources are appended, so only the tail has to be inspected
+		for (int i = resources.size() - 1; i >= 0; i--) {
+			Resource resource = resources.get(i);
+			if (retainedSizes.containsKey(resource)) {
+				break;
+			}
+			long size = estimateRetainedSize(resource);
+			retainedSizes.put(resource, size);
+			retainedSize += size;
+		}
+		if (retainedSizes.size() != resources.size()) {
+			// resources were removed by someone else
+			retainedSizes.keySet().retainAll(new HashSet<>(resources));
+			retainedSize = 0;
+			for (Long size : retainedSizes.values()) {
+				retainedSize += size;
+			}
+		}
+		statistics.peakRetainedSize = Math.max(statistics.peakRetainedSize, retainedSize);
+		return retainedSize;
+	}
+
+	/**
+	 * Estimates the memory that is retained by the given resource.
+	 * 
+	 * @see ResourceSizeEstimator
+	 */
+	protected long estimateRetainedSize(Resource resource) {
+		return resourceSizeEstimator.estimateRetainedSize(resource);
+	}
+
+	public long getMaximumRetainedSize() {
+		return Runtime.getRuntime().maxMemory() / 100 * maximumPercentRetainedMemory;
+	}
+
+	public long getMaximumPercentRetainedMemory() {
+		return maximumPercentRetainedMemory;
+	}
+
+	public void setMaximumPercentRetainedMemory(long maximumPercentRetainedMemory) {
+		this.maximumPercentRetainedMemory = maximumPercentRetainedMemory;
+	}
+
+	/**
+	 * @return the statistics of the clusters that were processed so far.
+	 */
+	public Statistics getStatistics() {
+		return statistics;
+	}
+}
@@ -17,9 +17,11 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.notify.Adapter;
@@ -49,7 +51,7 @@ import com.google.common.annotations.Beta;
  */
 @Beta
 public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
-		implements IResourceDescriptions, Externalizable {
+		implements IResourceDescriptions.IReferenceIndexAware, Externalizable {
 
 	protected ConcurrentHashMap<String, ResourceDescriptionsData> chunk2resourceDescriptions = new ConcurrentHashMap<>();
 	protected ResourceSet resourceSet;
@@ -116,6 +118,25 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 		return null;
 	}
 
+	/**
+	 * Collects the referencing resources from all containers, since a resource may be referenced from other
+	 * containers than its own one.
+	 * 
+	 * @since 2.39
+	 */
+	@Override
+	public Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		Set<URI> result = new HashSet<>();
+		for (ResourceDescriptionsData container : chunk2resourceDescriptions.values()) {
+			Set<URI> referencing = container.getReferencingResourceURIs(targetResourceURI);
+			if (referencing == null) {
+				return null;
+			}
+			result.addAll(referencing);
+		}
+		return result;
+	}
+
 	public ResourceDescriptionsData getContainer(URI uri) {
 		for (ResourceDescriptionsData container : chunk2resourceDescriptions.values()) {
 			IResourceDescription description = container.getResourceDescription(uri);
@@ -8,20 +8,25 @@
  *******************************************************************************/
 package org.eclipse.xtext.resource.impl;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.ISelectable;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -35,6 +40,15 @@ public class EObjectDescriptionLookUp implements ISelectable {
 	private volatile Map<QualifiedName, List<IEObjectDescription>> nameToObjects;
 	
 	private volatile List<IEObjectDescription> allDescriptions;
+	
+	/**
+	 * The descriptions that are assignable to a certain type, in the order of {@link #allDescriptions}. Computed on
+	 * demand for the requested types. Types that match all or none of the descriptions share the same lists, the
+	 * others store the indexes of their descriptions instead of a copy.
+	 * 
+	 * @since 2.39
+	 */
+	private volatile Map<EClass, List<IEObjectDescription>> typeToObjects;
 
 	public EObjectDescriptionLookUp(List<IEObjectDescription> allDescriptions) {
 		setExportedObjects(allDescriptions);
@@ -47,14 +61,65 @@ public class EObjectDescriptionLookUp implements ISelectable {
 	
 	@Override
 	public Iterable<IEObjectDescription> getExportedObjectsByType(final EClass type) {
-		if (allDescriptions.isEmpty())
+		if (allDescriptions.isEmpty() || type == null)
 			return Collections.emptyList();
-		return Iterables.filter(allDescriptions, new Predicate<IEObjectDescription>() {
-			@Override
-			public boolean apply(IEObjectDescription input) {
-				return EcoreUtil2.isAssignableFrom(type, input.getEClass());
+		if (type == EcorePackage.Literals.EOBJECT)
+			return allDescriptions;
+		return getTypeToObjects().computeIfAbsent(type, this::computeObjectsByType);
+	}
+	
+	/**
+	 * @since 2.39
+	 */
+	protected List<IEObjectDescription> computeObjectsByType(EClass type) {
+		List<IEObjectDescription> descriptions = allDescriptions;
+		if (!(descriptions instanceof RandomAccess)) {
+			return ImmutableList.copyOf(Iterables.filter(descriptions, new Predicate<IEObjectDescription>() {
+				@Override
+				public boolean apply(IEObjectDescription input) {
+					return EcoreUtil2.isAssignableFrom(type, input.getEClass());
+				}
+			}));
+		}
+		int[] indexes = new int[descriptions.size()];
+		int size = 0;
+		for (int i = 0; i < descriptions.size(); i++) {
+			if (EcoreUtil2.isAssignableFrom(type, descriptions.get(i).getEClass())) {
+				indexes[size++] = i;
 			}
-		});
+		}
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		if (size == descriptions.size()) {
+			return descriptions;
+		}
+		return new IndexedDescriptions(descriptions, Arrays.copyOf(indexes, size));
+	}
+
+	/**
+	 * A view on the descriptions at the given indexes.
+	 */
+	private static class IndexedDescriptions extends AbstractList<IEObjectDescription> implements RandomAccess {
+
+		private final List<IEObjectDescription> descriptions;
+
+		private final int[] indexes;
+
+		IndexedDescriptions(List<IEObjectDescription> descriptions, int[] indexes) {
+			this.descriptions = descriptions;
+			this.indexes = indexes;
+		}
+
+		@Override
+		public IEObjectDescription get(int index) {
+			return descriptions.get(indexes[index]);
+		}
+
+		@Override
+		public int size() {
+			return indexes.length;
+		}
 	}
 	
 	@Override
@@ -107,7 +172,8 @@ public class EObjectDescriptionLookUp implements ISelectable {
 	public void setExportedObjects(List<IEObjectDescription> allDescriptions) {
 		synchronized (this) {
 			this.allDescriptions = allDescriptions;
-			this.nameToObjects = null;			
+			this.nameToObjects = null;
+			this.typeToObjects = null;
 		}
 	}
 
@@ -133,6 +199,23 @@ public class EObjectDescriptionLookUp implements ISelectable {
 		return this.nameToObjects;
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	protected Map<EClass, List<IEObjectDescription>> getTypeToObjects() {
+		Map<EClass, List<IEObjectDescription>> result = typeToObjects;
+		if (result == null) {
+			synchronized (this) {
+				result = typeToObjects;
+				if (result == null) {
+					result = new ConcurrentHashMap<>(4);
+					typeToObjects = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	protected void putIntoMap(Map<QualifiedName, List<IEObjectDescription>> nameToObjects,
 			IEObjectDescription description) {
 		QualifiedName indexKey = description.getName().toLowerCase();
@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map that is implemented as a hash array mapped trie. Modifications return a new map that shares
+ * all unchanged nodes with this map, so they only copy the path from the root to the modified entry. Instances can be
+ * read concurrently without any synchronization.
+ *
+ * Bulk modifications should use a {@link Transient transient} map that modifies the nodes that it created itself in
+ * place.
+ *
+ * Neither keys nor values may be <code>null</code>. The iteration order is unspecified.
+ *
+ * @since 2.39
+ */
+final class PersistentHashMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+	private static final int BITS = 5;
+
+	private static final int MASK = (1 << BITS) - 1;
+
+	private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+	@SuppressWarnings("unchecked")
+	static <K, V> PersistentHashMap<K, V> empty() {
+		return (PersistentHashMap<K, V>) EMPTY;
+	}
+
+	private final Node root;
+
+	private final int size;
+
+	private PersistentHashMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	V get(Object key) {
+		if (root == null) {
+			return null;
+		}
+		return (V) root.find(0, hash(key), key);
+	}
+
+	boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	PersistentHashMap<K, V> put(K key, V value) {
+		Objects.requireNonNull(value);
+		boolean[] added = new boolean[1];
+		Node newRoot = getRoot().put(null, 0, hash(key), key, value, added);
+		if (newRoot == root) {
+			return this;
+		}
+		return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+	}
+
+	PersistentHashMap<K, V> remove(Object key) {
+		if (root == null) {
+			return this;
+		}
+		Node newRoot = root.remove(null, 0, hash(key), key);
+		if (newRoot == root) {
+			return this;
+		}
+		return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+	}
+
+	Transient<K, V> asTransient() {
+		return new Transient<>(root, size);
+	}
+
+	private Node getRoot() {
+		return root == null ? BitmapNode.EMPTY : root;
+	}
+
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator() {
+		return new EntryIterator<>(root);
+	}
+
+	Iterable<V> values() {
+		return () -> {
+			Iterator<Map.Entry<K, V>> entries = iterator();
+			return new Iterator<V>() {
+				@Override
+				public boolean hasNext() {
+					return entries.hasNext();
+				}
+
+				@Override
+				public V next() {
+					return entries.next().getValue();
+				}
+			};
+		};
+	}
+
+	/**
+	 * An unmodifiable view of the keys of this map.
+	 */
+	Set<K> keySet() {
+		return new AbstractSet<K>() {
+			@Override
+			public Iterator<K> iterator() {
+				Iterator<Map.Entry<K, V>> entries = PersistentHashMap.this.iterator();
+				return new Iterator<K>() {
+					@Override
+					public boolean hasNext() {
+						return entries.hasNext();
+					}
+
+					@Override
+					public K next() {
+						return entries.next().getKey();
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return o != null && containsKey(o);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static int bitpos(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	/**
+	 * A map that modifies the nodes which it created in place. It must not be used after it was turned into a
+	 * {@link #persistent() persistent} map again.
+	 */
+	static final class Transient<K, V> {
+
+		private Object edit = new Object();
+
+		private Node root;
+
+		private int size;
+
+		private Transient(Node root, int size) {
+			this.root = root;
+			this.size = size;
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(Object key) {
+			ensureEditable();
+			if (root == null) {
+				return null;
+			}
+			return (V) root.find(0, hash(key), key);
+		}
+
+		void put(K key, V value) {
+			ensureEditable();
+			Objects.requireNonNull(value);
+			boolean[] added = new boolean[1];
+			root = (root == null ? BitmapNode.EMPTY : root).put(edit, 0, hash(key), key, value, added);
+			if (added[0]) {
+				size++;
+			}
+		}
+
+		void remove(Object key) {
+			ensureEditable();
+			// nodes may be modified in place, so the size cannot be derived from the identity of the new root
+			if (get(key) != null) {
+				root = root.remove(edit, 0, hash(key), key);
+				size--;
+			}
+		}
+
+		PersistentHashMap<K, V> persistent() {
+			ensureEditable();
+			edit = null;
+			return root == null ? empty() : new PersistentHashMap<>(root, size);
+		}
+
+		private void ensureEditable() {
+			if (edit == null) {
+				throw new IllegalStateException("The transient map was already turned into a persistent map.");
+			}
+		}
+	}
+
+	/**
+	 * The entries of a node are stored as pairs of key and value in a flat array. A pair with a <code>null</code> key
+	 * holds a child node as its value.
+	 */
+	private static abstract class Node {
+
+		/**
+		 * The owner of this node. Only a {@link Transient} with the same edit object may modify this node in place.
+		 */
+		final Object edit;
+
+		Object[] array;
+
+		Node(Object edit, Object[] array) {
+			this.edit = edit;
+			this.array = array;
+		}
+
+		boolean isEditableBy(Object edit) {
+			return edit != null && this.edit == edit;
+		}
+
+		abstract Object find(int shift, int hash, Object key);
+
+		abstract Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+		/**
+		 * @return the node without the given key, or <code>null</code> if the node becomes empty.
+		 */
+		abstract Node remove(Object edit, int shift, int hash, Object key);
+	}
+
+	private static final class BitmapNode extends Node {
+
+		static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+		int bitmap;
+
+		BitmapNode(Object edit, int bitmap, Object[] array) {
+			super(edit, array);
+			this.bitmap = bitmap;
+		}
+
+		private int index(int bit) {
+			return Integer.bitCount(bitmap & (bit - 1));
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			int bit = bitpos(hash, shift);
+			if ((bitmap & bit) == 0) {
+				return null;
+			}
+			int index = 2 * index(bit);
+			Object existingKey = array[index];
+			Object existingValue = array[index + 1];
+			if (existingKey == null) {
+				return ((Node) existingValue).find(shift + BITS, hash, key);
+			}
+			return key.equals(existingKey) ? existingValue : null;
+		}
+
+		@Override
+		Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+			int bit = bitpos(hash, shift);
+			int index = 2 * index(bit);
+			if ((bitmap & bit) != 0) {
+				Object existingKey = array[index];
+				Object existingValue = array[index + 1];
+				if (existingKey == null) {
+					Node child = ((Node) existingValue).put(edit, shift + BITS, hash, key, value, added);
+					if (child == existingValue) {
+						return this;
+					}
+					return set(edit, index, null, child);
+				}
+				if (key.equals(existingKey)) {
+					if (value == existingValue) {
+						return this;
+					}
+					return set(edit, index, existingKey, value);
+				}
+				added[0] = true;
+				Node child = createNode(edit, shift + BITS, existingKey, existingValue, hash, key, value);
+				return set(edit, index, null, child);
+			}
+			added[0] = true;
+			Object[] newArray = new Object[array.length + 2];
+			System.arraycopy(array, 0, newArray, 0, index);
+			newArray[index] = key;
+			newArray[index + 1] = value;
+			System.arraycopy(array, index, newArray, index + 2, array.length - index);
+			if (isEditableBy(edit)) {
+				bitmap |= bit;
+				array = newArray;
+				return this;
+			}
+			return new BitmapNode(edit, bitmap | bit, newArray);
+		}
+
+		@Override
+		Node remove(Object edit, int shift, int hash, Object key) {
+			int bit = bitpos(hash, shift);
+			if ((bitmap & bit) == 0) {
+				return this;
+			}
+			int index = 2 * index(bit);
+			Object existingKey = array[index];
+			Object existingValue = array[index + 1];
+			if (existingKey == null) {
+				Node child = ((Node) existingValue).remove(edit, shift + BITS, hash, key);
+				if (child == existingValue) {
+					return this;
+				}
+				if (child != null) {
+					if (child.array.length == 2 && child.array[0] != null) {
+						// inline the last remaining entry of the child
+						return set(edit, index, child.array[0], child.array[1]);
+					}
+					return set(edit, index, null, child);
+				}
+			} else if (!key.equals(existingKey)) {
+				return this;
+			}
+			if (bitmap == bit) {
+				return null;
+			}
+			Object[] newArray = new Object[array.length - 2];
+			System.arraycopy(array, 0, newArray, 0, index);
+			System.arraycopy(array, index + 2, newArray, index, newArray.length - index);
+			if (isEditableBy(edit)) {
+				bitmap ^= bit;
+				array = newArray;
+				return this;
+			}
+			return new BitmapNode(edit, bitmap ^ bit, newArray);
+		}
+
+		private Node set(Object edit, int index, Object key, Object value) {
+			BitmapNode result = isEditableBy(edit) ? this : new BitmapNode(edit, bitmap, array.clone());
+			result.array[index] = key;
+			result.array[index + 1] = value;
+			return result;
+		}
+
+		private static Node createNode(Object edit, int shift, Object key1, Object value1, int hash2, Object key2,
+				Object value2) {
+			int hash1 = hash(key1);
+			if (hash1 == hash2) {
+				return new CollisionNode(edit, hash1, new Object[] { key1, value1, key2, value2 });
+			}
+			boolean[] added = new boolean[1];
+			return EMPTY.put(edit, shift, hash1, key1, value1, added).put(edit, shift, hash2, key2, value2, added);
+		}
+	}
+
+	/**
+	 * Holds the entries whose keys have the same hash code.
+	 */
+	private static final class CollisionNode extends Node {
+
+		final int hash;
+
+		CollisionNode(Object edit, int hash, Object[] array) {
+			super(edit, array);
+			this.hash = hash;
+		}
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < array.length; i += 2) {
+				if (key.equals(array[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			if (hash != this.hash) {
+				return null;
+			}
+			int index = indexOf(key);
+			return index < 0 ? null : array[index + 1];
+		}
+
+		@Override
+		Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+			if (hash != this.hash) {
+				BitmapNode parent = new BitmapNode(edit, bitpos(this.hash, shift), new Object[] { null, this });
+				return parent.put(edit, shift, hash, key, value, added);
+			}
+			int index = indexOf(key);
+			if (index >= 0) {
+				if (array[index + 1] == value) {
+					return this;
+				}
+				CollisionNode result = isEditableBy(edit) ? this : new CollisionNode(edit, hash, array.clone());
+				result.array[index + 1] = value;
+				return result;
+			}
+			added[0] = true;
+			Object[] newArray = new Object[array.length + 2];
+			System.arraycopy(array, 0, newArray, 0, array.length);
+			newArray[array.length] = key;
+			newArray[array.length + 1] = value;
+			if (isEditableBy(edit)) {
+				array = newArray;
+				return this;
+			}
+			return new CollisionNode(edit, hash, newArray);
+		}
+
+		@Override
+		Node remove(Object edit, int shift, int hash, Object key) {
+			if (hash != this.hash) {
+				return this;
+			}
+			int index = indexOf(key);
+			if (index < 0) {
+				return this;
+			}
+			if (array.length == 2) {
+				return null;
+			}
+			Object[] newArray = new Object[array.length - 2];
+			System.arraycopy(array, 0, newArray, 0, index);
+			System.arraycopy(array, index + 2, newArray, index, newArray.length - index);
+			if (isEditableBy(edit)) {
+				array = newArray;
+				return this;
+			}
+			return new CollisionNode(edit, hash, newArray);
+		}
+	}
+
+	private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+		// the depth of the trie is bounded by the number of hash bits, plus one level of collision nodes
+		private final Object[][] arrays = new Object[32 / BITS + 2][];
+
+		private final int[] indexes = new int[arrays.length];
+
+		private int depth = -1;
+
+		private Map.Entry<K, V> next;
+
+		EntryIterator(Node root) {
+			if (root != null) {
+				depth = 0;
+				arrays[0] = root.array;
+			}
+			next = computeNext();
+		}
+
+		@SuppressWarnings("unchecked")
+		private Map.Entry<K, V> computeNext() {
+			while (depth >= 0) {
+				Object[] array = arrays[depth];
+				int index = indexes[depth];
+				if (index >= array.length) {
+					arrays[depth] = null;
+					indexes[depth] = 0;
+					depth--;
+					continue;
+				}
+				indexes[depth] = index + 2;
+				Object key = array[index];
+				Object value = array[index + 1];
+				if (key == null) {
+					depth++;
+					arrays[depth] = ((Node) value).array;
+					indexes[depth] = 0;
+				} else {
+					return new AbstractMap.SimpleImmutableEntry<>((K) key, (V) value);
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			Map.Entry<K, V> result = next;
+			next = computeNext();
+			return result;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+
+/**
+ * A {@link ResourceDescriptionsData} that keeps its resource descriptions and its lookup table in persistent hash
+ * maps. A {@link #copy()} is a snapshot that shares all data with this instance and costs constant time, regardless
+ * of the size of the index. Subsequent modifications of either instance only copy the modified paths of the maps.
+ *
+ * Readers never block and always see a consistent state, even if another thread modifies the data concurrently.
+ * Modifications are serialized.
+ *
+ * In contrast to the {@link ResourceDescriptionsData}, the order of the {@link #getAllResourceDescriptions() resource
+ * descriptions} is unspecified. Since copies retain the type of the original data, a language server can opt in by
+ * passing an instance of this class as the initial index state of a project.
+ *
+ * @since 2.39
+ */
+@Beta
+public class PersistentResourceDescriptionsData extends ResourceDescriptionsData {
+
+	private static final class State {
+
+		final PersistentHashMap<URI, IResourceDescription> descriptions;
+
+		/**
+		 * The values are either a single {@link IResourceDescription} or an {@link IResourceDescription} array with
+		 * at least two elements.
+		 */
+		final PersistentHashMap<QualifiedName, Object> lookup;
+
+		State(PersistentHashMap<URI, IResourceDescription> descriptions, PersistentHashMap<QualifiedName, Object> lookup) {
+			this.descriptions = descriptions;
+			this.lookup = lookup;
+		}
+	}
+
+	private volatile State state;
+
+	public PersistentResourceDescriptionsData() {
+		this(Collections.emptyList());
+	}
+
+	public PersistentResourceDescriptionsData(Iterable<IResourceDescription> descriptions) {
+		super(Collections.emptyList());
+		PersistentHashMap.Transient<URI, IResourceDescription> descriptionMap = PersistentHashMap
+				.<URI, IResourceDescription> empty().asTransient();
+		PersistentHashMap.Transient<QualifiedName, Object> lookup = PersistentHashMap.<QualifiedName, Object> empty()
+				.asTransient();
+		for (IResourceDescription description : descriptions) {
+			IResourceDescription existing = descriptionMap.get(description.getURI());
+			if (existing != null) {
+				removeFromLookup(existing, lookup);
+			}
+			descriptionMap.put(description.getURI(), description);
+			addToLookup(description, lookup);
+		}
+		state = new State(descriptionMap.persistent(), lookup.persistent());
+	}
+
+	private PersistentResourceDescriptionsData(State state) {
+		super(Collections.emptyList());
+		this.state = state;
+	}
+
+	@Override
+	public ResourceDescriptionsData copy() {
+		return new PersistentResourceDescriptionsData(state);
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return state.descriptions.values();
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		return state.descriptions.get(uri);
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		return state.descriptions.keySet();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return state.descriptions.isEmpty();
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return getAllResourceDescriptions();
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName, boolean ignoreCase) {
+		Object existing = state.lookup.get(qualifiedName.toLowerCase());
+		if (existing instanceof IResourceDescription) {
+			return ((IResourceDescription) existing).getExportedObjects(type, qualifiedName, ignoreCase);
+		} else if (existing instanceof IResourceDescription[]) {
+			return Iterables.concat(Iterables.transform(Arrays.asList((IResourceDescription[]) existing),
+					(it) -> it.getExportedObjects(type, qualifiedName, ignoreCase)));
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * The persistent maps do not maintain a reverse reference index.
+	 * 
+	 * @return <code>null</code>
+	 */
+	@Override
+	public Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		return null;
+	}
+
+	@Override
+	public synchronized void removeDescription(URI uri) {
+		State current = state;
+		IResourceDescription oldDescription = current.descriptions.get(uri);
+		if (oldDescription != null) {
+			PersistentHashMap.Transient<QualifiedName, Object> lookup = current.lookup.asTransient();
+			removeFromLookup(oldDescription, lookup);
+			state = new State(current.descriptions.remove(uri), lookup.persistent());
+		}
+	}
+
+	@Override
+	public synchronized void addDescription(URI uri, IResourceDescription newDescription) {
+		State current = state;
+		IResourceDescription oldDescription = current.descriptions.get(uri);
+		if (oldDescription == null && newDescription == null) {
+			return;
+		}
+		PersistentHashMap.Transient<QualifiedName, Object> lookup = current.lookup.asTransient();
+		if (oldDescription != null) {
+			removeFromLookup(oldDescription, lookup);
+		}
+		PersistentHashMap<URI, IResourceDescription> descriptions;
+		if (newDescription != null) {
+			addToLookup(newDescription, lookup);
+			descriptions = current.descriptions.put(uri, newDescription);
+		} else {
+			descriptions = current.descriptions.remove(uri);
+		}
+		state = new State(descriptions, lookup.persistent());
+	}
+
+	private void addToLookup(IResourceDescription description, PersistentHashMap.Transient<QualifiedName, Object> lookup) {
+		for (IEObjectDescription object : description.getExportedObjects()) {
+			QualifiedName lowerCase = object.getName().toLowerCase();
+			Object existing = lookup.get(lowerCase);
+			if (existing == null) {
+				lookup.put(lowerCase, description);
+			} else if (existing instanceof IResourceDescription) {
+				if (existing != description) {
+					lookup.put(lowerCase, new IResourceDescription[] { (IResourceDescription) existing, description });
+				}
+			} else {
+				IResourceDescription[] casted = (IResourceDescription[]) existing;
+				if (indexOf(casted, description) < 0) {
+					IResourceDescription[] newValue = Arrays.copyOf(casted, casted.length + 1);
+					newValue[casted.length] = description;
+					lookup.put(lowerCase, newValue);
+				}
+			}
+		}
+	}
+
+	private void removeFromLookup(IResourceDescription description, PersistentHashMap.Transient<QualifiedName, Object> lookup) {
+		for (IEObjectDescription object : description.getExportedObjects()) {
+			QualifiedName lowerCase = object.getName().toLowerCase();
+			Object existing = lookup.get(lowerCase);
+			if (existing == description) {
+				lookup.remove(lowerCase);
+			} else if (existing instanceof IResourceDescription[]) {
+				IResourceDescription[] casted = (IResourceDescription[]) existing;
+				int index = indexOf(casted, description);
+				if (index >= 0) {
+					if (casted.length == 2) {
+						lookup.put(lowerCase, casted[1 - index]);
+					} else {
+						IResourceDescription[] newValue = new IResourceDescription[casted.length - 1];
+						System.arraycopy(casted, 0, newValue, 0, index);
+						System.arraycopy(casted, index + 1, newValue, index, newValue.length - index);
+						lookup.put(lowerCase, newValue);
+					}
+				}
+			}
+		}
+	}
+
+	private int indexOf(IResourceDescription[] descriptions, IResourceDescription description) {
+		for (int i = 0; i < descriptions.length; i++) {
+			if (descriptions[i] == description) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -10,6 +10,8 @@ package org.eclipse.xtext.resource.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -24,6 +26,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescriptions;
@@ -42,7 +45,7 @@ import com.google.common.collect.Sets;
  * @since 2.5
  * 
  */
-@Beta public class ResourceDescriptionsData extends AbstractCompoundSelectable implements IResourceDescriptions {
+@Beta public class ResourceDescriptionsData extends AbstractCompoundSelectable implements IResourceDescriptions.IReferenceIndexAware {
 	
 	public static class ResourceSetAdapter extends AdapterImpl {
 		
@@ -91,6 +94,132 @@ import com.google.common.collect.Sets;
 	 */
 	private final Map<QualifiedName, Object> lookupMap;
 
+	/**
+	 * The reverse index of the reference descriptions. It is created by the first call to
+	 * {@link #getReferencingResourceURIs(URI)} or {@link #restoreReferenceIndex(Map)} and maintained by {@link #removeDescription(URI)} and
+	 * {@link #addDescription(URI, IResourceDescription)} afterwards. A {@link #copy() copy} shares the index until
+	 * either of them modifies it.
+	 */
+	private ReferenceIndex referenceIndex;
+
+	/**
+	 * Maps the target resources of the reference descriptions to their source resources. Added resource descriptions
+	 * are indexed lazily, so that their reference descriptions are only computed once the index is queried.
+	 */
+	private static class ReferenceIndex {
+
+		/**
+		 * Whether this index is used by more than one {@link ResourceDescriptionsData}, in which case it must not be
+		 * modified anymore.
+		 */
+		private volatile boolean shared;
+
+		private final Map<URI, Set<URI>> targetsBySource;
+
+		private final Map<URI, Set<URI>> sourcesByTarget;
+
+		private final Set<URI> pending;
+
+		ReferenceIndex(Set<URI> pending) {
+			this(new HashMap<>(), new HashMap<>(), new HashSet<>(pending));
+		}
+
+		private ReferenceIndex(Map<URI, Set<URI>> targetsBySource, Map<URI, Set<URI>> sourcesByTarget, Set<URI> pending) {
+			this.targetsBySource = targetsBySource;
+			this.sourcesByTarget = sourcesByTarget;
+			this.pending = pending;
+		}
+
+		ReferenceIndex copy() {
+			return new ReferenceIndex(deepCopy(targetsBySource), deepCopy(sourcesByTarget), new HashSet<>(pending));
+		}
+
+		private static Map<URI, Set<URI>> deepCopy(Map<URI, Set<URI>> map) {
+			Map<URI, Set<URI>> result = Maps.newHashMapWithExpectedSize(map.size());
+			for (Map.Entry<URI, Set<URI>> entry : map.entrySet()) {
+				result.put(entry.getKey(), new HashSet<>(entry.getValue()));
+			}
+			return result;
+		}
+
+		void add(URI source) {
+			remove(source);
+			pending.add(source);
+		}
+
+		void remove(URI source) {
+			pending.remove(source);
+			Set<URI> targets = targetsBySource.remove(source);
+			if (targets != null) {
+				for (URI target : targets) {
+					Set<URI> sources = sourcesByTarget.get(target);
+					if (sources != null && sources.remove(source) && sources.isEmpty()) {
+						sourcesByTarget.remove(target);
+					}
+				}
+			}
+		}
+
+		boolean hasPending() {
+			return !pending.isEmpty();
+		}
+
+		void indexPending(Map<URI, IResourceDescription> descriptions) {
+			for (URI source : pending) {
+				IResourceDescription description = descriptions.get(source);
+				if (description != null) {
+					index(source, description);
+				}
+			}
+			pending.clear();
+		}
+
+		void restore(URI source, Set<URI> targets) {
+			if (pending.remove(source)) {
+				Set<URI> copiedTargets = new HashSet<>(targets);
+				copiedTargets.remove(source);
+				if (!copiedTargets.isEmpty()) {
+					targetsBySource.put(source, copiedTargets);
+					for (URI target : copiedTargets) {
+						sourcesByTarget.computeIfAbsent(target, (it) -> new HashSet<>()).add(source);
+					}
+				}
+			}
+		}
+
+		Set<URI> getTargets(URI source) {
+			Set<URI> targets = targetsBySource.get(source);
+			if (targets == null) {
+				return Collections.emptySet();
+			}
+			return Collections.unmodifiableSet(new HashSet<>(targets));
+		}
+
+		Set<URI> getSources(URI target) {
+			Set<URI> sources = sourcesByTarget.get(target);
+			if (sources == null) {
+				return Collections.emptySet();
+			}
+			return Collections.unmodifiableSet(new HashSet<>(sources));
+		}
+
+		private void index(URI source, IResourceDescription description) {
+			Set<URI> targets = new HashSet<>();
+			for (IReferenceDescription reference : description.getReferenceDescriptions()) {
+				URI target = reference.getTargetEObjectUri();
+				if (target != null) {
+					URI targetResource = target.trimFragment();
+					if (!targetResource.equals(source) && targets.add(targetResource)) {
+						sourcesByTarget.computeIfAbsent(targetResource, (it) -> new HashSet<>()).add(source);
+					}
+				}
+			}
+			if (!targets.isEmpty()) {
+				targetsBySource.put(source, targets);
+			}
+		}
+	}
+
 	public ResourceDescriptionsData(Iterable<IResourceDescription> descriptions) {
 		int expectedSize = 500; // magic number in case it's not a Collection
 		if (descriptions instanceof Collection) {
@@ -113,9 +242,28 @@ import com.google.common.collect.Sets;
 	}
 	
 	public ResourceDescriptionsData copy() {
-		return new ResourceDescriptionsData(
+		ResourceDescriptionsData result = new ResourceDescriptionsData(
 				Maps.newLinkedHashMap(resourceDescriptionMap),
 				copyLookupMap());
+		result.referenceIndex = shareReferenceIndex();
+		return result;
+	}
+
+	private synchronized ReferenceIndex shareReferenceIndex() {
+		if (referenceIndex != null) {
+			referenceIndex.shared = true;
+		}
+		return referenceIndex;
+	}
+
+	/**
+	 * Returns the reference index for modification, copying it first if it is shared with a {@link #copy() copy}.
+	 */
+	private ReferenceIndex getModifiableReferenceIndex() {
+		if (referenceIndex.shared) {
+			referenceIndex = referenceIndex.copy();
+		}
+		return referenceIndex;
 	}
 	
 	protected Map<QualifiedName, Object> copyLookupMap() {
@@ -146,6 +294,7 @@ import com.google.common.collect.Sets;
 	public void removeDescription(URI uri) {
 		IResourceDescription oldDescription = resourceDescriptionMap.remove(uri);
 		if (oldDescription != null) {
+			updateReferenceIndex(uri, false);
 			for(IEObjectDescription object: oldDescription.getExportedObjects()) {
 				QualifiedName objectName = object.getName().toLowerCase();
 				Object existing = lookupMap.get(objectName);
@@ -209,6 +358,77 @@ import com.google.common.collect.Sets;
 		if (newDescription != null) {
 			resourceDescriptionMap.put(uri, newDescription);
 			registerDescription(newDescription, lookupMap);
+			updateReferenceIndex(uri, true);
+		}
+	}
+
+	private synchronized void updateReferenceIndex(URI uri, boolean added) {
+		if (referenceIndex != null) {
+			if (added) {
+				getModifiableReferenceIndex().add(uri);
+			} else {
+				getModifiableReferenceIndex().remove(uri);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The reverse index is populated from the reference descriptions of all resource descriptions on the first call,
+	 * and maintained incrementally afterwards. It is shared with a {@link #copy() copy} of the data until either of
+	 * them is modified.
+	 * 
+	 * @since 2.39
+	 */
+	@Override
+	public synchronized Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		return getIndexedReferenceIndex().getSources(targetResourceURI);
+	}
+
+	private ReferenceIndex getIndexedReferenceIndex() {
+		if (referenceIndex == null) {
+			referenceIndex = new ReferenceIndex(resourceDescriptionMap.keySet());
+		}
+		if (referenceIndex.hasPending()) {
+			getModifiableReferenceIndex().indexPending(resourceDescriptionMap);
+		}
+		return referenceIndex;
+	}
+
+	/**
+	 * Returns the reverse index in a form that can be persisted alongside the resource descriptions and passed to
+	 * {@link #restoreReferenceIndex(Map)} after they have been loaded again.
+	 * 
+	 * @return the URIs of the resources that are referenced by each resource of this data.
+	 * @since 2.39
+	 */
+	public synchronized Map<URI, Set<URI>> getReferenceIndex() {
+		ReferenceIndex index = getIndexedReferenceIndex();
+		Map<URI, Set<URI>> result = Maps.newLinkedHashMapWithExpectedSize(resourceDescriptionMap.size());
+		for (URI source : resourceDescriptionMap.keySet()) {
+			result.put(source, index.getTargets(source));
+		}
+		return result;
+	}
+
+	/**
+	 * Restores the reverse index of the given resources from the result of {@link #getReferenceIndex()}, such that
+	 * their reference descriptions don't have to be walked again. The caller is responsible for passing only
+	 * resources whose descriptions did not change since the index was obtained. Resources that are missing in the
+	 * given map are indexed lazily as usual.
+	 * 
+	 * @since 2.39
+	 */
+	public synchronized void restoreReferenceIndex(Map<URI, Set<URI>> targetsBySource) {
+		if (referenceIndex == null) {
+			referenceIndex = new ReferenceIndex(resourceDescriptionMap.keySet());
+		}
+		ReferenceIndex index = getModifiableReferenceIndex();
+		for (Map.Entry<URI, Set<URI>> entry : targetsBySource.entrySet()) {
+			if (resourceDescriptionMap.containsKey(entry.getKey())) {
+				index.restore(entry.getKey(), entry.getValue());
+			}
 		}
 	}
 
@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+/**
+ * Writes resource descriptions in the compact binary index format that is read by
+ * {@link MappedResourceDescriptions}.
+ *
+ * All strings, i.e. URIs, name segments, user data and the URIs of the {@link org.eclipse.emf.ecore.EClass
+ * EClasses}, are interned into a single string table. Exported objects are stored as fixed size records and are
+ * indexed by the hash of their lower case name and by their {@link org.eclipse.emf.ecore.EClass}. Resources are
+ * indexed by the hash of their URI. A file must not exceed 2GB.
+ *
+ * @since 2.39
+ */
+public class BinaryResourceDescriptionsWriter {
+
+	static final int MAGIC = 0x58494458; // XIDX
+
+	static final int VERSION = 1;
+
+	static final int HEADER_SIZE = 64;
+
+	static final int RESOURCE_RECORD_SIZE = 16;
+
+	static final int OBJECT_RECORD_SIZE = 20;
+
+	static final int NULL = -1;
+
+	private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+	private final ByteArrayOutputStream blobBytes = new ByteArrayOutputStream();
+
+	private final DataOutputStream blob = new DataOutputStream(blobBytes);
+
+	/**
+	 * Write the given resource descriptions to the given file. The file is replaced atomically if the file system
+	 * supports it.
+	 */
+	public void write(Iterable<? extends IResourceDescription> descriptions, Path file) throws IOException {
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+			write(descriptions, out);
+		}
+		try {
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Write the given resource descriptions to the given stream. The stream is not closed.
+	 */
+	public void write(Iterable<? extends IResourceDescription> descriptions, OutputStream out) throws IOException {
+		strings.clear();
+		blobBytes.reset();
+		List<int[]> resources = new ArrayList<>();
+		List<int[]> objects = new ArrayList<>();
+		List<long[]> uriIndex = new ArrayList<>();
+		List<long[]> nameIndex = new ArrayList<>();
+		Map<Integer, List<Integer>> typeIndex = new LinkedHashMap<>();
+		for (IResourceDescription description : descriptions) {
+			URI uri = description.getURI();
+			int resourceIdx = resources.size();
+			int firstObject = objects.size();
+			for (IEObjectDescription object : description.getExportedObjects()) {
+				int objectIdx = objects.size();
+				int eClass = intern(uri(object.getEClass()));
+				objects.add(new int[] { resourceIdx, eClass, objectURI(uri, object.getEObjectURI()),
+						writeQualifiedName(object.getName()), writeUserData(object) });
+				nameIndex.add(new long[] { object.getName().toLowerCase().hashCode(), objectIdx });
+				typeIndex.computeIfAbsent(eClass, (it) -> new ArrayList<>()).add(objectIdx);
+			}
+			int payload = blobBytes.size();
+			writeImportedNames(description.getImportedNames());
+			writeReferences(description.getReferenceDescriptions());
+			resources.add(new int[] { intern(uri.toString()), firstObject, objects.size() - firstObject, payload });
+			uriIndex.add(new long[] { uri.toString().hashCode(), resourceIdx });
+		}
+		blob.flush();
+
+		ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+		DataOutputStream stringsOut = new DataOutputStream(stringBytes);
+		int[] stringOffsets = new int[strings.size()];
+		int i = 0;
+		for (String string : strings.keySet()) {
+			stringOffsets[i++] = stringBytes.size();
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			stringsOut.writeInt(bytes.length);
+			stringsOut.write(bytes);
+		}
+		stringsOut.flush();
+
+		int blobPos = HEADER_SIZE;
+		int stringsPos = blobPos + blobBytes.size();
+		int stringOffsetsPos = stringsPos + stringBytes.size();
+		int resourcesPos = stringOffsetsPos + 4 * stringOffsets.length;
+		int objectsPos = resourcesPos + RESOURCE_RECORD_SIZE * resources.size();
+		int nameIndexPos = objectsPos + OBJECT_RECORD_SIZE * objects.size();
+		int uriIndexPos = nameIndexPos + 8 * nameIndex.size();
+		int typeIndexPos = uriIndexPos + 8 * uriIndex.size();
+		int typeObjectsPos = typeIndexPos + 12 * typeIndex.size();
+		long size = (long) typeObjectsPos + 4L * objects.size();
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("The index exceeds the maximum size of 2GB");
+		}
+
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(strings.size());
+		data.writeInt(stringOffsetsPos);
+		data.writeInt(resources.size());
+		data.writeInt(resourcesPos);
+		data.writeInt(objects.size());
+		data.writeInt(objectsPos);
+		data.writeInt(nameIndexPos);
+		data.writeInt(uriIndexPos);
+		data.writeInt(typeIndex.size());
+		data.writeInt(typeIndexPos);
+		data.writeInt(typeObjectsPos);
+		data.write(new byte[HEADER_SIZE - 13 * 4]);
+		blobBytes.writeTo(data);
+		stringBytes.writeTo(data);
+		for (int offset : stringOffsets) {
+			data.writeInt(stringsPos + offset);
+		}
+		for (int[] resource : resources) {
+			data.writeInt(resource[0]);
+			data.writeInt(resource[1]);
+			data.writeInt(resource[2]);
+			data.writeInt(blobPos + resource[3]);
+		}
+		for (int[] object : objects) {
+			data.writeInt(object[0]);
+			data.writeInt(object[1]);
+			data.writeInt(object[2]);
+			data.writeInt(blobPos + object[3]);
+			data.writeInt(object[4] == NULL ? NULL : blobPos + object[4]);
+		}
+		writeSortedIndex(nameIndex, data);
+		writeSortedIndex(uriIndex, data);
+		int start = 0;
+		for (Map.Entry<Integer, List<Integer>> entry : typeIndex.entrySet()) {
+			data.writeInt(entry.getKey());
+			data.writeInt(start);
+			data.writeInt(entry.getValue().size());
+			start += entry.getValue().size();
+		}
+		for (List<Integer> objectsOfType : typeIndex.values()) {
+			for (Integer objectIdx : objectsOfType) {
+				data.writeInt(objectIdx);
+			}
+		}
+		data.flush();
+	}
+
+	private void writeSortedIndex(List<long[]> index, DataOutputStream data) throws IOException {
+		long[][] sorted = index.toArray(new long[index.size()][]);
+		Arrays.sort(sorted, Comparator.<long[]> comparingInt((it) -> (int) it[0]).thenComparingLong((it) -> it[1]));
+		for (long[] entry : sorted) {
+			data.writeInt((int) entry[0]);
+			data.writeInt((int) entry[1]);
+		}
+	}
+
+	/**
+	 * The fragment of the object URI is stored if the object belongs to the described resource. Otherwise the
+	 * complete URI is stored as a negative string index.
+	 */
+	private int objectURI(URI resourceURI, URI objectURI) {
+		if (objectURI.fragment() != null && resourceURI.equals(objectURI.trimFragment())) {
+			return intern(objectURI.fragment());
+		}
+		return -intern(objectURI.toString()) - 2;
+	}
+
+	private int writeQualifiedName(QualifiedName name) throws IOException {
+		int pos = blobBytes.size();
+		blob.writeInt(name.getSegmentCount());
+		for (String segment : name.getSegments()) {
+			blob.writeInt(intern(segment));
+		}
+		return pos;
+	}
+
+	private int writeUserData(IEObjectDescription object) throws IOException {
+		String[] keys = object.getUserDataKeys();
+		if (keys.length == 0) {
+			return NULL;
+		}
+		int pos = blobBytes.size();
+		blob.writeInt(keys.length);
+		for (String key : keys) {
+			blob.writeInt(intern(key));
+			blob.writeInt(intern(object.getUserData(key)));
+		}
+		return pos;
+	}
+
+	private void writeImportedNames(Iterable<QualifiedName> importedNames) throws IOException {
+		List<QualifiedName> names = new ArrayList<>();
+		for (QualifiedName name : importedNames) {
+			names.add(name);
+		}
+		blob.writeInt(names.size());
+		for (QualifiedName name : names) {
+			writeQualifiedName(name);
+		}
+	}
+
+	private void writeReferences(Iterable<IReferenceDescription> references) throws IOException {
+		List<IReferenceDescription> list = new ArrayList<>();
+		for (IReferenceDescription reference : references) {
+			list.add(reference);
+		}
+		blob.writeInt(list.size());
+		for (IReferenceDescription reference : list) {
+			blob.writeInt(intern(reference.getSourceEObjectUri()));
+			blob.writeInt(intern(reference.getTargetEObjectUri()));
+			blob.writeInt(intern(reference.getContainerEObjectURI()));
+			blob.writeInt(reference.getEReference() == null ? NULL : intern(uri(reference.getEReference())));
+			blob.writeInt(reference.getIndexInList());
+		}
+	}
+
+	private int intern(URI uri) {
+		return uri == null ? NULL : intern(uri.toString());
+	}
+
+	private int intern(String string) {
+		if (string == null) {
+			return NULL;
+		}
+		return strings.computeIfAbsent(string, (it) -> strings.size());
+	}
+
+	private final Map<ENamedElement, String> ecoreURIs = new HashMap<>();
+
+	private String uri(ENamedElement element) {
+		return ecoreURIs.computeIfAbsent(element, (it) -> EcoreUtil.getURI(it).toString());
+	}
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.naming.QualifiedName;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Encodes a {@link SerializableResourceDescription} without Java serialization. Strings are written once and referred
+ * to by their index afterwards, so repeated URIs, name segments and {@link EClass EClasses} are cheap. Integers are
+ * written as variable length integers. Object URIs that point into the described resource are stored as fragments.
+ *
+ * @since 2.39
+ */
+public class CompactResourceDescriptionCodec {
+
+	private static final int VERSION = 1;
+
+	private static final int NULL = 0;
+
+	private static final int NEW_STRING = 1;
+
+	public void write(SerializableResourceDescription description, OutputStream outputStream) throws IOException {
+		Writer out = new Writer(outputStream);
+		out.writeVarInt(VERSION);
+		URI resourceURI = description.getURI();
+		out.writeString(resourceURI == null ? null : resourceURI.toString());
+		List<SerializableEObjectDescription> objects = description.getDescriptions();
+		out.writeVarInt(objects.size());
+		for (SerializableEObjectDescription object : objects) {
+			out.writeEcoreElement(object.getEClass());
+			writeObjectURI(out, resourceURI, object.getEObjectURI());
+			out.writeQualifiedName(object.getQualifiedName());
+			Map<String, String> userData = object.getUserData();
+			if (userData == null) {
+				out.writeVarInt(0);
+			} else {
+				out.writeVarInt(userData.size() + 1);
+				for (Map.Entry<String, String> entry : userData.entrySet()) {
+					out.writeString(entry.getKey());
+					out.writeString(entry.getValue());
+				}
+			}
+		}
+		List<SerializableReferenceDescription> references = description.getReferences();
+		out.writeVarInt(references.size());
+		for (SerializableReferenceDescription reference : references) {
+			writeObjectURI(out, resourceURI, reference.getSourceEObjectUri());
+			writeObjectURI(out, resourceURI, reference.getTargetEObjectUri());
+			writeObjectURI(out, resourceURI, reference.getContainerEObjectURI());
+			out.writeEcoreElement(reference.getEReference());
+			out.writeVarInt(reference.getIndexInList() + 1);
+		}
+		List<QualifiedName> importedNames = Lists.newArrayList(description.getImportedNames());
+		out.writeVarInt(importedNames.size());
+		for (QualifiedName name : importedNames) {
+			out.writeQualifiedName(name);
+		}
+		out.flush();
+	}
+
+	private void writeObjectURI(Writer out, URI resourceURI, URI objectURI) throws IOException {
+		if (objectURI != null && objectURI.fragment() != null && resourceURI != null
+				&& resourceURI.equals(objectURI.trimFragment())) {
+			out.writeBoolean(true);
+			out.writeString(objectURI.fragment());
+		} else {
+			out.writeBoolean(false);
+			out.writeString(objectURI == null ? null : objectURI.toString());
+		}
+	}
+
+	public SerializableResourceDescription read(InputStream inputStream) throws IOException {
+		Reader in = new Reader(inputStream);
+		int version = in.readVarInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version of the resource description codec: " + version);
+		}
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		String uri = in.readString();
+		URI resourceURI = uri == null ? null : URI.createURI(uri);
+		result.setURI(resourceURI);
+		int objectCount = in.readVarInt();
+		List<SerializableEObjectDescription> objects = new ArrayList<>(objectCount);
+		for (int i = 0; i < objectCount; i++) {
+			SerializableEObjectDescription object = new SerializableEObjectDescription();
+			object.setEClass(in.<EClass> readEcoreElement());
+			object.setEObjectURI(readObjectURI(in, resourceURI));
+			object.setQualifiedName(in.readQualifiedName());
+			int userDataSize = in.readVarInt() - 1;
+			if (userDataSize >= 0) {
+				HashMap<String, String> userData = new HashMap<>(userDataSize * 4 / 3 + 1);
+				for (int j = 0; j < userDataSize; j++) {
+					userData.put(in.readString(), in.readString());
+				}
+				object.setUserData(userData);
+			}
+			objects.add(object);
+		}
+		result.setDescriptions(objects);
+		int referenceCount = in.readVarInt();
+		List<SerializableReferenceDescription> references = new ArrayList<>(referenceCount);
+		for (int i = 0; i < referenceCount; i++) {
+			SerializableReferenceDescription reference = new SerializableReferenceDescription();
+			reference.setSourceEObjectUri(readObjectURI(in, resourceURI));
+			reference.setTargetEObjectUri(readObjectURI(in, resourceURI));
+			reference.setContainerEObjectURI(readObjectURI(in, resourceURI));
+			reference.setEReference(in.<EReference> readEcoreElement());
+			reference.setIndexInList(in.readVarInt() - 1);
+			references.add(reference);
+		}
+		result.setReferences(references);
+		int importedNamesCount = in.readVarInt();
+		List<QualifiedName> importedNames = new ArrayList<>(importedNamesCount);
+		for (int i = 0; i < importedNamesCount; i++) {
+			importedNames.add(in.readQualifiedName());
+		}
+		result.setImportedNames(importedNames);
+		return result;
+	}
+
+	private URI readObjectURI(Reader in, URI resourceURI) throws IOException {
+		boolean isLocal = in.readBoolean();
+		String value = in.readString();
+		if (isLocal) {
+			return resourceURI.appendFragment(value);
+		}
+		return value == null ? null : URI.createURI(value);
+	}
+
+	private static class Writer extends DataOutputStream {
+
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		private final Map<ENamedElement, String> ecoreURIs = new HashMap<>();
+
+		Writer(OutputStream out) {
+			super(out);
+		}
+
+		void writeVarInt(int value) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				writeByte((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			writeByte(value);
+		}
+
+		/**
+		 * A string is written as {@code 0} if it is null, as {@code 1} followed by its UTF-8 bytes when it occurs the
+		 * first time, and as its index plus two afterwards.
+		 */
+		void writeString(String value) throws IOException {
+			if (value == null) {
+				writeVarInt(NULL);
+				return;
+			}
+			Integer index = strings.get(value);
+			if (index != null) {
+				writeVarInt(index + 2);
+				return;
+			}
+			strings.put(value, strings.size());
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(NEW_STRING);
+			writeVarInt(bytes.length);
+			write(bytes);
+		}
+
+		void writeQualifiedName(QualifiedName name) throws IOException {
+			writeVarInt(name.getSegmentCount());
+			for (String segment : name.getSegments()) {
+				writeString(segment);
+			}
+		}
+
+		void writeEcoreElement(ENamedElement element) throws IOException {
+			writeString(element == null ? null
+					: ecoreURIs.computeIfAbsent(element, (it) -> EcoreUtil.getURI(it).toString()));
+		}
+	}
+
+	private static class Reader extends DataInputStream {
+
+		private final List<String> strings = new ArrayList<>();
+
+		private final Map<String, ENamedElement> ecoreElements = new HashMap<>();
+
+		Reader(InputStream in) {
+			super(in);
+		}
+
+		int readVarInt() throws IOException {
+			int result = 0;
+			int shift = 0;
+			int b;
+			do {
+				if (shift > 28) {
+					throw new IOException("Malformed variable length integer");
+				}
+				b = readUnsignedByte();
+				result |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return result;
+		}
+
+		String readString() throws IOException {
+			int tag = readVarInt();
+			if (tag == NULL) {
+				return null;
+			}
+			if (tag == NEW_STRING) {
+				byte[] bytes = new byte[readVarInt()];
+				readFully(bytes);
+				String result = new String(bytes, StandardCharsets.UTF_8);
+				strings.add(result);
+				return result;
+			}
+			int index = tag - 2;
+			if (index >= strings.size()) {
+				throw new IOException("Invalid string reference " + index);
+			}
+			return strings.get(index);
+		}
+
+		QualifiedName readQualifiedName() throws IOException {
+			int segmentCount = readVarInt();
+			String[] segments = new String[segmentCount];
+			for (int i = 0; i < segmentCount; i++) {
+				segments[i] = readString();
+			}
+			return QualifiedName.create(segments);
+		}
+
+		@SuppressWarnings("unchecked")
+		<T extends ENamedElement> T readEcoreElement() throws IOException {
+			String value = readString();
+			if (value == null) {
+				return null;
+			}
+			return (T) ecoreElements.computeIfAbsent(value,
+					(it) -> SerializationExtensions.getEcoreElement(URI.createURI(it)));
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the format that is written by the {@link CompactStorageOutputStream}. The stream mimics a
+ * {@link ZipInputStream}, so existing implementations of
+ * {@link ResourceStorageLoadable#loadEntries(StorageAwareResource, ZipInputStream)} can read their own entries.
+ *
+ * @since 2.39
+ */
+public class CompactStorageInputStream extends ZipInputStream {
+
+	private final DataInputStream source;
+
+	private final boolean compressed;
+
+	private ByteArrayInputStream currentEntry;
+
+	private boolean finished;
+
+	/**
+	 * Reads the header from the given stream.
+	 *
+	 * @throws IOException
+	 *             if the stream does not start with the expected header.
+	 */
+	public CompactStorageInputStream(InputStream in) throws IOException {
+		super(in);
+		this.source = new DataInputStream(in);
+		int magic = source.readInt();
+		if (magic != CompactStorageOutputStream.MAGIC) {
+			throw new IOException("Not a compact resource storage");
+		}
+		int version = source.readInt();
+		if (version > CompactStorageOutputStream.VERSION) {
+			throw new IOException("Unsupported version of the compact resource storage: " + version);
+		}
+		int flags = source.readInt();
+		this.compressed = (flags & CompactStorageOutputStream.FLAG_COMPRESSED) != 0;
+	}
+
+	@Override
+	public ZipEntry getNextEntry() throws IOException {
+		currentEntry = null;
+		if (finished) {
+			return null;
+		}
+		int tag = source.readUnsignedByte();
+		if (tag == CompactStorageOutputStream.TAG_END) {
+			finished = true;
+			return null;
+		}
+		String name = source.readUTF();
+		byte[] data = new byte[source.readInt()];
+		if (compressed) {
+			byte[] compressedData = new byte[source.readInt()];
+			source.readFully(compressedData);
+			inflate(compressedData, data);
+		} else {
+			source.readFully(data);
+		}
+		currentEntry = new ByteArrayInputStream(data);
+		return new ZipEntry(name);
+	}
+
+	private void inflate(byte[] compressedData, byte[] data) throws IOException {
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(compressedData);
+			int length = 0;
+			while (length < data.length) {
+				int read = inflater.inflate(data, length, data.length - length);
+				if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new IOException("Unexpected end of compressed block");
+				}
+				length += read;
+			}
+		} catch (DataFormatException e) {
+			throw new IOException(e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	@Override
+	public void closeEntry() throws IOException {
+		currentEntry = null;
+	}
+
+	@Override
+	public int read() throws IOException {
+		return currentEntry == null ? -1 : currentEntry.read();
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		return currentEntry == null ? -1 : currentEntry.read(b, off, len);
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		return currentEntry == null ? 0 : currentEntry.skip(n);
+	}
+
+	@Override
+	public int available() throws IOException {
+		return currentEntry == null ? 0 : currentEntry.available();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			inf.end();
+		} finally {
+			source.close();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the {@link ResourceStorageFormat#isCompact() compact} storage format. The stream mimics a
+ * {@link ZipOutputStream}, so existing implementations of
+ * {@link ResourceStorageWritable#writeEntries(StorageAwareResource, ZipOutputStream)} can add their own entries.
+ *
+ * The format consists of a header with a magic number, a version and flags followed by a sequence of blocks. Each
+ * block is introduced by a non-zero tag byte and consists of the name of the entry, the length of the data and the
+ * data itself. If the blocks are compressed, the uncompressed length precedes the compressed data. A zero tag marks the
+ * end of the stream.
+ *
+ * @since 2.39
+ */
+public class CompactStorageOutputStream extends ZipOutputStream {
+
+	/**
+	 * The first four bytes of the compact format. A zip file starts with {@code PK}.
+	 */
+	public static final int MAGIC = 0x58544253; // XTBS
+
+	public static final int VERSION = 1;
+
+	static final int FLAG_COMPRESSED = 1;
+
+	static final int TAG_END = 0;
+
+	static final int TAG_BLOCK = 1;
+
+	private final DataOutputStream target;
+
+	private final boolean compressed;
+
+	private final ByteArrayOutputStream block = new ByteArrayOutputStream(4096);
+
+	private String currentEntry;
+
+	private boolean finished;
+
+	public CompactStorageOutputStream(OutputStream out, boolean compressed) throws IOException {
+		super(out);
+		this.target = new DataOutputStream(out);
+		this.compressed = compressed;
+		target.writeInt(MAGIC);
+		target.writeInt(VERSION);
+		target.writeInt(compressed ? FLAG_COMPRESSED : 0);
+	}
+
+	@Override
+	public void putNextEntry(ZipEntry e) throws IOException {
+		closeEntry();
+		currentEntry = e.getName();
+	}
+
+	@Override
+	public void closeEntry() throws IOException {
+		if (currentEntry == null) {
+			return;
+		}
+		target.writeByte(TAG_BLOCK);
+		target.writeUTF(currentEntry);
+		if (compressed) {
+			byte[] data = compress(block.toByteArray());
+			target.writeInt(block.size());
+			target.writeInt(data.length);
+			target.write(data);
+		} else {
+			target.writeInt(block.size());
+			block.writeTo(target);
+		}
+		block.reset();
+		currentEntry = null;
+	}
+
+	private byte[] compress(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				int length = deflater.deflate(buffer);
+				result.write(buffer, 0, length);
+			}
+			return result.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpenEntry();
+		block.write(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpenEntry();
+		block.write(b, off, len);
+	}
+
+	private void ensureOpenEntry() throws IOException {
+		if (currentEntry == null) {
+			throw new IOException("no current entry");
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		target.flush();
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (finished) {
+			return;
+		}
+		closeEntry();
+		target.writeByte(TAG_END);
+		target.flush();
+		finished = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			def.end();
+			target.close();
+		}
+	}
+}
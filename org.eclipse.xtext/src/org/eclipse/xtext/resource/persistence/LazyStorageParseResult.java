@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.INodeReference;
+import org.eclipse.xtext.nodemodel.impl.SerializableNodeModel;
+import org.eclipse.xtext.nodemodel.serialization.DeserializationConversionContext;
+import org.eclipse.xtext.nodemodel.serialization.SerializationUtil;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.AbstractParseResult;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+
+/**
+ * A parse result of a {@link StorageAwareResource} that was loaded from storage. It keeps the serialized node model
+ * and rebuilds the nodes on the first access to the {@link #getRootNode() root node}. Until then, the semantic objects
+ * carry a small {@link INodeReference} adapter, so {@link NodeModelUtils#getNode(EObject)} triggers the
+ * reconstruction, too.
+ *
+ * The serialized node model refers to the semantic objects by their position in the resource, so the contents of the
+ * resource should not be modified before the node model was materialized. The source is read when the resource is
+ * loaded and kept until the nodes are rebuilt, such that they match the contents even if the source is modified in
+ * the meantime. Whether the resource has syntax errors is stored alongside the node model, so
+ * {@link #hasSyntaxErrors()} does not rebuild the nodes unless the storage was written by an older version.
+ *
+ * @since 2.39
+ */
+public class LazyStorageParseResult extends AbstractParseResult {
+
+	private final StorageAwareResource resource;
+
+	private byte[] serializedNodeModel;
+
+	private String completeContent;
+
+	private final boolean knowsSyntaxErrors;
+
+	private volatile ICompositeNode rootNode;
+
+	/**
+	 * @param completeContent
+	 *            the source of the resource when it was loaded.
+	 * @param hasSyntaxErrors
+	 *            whether the resource has syntax errors or <code>null</code> if the storage does not tell.
+	 */
+	public LazyStorageParseResult(StorageAwareResource resource, EObject rootASTElement, byte[] serializedNodeModel,
+			String completeContent, Boolean hasSyntaxErrors) {
+		super(rootASTElement, Boolean.TRUE.equals(hasSyntaxErrors));
+		this.resource = resource;
+		this.serializedNodeModel = serializedNodeModel;
+		this.completeContent = completeContent;
+		this.knowsSyntaxErrors = hasSyntaxErrors != null;
+		for (EObject semanticObject : getSemanticObjects()) {
+			semanticObject.eAdapters().add(new LazyNodeReference(this));
+		}
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		ICompositeNode result = rootNode;
+		if (result == null) {
+			synchronized (this) {
+				result = rootNode;
+				if (result == null) {
+					result = materialize();
+					rootNode = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void setRootNode(ICompositeNode rootNode) {
+		synchronized (this) {
+			if (this.rootNode == null) {
+				removeNodeReferences();
+				serializedNodeModel = null;
+				completeContent = null;
+			}
+			this.rootNode = rootNode;
+		}
+	}
+
+	@Override
+	public boolean hasSyntaxErrors() {
+		if (!knowsSyntaxErrors) {
+			getRootNode();
+		}
+		return super.hasSyntaxErrors();
+	}
+
+	/**
+	 * @return whether the nodes were already rebuilt.
+	 */
+	public boolean isMaterialized() {
+		return rootNode != null;
+	}
+
+	/**
+	 * @return the size of the serialized node model in bytes, or 0 if the nodes were already rebuilt.
+	 */
+	public int getSerializedNodeModelSize() {
+		byte[] serialized = serializedNodeModel;
+		return serialized != null ? serialized.length : 0;
+	}
+
+	protected ICompositeNode materialize() {
+		try {
+			// the lazy adapters have to go before the node model installs its own adapters
+			removeNodeReferences();
+			DeserializationConversionContext deserializationContext = new DeserializationConversionContext(resource,
+					completeContent);
+			SerializableNodeModel serializableNodeModel = new SerializableNodeModel();
+			serializableNodeModel.readObjectData(new DataInputStream(new ByteArrayInputStream(serializedNodeModel)),
+					deserializationContext);
+			serializedNodeModel = null;
+			completeContent = null;
+			setHasErrors(deserializationContext.hasErrors());
+			return serializableNodeModel.root;
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		}
+	}
+
+	protected List<EObject> getSemanticObjects() {
+		List<EObject> result = new ArrayList<>();
+		SerializationUtil.fillIdToEObjectMap(resource, result);
+		return result;
+	}
+
+	protected void removeNodeReferences() {
+		for (EObject semanticObject : getSemanticObjects()) {
+			List<Adapter> adapters = semanticObject.eAdapters();
+			for (int i = adapters.size() - 1; i >= 0; i--) {
+				if (adapters.get(i) instanceof LazyNodeReference) {
+					adapters.remove(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the node model of the parse result when a node is requested.
+	 */
+	protected static class LazyNodeReference extends AdapterImpl implements INodeReference {
+
+		private final LazyStorageParseResult parseResult;
+
+		protected LazyNodeReference(LazyStorageParseResult parseResult) {
+			this.parseResult = parseResult;
+		}
+
+		@Override
+		public ICompositeNode getNode() {
+			EObject semanticObject = (EObject) getTarget();
+			parseResult.getRootNode();
+			return NodeModelUtils.getNode(semanticObject);
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type instanceof Class<?> && INode.class.isAssignableFrom((Class<?>) type);
+		}
+	}
+}
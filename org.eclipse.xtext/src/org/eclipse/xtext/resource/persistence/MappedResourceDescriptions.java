@@ -0,0 +1,460 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import static org.eclipse.xtext.resource.persistence.BinaryResourceDescriptionsWriter.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
+
+import com.google.common.collect.Iterables;
+
+/**
+ * A read-only {@link IResourceDescriptions} that answers queries directly from an index file that was written by the
+ * {@link BinaryResourceDescriptionsWriter}. The file is memory-mapped, and only the resource descriptions and exported
+ * objects that are actually requested are decoded.
+ *
+ * Lookups by qualified name and by URI are binary searches over hash sorted tables, lookups by type only decode the
+ * objects whose {@link EClass} is compatible with the requested type.
+ *
+ * Instances are thread-safe.
+ *
+ * @since 2.39
+ */
+public class MappedResourceDescriptions implements IResourceDescriptions {
+
+	/**
+	 * Map the given index file into memory.
+	 */
+	public static MappedResourceDescriptions open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return new MappedResourceDescriptions(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	private final ByteBuffer buffer;
+
+	private final int stringCount;
+
+	private final int stringOffsetsPos;
+
+	private final int resourceCount;
+
+	private final int resourcesPos;
+
+	private final int objectCount;
+
+	private final int objectsPos;
+
+	private final int nameIndexPos;
+
+	private final int uriIndexPos;
+
+	private final int typeCount;
+
+	private final int typeIndexPos;
+
+	private final int typeObjectsPos;
+
+	private final AtomicReferenceArray<String> strings;
+
+	private final ConcurrentHashMap<Integer, ENamedElement> ecoreElements = new ConcurrentHashMap<>();
+
+	public MappedResourceDescriptions(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not a resource descriptions index");
+		}
+		int version = buffer.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("Unsupported index version: " + version);
+		}
+		stringCount = buffer.getInt(8);
+		stringOffsetsPos = buffer.getInt(12);
+		resourceCount = buffer.getInt(16);
+		resourcesPos = buffer.getInt(20);
+		objectCount = buffer.getInt(24);
+		objectsPos = buffer.getInt(28);
+		nameIndexPos = buffer.getInt(32);
+		uriIndexPos = buffer.getInt(36);
+		typeCount = buffer.getInt(40);
+		typeIndexPos = buffer.getInt(44);
+		typeObjectsPos = buffer.getInt(48);
+		strings = new AtomicReferenceArray<>(stringCount);
+	}
+
+	/**
+	 * The number of resource descriptions in this index.
+	 */
+	public int getResourceCount() {
+		return resourceCount;
+	}
+
+	/**
+	 * @return whether this index contains no resource descriptions, even if there are descriptions without exported
+	 *         objects.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return resourceCount == 0;
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return new AbstractList<IResourceDescription>() {
+			@Override
+			public IResourceDescription get(int index) {
+				return new MappedResourceDescription(index);
+			}
+
+			@Override
+			public int size() {
+				return resourceCount;
+			}
+		};
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		int resourceIdx = findResource(uri);
+		if (resourceIdx == NULL) {
+			return null;
+		}
+		return new MappedResourceDescription(resourceIdx);
+	}
+
+	/**
+	 * Return the URIs of all resources in this index.
+	 */
+	public List<URI> getAllURIs() {
+		return new AbstractList<URI>() {
+			@Override
+			public URI get(int index) {
+				return getResourceURI(index);
+			}
+
+			@Override
+			public int size() {
+				return resourceCount;
+			}
+		};
+	}
+
+	/**
+	 * Return true if this index contains a description for the given URI.
+	 */
+	public boolean containsURI(URI uri) {
+		return findResource(uri) != NULL;
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects() {
+		return new AbstractList<IEObjectDescription>() {
+			@Override
+			public IEObjectDescription get(int index) {
+				return getObject(index);
+			}
+
+			@Override
+			public int size() {
+				return objectCount;
+			}
+		};
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByType(EClass type) {
+		return getExportedObjectsByType(type, null);
+	}
+
+	/**
+	 * Return the objects of the given type that are exported by resources which are accepted by the given filter.
+	 */
+	protected List<IEObjectDescription> getExportedObjectsByType(EClass type, Predicate<? super URI> resourceFilter) {
+		List<IEObjectDescription> result = new ArrayList<>();
+		for (int i = 0; i < typeCount; i++) {
+			int pos = typeIndexPos + 12 * i;
+			EClass eClass = getEcoreElement(buffer.getInt(pos));
+			if (eClass == null) {
+				// the objects of an unknown type cannot match, their package is not registered
+				continue;
+			}
+			if (EcoreUtil2.isAssignableFrom(type, eClass)) {
+				int start = buffer.getInt(pos + 4);
+				int count = buffer.getInt(pos + 8);
+				for (int j = 0; j < count; j++) {
+					int objectIdx = buffer.getInt(typeObjectsPos + 4 * (start + j));
+					if (isAccepted(objectIdx, resourceFilter)) {
+						result.add(getObject(objectIdx));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName name, boolean ignoreCase) {
+		return getExportedObjects(type, name, ignoreCase, null);
+	}
+
+	/**
+	 * Return the matching objects that are exported by resources which are accepted by the given filter.
+	 */
+	protected List<IEObjectDescription> getExportedObjects(EClass type, QualifiedName name, boolean ignoreCase,
+			Predicate<? super URI> resourceFilter) {
+		QualifiedName lowerCase = name.toLowerCase();
+		int hash = lowerCase.hashCode();
+		int idx = lowerBound(nameIndexPos, objectCount, hash);
+		List<IEObjectDescription> result = null;
+		for (; idx < objectCount && buffer.getInt(nameIndexPos + 8 * idx) == hash; idx++) {
+			int objectIdx = buffer.getInt(nameIndexPos + 8 * idx + 4);
+			int objectPos = objectsPos + OBJECT_RECORD_SIZE * objectIdx;
+			QualifiedName candidate = readQualifiedName(buffer.getInt(objectPos + 12));
+			boolean matches = ignoreCase ? lowerCase.equals(candidate.toLowerCase()) : name.equals(candidate);
+			if (!matches) {
+				continue;
+			}
+			EClass eClass = getEcoreElement(buffer.getInt(objectPos + 4));
+			if (eClass != null && EcoreUtil2.isAssignableFrom(type, eClass) && isAccepted(objectIdx, resourceFilter)) {
+				if (result == null) {
+					result = new ArrayList<>(2);
+				}
+				result.add(getObject(objectIdx, candidate));
+			}
+		}
+		if (result == null) {
+			return Collections.emptyList();
+		}
+		return result;
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByObject(EObject object) {
+		URI resourceURI = EcoreUtil2.getPlatformResourceOrNormalizedURI(object).trimFragment();
+		IResourceDescription description = getResourceDescription(resourceURI);
+		if (description == null) {
+			return Collections.emptyList();
+		}
+		return description.getExportedObjectsByObject(object);
+	}
+
+	private boolean isAccepted(int objectIdx, Predicate<? super URI> resourceFilter) {
+		return resourceFilter == null
+				|| resourceFilter.test(getResourceURI(buffer.getInt(objectsPos + OBJECT_RECORD_SIZE * objectIdx)));
+	}
+
+	protected int findResource(URI uri) {
+		String string = uri.toString();
+		int hash = string.hashCode();
+		for (int idx = lowerBound(uriIndexPos, resourceCount, hash); idx < resourceCount
+				&& buffer.getInt(uriIndexPos + 8 * idx) == hash; idx++) {
+			int resourceIdx = buffer.getInt(uriIndexPos + 8 * idx + 4);
+			if (string.equals(getString(buffer.getInt(resourcesPos + RESOURCE_RECORD_SIZE * resourceIdx)))) {
+				return resourceIdx;
+			}
+		}
+		return NULL;
+	}
+
+	/**
+	 * Find the first entry in the hash sorted table at the given position whose hash is not less than the given one.
+	 */
+	private int lowerBound(int tablePos, int size, int hash) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (buffer.getInt(tablePos + 8 * mid) < hash) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	protected URI getResourceURI(int resourceIdx) {
+		return URI.createURI(getString(buffer.getInt(resourcesPos + RESOURCE_RECORD_SIZE * resourceIdx)));
+	}
+
+	protected IEObjectDescription getObject(int objectIdx) {
+		int objectPos = objectsPos + OBJECT_RECORD_SIZE * objectIdx;
+		return getObject(objectIdx, readQualifiedName(buffer.getInt(objectPos + 12)));
+	}
+
+	private IEObjectDescription getObject(int objectIdx, QualifiedName name) {
+		int objectPos = objectsPos + OBJECT_RECORD_SIZE * objectIdx;
+		SerializableEObjectDescription result = new SerializableEObjectDescription();
+		result.setQualifiedName(name);
+		result.setEClass(getEcoreElement(buffer.getInt(objectPos + 4)));
+		int uri = buffer.getInt(objectPos + 8);
+		if (uri >= 0) {
+			result.setEObjectURI(getResourceURI(buffer.getInt(objectPos)).appendFragment(getString(uri)));
+		} else {
+			result.setEObjectURI(URI.createURI(getString(-(uri + 2))));
+		}
+		HashMap<String, String> userData = new HashMap<>();
+		int userDataPos = buffer.getInt(objectPos + 16);
+		if (userDataPos != NULL) {
+			int size = buffer.getInt(userDataPos);
+			for (int i = 0; i < size; i++) {
+				userData.put(getString(buffer.getInt(userDataPos + 4 + 8 * i)),
+						getString(buffer.getInt(userDataPos + 8 + 8 * i)));
+			}
+		}
+		result.setUserData(userData);
+		return result;
+	}
+
+	private QualifiedName readQualifiedName(int pos) {
+		int segmentCount = buffer.getInt(pos);
+		String[] segments = new String[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = getString(buffer.getInt(pos + 4 + 4 * i));
+		}
+		return QualifiedName.create(segments);
+	}
+
+	protected String getString(int stringIdx) {
+		if (stringIdx == NULL) {
+			return null;
+		}
+		String result = strings.get(stringIdx);
+		if (result == null) {
+			int pos = buffer.getInt(stringOffsetsPos + 4 * stringIdx);
+			byte[] bytes = new byte[buffer.getInt(pos)];
+			buffer.get(pos + 4, bytes);
+			result = new String(bytes, StandardCharsets.UTF_8);
+			strings.set(stringIdx, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the Ecore element that is referenced by the given string, or <code>null</code> if its package is not
+	 * registered or does not contain it. An unknown element is looked up again on the next access, since its package
+	 * may be registered meanwhile.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends ENamedElement> T getEcoreElement(int stringIdx) {
+		if (stringIdx == NULL) {
+			return null;
+		}
+		return (T) ecoreElements.computeIfAbsent(stringIdx,
+				(it) -> SerializationExtensions.getEcoreElement(URI.createURI(getString(it))));
+	}
+
+	/**
+	 * A resource description that decodes its content from the index on demand.
+	 */
+	protected class MappedResourceDescription extends AbstractResourceDescription {
+
+		private final int resourceIdx;
+
+		private URI uri;
+
+		protected MappedResourceDescription(int resourceIdx) {
+			this.resourceIdx = resourceIdx;
+		}
+
+		@Override
+		public URI getURI() {
+			if (uri == null) {
+				uri = getResourceURI(resourceIdx);
+			}
+			return uri;
+		}
+
+		@Override
+		protected List<IEObjectDescription> computeExportedObjects() {
+			int resourcePos = resourcesPos + RESOURCE_RECORD_SIZE * resourceIdx;
+			int first = buffer.getInt(resourcePos + 4);
+			int count = buffer.getInt(resourcePos + 8);
+			List<IEObjectDescription> result = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				result.add(getObject(first + i));
+			}
+			return result;
+		}
+
+		@Override
+		public Iterable<QualifiedName> getImportedNames() {
+			int pos = buffer.getInt(resourcesPos + RESOURCE_RECORD_SIZE * resourceIdx + 12);
+			int count = buffer.getInt(pos);
+			List<QualifiedName> result = new ArrayList<>(count);
+			pos += 4;
+			for (int i = 0; i < count; i++) {
+				QualifiedName name = readQualifiedName(pos);
+				result.add(name);
+				pos += 4 + 4 * name.getSegmentCount();
+			}
+			return result;
+		}
+
+		@Override
+		public Iterable<IReferenceDescription> getReferenceDescriptions() {
+			int pos = buffer.getInt(resourcesPos + RESOURCE_RECORD_SIZE * resourceIdx + 12);
+			int importedNames = buffer.getInt(pos);
+			pos += 4;
+			for (int i = 0; i < importedNames; i++) {
+				pos += 4 + 4 * buffer.getInt(pos);
+			}
+			int count = buffer.getInt(pos);
+			pos += 4;
+			List<IReferenceDescription> result = new ArrayList<>(count);
+			for (int i = 0; i < count; i++, pos += 20) {
+				SerializableReferenceDescription reference = new SerializableReferenceDescription();
+				reference.setSourceEObjectUri(getURI(buffer.getInt(pos)));
+				reference.setTargetEObjectUri(getURI(buffer.getInt(pos + 4)));
+				reference.setContainerEObjectURI(getURI(buffer.getInt(pos + 8)));
+				reference.setEReference((EReference) getEcoreElement(buffer.getInt(pos + 12)));
+				reference.setIndexInList(buffer.getInt(pos + 16));
+				result.add(reference);
+			}
+			return result;
+		}
+
+		private URI getURI(int stringIdx) {
+			String string = getString(stringIdx);
+			return string == null ? null : URI.createURI(string);
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + getURI() + ", " + Iterables.size(getExportedObjects())
+					+ " exported objects]";
+		}
+	}
+}
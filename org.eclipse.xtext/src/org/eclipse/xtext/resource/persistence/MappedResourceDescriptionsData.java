@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+
+/**
+ * A {@link ResourceDescriptionsData} that is backed by a {@link MappedResourceDescriptions memory-mapped index}. The
+ * index itself is never modified. Added descriptions are kept on the heap and shadow the descriptions with the same
+ * URI in the index, removed descriptions are hidden.
+ *
+ * This allows to use a persisted index with the {@link org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions
+ * ChunkedResourceDescriptions} and the builder without deserializing it.
+ *
+ * @since 2.39
+ */
+public class MappedResourceDescriptionsData extends ResourceDescriptionsData {
+
+	private final MappedResourceDescriptions index;
+
+	private final Set<URI> shadowed;
+
+	public MappedResourceDescriptionsData(MappedResourceDescriptions index) {
+		this(index, Sets.newHashSet());
+	}
+
+	protected MappedResourceDescriptionsData(MappedResourceDescriptions index, Set<URI> shadowed) {
+		super(Collections.emptyList());
+		this.index = index;
+		this.shadowed = shadowed;
+	}
+
+	public MappedResourceDescriptions getIndex() {
+		return index;
+	}
+
+	@Override
+	public ResourceDescriptionsData copy() {
+		MappedResourceDescriptionsData result = new MappedResourceDescriptionsData(index, Sets.newHashSet(shadowed));
+		for (IResourceDescription description : super.getAllResourceDescriptions()) {
+			result.addDescription(description.getURI(), description);
+		}
+		return result;
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		if (shadowed.isEmpty()) {
+			return Iterables.concat(index.getAllResourceDescriptions(), super.getAllResourceDescriptions());
+		}
+		return Iterables.concat(
+				Iterables.filter(index.getAllResourceDescriptions(), (it) -> !shadowed.contains(it.getURI())),
+				super.getAllResourceDescriptions());
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		IResourceDescription result = super.getResourceDescription(uri);
+		if (result == null && !shadowed.contains(uri)) {
+			return index.getResourceDescription(uri);
+		}
+		return result;
+	}
+
+	@Override
+	public void removeDescription(URI uri) {
+		super.removeDescription(uri);
+		if (index.containsURI(uri)) {
+			shadowed.add(uri);
+		}
+	}
+
+	/**
+	 * The mapped index does not contain a reverse reference index.
+	 * 
+	 * @return <code>null</code>
+	 */
+	@Override
+	public Set<URI> getReferencingResourceURIs(URI targetResourceURI) {
+		return null;
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		Set<URI> result = new LinkedHashSet<>(index.getAllURIs());
+		result.removeAll(shadowed);
+		result.addAll(super.getAllURIs());
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return Iterables.isEmpty(getAllResourceDescriptions());
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects() {
+		return Iterables.concat(Iterables.transform(getAllResourceDescriptions(), IResourceDescription::getExportedObjects));
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByType(EClass type) {
+		return Iterables.concat(index.getExportedObjectsByType(type, this::isVisibleInIndex), Iterables.concat(
+				Iterables.transform(super.getAllResourceDescriptions(), (it) -> it.getExportedObjectsByType(type))));
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName,
+			boolean ignoreCase) {
+		return Iterables.concat(index.getExportedObjects(type, qualifiedName, ignoreCase, this::isVisibleInIndex),
+				super.getExportedObjects(type, qualifiedName, ignoreCase));
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return getAllResourceDescriptions();
+	}
+
+	private boolean isVisibleInIndex(URI resourceURI) {
+		return !shadowed.contains(resourceURI);
+	}
+}
@@ -45,6 +45,11 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 
 	private boolean storeNodeModel = false;
 
+	private boolean lazyNodeModel = false;
+
+	@Inject(optional = true)
+	private ResourceStorageFormat storageFormat = ResourceStorageFormat.ZIP;
+
 	@Override
 	public boolean shouldLoadFromStorage(StorageAwareResource resource) {
 		SourceLevelURIsAdapter adapter = SourceLevelURIsAdapter.findInstalledAdapter(resource.getResourceSet());
@@ -106,12 +111,14 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 
 	@Override
 	public ResourceStorageLoadable createResourceStorageLoadable(InputStream in) {
-		return new ResourceStorageLoadable(in, isStoreNodeModel());
+		ResourceStorageLoadable result = new ResourceStorageLoadable(in, isStoreNodeModel());
+		result.setLazyNodeModel(isLazyNodeModel());
+		return result;
 	}
 
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new ResourceStorageWritable(out, isStoreNodeModel());
+		return new ResourceStorageWritable(out, isStoreNodeModel(), getStorageFormat());
 	}
 
 	protected ResourceStorageProviderAdapter getResourceStorageProviderAdapter(ResourceSet resourceSet) {
@@ -153,6 +160,37 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 		this.storeNodeModel = storeNodeModel;
 	}
 
+	/**
+	 * @since 2.39
+	 */
+	public boolean isLazyNodeModel() {
+		return lazyNodeModel;
+	}
+
+	/**
+	 * @see ResourceStorageLoadable#setLazyNodeModel(boolean)
+	 * @since 2.39
+	 */
+	public void setLazyNodeModel(boolean lazyNodeModel) {
+		this.lazyNodeModel = lazyNodeModel;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public ResourceStorageFormat getStorageFormat() {
+		return storageFormat;
+	}
+
+	/**
+	 * Select the format of newly written storages. Existing storages are read regardless of their format.
+	 *
+	 * @since 2.39
+	 */
+	public void setStorageFormat(ResourceStorageFormat storageFormat) {
+		this.storageFormat = storageFormat;
+	}
+
 	private static class MyByteArrayOutputStream extends ByteArrayOutputStream {
 		@Override
 		public synchronized byte[] toByteArray() {
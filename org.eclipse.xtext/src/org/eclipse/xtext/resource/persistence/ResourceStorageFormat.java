@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+/**
+ * The container format that is used to write the binary storage of a {@link StorageAwareResource}. The
+ * {@link ResourceStorageLoadable} detects the format of the data that it reads, so storage files that were written in
+ * a different format remain readable and are replaced with the configured format on the next build.
+ *
+ * A language selects the format by binding an instance of this type, e.g.
+ *
+ * <pre>
+ * public void configureResourceStorageFormat(Binder binder) {
+ * 	binder.bind(ResourceStorageFormat.class).toInstance(ResourceStorageFormat.COMPACT);
+ * }
+ * </pre>
+ *
+ * @since 2.39
+ */
+public enum ResourceStorageFormat {
+	/**
+	 * A zip file with deflated entries. The resource description is written with Java serialization. This is the
+	 * default.
+	 */
+	ZIP,
+
+	/**
+	 * A versioned, uncompressed block format. The resource description is written with a compact codec that uses a
+	 * string table.
+	 */
+	COMPACT,
+
+	/**
+	 * Like {@link #COMPACT}, but each block is compressed with the fastest deflate level.
+	 */
+	COMPACT_COMPRESSED;
+
+	/**
+	 * @return whether this is one of the compact block formats.
+	 */
+	public boolean isCompact() {
+		return this != ZIP;
+	}
+}
@@ -16,7 +16,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.log4j.Logger;
@@ -28,6 +30,7 @@ import org.eclipse.xtext.nodemodel.impl.SerializableNodeModel;
 import org.eclipse.xtext.nodemodel.serialization.DeserializationConversionContext;
 import org.eclipse.xtext.parser.ParseResult;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 
 /**
@@ -40,6 +43,12 @@ public class ResourceStorageLoadable {
 
 	private final boolean storeNodeModel;
 
+	private boolean compact;
+
+	private boolean lazyNodeModel = false;
+
+	private Boolean nodeModelHasSyntaxErrors;
+
 	public ResourceStorageLoadable(InputStream in, boolean storeNodeModel) {
 		this.in = in;
 		this.storeNodeModel = storeNodeModel;
@@ -48,11 +57,57 @@ public class ResourceStorageLoadable {
 	protected void loadIntoResource(StorageAwareResource resource) throws IOException {
 		if (!resource.isLoadedFromStorage())
 			throw new IllegalStateException("Please use StorageAwareResource#load(ResourceStorageLoadable).");
-		try (ZipInputStream zin = new ZipInputStream(in)) {
+		try (ZipInputStream zin = createZipInputStream(in)) {
 			loadEntries(resource, zin);
 		}
 	}
 
+	/**
+	 * Create the container that reads the entries. The {@link ResourceStorageFormat format} is detected from the first
+	 * bytes of the stream, so storages that were written in the zip format can still be read after a language switched
+	 * to the compact format.
+	 *
+	 * @since 2.39
+	 */
+	protected ZipInputStream createZipInputStream(InputStream in) throws IOException {
+		InputStream input = in.markSupported() ? in : new BufferedInputStream(in);
+		input.mark(4);
+		byte[] magic = new byte[4];
+		int read = input.readNBytes(magic, 0, 4);
+		input.reset();
+		compact = read == 4 && ByteBuffer.wrap(magic).getInt() == CompactStorageOutputStream.MAGIC;
+		if (compact) {
+			return new CompactStorageInputStream(input);
+		}
+		return new ZipInputStream(input);
+	}
+
+	/**
+	 * @return whether the storage that is loaded is in one of the compact formats. Only valid after the container was
+	 *         {@link #createZipInputStream(InputStream) created}.
+	 * @since 2.39
+	 */
+	protected boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public boolean isLazyNodeModel() {
+		return lazyNodeModel;
+	}
+
+	/**
+	 * Whether the node model is kept in its serialized form until it is requested, see
+	 * {@link LazyStorageParseResult}. Disabled by default.
+	 *
+	 * @since 2.39
+	 */
+	public void setLazyNodeModel(boolean lazyNodeModel) {
+		this.lazyNodeModel = lazyNodeModel;
+	}
+
 	/**
 	 * Load entries from the storage. Overriding methods should first delegate to super before adding their own entries.
 	 */
@@ -62,7 +117,13 @@ public class ResourceStorageLoadable {
 		zipIn.getNextEntry();
 		readResourceDescription(resource, new BufferedInputStream(zipIn));
 		if (storeNodeModel) {
-			zipIn.getNextEntry();
+			ZipEntry nodeModelEntry = zipIn.getNextEntry();
+			String entryName = nodeModelEntry != null ? nodeModelEntry.getName() : null;
+			if (ResourceStorageWritable.NODE_MODEL_WITH_SYNTAX_ERRORS.equals(entryName)) {
+				nodeModelHasSyntaxErrors = Boolean.TRUE;
+			} else if (ResourceStorageWritable.NODE_MODEL_WITHOUT_SYNTAX_ERRORS.equals(entryName)) {
+				nodeModelHasSyntaxErrors = Boolean.FALSE;
+			}
 			readNodeModel(resource, new BufferedInputStream(zipIn));
 		}
 	}
@@ -91,9 +152,14 @@ public class ResourceStorageLoadable {
 
 	protected void readResourceDescription(StorageAwareResource resource, InputStream inputStream) throws IOException {
 		try {
-			@SuppressWarnings("resource")
-			SerializableResourceDescription description = (SerializableResourceDescription) new ObjectInputStream(
-					inputStream).readObject();
+			SerializableResourceDescription description;
+			if (compact) {
+				description = new CompactResourceDescriptionCodec().read(inputStream);
+			} else {
+				@SuppressWarnings("resource")
+				ObjectInputStream objectIn = new ObjectInputStream(inputStream);
+				description = (SerializableResourceDescription) objectIn.readObject();
+			}
 			description.updateResourceURI(resource.getURI());
 			resource.setResourceDescription(description);
 		} catch (ClassNotFoundException e) {
@@ -115,6 +181,11 @@ public class ResourceStorageLoadable {
 					uriConverter.createInputStream(resourceUri),
 					resource.getEncoding())) {
 				String completeContent = CharStreams.toString(reader);
+				if (lazyNodeModel) {
+					resource.setParseResult(new LazyStorageParseResult(resource, head(resource.getContents()),
+							ByteStreams.toByteArray(inputStream), completeContent, nodeModelHasSyntaxErrors));
+					return;
+				}
 				DeserializationConversionContext deserializationContext = new DeserializationConversionContext(resource,
 						completeContent);
 				serializableNodeModel.readObjectData(new DataInputStream(inputStream), deserializationContext);
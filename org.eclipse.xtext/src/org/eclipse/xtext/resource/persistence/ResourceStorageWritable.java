@@ -29,23 +29,63 @@ import org.eclipse.xtext.resource.IResourceDescription;
  * @author Sven Efftinge - Initial contribution and API
  */
 public class ResourceStorageWritable {
+	/**
+	 * The name of the node model entry of a resource without syntax errors. Storages that were written before 2.39
+	 * name the entry {@code node-model} and do not tell whether there are syntax errors.
+	 */
+	static final String NODE_MODEL_WITHOUT_SYNTAX_ERRORS = "node-model-without-syntax-errors";
+
+	/**
+	 * The name of the node model entry of a resource with syntax errors.
+	 */
+	static final String NODE_MODEL_WITH_SYNTAX_ERRORS = "node-model-with-syntax-errors";
+
 	private final OutputStream out;
 
 	private final boolean storeNodeModel;
 
+	private final ResourceStorageFormat format;
+
 	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel) {
+		this(out, storeNodeModel, ResourceStorageFormat.ZIP);
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel, ResourceStorageFormat format) {
 		this.out = out;
 		this.storeNodeModel = storeNodeModel;
+		this.format = format;
+	}
+
+	/**
+	 * @since 2.39
+	 */
+	public ResourceStorageFormat getFormat() {
+		return format;
 	}
 
 	public void writeResource(StorageAwareResource resource) throws IOException {
 		if (resource.isLoadedFromStorage())
 			throw new IllegalStateException("cannot write resources loaded from storage. URI was " + resource.getURI());
-		try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+		try (ZipOutputStream zipOut = createZipOutputStream(out)) {
 			writeEntries(resource, zipOut);
 		}
 	}
 
+	/**
+	 * Create the container for the entries in the configured {@link #getFormat() format}.
+	 *
+	 * @since 2.39
+	 */
+	protected ZipOutputStream createZipOutputStream(OutputStream out) throws IOException {
+		if (format.isCompact()) {
+			return new CompactStorageOutputStream(out, format == ResourceStorageFormat.COMPACT_COMPRESSED);
+		}
+		return new ZipOutputStream(out);
+	}
+
 	/**
 	 * Write entries into the storage. Overriding methods should first delegate to super before adding their own
 	 * entries.
@@ -67,7 +107,9 @@ public class ResourceStorageWritable {
 			zipOut.closeEntry();
 		}
 		if (storeNodeModel) {
-			zipOut.putNextEntry(new ZipEntry("node-model"));
+			boolean hasSyntaxErrors = resource.getParseResult() != null && resource.getParseResult().hasSyntaxErrors();
+			zipOut.putNextEntry(new ZipEntry(
+					hasSyntaxErrors ? NODE_MODEL_WITH_SYNTAX_ERRORS : NODE_MODEL_WITHOUT_SYNTAX_ERRORS));
 			try {
 				writeNodeModel(resource, bufferedOutput);
 			} finally {
@@ -119,6 +161,10 @@ public class ResourceStorageWritable {
 		SerializableResourceDescription serializableDescription = SerializableResourceDescription
 				.createCopy(description);
 		convertExternalURIsToPortableURIs(serializableDescription, resource);
+		if (format.isCompact()) {
+			new CompactResourceDescriptionCodec().write(serializableDescription, outputStream);
+			return;
+		}
 		ObjectOutputStream out = new ObjectOutputStream(outputStream);
 		try {
 			out.writeObject(serializableDescription);
@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -26,16 +27,30 @@ import org.eclipse.xtext.naming.QualifiedName;
  */
 public class SerializationExtensions {
 
-	@SuppressWarnings("unchecked")
 	public static <T extends ENamedElement> T readEcoreElement(ObjectInput in) throws IOException {
-		URI uri = readURI(in);
+		return getEcoreElement(readURI(in));
+	}
+
+	/**
+	 * Returns the element of a registered {@link EPackage} with the given URI, or <code>null</code> if the package
+	 * is not registered or does not contain an element with the URI's fragment.
+	 * 
+	 * @since 2.39
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ENamedElement> T getEcoreElement(URI uri) {
+		if (uri == null)
+			return null;
 		EPackage ePackage = EPackage.Registry.INSTANCE.getEPackage(uri.trimFragment().toString());
 		if (ePackage == null)
 			return null;
 		Resource eResource = ePackage.eResource();
 		if (eResource == null)
 			return null;
-		return (T) eResource.getEObject(uri.fragment());
+		EObject result = eResource.getEObject(uri.fragment());
+		if (!(result instanceof ENamedElement))
+			return null;
+		return (T) result;
 	}
 
 	public static void writeEcoreElement(ObjectOutput out, ENamedElement namedElement) throws IOException {